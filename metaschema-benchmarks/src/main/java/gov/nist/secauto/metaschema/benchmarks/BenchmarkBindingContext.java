@@ -0,0 +1,112 @@
+/*
+ * Portions of this software was developed by employees of the National Institute
+ * of Standards and Technology (NIST), an agency of the Federal Government and is
+ * being made available as a public service. Pursuant to title 17 United States
+ * Code Section 105, works of NIST employees are not subject to copyright
+ * protection in the United States. This software may be subject to foreign
+ * copyright. Permission in the United States and in foreign countries, to the
+ * extent that NIST may hold copyright, to use, copy, modify, create derivative
+ * works, and distribute this software and its documentation without fee is hereby
+ * granted on a non-exclusive basis, provided that this notice and disclaimer
+ * of warranty appears in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED 'AS IS' WITHOUT ANY WARRANTY OF ANY KIND, EITHER
+ * EXPRESSED, IMPLIED, OR STATUTORY, INCLUDING, BUT NOT LIMITED TO, ANY WARRANTY
+ * THAT THE SOFTWARE WILL CONFORM TO SPECIFICATIONS, ANY IMPLIED WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE, AND FREEDOM FROM
+ * INFRINGEMENT, AND ANY WARRANTY THAT THE DOCUMENTATION WILL CONFORM TO THE
+ * SOFTWARE, OR ANY WARRANTY THAT THE SOFTWARE WILL BE ERROR FREE.  IN NO EVENT
+ * SHALL NIST BE LIABLE FOR ANY DAMAGES, INCLUDING, BUT NOT LIMITED TO, DIRECT,
+ * INDIRECT, SPECIAL OR CONSEQUENTIAL DAMAGES, ARISING OUT OF, RESULTING FROM,
+ * OR IN ANY WAY CONNECTED WITH THIS SOFTWARE, WHETHER OR NOT BASED UPON WARRANTY,
+ * CONTRACT, TORT, OR OTHERWISE, WHETHER OR NOT INJURY WAS SUSTAINED BY PERSONS OR
+ * PROPERTY OR OTHERWISE, AND WHETHER OR NOT LOSS WAS SUSTAINED FROM, OR AROSE OUT
+ * OF THE RESULTS OF, OR USE OF, THE SOFTWARE OR SERVICES PROVIDED HEREUNDER.
+ */
+
+package gov.nist.secauto.metaschema.benchmarks;
+
+import gov.nist.secauto.metaschema.binding.DefaultBindingContext;
+import gov.nist.secauto.metaschema.binding.IBindingContext;
+import gov.nist.secauto.metaschema.binding.IBindingMatcher;
+import gov.nist.secauto.metaschema.binding.model.test.RootBoundAssembly;
+import gov.nist.secauto.metaschema.model.ConstraintLoader;
+import gov.nist.secauto.metaschema.model.common.MetaschemaException;
+import gov.nist.secauto.metaschema.model.common.constraint.IConstraintSet;
+import gov.nist.secauto.metaschema.model.common.util.CollectionUtil;
+import gov.nist.secauto.metaschema.model.common.util.ObjectUtils;
+
+import java.io.IOException;
+import java.net.URL;
+
+import javax.xml.namespace.QName;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+
+/**
+ * Creates binding contexts that are configured to load the synthetic benchmark documents.
+ */
+public final class BenchmarkBindingContext {
+  @NonNull
+  private static final String CONSTRAINTS_RESOURCE = "/benchmark-constraints.xml";
+  @NonNull
+  private static final QName ROOT_QNAME = new QName(SyntheticDocumentGenerator.XML_NAMESPACE, "root");
+
+  private BenchmarkBindingContext() {
+    // disable construction
+  }
+
+  /**
+   * Create a new binding context that applies the benchmark constraints to the test Metaschema and
+   * that can detect the {@link RootBoundAssembly} root in all supported formats.
+   *
+   * @return the new binding context
+   * @throws IOException
+   *           if an error occurred while loading the benchmark constraints
+   */
+  @NonNull
+  public static IBindingContext newBindingContext() throws IOException {
+    return newBindingContext(false);
+  }
+
+  /**
+   * Create a new binding context that applies the benchmark constraints to the test Metaschema and
+   * that can detect the {@link RootBoundAssembly} root in all supported formats.
+   *
+   * @param generatedAccessors
+   *          {@code true} if bound classes are to be accessed using accessors generated at runtime,
+   *          or {@code false} to use reflection
+   * @return the new binding context
+   * @throws IOException
+   *           if an error occurred while loading the benchmark constraints
+   */
+  @NonNull
+  public static IBindingContext newBindingContext(boolean generatedAccessors) throws IOException {
+    URL constraintsResource = ObjectUtils.requireNonNull(
+        BenchmarkBindingContext.class.getResource(CONSTRAINTS_RESOURCE),
+        "benchmark constraints not found");
+
+    IConstraintSet constraintSet;
+    try {
+      constraintSet = new ConstraintLoader().load(constraintsResource);
+    } catch (MetaschemaException ex) {
+      throw new IOException(ex);
+    }
+
+    IBindingContext retval = new DefaultBindingContext(CollectionUtil.singleton(constraintSet), generatedAccessors);
+    retval.registerBindingMatcher(new RootMatcher());
+    return retval;
+  }
+
+  private static final class RootMatcher implements IBindingMatcher {
+    @Override
+    public Class<?> getBoundClassForXmlQName(QName rootQName) {
+      return ROOT_QNAME.equals(rootQName) ? RootBoundAssembly.class : null;
+    }
+
+    @Override
+    public Class<?> getBoundClassForJsonName(String rootName) {
+      return "root".equals(rootName) ? RootBoundAssembly.class : null;
+    }
+  }
+}
@@ -0,0 +1,116 @@
+/*
+ * Portions of this software was developed by employees of the National Institute
+ * of Standards and Technology (NIST), an agency of the Federal Government and is
+ * being made available as a public service. Pursuant to title 17 United States
+ * Code Section 105, works of NIST employees are not subject to copyright
+ * protection in the United States. This software may be subject to foreign
+ * copyright. Permission in the United States and in foreign countries, to the
+ * extent that NIST may hold copyright, to use, copy, modify, create derivative
+ * works, and distribute this software and its documentation without fee is hereby
+ * granted on a non-exclusive basis, provided that this notice and disclaimer
+ * of warranty appears in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED 'AS IS' WITHOUT ANY WARRANTY OF ANY KIND, EITHER
+ * EXPRESSED, IMPLIED, OR STATUTORY, INCLUDING, BUT NOT LIMITED TO, ANY WARRANTY
+ * THAT THE SOFTWARE WILL CONFORM TO SPECIFICATIONS, ANY IMPLIED WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE, AND FREEDOM FROM
+ * INFRINGEMENT, AND ANY WARRANTY THAT THE DOCUMENTATION WILL CONFORM TO THE
+ * SOFTWARE, OR ANY WARRANTY THAT THE SOFTWARE WILL BE ERROR FREE.  IN NO EVENT
+ * SHALL NIST BE LIABLE FOR ANY DAMAGES, INCLUDING, BUT NOT LIMITED TO, DIRECT,
+ * INDIRECT, SPECIAL OR CONSEQUENTIAL DAMAGES, ARISING OUT OF, RESULTING FROM,
+ * OR IN ANY WAY CONNECTED WITH THIS SOFTWARE, WHETHER OR NOT BASED UPON WARRANTY,
+ * CONTRACT, TORT, OR OTHERWISE, WHETHER OR NOT INJURY WAS SUSTAINED BY PERSONS OR
+ * PROPERTY OR OTHERWISE, AND WHETHER OR NOT LOSS WAS SUSTAINED FROM, OR AROSE OUT
+ * OF THE RESULTS OF, OR USE OF, THE SOFTWARE OR SERVICES PROVIDED HEREUNDER.
+ */
+
+package gov.nist.secauto.metaschema.benchmarks;
+
+import gov.nist.secauto.metaschema.binding.IBindingContext;
+import gov.nist.secauto.metaschema.binding.io.BindingException;
+import gov.nist.secauto.metaschema.binding.io.DeserializationFeature;
+import gov.nist.secauto.metaschema.binding.io.IDeserializer;
+import gov.nist.secauto.metaschema.binding.model.test.RootBoundAssembly;
+import gov.nist.secauto.metaschema.model.common.util.ObjectUtils;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares reading and copying bound objects using reflection against using accessors generated at
+ * runtime.
+ *
+ * @see IBindingContext#isUsingGeneratedAccessors()
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BindingAccessorBenchmark {
+  /**
+   * {@code true} to use generated accessors, or {@code false} to use reflection.
+   */
+  @Param({ "false", "true" })
+  public boolean generatedAccessors;
+
+  private IBindingContext bindingContext;
+  private RootBoundAssembly root;
+
+  /**
+   * Set up a binding context using the selected accessors and load the document to copy.
+   *
+   * @param state
+   *          the document to read
+   * @throws IOException
+   *           if an error occurred while loading the document
+   */
+  @Setup(Level.Trial)
+  public void setup(SyntheticDocumentState state) throws IOException {
+    bindingContext = BenchmarkBindingContext.newBindingContext(generatedAccessors);
+    root = deserialize(state);
+  }
+
+  /**
+   * Read the document using a deserializer for the known root class and format.
+   *
+   * @param state
+   *          the document to read
+   * @return the bound object
+   * @throws IOException
+   *           if an error occurred while reading the document
+   */
+  @Benchmark
+  public RootBoundAssembly deserialize(SyntheticDocumentState state) throws IOException {
+    IDeserializer<RootBoundAssembly> deserializer
+        = ObjectUtils.requireNonNull(bindingContext).newDeserializer(state.getFormat(), RootBoundAssembly.class);
+    deserializer.disableFeature(DeserializationFeature.DESERIALIZE_VALIDATE_CONSTRAINTS);
+    return deserializer.deserialize(state.getDocument());
+  }
+
+  /**
+   * Make a deep copy of a previously loaded document.
+   *
+   * @return the copy
+   * @throws BindingException
+   *           if an error occurred while copying the document
+   */
+  @Benchmark
+  public RootBoundAssembly copy() throws BindingException {
+    return ObjectUtils.requireNonNull(bindingContext).copyBoundObject(ObjectUtils.requireNonNull(root), null);
+  }
+}
@@ -0,0 +1,154 @@
+/*
+ * Portions of this software was developed by employees of the National Institute
+ * of Standards and Technology (NIST), an agency of the Federal Government and is
+ * being made available as a public service. Pursuant to title 17 United States
+ * Code Section 105, works of NIST employees are not subject to copyright
+ * protection in the United States. This software may be subject to foreign
+ * copyright. Permission in the United States and in foreign countries, to the
+ * extent that NIST may hold copyright, to use, copy, modify, create derivative
+ * works, and distribute this software and its documentation without fee is hereby
+ * granted on a non-exclusive basis, provided that this notice and disclaimer
+ * of warranty appears in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED 'AS IS' WITHOUT ANY WARRANTY OF ANY KIND, EITHER
+ * EXPRESSED, IMPLIED, OR STATUTORY, INCLUDING, BUT NOT LIMITED TO, ANY WARRANTY
+ * THAT THE SOFTWARE WILL CONFORM TO SPECIFICATIONS, ANY IMPLIED WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE, AND FREEDOM FROM
+ * INFRINGEMENT, AND ANY WARRANTY THAT THE DOCUMENTATION WILL CONFORM TO THE
+ * SOFTWARE, OR ANY WARRANTY THAT THE SOFTWARE WILL BE ERROR FREE.  IN NO EVENT
+ * SHALL NIST BE LIABLE FOR ANY DAMAGES, INCLUDING, BUT NOT LIMITED TO, DIRECT,
+ * INDIRECT, SPECIAL OR CONSEQUENTIAL DAMAGES, ARISING OUT OF, RESULTING FROM,
+ * OR IN ANY WAY CONNECTED WITH THIS SOFTWARE, WHETHER OR NOT BASED UPON WARRANTY,
+ * CONTRACT, TORT, OR OTHERWISE, WHETHER OR NOT INJURY WAS SUSTAINED BY PERSONS OR
+ * PROPERTY OR OTHERWISE, AND WHETHER OR NOT LOSS WAS SUSTAINED FROM, OR AROSE OUT
+ * OF THE RESULTS OF, OR USE OF, THE SOFTWARE OR SERVICES PROVIDED HEREUNDER.
+ */
+
+package gov.nist.secauto.metaschema.benchmarks;
+
+import gov.nist.secauto.metaschema.binding.IBindingContext;
+import gov.nist.secauto.metaschema.binding.IBindingContext.IValidationSchemaProvider;
+import gov.nist.secauto.metaschema.binding.io.yaml.YamlOperations;
+import gov.nist.secauto.metaschema.model.common.util.ObjectUtils;
+import gov.nist.secauto.metaschema.model.common.validation.AggregateValidationResult;
+import gov.nist.secauto.metaschema.model.common.validation.IValidationResult;
+import gov.nist.secauto.metaschema.model.common.validation.JsonSchemaContentValidator;
+import gov.nist.secauto.metaschema.model.common.validation.XmlSchemaContentValidator;
+
+import org.json.JSONObject;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+import org.xml.sax.SAXException;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import javax.xml.transform.Source;
+import javax.xml.transform.stream.StreamSource;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+
+/**
+ * Measures schema and constraint validation of synthetic documents, comparing validation from a
+ * single parse of the document to parsing the document separately for each kind of validation.
+ * <p>
+ * Permissive schemas are used, so that the measurements reflect the cost of reading the document
+ * rather than the cost of schema evaluation. The memory used by each approach can be compared
+ * using the JMH {@code -prof gc} option, which reports the bytes allocated per operation, or by
+ * limiting the heap using the {@code -jvmArgs -Xmx...} option with a large document size.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class ContentValidationBenchmark {
+  @NonNull
+  private static final String XML_SCHEMA
+      = "<xs:schema xmlns:xs=\"http://www.w3.org/2001/XMLSchema\""
+          + " targetNamespace=\"" + SyntheticDocumentGenerator.XML_NAMESPACE + "\""
+          + " elementFormDefault=\"qualified\">"
+          + "<xs:element name=\"root\"><xs:complexType><xs:sequence>"
+          + "<xs:any minOccurs=\"0\" maxOccurs=\"unbounded\" processContents=\"skip\"/>"
+          + "</xs:sequence><xs:anyAttribute processContents=\"skip\"/></xs:complexType></xs:element>"
+          + "</xs:schema>";
+
+  @NonNull
+  private static final IValidationSchemaProvider SCHEMA_PROVIDER = new IValidationSchemaProvider() {
+    @Override
+    public JSONObject getJsonSchema() {
+      // an empty schema accepts any content
+      return new JSONObject();
+    }
+
+    @Override
+    public List<Source> getXmlSchemas() {
+      return ObjectUtils.notNull(List.of(new StreamSource(new StringReader(XML_SCHEMA))));
+    }
+  };
+
+  /**
+   * Validate the document using a single parse for both schema and constraint validation, as is
+   * done by the CLI {@code validate} command.
+   *
+   * @param state
+   *          the document to validate
+   * @return the validation result
+   * @throws IOException
+   *           if an error occurred while reading the document
+   * @throws SAXException
+   *           if an error occurred while loading the XML schema
+   */
+  @Benchmark
+  public IValidationResult validateSinglePass(SyntheticDocumentState state) throws IOException, SAXException {
+    return state.getBindingContext().validate(state.getDocument(), state.getFormat(), SCHEMA_PROVIDER);
+  }
+
+  /**
+   * Validate the document by parsing it once for schema validation and again for constraint
+   * validation.
+   *
+   * @param state
+   *          the document to validate
+   * @return the validation result
+   * @throws IOException
+   *           if an error occurred while reading the document
+   * @throws SAXException
+   *           if an error occurred while loading the XML schema
+   */
+  @Benchmark
+  public IValidationResult validateSeparately(SyntheticDocumentState state) throws IOException, SAXException {
+    IBindingContext bindingContext = state.getBindingContext();
+    Path document = state.getDocument();
+
+    IValidationResult retval;
+    switch (state.getFormat()) {
+    case JSON:
+      retval = new JsonSchemaContentValidator(SCHEMA_PROVIDER.getJsonSchema()).validate(document);
+      break;
+    case XML:
+      retval = new XmlSchemaContentValidator(SCHEMA_PROVIDER.getXmlSchemas()).validate(document);
+      break;
+    case YAML:
+      JSONObject json = YamlOperations.yamlToJson(YamlOperations.parseYaml(document));
+      retval = new JsonSchemaContentValidator(SCHEMA_PROVIDER.getJsonSchema())
+          .validate(ObjectUtils.requireNonNull(json), state.getDocumentUri());
+      break;
+    default:
+      throw new UnsupportedOperationException("Unsupported format: " + state.getFormat().name());
+    }
+
+    if (retval.isPassing()) {
+      retval = AggregateValidationResult.aggregate(retval, bindingContext.validateWithConstraints(document));
+    }
+    return retval;
+  }
+}
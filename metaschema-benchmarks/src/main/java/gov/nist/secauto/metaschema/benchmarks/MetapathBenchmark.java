@@ -0,0 +1,138 @@
+/*
+ * Portions of this software was developed by employees of the National Institute
+ * of Standards and Technology (NIST), an agency of the Federal Government and is
+ * being made available as a public service. Pursuant to title 17 United States
+ * Code Section 105, works of NIST employees are not subject to copyright
+ * protection in the United States. This software may be subject to foreign
+ * copyright. Permission in the United States and in foreign countries, to the
+ * extent that NIST may hold copyright, to use, copy, modify, create derivative
+ * works, and distribute this software and its documentation without fee is hereby
+ * granted on a non-exclusive basis, provided that this notice and disclaimer
+ * of warranty appears in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED 'AS IS' WITHOUT ANY WARRANTY OF ANY KIND, EITHER
+ * EXPRESSED, IMPLIED, OR STATUTORY, INCLUDING, BUT NOT LIMITED TO, ANY WARRANTY
+ * THAT THE SOFTWARE WILL CONFORM TO SPECIFICATIONS, ANY IMPLIED WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE, AND FREEDOM FROM
+ * INFRINGEMENT, AND ANY WARRANTY THAT THE DOCUMENTATION WILL CONFORM TO THE
+ * SOFTWARE, OR ANY WARRANTY THAT THE SOFTWARE WILL BE ERROR FREE.  IN NO EVENT
+ * SHALL NIST BE LIABLE FOR ANY DAMAGES, INCLUDING, BUT NOT LIMITED TO, DIRECT,
+ * INDIRECT, SPECIAL OR CONSEQUENTIAL DAMAGES, ARISING OUT OF, RESULTING FROM,
+ * OR IN ANY WAY CONNECTED WITH THIS SOFTWARE, WHETHER OR NOT BASED UPON WARRANTY,
+ * CONTRACT, TORT, OR OTHERWISE, WHETHER OR NOT INJURY WAS SUSTAINED BY PERSONS OR
+ * PROPERTY OR OTHERWISE, AND WHETHER OR NOT LOSS WAS SUSTAINED FROM, OR AROSE OUT
+ * OF THE RESULTS OF, OR USE OF, THE SOFTWARE OR SERVICES PROVIDED HEREUNDER.
+ */
+
+package gov.nist.secauto.metaschema.benchmarks;
+
+import gov.nist.secauto.metaschema.binding.IBindingContext;
+import gov.nist.secauto.metaschema.binding.io.DeserializationFeature;
+import gov.nist.secauto.metaschema.binding.io.Format;
+import gov.nist.secauto.metaschema.binding.io.IBoundLoader;
+import gov.nist.secauto.metaschema.model.common.metapath.DynamicContext;
+import gov.nist.secauto.metaschema.model.common.metapath.MetapathExpression;
+import gov.nist.secauto.metaschema.model.common.metapath.StaticContext;
+import gov.nist.secauto.metaschema.model.common.metapath.item.IDocumentNodeItem;
+import gov.nist.secauto.metaschema.model.common.metapath.item.IItem;
+import gov.nist.secauto.metaschema.model.common.util.ObjectUtils;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures compilation and evaluation of a representative set of Metapath expressions against a
+ * loaded synthetic document.
+ * <p>
+ * The expressions cover positional predicates, flag value predicates, descendant searches,
+ * function calls, and general comparisons between node sequences.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MetapathBenchmark {
+  /**
+   * The approximate size of the generated document.
+   */
+  @Param({ "1KB", "256KB", "1MB" })
+  public String size;
+
+  /**
+   * The expression to compile and evaluate.
+   */
+  @Param({
+      "/root/singleton-or-array-assembly[1]/simple-required-singleton-field",
+      "/root/singleton-or-array-assembly/flagged-required-array-field[@field-required-flag='id-1-2']",
+      "/root/keyed-field[@field-required-flag='key-1']",
+      "count(//flagged-required-array-field)",
+      "//collapsible-required-singleton-field/@field-required-flag = "
+          + "//flagged-required-array-field/@field-required-flag"
+  })
+  public String expression;
+
+  private IDocumentNodeItem document;
+  private MetapathExpression compiled;
+  private DynamicContext dynamicContext;
+
+  /**
+   * Generate and load the document, and compile the expression.
+   *
+   * @throws IOException
+   *           if an error occurred while generating or loading the document
+   */
+  @Setup(Level.Trial)
+  public void setup() throws IOException {
+    IBindingContext bindingContext = BenchmarkBindingContext.newBindingContext();
+    Path file = ObjectUtils.notNull(Files.createTempFile("metaschema-benchmark-", Format.JSON.getDefaultExtension()));
+    try {
+      SyntheticDocumentGenerator.generate(Format.JSON, SyntheticDocumentGenerator.parseSize(size), file);
+
+      IBoundLoader loader = bindingContext.newBoundLoader();
+      loader.disableFeature(DeserializationFeature.DESERIALIZE_VALIDATE_CONSTRAINTS);
+      document = loader.loadAsNodeItem(file);
+    } finally {
+      Files.deleteIfExists(file);
+    }
+    compiled = MetapathExpression.compile(expression);
+    dynamicContext = new StaticContext().newDynamicContext();
+  }
+
+  /**
+   * Compile the expression.
+   *
+   * @return the compiled expression
+   */
+  @Benchmark
+  public MetapathExpression compile() {
+    return MetapathExpression.compile(ObjectUtils.notNull(expression));
+  }
+
+  /**
+   * Evaluate the previously compiled expression, fully consuming the result.
+   *
+   * @return the result items
+   */
+  @Benchmark
+  public List<IItem> evaluate() {
+    return compiled.evaluate(ObjectUtils.notNull(document), ObjectUtils.notNull(dynamicContext)).asList();
+  }
+}
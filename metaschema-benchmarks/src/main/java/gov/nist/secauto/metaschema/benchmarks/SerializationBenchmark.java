@@ -0,0 +1,124 @@
+/*
+ * Portions of this software was developed by employees of the National Institute
+ * of Standards and Technology (NIST), an agency of the Federal Government and is
+ * being made available as a public service. Pursuant to title 17 United States
+ * Code Section 105, works of NIST employees are not subject to copyright
+ * protection in the United States. This software may be subject to foreign
+ * copyright. Permission in the United States and in foreign countries, to the
+ * extent that NIST may hold copyright, to use, copy, modify, create derivative
+ * works, and distribute this software and its documentation without fee is hereby
+ * granted on a non-exclusive basis, provided that this notice and disclaimer
+ * of warranty appears in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED 'AS IS' WITHOUT ANY WARRANTY OF ANY KIND, EITHER
+ * EXPRESSED, IMPLIED, OR STATUTORY, INCLUDING, BUT NOT LIMITED TO, ANY WARRANTY
+ * THAT THE SOFTWARE WILL CONFORM TO SPECIFICATIONS, ANY IMPLIED WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE, AND FREEDOM FROM
+ * INFRINGEMENT, AND ANY WARRANTY THAT THE DOCUMENTATION WILL CONFORM TO THE
+ * SOFTWARE, OR ANY WARRANTY THAT THE SOFTWARE WILL BE ERROR FREE.  IN NO EVENT
+ * SHALL NIST BE LIABLE FOR ANY DAMAGES, INCLUDING, BUT NOT LIMITED TO, DIRECT,
+ * INDIRECT, SPECIAL OR CONSEQUENTIAL DAMAGES, ARISING OUT OF, RESULTING FROM,
+ * OR IN ANY WAY CONNECTED WITH THIS SOFTWARE, WHETHER OR NOT BASED UPON WARRANTY,
+ * CONTRACT, TORT, OR OTHERWISE, WHETHER OR NOT INJURY WAS SUSTAINED BY PERSONS OR
+ * PROPERTY OR OTHERWISE, AND WHETHER OR NOT LOSS WAS SUSTAINED FROM, OR AROSE OUT
+ * OF THE RESULTS OF, OR USE OF, THE SOFTWARE OR SERVICES PROVIDED HEREUNDER.
+ */
+
+package gov.nist.secauto.metaschema.benchmarks;
+
+import gov.nist.secauto.metaschema.binding.io.DeserializationFeature;
+import gov.nist.secauto.metaschema.binding.io.Format;
+import gov.nist.secauto.metaschema.binding.io.IBoundLoader;
+import gov.nist.secauto.metaschema.binding.io.IDeserializer;
+import gov.nist.secauto.metaschema.binding.io.ISerializer;
+import gov.nist.secauto.metaschema.binding.model.test.RootBoundAssembly;
+import gov.nist.secauto.metaschema.model.common.util.ObjectUtils;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures writing bound objects and converting between formats.
+ * <p>
+ * The source document is read once per trial in the format selected by {@code format}, and is
+ * then written in the format selected by {@code toFormat}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SerializationBenchmark {
+  /**
+   * The format to write.
+   */
+  @Param({ "JSON", "XML", "YAML" })
+  public Format toFormat;
+
+  private RootBoundAssembly data;
+
+  /**
+   * Read the source document into a bound object.
+   *
+   * @param state
+   *          the document to read
+   * @throws IOException
+   *           if an error occurred while reading the document
+   */
+  @Setup(Level.Trial)
+  public void setup(SyntheticDocumentState state) throws IOException {
+    IDeserializer<RootBoundAssembly> deserializer
+        = state.getBindingContext().newDeserializer(state.getFormat(), RootBoundAssembly.class);
+    deserializer.disableFeature(DeserializationFeature.DESERIALIZE_VALIDATE_CONSTRAINTS);
+    data = deserializer.deserialize(state.getDocument());
+  }
+
+  /**
+   * Write the bound object, discarding the output.
+   *
+   * @param state
+   *          the document state providing the binding context
+   * @throws IOException
+   *           if an error occurred while writing the document
+   */
+  @Benchmark
+  public void serialize(SyntheticDocumentState state) throws IOException {
+    ISerializer<RootBoundAssembly> serializer
+        = state.getBindingContext().newSerializer(toFormat, RootBoundAssembly.class);
+    serializer.serialize(ObjectUtils.notNull(data), ObjectUtils.notNull(OutputStream.nullOutputStream()));
+  }
+
+  /**
+   * Convert the source document to the target format, discarding the output.
+   *
+   * @param state
+   *          the document to convert
+   * @throws IOException
+   *           if an error occurred while reading or writing the document
+   */
+  @Benchmark
+  public void convert(SyntheticDocumentState state) throws IOException {
+    IBoundLoader loader = state.getBindingContext().newBoundLoader();
+    loader.disableFeature(DeserializationFeature.DESERIALIZE_VALIDATE_CONSTRAINTS);
+    loader.convert(
+        state.getDocument(),
+        ObjectUtils.notNull(OutputStream.nullOutputStream()),
+        ObjectUtils.notNull(toFormat),
+        RootBoundAssembly.class);
+  }
+}
@@ -0,0 +1,161 @@
+/*
+ * Portions of this software was developed by employees of the National Institute
+ * of Standards and Technology (NIST), an agency of the Federal Government and is
+ * being made available as a public service. Pursuant to title 17 United States
+ * Code Section 105, works of NIST employees are not subject to copyright
+ * protection in the United States. This software may be subject to foreign
+ * copyright. Permission in the United States and in foreign countries, to the
+ * extent that NIST may hold copyright, to use, copy, modify, create derivative
+ * works, and distribute this software and its documentation without fee is hereby
+ * granted on a non-exclusive basis, provided that this notice and disclaimer
+ * of warranty appears in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED 'AS IS' WITHOUT ANY WARRANTY OF ANY KIND, EITHER
+ * EXPRESSED, IMPLIED, OR STATUTORY, INCLUDING, BUT NOT LIMITED TO, ANY WARRANTY
+ * THAT THE SOFTWARE WILL CONFORM TO SPECIFICATIONS, ANY IMPLIED WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE, AND FREEDOM FROM
+ * INFRINGEMENT, AND ANY WARRANTY THAT THE DOCUMENTATION WILL CONFORM TO THE
+ * SOFTWARE, OR ANY WARRANTY THAT THE SOFTWARE WILL BE ERROR FREE.  IN NO EVENT
+ * SHALL NIST BE LIABLE FOR ANY DAMAGES, INCLUDING, BUT NOT LIMITED TO, DIRECT,
+ * INDIRECT, SPECIAL OR CONSEQUENTIAL DAMAGES, ARISING OUT OF, RESULTING FROM,
+ * OR IN ANY WAY CONNECTED WITH THIS SOFTWARE, WHETHER OR NOT BASED UPON WARRANTY,
+ * CONTRACT, TORT, OR OTHERWISE, WHETHER OR NOT INJURY WAS SUSTAINED BY PERSONS OR
+ * PROPERTY OR OTHERWISE, AND WHETHER OR NOT LOSS WAS SUSTAINED FROM, OR AROSE OUT
+ * OF THE RESULTS OF, OR USE OF, THE SOFTWARE OR SERVICES PROVIDED HEREUNDER.
+ */
+
+package gov.nist.secauto.metaschema.benchmarks;
+
+import gov.nist.secauto.metaschema.binding.IBindingContext;
+import gov.nist.secauto.metaschema.binding.io.DeserializationFeature;
+import gov.nist.secauto.metaschema.binding.io.Format;
+import gov.nist.secauto.metaschema.binding.io.IBoundLoader;
+import gov.nist.secauto.metaschema.binding.io.IDeserializer;
+import gov.nist.secauto.metaschema.binding.model.test.RootBoundAssembly;
+import gov.nist.secauto.metaschema.model.common.util.ObjectUtils;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+
+/**
+ * Measures the throughput of loading many small in-memory documents, where the per-document setup
+ * cost of the loader and deserializers dominates the parsing cost.
+ * <p>
+ * Use the JMH {@code -t} option to measure the throughput with multiple concurrent threads.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class SmallDocumentBenchmark {
+  @NonNull
+  private static final URI DOCUMENT_URI = ObjectUtils.notNull(URI.create("http://example.org/small-document"));
+
+  /**
+   * Provides a small synthetic document held in memory.
+   */
+  @State(Scope.Benchmark)
+  public static class SmallDocumentState {
+    /**
+     * The approximate size of the generated document.
+     */
+    @Param({ "1KB", "8KB" })
+    public String size;
+
+    /**
+     * The format of the generated document.
+     */
+    @Param({ "JSON", "XML", "YAML" })
+    public Format format;
+
+    private IBindingContext bindingContext;
+    private byte[] document;
+
+    /**
+     * Generate the document and set up the binding context.
+     *
+     * @throws IOException
+     *           if an error occurred while generating the document
+     */
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+      bindingContext = BenchmarkBindingContext.newBindingContext();
+      Path file = ObjectUtils.notNull(Files.createTempFile("metaschema-benchmark-", format.getDefaultExtension()));
+      try {
+        SyntheticDocumentGenerator.generate(format, SyntheticDocumentGenerator.parseSize(size), file);
+        document = Files.readAllBytes(file);
+      } finally {
+        Files.deleteIfExists(file);
+      }
+    }
+
+    @NonNull
+    public IBindingContext getBindingContext() {
+      return ObjectUtils.requireNonNull(bindingContext);
+    }
+
+    @NonNull
+    public Format getFormat() {
+      return ObjectUtils.requireNonNull(format);
+    }
+
+    @NonNull
+    public ByteArrayInputStream newInputStream() {
+      return new ByteArrayInputStream(ObjectUtils.requireNonNull(document));
+    }
+  }
+
+  /**
+   * Load the document using a new bound loader, which auto-detects the format and root class. This
+   * is typical of a service that creates a loader for each request.
+   *
+   * @param state
+   *          the document to read
+   * @return the bound object
+   * @throws IOException
+   *           if an error occurred while reading the document
+   */
+  @Benchmark
+  public Object load(SmallDocumentState state) throws IOException {
+    IBoundLoader loader = state.getBindingContext().newBoundLoader();
+    loader.disableFeature(DeserializationFeature.DESERIALIZE_VALIDATE_CONSTRAINTS);
+    return loader.load(state.newInputStream(), DOCUMENT_URI);
+  }
+
+  /**
+   * Read the document using a new deserializer for the known root class and format.
+   *
+   * @param state
+   *          the document to read
+   * @return the bound object
+   * @throws IOException
+   *           if an error occurred while reading the document
+   */
+  @Benchmark
+  public RootBoundAssembly deserialize(SmallDocumentState state) throws IOException {
+    IDeserializer<RootBoundAssembly> deserializer
+        = state.getBindingContext().newDeserializer(state.getFormat(), RootBoundAssembly.class);
+    deserializer.disableFeature(DeserializationFeature.DESERIALIZE_VALIDATE_CONSTRAINTS);
+    return deserializer.deserialize(state.newInputStream(), DOCUMENT_URI);
+  }
+}
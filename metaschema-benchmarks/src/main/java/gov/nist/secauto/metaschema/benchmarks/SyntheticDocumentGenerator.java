@@ -0,0 +1,316 @@
+/*
+ * Portions of this software was developed by employees of the National Institute
+ * of Standards and Technology (NIST), an agency of the Federal Government and is
+ * being made available as a public service. Pursuant to title 17 United States
+ * Code Section 105, works of NIST employees are not subject to copyright
+ * protection in the United States. This software may be subject to foreign
+ * copyright. Permission in the United States and in foreign countries, to the
+ * extent that NIST may hold copyright, to use, copy, modify, create derivative
+ * works, and distribute this software and its documentation without fee is hereby
+ * granted on a non-exclusive basis, provided that this notice and disclaimer
+ * of warranty appears in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED 'AS IS' WITHOUT ANY WARRANTY OF ANY KIND, EITHER
+ * EXPRESSED, IMPLIED, OR STATUTORY, INCLUDING, BUT NOT LIMITED TO, ANY WARRANTY
+ * THAT THE SOFTWARE WILL CONFORM TO SPECIFICATIONS, ANY IMPLIED WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE, AND FREEDOM FROM
+ * INFRINGEMENT, AND ANY WARRANTY THAT THE DOCUMENTATION WILL CONFORM TO THE
+ * SOFTWARE, OR ANY WARRANTY THAT THE SOFTWARE WILL BE ERROR FREE.  IN NO EVENT
+ * SHALL NIST BE LIABLE FOR ANY DAMAGES, INCLUDING, BUT NOT LIMITED TO, DIRECT,
+ * INDIRECT, SPECIAL OR CONSEQUENTIAL DAMAGES, ARISING OUT OF, RESULTING FROM,
+ * OR IN ANY WAY CONNECTED WITH THIS SOFTWARE, WHETHER OR NOT BASED UPON WARRANTY,
+ * CONTRACT, TORT, OR OTHERWISE, WHETHER OR NOT INJURY WAS SUSTAINED BY PERSONS OR
+ * PROPERTY OR OTHERWISE, AND WHETHER OR NOT LOSS WAS SUSTAINED FROM, OR AROSE OUT
+ * OF THE RESULTS OF, OR USE OF, THE SOFTWARE OR SERVICES PROVIDED HEREUNDER.
+ */
+
+package gov.nist.secauto.metaschema.benchmarks;
+
+import gov.nist.secauto.metaschema.binding.io.Format;
+
+import java.io.FilterWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Locale;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+
+/**
+ * Generates synthetic instances of the test Metaschema's {@code root} assembly, which is bound by
+ * the {@code RootBoundAssembly} class in the binding module's test sources.
+ * <p>
+ * A document consists of a small fixed header followed by {@code singleton-or-array-assembly}
+ * items, which are appended until the document reaches the requested size. Each item populates
+ * all of the required simple, flagged, and collapsible fields of the {@code only-model}
+ * assembly, so that each format exercises the same bound properties.
+ */
+public final class SyntheticDocumentGenerator {
+  /**
+   * The XML namespace of the test Metaschema bindings.
+   */
+  @NonNull
+  public static final String XML_NAMESPACE = "http://example.org/ns/test";
+  /**
+   * The number of {@code keyed-field} entries written to each document.
+   */
+  public static final int KEYED_FIELD_COUNT = 8;
+
+  private SyntheticDocumentGenerator() {
+    // disable construction
+  }
+
+  /**
+   * Parse a human readable size (i.e., {@code 1KB}, {@code 16MB}, {@code 1GB}) or a plain byte
+   * count.
+   *
+   * @param size
+   *          the size to parse
+   * @return the size in bytes
+   * @throws NumberFormatException
+   *           if the size cannot be parsed
+   */
+  public static long parseSize(@NonNull String size) {
+    String value = size.trim().toUpperCase(Locale.ROOT);
+    long multiplier = 1;
+    if (value.endsWith("KB")) {
+      multiplier = 1024L;
+    } else if (value.endsWith("MB")) {
+      multiplier = 1024L * 1024L;
+    } else if (value.endsWith("GB")) {
+      multiplier = 1024L * 1024L * 1024L;
+    }
+
+    if (multiplier > 1) {
+      value = value.substring(0, value.length() - 2).trim();
+    } else if (value.endsWith("B")) {
+      value = value.substring(0, value.length() - 1).trim();
+    }
+    return Long.parseLong(value) * multiplier;
+  }
+
+  /**
+   * Generate a new document of approximately the requested size in the requested format.
+   * <p>
+   * At least one {@code singleton-or-array-assembly} item is always written, so very small target
+   * sizes will produce a document slightly larger than requested.
+   *
+   * @param format
+   *          the format to write the document in
+   * @param targetBytes
+   *          the approximate size of the document to generate
+   * @param destination
+   *          the file to write the document to
+   * @return the number of {@code singleton-or-array-assembly} items written
+   * @throws IOException
+   *           if an error occurred while writing the document
+   */
+  public static int generate(
+      @NonNull Format format,
+      long targetBytes,
+      @NonNull Path destination) throws IOException {
+    try (CountingWriter writer = new CountingWriter(Files.newBufferedWriter(destination, StandardCharsets.UTF_8))) {
+      IItemWriter itemWriter;
+      switch (format) {
+      case JSON:
+        itemWriter = new JsonItemWriter(writer);
+        break;
+      case XML:
+        itemWriter = new XmlItemWriter(writer);
+        break;
+      case YAML:
+        itemWriter = new YamlItemWriter(writer);
+        break;
+      default:
+        throw new UnsupportedOperationException(String.format("Unsupported format '%s'", format));
+      }
+
+      itemWriter.writeStart();
+      int count = 0;
+      do {
+        itemWriter.writeItem(++count);
+      } while (writer.getCount() < targetBytes);
+      itemWriter.writeEnd();
+      return count;
+    }
+  }
+
+  private interface IItemWriter {
+    void writeStart() throws IOException;
+
+    void writeItem(int index) throws IOException;
+
+    void writeEnd() throws IOException;
+  }
+
+  private static final class JsonItemWriter implements IItemWriter {
+    @NonNull
+    private final Writer writer;
+
+    private JsonItemWriter(@NonNull Writer writer) {
+      this.writer = writer;
+    }
+
+    @Override
+    public void writeStart() throws IOException {
+      writer.write("{\n  \"root\": {\n    \"keyed-field-items\": {\n");
+      for (int key = 1; key <= KEYED_FIELD_COUNT; key++) {
+        writer.write(String.format("      \"key-%d\": { \"field-value\": \"keyed value %d\" }%s%n",
+            key, key, key < KEYED_FIELD_COUNT ? "," : ""));
+      }
+      writer.write("    },\n    \"singleton-or-array-assembly-items\": [\n");
+    }
+
+    @Override
+    public void writeItem(int index) throws IOException {
+      if (index > 1) {
+        writer.write(",\n");
+      }
+      writer.write(String.format("      {%n"
+          + "        \"simple-required-singleton-field\": \"required value %1$d\",%n"
+          + "        \"simple-required-array-field-items\": [ \"array value %1$d-1\", \"array value %1$d-2\" ],%n"
+          + "        \"flagged-required-singleton-field\": {"
+          + " \"field-required-flag\": \"id-%1$d-0\", \"field-value\": \"flagged value %1$d-0\" },%n"
+          + "        \"flagged-required-array-field-items\": [%n"
+          + "          { \"field-required-flag\": \"id-%1$d-1\", \"field-value\": \"flagged value %1$d-1\" },%n"
+          + "          { \"field-required-flag\": \"id-%1$d-2\", \"field-value\": \"flagged value %1$d-2\" }%n"
+          + "        ],%n"
+          + "        \"collapsible-required-singleton-field\": {"
+          + " \"field-required-flag\": \"id-%1$d-1\", \"field-value\": \"collapsible value %1$d\" },%n"
+          + "        \"collapsible-required-array-field-items\": [%n"
+          + "          { \"field-required-flag\": \"id-%1$d-2\", \"field-value\": \"collapsible value %1$d\" }%n"
+          + "        ]%n"
+          + "      }", index));
+    }
+
+    @Override
+    public void writeEnd() throws IOException {
+      writer.write("\n    ]\n  }\n}\n");
+    }
+  }
+
+  private static final class XmlItemWriter implements IItemWriter {
+    @NonNull
+    private final Writer writer;
+
+    private XmlItemWriter(@NonNull Writer writer) {
+      this.writer = writer;
+    }
+
+    @Override
+    public void writeStart() throws IOException {
+      writer.write("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n");
+      writer.write(String.format("<root xmlns=\"%s\">%n", XML_NAMESPACE));
+      for (int key = 1; key <= KEYED_FIELD_COUNT; key++) {
+        writer.write(String.format(
+            "  <keyed-field field-required-flag=\"key-%1$d\">keyed value %1$d</keyed-field>%n", key));
+      }
+    }
+
+    @Override
+    public void writeItem(int index) throws IOException {
+      writer.write(String.format("  <singleton-or-array-assembly>%n"
+          + "    <simple-required-singleton-field>required value %1$d</simple-required-singleton-field>%n"
+          + "    <simple-required-array-field>array value %1$d-1</simple-required-array-field>%n"
+          + "    <simple-required-array-field>array value %1$d-2</simple-required-array-field>%n"
+          + "    <flagged-required-singleton-field field-required-flag=\"id-%1$d-0\">"
+          + "flagged value %1$d-0</flagged-required-singleton-field>%n"
+          + "    <flagged-required-array-field field-required-flag=\"id-%1$d-1\">"
+          + "flagged value %1$d-1</flagged-required-array-field>%n"
+          + "    <flagged-required-array-field field-required-flag=\"id-%1$d-2\">"
+          + "flagged value %1$d-2</flagged-required-array-field>%n"
+          + "    <collapsible-required-singleton-field field-required-flag=\"id-%1$d-1\">"
+          + "collapsible value %1$d</collapsible-required-singleton-field>%n"
+          + "    <collapsible-required-array-field field-required-flag=\"id-%1$d-2\">"
+          + "collapsible value %1$d</collapsible-required-array-field>%n"
+          + "  </singleton-or-array-assembly>%n", index));
+    }
+
+    @Override
+    public void writeEnd() throws IOException {
+      writer.write("</root>\n");
+    }
+  }
+
+  private static final class YamlItemWriter implements IItemWriter {
+    @NonNull
+    private final Writer writer;
+
+    private YamlItemWriter(@NonNull Writer writer) {
+      this.writer = writer;
+    }
+
+    @Override
+    public void writeStart() throws IOException {
+      writer.write("---\nroot:\n  keyed-field-items:\n");
+      for (int key = 1; key <= KEYED_FIELD_COUNT; key++) {
+        writer.write(String.format("    key-%1$d:%n      field-value: keyed value %1$d%n", key));
+      }
+      writer.write("  singleton-or-array-assembly-items:\n");
+    }
+
+    @Override
+    public void writeItem(int index) throws IOException {
+      writer.write(String.format("  - simple-required-singleton-field: required value %1$d%n"
+          + "    simple-required-array-field-items:%n"
+          + "    - array value %1$d-1%n"
+          + "    - array value %1$d-2%n"
+          + "    flagged-required-singleton-field:%n"
+          + "      field-required-flag: id-%1$d-0%n"
+          + "      field-value: flagged value %1$d-0%n"
+          + "    flagged-required-array-field-items:%n"
+          + "    - field-required-flag: id-%1$d-1%n"
+          + "      field-value: flagged value %1$d-1%n"
+          + "    - field-required-flag: id-%1$d-2%n"
+          + "      field-value: flagged value %1$d-2%n"
+          + "    collapsible-required-singleton-field:%n"
+          + "      field-required-flag: id-%1$d-1%n"
+          + "      field-value: collapsible value %1$d%n"
+          + "    collapsible-required-array-field-items:%n"
+          + "    - field-required-flag: id-%1$d-2%n"
+          + "      field-value: collapsible value %1$d%n", index));
+    }
+
+    @Override
+    public void writeEnd() throws IOException {
+      // nothing to close
+    }
+  }
+
+  /**
+   * Tracks the number of characters written. Since the generated content is ASCII-only, this is
+   * also the number of bytes written.
+   */
+  private static final class CountingWriter
+      extends FilterWriter {
+    private long count;
+
+    private CountingWriter(@NonNull Writer out) {
+      super(out);
+    }
+
+    public long getCount() {
+      return count;
+    }
+
+    @Override
+    public void write(int ch) throws IOException {
+      super.write(ch);
+      count++;
+    }
+
+    @Override
+    public void write(char[] cbuf, int off, int len) throws IOException {
+      super.write(cbuf, off, len);
+      count += len;
+    }
+
+    @Override
+    public void write(String str, int off, int len) throws IOException {
+      super.write(str, off, len);
+      count += len;
+    }
+  }
+}
@@ -0,0 +1,127 @@
+/*
+ * Portions of this software was developed by employees of the National Institute
+ * of Standards and Technology (NIST), an agency of the Federal Government and is
+ * being made available as a public service. Pursuant to title 17 United States
+ * Code Section 105, works of NIST employees are not subject to copyright
+ * protection in the United States. This software may be subject to foreign
+ * copyright. Permission in the United States and in foreign countries, to the
+ * extent that NIST may hold copyright, to use, copy, modify, create derivative
+ * works, and distribute this software and its documentation without fee is hereby
+ * granted on a non-exclusive basis, provided that this notice and disclaimer
+ * of warranty appears in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED 'AS IS' WITHOUT ANY WARRANTY OF ANY KIND, EITHER
+ * EXPRESSED, IMPLIED, OR STATUTORY, INCLUDING, BUT NOT LIMITED TO, ANY WARRANTY
+ * THAT THE SOFTWARE WILL CONFORM TO SPECIFICATIONS, ANY IMPLIED WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE, AND FREEDOM FROM
+ * INFRINGEMENT, AND ANY WARRANTY THAT THE DOCUMENTATION WILL CONFORM TO THE
+ * SOFTWARE, OR ANY WARRANTY THAT THE SOFTWARE WILL BE ERROR FREE.  IN NO EVENT
+ * SHALL NIST BE LIABLE FOR ANY DAMAGES, INCLUDING, BUT NOT LIMITED TO, DIRECT,
+ * INDIRECT, SPECIAL OR CONSEQUENTIAL DAMAGES, ARISING OUT OF, RESULTING FROM,
+ * OR IN ANY WAY CONNECTED WITH THIS SOFTWARE, WHETHER OR NOT BASED UPON WARRANTY,
+ * CONTRACT, TORT, OR OTHERWISE, WHETHER OR NOT INJURY WAS SUSTAINED BY PERSONS OR
+ * PROPERTY OR OTHERWISE, AND WHETHER OR NOT LOSS WAS SUSTAINED FROM, OR AROSE OUT
+ * OF THE RESULTS OF, OR USE OF, THE SOFTWARE OR SERVICES PROVIDED HEREUNDER.
+ */
+
+package gov.nist.secauto.metaschema.benchmarks;
+
+import gov.nist.secauto.metaschema.binding.IBindingContext;
+import gov.nist.secauto.metaschema.binding.io.Format;
+import gov.nist.secauto.metaschema.model.common.util.ObjectUtils;
+
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+
+/**
+ * Provides a synthetic document of a configurable size and format, which is generated once per
+ * trial.
+ * <p>
+ * The size can be set to any value supported by {@link SyntheticDocumentGenerator#parseSize(String)}
+ * using the JMH {@code -p size=500MB} option.
+ */
+@State(Scope.Benchmark)
+public class SyntheticDocumentState {
+  /**
+   * The approximate size of the generated document.
+   */
+  @Param({ "1KB", "1MB", "32MB" })
+  public String size;
+
+  /**
+   * The format of the generated document.
+   */
+  @Param({ "JSON", "XML", "YAML" })
+  public Format format;
+
+  private IBindingContext bindingContext;
+  private Path document;
+  private int itemCount;
+
+  /**
+   * Generate the document and set up the binding context.
+   *
+   * @throws IOException
+   *           if an error occurred while generating the document
+   */
+  @Setup(Level.Trial)
+  public void setup() throws IOException {
+    bindingContext = BenchmarkBindingContext.newBindingContext();
+    document = Files.createTempFile("metaschema-benchmark-", format.getDefaultExtension());
+    itemCount = SyntheticDocumentGenerator.generate(format, SyntheticDocumentGenerator.parseSize(size),
+        ObjectUtils.notNull(document));
+  }
+
+  /**
+   * Remove the generated document.
+   *
+   * @throws IOException
+   *           if an error occurred while deleting the document
+   */
+  @TearDown(Level.Trial)
+  public void tearDown() throws IOException {
+    if (document != null) {
+      Files.deleteIfExists(document);
+    }
+  }
+
+  @NonNull
+  public IBindingContext getBindingContext() {
+    return ObjectUtils.requireNonNull(bindingContext);
+  }
+
+  @NonNull
+  public Format getFormat() {
+    return ObjectUtils.requireNonNull(format);
+  }
+
+  @NonNull
+  public Path getDocument() {
+    return ObjectUtils.requireNonNull(document);
+  }
+
+  @NonNull
+  public URI getDocumentUri() {
+    return ObjectUtils.notNull(getDocument().toUri());
+  }
+
+  /**
+   * Get the number of {@code singleton-or-array-assembly} items in the generated document.
+   *
+   * @return the item count
+   */
+  public int getItemCount() {
+    return itemCount;
+  }
+}
@@ -44,6 +44,7 @@ import gov.nist.secauto.metaschema.cli.util.LoggingValidationHandler;
 import gov.nist.secauto.metaschema.model.ConstraintLoader;
 import gov.nist.secauto.metaschema.model.common.MetaschemaException;
 import gov.nist.secauto.metaschema.model.common.constraint.IConstraintSet;
+import gov.nist.secauto.metaschema.model.common.util.BoundedExecutor;
 import gov.nist.secauto.metaschema.model.common.util.CollectionUtil;
 import gov.nist.secauto.metaschema.model.common.util.CustomCollectors;
 import gov.nist.secauto.metaschema.model.common.util.ObjectUtils;
@@ -53,21 +54,37 @@ import org.apache.commons.cli.CommandLine;
 import org.apache.commons.cli.Option;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.json.JSONObject;
 import org.xml.sax.SAXException;
 
+import java.io.File;
 import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.PathMatcher;
 import java.nio.file.Paths;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Locale;
 import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import javax.xml.transform.Source;
+import javax.xml.validation.Schema;
 
 import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
 
 public abstract class AbstractValidateContentCommand
     extends AbstractTerminalCommand {
@@ -76,7 +93,12 @@ public abstract class AbstractValidateContentCommand
   private static final String COMMAND = "validate";
   @NonNull
   private static final List<ExtraArgument> EXTRA_ARGUMENTS = ObjectUtils.notNull(List.of(
-      new DefaultExtraArgument("file to validate", true)));
+      new DefaultExtraArgument("file, directory, or glob pattern to validate", true)));
+  @NonNull
+  private static final Set<String> DIRECTORY_FILE_EXTENSIONS
+      = ObjectUtils.notNull(Set.of("xml", "json", "yaml", "yml"));
+  @NonNull
+  private static final String GLOB_CHARACTERS = "*?[{";
 
   @NonNull
   private static final Option AS_OPTION = ObjectUtils.notNull(
@@ -93,6 +115,14 @@ public abstract class AbstractValidateContentCommand
           .argName("FILE")
           .desc("additional constraint definitions")
           .build());
+  @NonNull
+  private static final Option THREADS_OPTION = ObjectUtils.notNull(
+      Option.builder()
+          .longOpt("threads")
+          .hasArg()
+          .argName("COUNT")
+          .desc("number of threads used to validate files and to load the documents referenced by constraints")
+          .build());
 
   @Override
   public String getName() {
@@ -104,7 +134,8 @@ public abstract class AbstractValidateContentCommand
   public Collection<? extends Option> gatherOptions() {
     return List.of(
         AS_OPTION,
-        CONSTRAINTS_OPTION);
+        CONSTRAINTS_OPTION,
+        THREADS_OPTION);
   }
 
   @Override
@@ -139,12 +170,31 @@ public abstract class AbstractValidateContentCommand
       throw new InvalidArgumentException("The source to validate must be provided.");
     }
 
-    Path source = Paths.get(extraArgs.get(0));
-    if (!Files.exists(source)) {
-      throw new InvalidArgumentException("The provided source file '" + source + "' does not exist.");
+    String sourceArg = extraArgs.get(0);
+    if (!isGlob(sourceArg)) {
+      Path source = Paths.get(sourceArg);
+      if (!Files.exists(source)) {
+        throw new InvalidArgumentException("The provided source file '" + source + "' does not exist.");
+      }
+      if (!Files.isReadable(source)) {
+        throw new InvalidArgumentException("The provided source file '" + source + "' is not readable.");
+      }
     }
-    if (!Files.isReadable(source)) {
-      throw new InvalidArgumentException("The provided source file '" + source + "' is not readable.");
+
+    if (cmdLine.hasOption(THREADS_OPTION)) {
+      String threadsText = cmdLine.getOptionValue(THREADS_OPTION);
+      int threads;
+      try {
+        threads = Integer.parseInt(threadsText);
+      } catch (NumberFormatException ex) {
+        threads = 0;
+      }
+      if (threads < 1) {
+        throw new InvalidArgumentException(
+            String.format("Invalid '%s' argument '%s'. The number of threads must be a positive integer.",
+                OptionUtils.toArgument(THREADS_OPTION),
+                threadsText));
+      }
     }
 
     if (cmdLine.hasOption(AS_OPTION)) {
@@ -209,13 +259,32 @@ public abstract class AbstractValidateContentCommand
             .withThrowable(ex);
       }
 
-      IBoundLoader loader = bindingContext.newBoundLoader();
+      // load the documents referenced by constraints concurrently with validation, using no more threads
+      // than are used to validate files
+      ExecutorService prefetchService = Executors.newFixedThreadPool(getThreadCount());
+      bindingContext.setDocumentPrefetchExecutor(prefetchService);
+      try {
+        return execute(bindingContext);
+      } finally {
+        bindingContext.setDocumentPrefetchExecutor(null);
+        prefetchService.shutdownNow();
+      }
+    }
 
-      List<String> extraArgs = cmdLine.getArgList();
-      @SuppressWarnings("null") Path source = resolvePathAgainstCWD(Paths.get(extraArgs.get(0)));
-      assert source != null;
+    /**
+     * Validate the source provided on the command line using the provided binding context.
+     *
+     * @param bindingContext
+     *          the binding context used to validate the source
+     * @return the status of validating the source
+     */
+    @SuppressWarnings("PMD.OnlyOneReturn") // readability
+    @NonNull
+    protected ExitStatus execute(@NonNull IBindingContext bindingContext) {
+      CommandLine cmdLine = getCommandLine();
+      IBoundLoader loader = bindingContext.newBoundLoader();
 
-      Format asFormat;
+      Format asFormat = null;
       if (cmdLine.hasOption(AS_OPTION)) {
         try {
           String toFormatText = cmdLine.getOptionValue(AS_OPTION);
@@ -228,7 +297,161 @@ public abstract class AbstractValidateContentCommand
                       .collect(CustomCollectors.joiningWithOxfordComma("or")))
               .withThrowable(ex);
         }
-      } else {
+      }
+
+      List<String> extraArgs = cmdLine.getArgList();
+      String sourceArg = ObjectUtils.requireNonNull(extraArgs.get(0));
+      if (!isGlob(sourceArg)) {
+        @SuppressWarnings("null") Path source = resolvePathAgainstCWD(Paths.get(sourceArg));
+        assert source != null;
+
+        if (!Files.isDirectory(source)) {
+          return validateSource(bindingContext, loader, source, asFormat, this);
+        }
+      }
+
+      List<Path> sources;
+      try {
+        @SuppressWarnings("null") Path cwd = resolvePathAgainstCWD(Paths.get(""));
+        assert cwd != null;
+        sources = resolveSources(sourceArg, cwd);
+      } catch (IOException ex) {
+        return ExitCode.IO_ERROR.exitMessage("Unable to list the files matching '" + sourceArg + "'.")
+            .withThrowable(ex);
+      }
+
+      if (sources.isEmpty()) {
+        return ExitCode.INVALID_TARGET.exitMessage("No files to validate were found matching '" + sourceArg + "'.");
+      }
+
+      return validateSources(bindingContext, loader, sources, asFormat, getThreadCount());
+    }
+
+    /**
+     * Get the number of threads to use, as provided by the {@code --threads} option.
+     *
+     * @return the number of threads, which defaults to the number of available processors
+     */
+    protected int getThreadCount() {
+      CommandLine cmdLine = getCommandLine();
+      return cmdLine.hasOption(THREADS_OPTION)
+          ? Integer.parseInt(cmdLine.getOptionValue(THREADS_OPTION))
+          : Runtime.getRuntime().availableProcessors();
+    }
+
+    /**
+     * Validate each of the provided files concurrently, sharing the binding context, loader, and
+     * generated schemas across all files.
+     *
+     * @param bindingContext
+     *          the binding context used to validate the files
+     * @param loader
+     *          the loader used to detect the format of the files
+     * @param sources
+     *          the files to validate
+     * @param asFormat
+     *          the format of the files, or {@code null} if the format is to be detected for each file
+     * @param threads
+     *          the number of files to validate concurrently
+     * @return the combined status of validating all files
+     */
+    @NonNull
+    protected ExitStatus validateSources(
+        @NonNull IBindingContext bindingContext,
+        @NonNull IBoundLoader loader,
+        @NonNull List<Path> sources,
+        @Nullable Format asFormat,
+        int threads) {
+      if (LOGGER.isInfoEnabled()) {
+        LOGGER.info("Validating {} files using {} threads.", sources.size(), threads);
+      }
+
+      IValidationSchemaProvider schemaProvider = new CachingValidationSchemaProvider(this);
+
+      List<Callable<ExitStatus>> tasks = new ArrayList<>(sources.size());
+      for (Path source : sources) {
+        assert source != null;
+        tasks.add(() -> validateSource(bindingContext, loader, source, asFormat, schemaProvider));
+      }
+
+      ExecutorService executorService = Executors.newFixedThreadPool(threads);
+      try {
+        // bound the number of queued files, since there may be a very large number of files
+        List<CompletableFuture<ExitStatus>> results
+            = new BoundedExecutor(executorService, threads * 2).submitAll(tasks);
+
+        int failed = 0;
+        int errors = 0;
+        for (int index = 0; index < sources.size(); index++) {
+          ExitStatus status;
+          try {
+            status = results.get(index).get();
+          } catch (ExecutionException ex) {
+            status = ExitCode.PROCESSING_ERROR.exit().withThrowable(ObjectUtils.notNull(ex.getCause()));
+          }
+
+          ExitCode code = status.getExitCode();
+          if (ExitCode.FAIL.equals(code)) {
+            failed++;
+          } else if (!ExitCode.OK.equals(code)) {
+            errors++;
+            if (LOGGER.isErrorEnabled()) {
+              LOGGER.error(
+                  String.format("Unable to validate the file '%s'.", sources.get(index)),
+                  status.getThrowable());
+            }
+          }
+        }
+
+        if (LOGGER.isInfoEnabled()) {
+          LOGGER.info("Validated {} files: {} valid, {} invalid, {} could not be validated.",
+              sources.size(), sources.size() - failed - errors, failed, errors);
+        }
+
+        ExitStatus retval;
+        if (errors > 0) {
+          retval = ExitCode.PROCESSING_ERROR.exitMessage(errors + " file(s) could not be validated.");
+        } else if (failed > 0) {
+          retval = ExitCode.FAIL.exit();
+        } else {
+          retval = ExitCode.OK.exit();
+        }
+        return retval;
+      } catch (InterruptedException ex) {
+        Thread.currentThread().interrupt();
+        return ExitCode.RUNTIME_ERROR.exitMessage("Interrupted while validating files.").withThrowable(ex);
+      } finally {
+        executorService.shutdownNow();
+      }
+    }
+
+    /**
+     * Validate a single file.
+     *
+     * @param bindingContext
+     *          the binding context used to validate the file
+     * @param loader
+     *          the loader used to detect the format of the file
+     * @param source
+     *          the file to validate
+     * @param sourceFormat
+     *          the format of the file, or {@code null} if the format is to be detected
+     * @param schemaProvider
+     *          the provider of the schemas used to validate the file
+     * @return the status of validating the file
+     */
+    @SuppressWarnings("PMD.OnlyOneReturn") // readability
+    @NonNull
+    protected ExitStatus validateSource(
+        @NonNull IBindingContext bindingContext,
+        @NonNull IBoundLoader loader,
+        @NonNull Path source,
+        @Nullable Format sourceFormat,
+        @NonNull IValidationSchemaProvider schemaProvider) {
+      CommandLine cmdLine = getCommandLine();
+
+      Format asFormat = sourceFormat;
+      if (asFormat == null) {
         // attempt to determine the format
         try {
           asFormat = loader.detectFormat(source);
@@ -252,16 +475,19 @@ public abstract class AbstractValidateContentCommand
 
       IValidationResult validationResult;
       try {
-        validationResult = bindingContext.validate(source, asFormat, this);
+        validationResult = bindingContext.validate(source, asFormat, schemaProvider);
       } catch (IOException | SAXException ex) {
         return ExitCode.PROCESSING_ERROR.exit().withThrowable(ex);
       }
 
-      if (LOGGER.isInfoEnabled()) {
-        LOGGER.info("Validation identified the following in file '{}'.", source);
-      }
+      // keep the findings for each file together when validating files concurrently
+      synchronized (LoggingValidationHandler.instance()) {
+        if (LOGGER.isInfoEnabled()) {
+          LOGGER.info("Validation identified the following in file '{}'.", source);
+        }
 
-      LoggingValidationHandler.instance().handleValidationResults(validationResult);
+        LoggingValidationHandler.instance().handleValidationResults(validationResult);
+      }
 
       if (validationResult.isPassing() && !cmdLine.hasOption(CLIProcessor.QUIET_OPTION) && LOGGER.isInfoEnabled()) {
         LOGGER.info("The file '{}' is valid.", source);
@@ -271,4 +497,100 @@ public abstract class AbstractValidateContentCommand
     }
 
   }
+
+  private static boolean isGlob(@NonNull String path) {
+    return path.chars().anyMatch(ch -> GLOB_CHARACTERS.indexOf(ch) >= 0);
+  }
+
+  /**
+   * Get the files to validate for a directory or glob pattern argument.
+   * <p>
+   * For a directory, all files in the directory tree with an XML, JSON, or YAML file extension are
+   * validated. For a glob pattern, all files matching the pattern are validated. The pattern is
+   * matched against file paths relative to the directory preceding the first glob character.
+   *
+   * @param sourceArg
+   *          the source argument provided on the command line
+   * @param cwd
+   *          the current working directory, used to resolve glob patterns
+   * @return the files to validate, sorted by path
+   * @throws IOException
+   *           if an error occurred while listing the files
+   */
+  @NonNull
+  protected static List<Path> resolveSources(@NonNull String sourceArg, @NonNull Path cwd) throws IOException {
+    Path baseDir;
+    Predicate<Path> filter;
+    if (isGlob(sourceArg)) {
+      int firstGlobIndex = 0;
+      while (GLOB_CHARACTERS.indexOf(sourceArg.charAt(firstGlobIndex)) < 0) {
+        firstGlobIndex++;
+      }
+      int baseEnd = Math.max(
+          sourceArg.lastIndexOf('/', firstGlobIndex),
+          sourceArg.lastIndexOf(File.separatorChar, firstGlobIndex));
+
+      baseDir = baseEnd < 0 ? cwd : cwd.resolve(sourceArg.substring(0, baseEnd)).normalize();
+      PathMatcher matcher = baseDir.getFileSystem().getPathMatcher("glob:" + sourceArg.substring(baseEnd + 1));
+      Path matchBase = baseDir;
+      filter = path -> matcher.matches(matchBase.relativize(path));
+    } else {
+      baseDir = cwd.resolve(sourceArg).normalize();
+      filter = path -> {
+        String name = path.getFileName().toString();
+        int extensionIndex = name.lastIndexOf('.');
+        return extensionIndex > 0
+            && DIRECTORY_FILE_EXTENSIONS.contains(name.substring(extensionIndex + 1).toLowerCase(Locale.ROOT));
+      };
+    }
+
+    if (!Files.isDirectory(baseDir)) {
+      return CollectionUtil.emptyList();
+    }
+
+    try (Stream<Path> paths = Files.walk(baseDir)) {
+      return ObjectUtils.notNull(paths
+          .filter(Files::isRegularFile)
+          .filter(filter)
+          .sorted()
+          .collect(Collectors.toList()));
+    }
+  }
+
+  /**
+   * Generates the schemas used for validation only once, so they can be reused when validating many
+   * files.
+   */
+  private static final class CachingValidationSchemaProvider implements IValidationSchemaProvider {
+    @NonNull
+    private final IValidationSchemaProvider delegate;
+    private JSONObject jsonSchema;
+    private Schema xmlSchema;
+
+    private CachingValidationSchemaProvider(@NonNull IValidationSchemaProvider delegate) {
+      this.delegate = delegate;
+    }
+
+    @Override
+    public synchronized JSONObject getJsonSchema() throws IOException {
+      if (jsonSchema == null) {
+        jsonSchema = delegate.getJsonSchema();
+      }
+      return ObjectUtils.notNull(jsonSchema);
+    }
+
+    @Override
+    public List<Source> getXmlSchemas() throws IOException {
+      return delegate.getXmlSchemas();
+    }
+
+    @Override
+    public synchronized Schema getXmlSchema() throws IOException, SAXException {
+      // the compiled schema is thread-safe, so it is shared by all files
+      if (xmlSchema == null) {
+        xmlSchema = delegate.getXmlSchema();
+      }
+      return ObjectUtils.notNull(xmlSchema);
+    }
+  }
 }
@@ -60,6 +60,14 @@ public class CLITest {
     evaluateResult(CLI.runCli(args), ExitCode.OK);
   }
 
+  @Test
+  void testValidateContentGlob() {
+    String[] args = { "validate-content", "--threads", "2",
+        "-m", "../metaschema-java-codegen/src/test/resources/metaschema/fields_with_flags/metaschema.xml",
+        "../metaschema-java-codegen/src/test/resources/metaschema/fields_with_flags/ex*.xml" };
+    evaluateResult(CLI.runCli(args), ExitCode.OK);
+  }
+
   @Test
   void testMetaschemaGenerateSchema() {
     String[] args = { "generate-schema", "--overwrite", "--as", "JSON",
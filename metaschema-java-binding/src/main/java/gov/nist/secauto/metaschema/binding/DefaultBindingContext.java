@@ -55,10 +55,12 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.Executor;
 
 import javax.xml.namespace.QName;
 
 import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
 
 /**
  * The implementation of a {@link IBindingContext} provided by this library.
@@ -79,6 +81,9 @@ public class DefaultBindingContext implements IBindingContext {
   private final IMetaschemaLoaderStrategy metaschemaLoaderStrategy;
   @NonNull
   private final List<IBindingMatcher> bindingMatchers = new LinkedList<>();
+  private final boolean usingGeneratedAccessors;
+  @Nullable
+  private volatile Executor documentPrefetchExecutor;
 
   @NonNull
   public static DefaultBindingContext instance() {
@@ -97,8 +102,23 @@ public class DefaultBindingContext implements IBindingContext {
    *          the set of external constraints to configure this binding to use
    */
   public DefaultBindingContext(@NonNull Set<IConstraintSet> externalConstraintSets) {
+    this(externalConstraintSets, false);
+  }
+
+  /**
+   * Construct a new binding context.
+   *
+   * @param externalConstraintSets
+   *          the set of external constraints to configure this binding to use
+   * @param usingGeneratedAccessors
+   *          {@code true} if bound classes are to be accessed using accessors generated at runtime,
+   *          or {@code false} to use reflection
+   * @see IBindingContext#isUsingGeneratedAccessors()
+   */
+  public DefaultBindingContext(@NonNull Set<IConstraintSet> externalConstraintSets, boolean usingGeneratedAccessors) {
     // only allow extended classes
     metaschemaLoaderStrategy = new ExternalConstraintsMetaschemaLoaderStrategy(this, externalConstraintSets);
+    this.usingGeneratedAccessors = usingGeneratedAccessors;
   }
 
   /**
@@ -107,6 +127,7 @@ public class DefaultBindingContext implements IBindingContext {
   protected DefaultBindingContext() {
     // only allow extended classes
     metaschemaLoaderStrategy = new SimpleMetaschemaLoaderStrategy(this);
+    this.usingGeneratedAccessors = false;
   }
 
   @Override
@@ -114,6 +135,21 @@ public class DefaultBindingContext implements IBindingContext {
     return metaschemaLoaderStrategy.getMetaschemaInstanceByClass(clazz);
   }
 
+  @Override
+  public boolean isUsingGeneratedAccessors() {
+    return usingGeneratedAccessors;
+  }
+
+  @Override
+  public Executor getDocumentPrefetchExecutor() {
+    return documentPrefetchExecutor;
+  }
+
+  @Override
+  public void setDocumentPrefetchExecutor(@Nullable Executor executor) {
+    this.documentPrefetchExecutor = executor;
+  }
+
   @Override
   public IClassBinding getClassBinding(@NonNull Class<?> clazz) {
     return metaschemaLoaderStrategy.getClassBinding(clazz);
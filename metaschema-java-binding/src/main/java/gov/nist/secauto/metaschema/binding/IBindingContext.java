@@ -32,7 +32,7 @@ import gov.nist.secauto.metaschema.binding.io.Format;
 import gov.nist.secauto.metaschema.binding.io.IBoundLoader;
 import gov.nist.secauto.metaschema.binding.io.IDeserializer;
 import gov.nist.secauto.metaschema.binding.io.ISerializer;
-import gov.nist.secauto.metaschema.binding.io.yaml.YamlOperations;
+import gov.nist.secauto.metaschema.binding.io.SinglePassContentValidator;
 import gov.nist.secauto.metaschema.binding.model.IClassBinding;
 import gov.nist.secauto.metaschema.binding.model.annotations.MetaschemaAssembly;
 import gov.nist.secauto.metaschema.binding.model.annotations.MetaschemaField;
@@ -47,9 +47,7 @@ import gov.nist.secauto.metaschema.model.common.metapath.StaticContext;
 import gov.nist.secauto.metaschema.model.common.metapath.item.IDocumentNodeItem;
 import gov.nist.secauto.metaschema.model.common.metapath.item.INodeItem;
 import gov.nist.secauto.metaschema.model.common.util.ObjectUtils;
-import gov.nist.secauto.metaschema.model.common.validation.AggregateValidationResult;
 import gov.nist.secauto.metaschema.model.common.validation.IValidationResult;
-import gov.nist.secauto.metaschema.model.common.validation.JsonSchemaContentValidator;
 import gov.nist.secauto.metaschema.model.common.validation.XmlSchemaContentValidator;
 
 import org.json.JSONObject;
@@ -61,9 +59,11 @@ import java.net.URI;
 import java.nio.file.Path;
 import java.time.ZonedDateTime;
 import java.util.List;
+import java.util.concurrent.Executor;
 
 import javax.xml.namespace.QName;
 import javax.xml.transform.Source;
+import javax.xml.validation.Schema;
 
 import edu.umd.cs.findbugs.annotations.NonNull;
 import edu.umd.cs.findbugs.annotations.Nullable;
@@ -93,6 +93,50 @@ public interface IBindingContext extends IMetaschemaLoaderStrategy {
    */
   void registerBindingMatcher(@NonNull IBindingMatcher matcher);
 
+  /**
+   * Determine if bound class instances are created and initialized using accessors generated at
+   * runtime, instead of using reflection.
+   * <p>
+   * Generated accessors are invoked as regular interface calls, which allows the JIT to inline them
+   * into the parsing code. If an accessor cannot be generated for a given class, the reflective
+   * approach is used for that class.
+   *
+   * @return {@code true} if generated accessors are used, or {@code false} otherwise
+   */
+  default boolean isUsingGeneratedAccessors() {
+    return false;
+  }
+
+  /**
+   * Get the executor used to load the documents referenced by {@code fn:doc} calls in constraints
+   * ahead of their evaluation, when performing constraint validation.
+   *
+   * <p>
+   * Document prefetching is disabled by default.
+   *
+   * @return the executor, or {@code null} if document prefetching is disabled
+   * @see DynamicContext#setDocumentPrefetchExecutor(Executor)
+   */
+  @Nullable
+  default Executor getDocumentPrefetchExecutor() {
+    return null;
+  }
+
+  /**
+   * Set the executor used to load the documents referenced by {@code fn:doc} calls in constraints
+   * ahead of their evaluation, when performing constraint validation.
+   *
+   * <p>
+   * The default implementation ignores the executor, since this context does not support document
+   * prefetching.
+   *
+   * @param executor
+   *          the executor to use, or {@code null} to disable document prefetching
+   */
+  default void setDocumentPrefetchExecutor(@Nullable Executor executor) {
+    // document prefetching is not supported
+  }
+
   /**
    * Determine the bound class for the provided XML {@link QName}.
    *
@@ -260,6 +304,7 @@ public interface IBindingContext extends IMetaschemaLoaderStrategy {
 
     DynamicContext context = new StaticContext().newDynamicContext();
     context.setDocumentLoader(loader);
+    context.setDocumentPrefetchExecutor(getDocumentPrefetchExecutor());
 
     return new DefaultConstraintValidator(context, handler);
   }
@@ -285,6 +330,9 @@ public interface IBindingContext extends IMetaschemaLoaderStrategy {
   /**
    * Perform schema and constraint validation on the target. The constraint validation will only be
    * performed if the schema validation is passes.
+   * <p>
+   * The target is only parsed once for both the schema and constraint validation. See
+   * {@link SinglePassContentValidator} for details.
    *
    * @param target
    *          the target to validate
@@ -302,30 +350,7 @@ public interface IBindingContext extends IMetaschemaLoaderStrategy {
       @NonNull Path target,
       @NonNull Format asFormat,
       @NonNull IValidationSchemaProvider schemaProvider) throws IOException, SAXException {
-    IValidationResult retval;
-    switch (asFormat) {
-    case JSON:
-      retval = new JsonSchemaContentValidator(schemaProvider.getJsonSchema()).validate(target);
-      break;
-    case XML:
-      List<Source> schemaSources = schemaProvider.getXmlSchemas();
-      retval = new XmlSchemaContentValidator(schemaSources).validate(target);
-      break;
-    case YAML:
-      JSONObject json = YamlOperations.yamlToJson(YamlOperations.parseYaml(target));
-      assert json != null;
-      retval = new JsonSchemaContentValidator(schemaProvider.getJsonSchema())
-          .validate(json, ObjectUtils.notNull(target.toUri()));
-      break;
-    default:
-      throw new UnsupportedOperationException("Unsupported format: " + asFormat.name());
-    }
-
-    if (retval.isPassing()) {
-      IValidationResult constraintValidationResult = validateWithConstraints(target);
-      retval = AggregateValidationResult.aggregate(retval, constraintValidationResult);
-    }
-    return retval;
+    return new SinglePassContentValidator(this, schemaProvider).validate(target, asFormat);
   }
 
   default IValidationResult validateWithConstraints(@NonNull Path target) throws IOException {
@@ -345,5 +370,23 @@ public interface IBindingContext extends IMetaschemaLoaderStrategy {
 
     @NonNull
     List<Source> getXmlSchemas() throws IOException;
+
+    /**
+     * Get the compiled XML schema used to validate XML content.
+     * <p>
+     * The schema is thread-safe, so implementations can compile it once and share it across
+     * validations. By default, the schema is compiled from the {@link #getXmlSchemas() schema
+     * sources} on each call.
+     *
+     * @return the compiled schema
+     * @throws IOException
+     *           if an error occurred while getting the schema sources
+     * @throws SAXException
+     *           if an error occurred while parsing the schema sources
+     */
+    @NonNull
+    default Schema getXmlSchema() throws IOException, SAXException {
+      return XmlSchemaContentValidator.toSchema(getXmlSchemas());
+    }
   }
 }
@@ -28,6 +28,7 @@ package gov.nist.secauto.metaschema.binding.io;
 
 import gov.nist.secauto.metaschema.binding.IBindingContext;
 import gov.nist.secauto.metaschema.binding.model.IAssemblyClassBinding;
+import gov.nist.secauto.metaschema.binding.model.IBoundNamedModelInstance;
 import gov.nist.secauto.metaschema.model.common.configuration.IConfiguration;
 import gov.nist.secauto.metaschema.model.common.configuration.IMutableConfiguration;
 import gov.nist.secauto.metaschema.model.common.constraint.DefaultConstraintValidator;
@@ -39,8 +40,19 @@ import gov.nist.secauto.metaschema.model.common.metapath.item.INodeItem;
 import gov.nist.secauto.metaschema.model.common.util.ObjectUtils;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
 import java.io.Reader;
+import java.io.UncheckedIOException;
 import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import edu.umd.cs.findbugs.annotations.NonNull;
 
@@ -96,18 +108,46 @@ public abstract class AbstractDeserializer<CLASS>
     }
 
     if (isValidating()) {
-      StaticContext staticContext = new StaticContext();
-      DynamicContext dynamicContext = staticContext.newDynamicContext();
-      dynamicContext.setDocumentLoader(getBindingContext().newBoundLoader());
-      DefaultConstraintValidator validator = new DefaultConstraintValidator(
-          dynamicContext,
-          getConstraintValidationHandler());
-      validator.validate(nodeItem);
-      validator.finalizeValidation();
+      validateConstraints(nodeItem);
+    }
+    return nodeItem;
+  }
+
+  @Override
+  public INodeItem deserializeToNodeItem(InputStream is, URI documentUri) throws IOException {
+
+    INodeItem nodeItem;
+    try {
+      nodeItem = deserializeToNodeItemInternal(is, documentUri);
+    } catch (Exception ex) { // NOPMD - this is intentional
+      throw new IOException(ex);
+    }
+
+    if (isValidating()) {
+      validateConstraints(nodeItem);
     }
     return nodeItem;
   }
 
+  /**
+   * Perform constraint validation on the provided node item, reporting findings to the configured
+   * {@link #getConstraintValidationHandler()}.
+   *
+   * @param nodeItem
+   *          the node item to validate
+   */
+  protected void validateConstraints(@NonNull INodeItem nodeItem) {
+    StaticContext staticContext = new StaticContext();
+    DynamicContext dynamicContext = staticContext.newDynamicContext();
+    dynamicContext.setDocumentLoader(getBindingContext().newBoundLoader());
+    dynamicContext.setDocumentPrefetchExecutor(getBindingContext().getDocumentPrefetchExecutor());
+    DefaultConstraintValidator validator = new DefaultConstraintValidator(
+        dynamicContext,
+        getConstraintValidationHandler());
+    validator.validate(nodeItem);
+    validator.finalizeValidation();
+  }
+
   /**
    * This abstract method delegates parsing to the concrete implementation.
    *
@@ -123,6 +163,119 @@ public abstract class AbstractDeserializer<CLASS>
   protected abstract INodeItem deserializeToNodeItemInternal(@NonNull Reader reader, @NonNull URI documentUri)
       throws IOException;
 
+  /**
+   * Parse the bytes read from the provided stream.
+   * <p>
+   * By default, the bytes are decoded as UTF-8 and parsed using
+   * {@link #deserializeToNodeItemInternal(Reader, URI)}. Implementations that are able to parse bytes
+   * directly should override this method to avoid the overhead of decoding the bytes into
+   * characters before parsing.
+   *
+   * @param is
+   *          the stream to read data from
+   * @param documentUri
+   *          the URI of the document that is being read
+   * @return a new node item containing the read contents
+   * @throws IOException
+   *           if an error occurred while reading data from the stream
+   */
+  @NonNull
+  protected INodeItem deserializeToNodeItemInternal(@NonNull InputStream is, @NonNull URI documentUri)
+      throws IOException {
+    return deserializeToNodeItemInternal(new InputStreamReader(is, StandardCharsets.UTF_8), documentUri);
+  }
+
+  @Override
+  public <ITEM> Stream<ITEM> deserializeItems(Reader reader, URI documentUri, String instanceName)
+      throws IOException {
+    return toItemStream(newItemReader(reader, documentUri, getItemInstance(instanceName)));
+  }
+
+  @Override
+  public <ITEM> Stream<ITEM> deserializeItems(InputStream is, URI documentUri, String instanceName)
+      throws IOException {
+    return toItemStream(newItemReader(is, documentUri, getItemInstance(instanceName)));
+  }
+
+  @NonNull
+  private IBoundNamedModelInstance getItemInstance(@NonNull String instanceName) {
+    IAssemblyClassBinding classBinding = getClassBinding();
+    if (!classBinding.isRoot()) {
+      throw new IllegalArgumentException(
+          String.format("The assembly '%s' is not a root assembly.", classBinding.getBoundClass().getName()));
+    }
+
+    IBoundNamedModelInstance instance = classBinding.getModelInstanceByName(instanceName);
+    if (instance == null) {
+      throw new IllegalArgumentException(
+          String.format("The assembly '%s' does not have a model instance named '%s'.",
+              classBinding.getBoundClass().getName(),
+              instanceName));
+    }
+    return instance;
+  }
+
+  @SuppressWarnings("unchecked")
+  @NonNull
+  private static <ITEM> Stream<ITEM> toItemStream(@NonNull IItemReader itemReader) {
+    Stream<Object> retval = StreamSupport.stream(new ItemReaderSpliterator(itemReader), false)
+        .onClose(() -> {
+          try {
+            itemReader.close();
+          } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+          }
+        });
+    return ObjectUtils.notNull((Stream<ITEM>) retval);
+  }
+
+  /**
+   * This abstract method delegates creation of a reader for the items of the provided model
+   * instance to the concrete implementation.
+   *
+   * @param reader
+   *          the reader instance to read data from
+   * @param documentUri
+   *          the URI of the document that is being read
+   * @param instance
+   *          the model instance on the root assembly whose items are to be read
+   * @return a new item reader, which is responsible for closing the parser
+   * @throws IOException
+   *           if an error occurred while setting up the parser
+   */
+  @NonNull
+  protected abstract IItemReader newItemReader(
+      @NonNull Reader reader,
+      @NonNull URI documentUri,
+      @NonNull IBoundNamedModelInstance instance) throws IOException;
+
+  /**
+   * Create a reader for the items of the provided model instance that parses the bytes read from the
+   * provided stream.
+   * <p>
+   * By default, the bytes are decoded as UTF-8 and read using
+   * {@link #newItemReader(Reader, URI, IBoundNamedModelInstance)}. Implementations that are able to
+   * parse bytes directly should override this method, allowing the parser to detect the character
+   * encoding.
+   *
+   * @param is
+   *          the stream to read data from
+   * @param documentUri
+   *          the URI of the document that is being read
+   * @param instance
+   *          the model instance on the root assembly whose items are to be read
+   * @return a new item reader, which is responsible for closing the parser
+   * @throws IOException
+   *           if an error occurred while setting up the parser
+   */
+  @NonNull
+  protected IItemReader newItemReader(
+      @NonNull InputStream is,
+      @NonNull URI documentUri,
+      @NonNull IBoundNamedModelInstance instance) throws IOException {
+    return newItemReader(new InputStreamReader(is, StandardCharsets.UTF_8), documentUri, instance);
+  }
+
   @Override
   public IDeserializer<CLASS> enableFeature(DeserializationFeature<?> feature) {
     return set(feature, true);
@@ -149,4 +302,47 @@ public abstract class AbstractDeserializer<CLASS>
     configurationChanged(config);
     return this;
   }
+
+  /**
+   * Adapts an {@link IItemReader} to a {@link java.util.Spliterator}, which is used to provide a
+   * sequential stream of items.
+   */
+  private static final class ItemReaderSpliterator
+      extends Spliterators.AbstractSpliterator<Object> {
+    @NonNull
+    private final IItemReader itemReader;
+    @NonNull
+    private final Deque<Object> buffer = new ArrayDeque<>();
+    private boolean exhausted;
+
+    private ItemReaderSpliterator(@NonNull IItemReader itemReader) {
+      super(Long.MAX_VALUE, ORDERED | NONNULL);
+      this.itemReader = itemReader;
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super Object> action) {
+      while (buffer.isEmpty() && !exhausted) {
+        List<Object> items;
+        try {
+          items = itemReader.readNext();
+        } catch (IOException ex) {
+          throw new UncheckedIOException(ex);
+        }
+
+        if (items == null) {
+          exhausted = true;
+        } else {
+          buffer.addAll(items);
+        }
+      }
+
+      boolean retval = false;
+      if (!buffer.isEmpty()) {
+        action.accept(buffer.removeFirst());
+        retval = true;
+      }
+      return retval;
+    }
+  }
 }
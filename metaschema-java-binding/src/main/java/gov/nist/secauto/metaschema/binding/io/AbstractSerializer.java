@@ -28,9 +28,13 @@ package gov.nist.secauto.metaschema.binding.io;
 
 import gov.nist.secauto.metaschema.binding.IBindingContext;
 import gov.nist.secauto.metaschema.binding.model.IAssemblyClassBinding;
+import gov.nist.secauto.metaschema.binding.model.IBoundNamedModelInstance;
 import gov.nist.secauto.metaschema.model.common.configuration.IConfiguration;
 import gov.nist.secauto.metaschema.model.common.configuration.IMutableConfiguration;
 
+import java.io.IOException;
+import java.io.Writer;
+
 import edu.umd.cs.findbugs.annotations.NonNull;
 
 /**
@@ -57,6 +61,54 @@ public abstract class AbstractSerializer<CLASS>
     super(bindingContext, classBinding);
   }
 
+  @Override
+  public <ITEM> IItemWriter<ITEM> newItemWriter(CLASS header, String instanceName, Writer writer)
+      throws IOException {
+    IAssemblyClassBinding classBinding = getClassBinding();
+    if (!classBinding.isRoot()) {
+      throw new IllegalArgumentException(
+          String.format("The assembly '%s' is not a root assembly.", classBinding.getBoundClass().getName()));
+    }
+
+    IBoundNamedModelInstance instance = classBinding.getModelInstanceByName(instanceName);
+    if (instance == null) {
+      throw new IllegalArgumentException(
+          String.format("The assembly '%s' does not have a model instance named '%s'.",
+              classBinding.getBoundClass().getName(),
+              instanceName));
+    }
+
+    if (instance.getMaxOccurs() == 1) {
+      throw new IllegalArgumentException(
+          String.format("The model instance '%s' on assembly '%s' does not allow multiple items.",
+              instanceName,
+              classBinding.getBoundClass().getName()));
+    }
+    return newItemWriterInternal(header, instance, writer);
+  }
+
+  /**
+   * This abstract method delegates creation of a writer for the items of the provided model instance
+   * to the concrete implementation.
+   *
+   * @param <ITEM>
+   *          the Java type of the items
+   * @param header
+   *          the root object providing the values of the other flags and model instances
+   * @param instance
+   *          the model instance on the root assembly whose items are to be written
+   * @param writer
+   *          the writer to write to
+   * @return a new item writer, which has written the start of the document
+   * @throws IOException
+   *           if an error occurred while writing the start of the document
+   */
+  @NonNull
+  protected abstract <ITEM> IItemWriter<ITEM> newItemWriterInternal(
+      @NonNull CLASS header,
+      @NonNull IBoundNamedModelInstance instance,
+      @NonNull Writer writer) throws IOException;
+
   @Override
   public ISerializer<CLASS> enableFeature(SerializationFeature<?> feature) {
     return set(feature, true);
@@ -26,7 +26,6 @@
 
 package gov.nist.secauto.metaschema.binding.io;
 
-import com.ctc.wstx.stax.WstxInputFactory;
 import com.fasterxml.jackson.core.JsonFactory;
 import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonToken;
@@ -37,35 +36,38 @@ import com.fasterxml.jackson.dataformat.xml.XmlFactory;
 import com.fasterxml.jackson.dataformat.yaml.YAMLFactory;
 
 import gov.nist.secauto.metaschema.binding.IBindingContext;
+import gov.nist.secauto.metaschema.binding.io.json.DefaultJsonDeserializer;
 import gov.nist.secauto.metaschema.binding.io.json.JsonFactoryFactory;
 import gov.nist.secauto.metaschema.binding.io.json.JsonUtil;
+import gov.nist.secauto.metaschema.binding.io.xml.CommentFilter;
+import gov.nist.secauto.metaschema.binding.io.xml.DefaultXmlDeserializer;
+import gov.nist.secauto.metaschema.binding.io.xml.XmlFactoryFactory;
 import gov.nist.secauto.metaschema.binding.io.yaml.YamlFactoryFactory;
 import gov.nist.secauto.metaschema.model.common.configuration.DefaultConfiguration;
 import gov.nist.secauto.metaschema.model.common.configuration.IConfiguration;
 import gov.nist.secauto.metaschema.model.common.configuration.IMutableConfiguration;
 import gov.nist.secauto.metaschema.model.common.metapath.item.IDocumentNodeItem;
 import gov.nist.secauto.metaschema.model.common.metapath.item.INodeItem;
+import gov.nist.secauto.metaschema.model.common.util.AutoCloser;
 import gov.nist.secauto.metaschema.model.common.util.ObjectUtils;
 
-import org.codehaus.stax2.XMLEventReader2;
 import org.codehaus.stax2.XMLInputFactory2;
+import org.codehaus.stax2.XMLStreamReader2;
 import org.xml.sax.EntityResolver;
 import org.xml.sax.InputSource;
 
 import java.io.BufferedInputStream;
 import java.io.IOException;
 import java.io.InputStream;
-import java.io.InputStreamReader;
-import java.io.Reader;
+import java.io.UncheckedIOException;
 import java.net.URI;
 import java.net.URL;
-import java.nio.charset.Charset;
 import java.util.Map;
+import java.util.stream.Stream;
 
 import javax.xml.namespace.QName;
-import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
 import javax.xml.stream.XMLStreamException;
-import javax.xml.stream.events.StartElement;
 
 import edu.umd.cs.findbugs.annotations.NonNull;
 import edu.umd.cs.findbugs.annotations.Nullable;
@@ -75,14 +77,15 @@ import edu.umd.cs.findbugs.annotations.Nullable;
  */
 public class DefaultBoundLoader implements IBoundLoader {
   public static final int LOOK_AHEAD_BYTES = 32_768;
-  // @NonNull
-  // private static final JsonFactory JSON_FACTORY = new JsonFactory();
-  // @NonNull
-  // private static final XmlFactory XML_FACTORY = new XmlFactory();
-  // @NonNull
-  // private static final YAMLFactory YAML_FACTORY = new YAMLFactory();
-
-  private JsonFactory[] detectorFactory;
+  /**
+   * Only used for format detection, which is thread-safe.
+   */
+  @NonNull
+  private static final XmlFactory XML_FACTORY = new XmlFactory();
+  /**
+   * The format detector for the current configuration, which is created lazily.
+   */
+  private DataFormatDetector detector;
 
   @NonNull
   private final IBindingContext bindingContext;
@@ -135,7 +138,7 @@ public class DefaultBoundLoader implements IBoundLoader {
 
   private void resetDetector() {
     // reset the detector
-    detectorFactory = null;
+    detector = null;
   }
 
   @NonNull
@@ -200,21 +203,25 @@ public class DefaultBoundLoader implements IBoundLoader {
     return formatFromMatcher(matcher);
   }
 
-  private JsonFactory[] getDetectorFactory() {
-    if (detectorFactory == null) {
-      detectorFactory = new JsonFactory[3];
-      detectorFactory[0] = YamlFactoryFactory.newParserFactoryInstance(getConfiguration());
-      detectorFactory[1] = JsonFactoryFactory.instance();
-      detectorFactory[2] = new XmlFactory();
+  @NonNull
+  private DataFormatDetector getDetector() {
+    DataFormatDetector retval = detector;
+    if (retval == null) {
+      retval = new DataFormatDetector(
+          YamlFactoryFactory.parserFactoryInstance(getConfiguration()),
+          JsonFactoryFactory.instance(),
+          XML_FACTORY)
+              .withMinimalMatch(MatchStrength.INCONCLUSIVE)
+              .withOptimalMatch(MatchStrength.SOLID_MATCH);
+      detector = retval;
     }
-    return detectorFactory;
+    return ObjectUtils.notNull(retval);
   }
 
   @NonNull
   protected DataFormatMatcher matchFormat(@NonNull InputStream is, int lookAheadBytes) throws IOException {
-    DataFormatDetector det = new DataFormatDetector(getDetectorFactory());
-    det = det.withMinimalMatch(MatchStrength.INCONCLUSIVE).withOptimalMatch(MatchStrength.SOLID_MATCH)
-        .withMaxInputLookahead(lookAheadBytes);
+    // the detector is immutable, returning the same instance if the look ahead is unchanged
+    DataFormatDetector det = getDetector().withMaxInputLookahead(lookAheadBytes);
 
     DataFormatMatcher matcher = det.findFormat(is);
     switch (matcher.getMatchStrength()) {
@@ -247,9 +254,7 @@ public class DefaultBoundLoader implements IBoundLoader {
 
   @NonNull
   private static BufferedInputStream toBufferedInputStream(@NonNull InputStream is) {
-    BufferedInputStream bis = new BufferedInputStream(is, LOOK_AHEAD_BYTES); // NOPMD - stream not owned
-    bis.mark(LOOK_AHEAD_BYTES);
-    return bis;
+    return new PooledBufferedInputStream(is); // NOPMD - stream not owned
   }
 
   @Override
@@ -284,29 +289,169 @@ public class DefaultBoundLoader implements IBoundLoader {
       // attempt to use a provided byte stream stream
       try (@SuppressWarnings("resource") BufferedInputStream bis = toBufferedInputStream(
           ObjectUtils.requireNonNull(source.getByteStream()))) {
-        Class<?> clazz = detectModel(bis, format); // NOPMD - must be called before reset
-        retval = deserializeToNodeItem(clazz, format, bis, uri);
+        retval = loadAsNodeItemInternal(bis, format, uri);
       }
     } else {
       // fall back to a URL-based connection
       URL url = uri.toURL();
       try (InputStream is = url.openStream()) {
         try (BufferedInputStream bis = toBufferedInputStream(ObjectUtils.notNull(is))) {
-          Class<?> clazz = detectModel(bis, format); // NOPMD - must be called before reset
-          retval = deserializeToNodeItem(clazz, format, bis, uri);
+          retval = loadAsNodeItemInternal(bis, format, uri);
         }
       }
     }
     return retval;
   }
 
+  /**
+   * Load the resource, detecting its format and bound class.
+   * <p>
+   * The format is detected from the first bytes of the resource. The parser used to detect the bound
+   * class from the root element or property then continues to parse the content, avoiding a reset
+   * and a second parse of the look-ahead window. If the deserializer for the bound class cannot
+   * continue from the detecting parser, the stream is reset and parsed again.
+   *
+   * @param bis
+   *          the stream to read from, which must be marked at the start of the resource
+   * @param documentUri
+   *          the URI of the resource
+   * @return the loaded document node item
+   * @throws IOException
+   *           if an error occurred while reading the resource
+   */
   @NonNull
   protected IDocumentNodeItem loadAsNodeItemInternal(@NonNull BufferedInputStream bis, @NonNull URI documentUri)
       throws IOException {
     DataFormatMatcher matcher = matchFormat(bis, LOOK_AHEAD_BYTES - 1);
     Format format = formatFromMatcher(matcher);
-    Class<?> clazz = detectModel(matcher, format); // NOPMD - must be called before reset
-    return deserializeToNodeItem(clazz, format, bis, documentUri);
+
+    IDocumentNodeItem retval;
+    switch (format) {
+    case JSON:
+    case YAML:
+      retval = loadJsonAsNodeItem(ObjectUtils.notNull(matcher.createParserWithMatch()), format, bis, documentUri);
+      break;
+    case XML:
+      retval = loadXmlAsNodeItem(ObjectUtils.notNull(matcher.getDataStream()), bis, documentUri);
+      break;
+    default:
+      throw new UnsupportedOperationException(
+          String.format("The detected format '%s' is not supported", matcher.getMatchedFormatName()));
+    }
+    return retval;
+  }
+
+  /**
+   * Load the resource using the provided format, detecting its bound class.
+   * <p>
+   * The parser used to detect the bound class continues to parse the content, as described in
+   * {@link #loadAsNodeItemInternal(BufferedInputStream, URI)}.
+   *
+   * @param bis
+   *          the stream to read from, which must be marked at the start of the resource
+   * @param format
+   *          the format of the resource
+   * @param documentUri
+   *          the URI of the resource
+   * @return the loaded document node item
+   * @throws IOException
+   *           if an error occurred while reading the resource
+   */
+  @NonNull
+  protected IDocumentNodeItem loadAsNodeItemInternal(
+      @NonNull BufferedInputStream bis,
+      @NonNull Format format,
+      @NonNull URI documentUri) throws IOException {
+    IDocumentNodeItem retval;
+    switch (format) {
+    case JSON:
+      retval = loadJsonAsNodeItem(
+          ObjectUtils.notNull(JsonFactoryFactory.instance().createParser(bis)),
+          format,
+          bis,
+          documentUri);
+      break;
+    case YAML:
+      retval = loadJsonAsNodeItem(
+          ObjectUtils.notNull(YamlFactoryFactory.parserFactoryInstance(getConfiguration()).createParser(bis)),
+          format,
+          bis,
+          documentUri);
+      break;
+    case XML:
+      retval = loadXmlAsNodeItem(bis, bis, documentUri);
+      break;
+    default:
+      throw new UnsupportedOperationException(
+          String.format("The format '%s' is not supported", format));
+    }
+    return retval;
+  }
+
+  @NonNull
+  private IDocumentNodeItem loadJsonAsNodeItem(
+      @NonNull JsonParser detectionParser,
+      @NonNull Format format,
+      @NonNull BufferedInputStream bis,
+      @NonNull URI documentUri) throws IOException {
+    Class<?> clazz;
+    IDocumentNodeItem retval = null;
+    try (JsonParser parser = detectionParser) {
+      clazz = detectModelJsonClass(parser);
+      if (clazz == null) {
+        throw new IllegalStateException(
+            String.format("Detected format '%s', but unable to detect the bound data type", format.name()));
+      }
+
+      IDeserializer<?> deserializer = getDeserializer(clazz, format, getConfiguration());
+      if (deserializer instanceof DefaultJsonDeserializer
+          && deserializer.isFeatureEnabled(DeserializationFeature.DESERIALIZE_JSON_ROOT_PROPERTY)) {
+        // the parser is positioned on the root property, continue parsing from there
+        retval = (IDocumentNodeItem) ((DefaultJsonDeserializer<?>) deserializer)
+            .deserializeToNodeItem(ObjectUtils.notNull(parser), documentUri);
+      }
+    }
+
+    if (retval == null) {
+      retval = deserializeToNodeItem(clazz, format, bis, documentUri);
+    }
+    return retval;
+  }
+
+  @NonNull
+  private IDocumentNodeItem loadXmlAsNodeItem(
+      @NonNull InputStream dataStream,
+      @NonNull BufferedInputStream bis,
+      @NonNull URI documentUri) throws IOException {
+    Class<?> clazz;
+    IDocumentNodeItem retval = null;
+
+    // read the root element using the factory used by deserializers that have not been customized
+    XMLInputFactory2 xmlInputFactory = XmlFactoryFactory.inputFactoryInstance();
+    // doesn't auto close the underlying stream
+    try (AutoCloser<XMLStreamReader2, XMLStreamException> closer = new AutoCloser<>(
+        (XMLStreamReader2) xmlInputFactory.createFilteredReader(
+            xmlInputFactory.createXMLStreamReader(dataStream),
+            new CommentFilter()),
+        reader -> reader.close())) {
+      XMLStreamReader2 reader = ObjectUtils.notNull(closer.getResource());
+      clazz = detectModelXmlClass(reader);
+
+      IDeserializer<?> deserializer = getDeserializer(clazz, Format.XML, getConfiguration());
+      if (deserializer instanceof DefaultXmlDeserializer
+          && ((DefaultXmlDeserializer<?>) deserializer).getReaderFactory() == xmlInputFactory) {
+        // the deserializer reads using the same factory and the reader is still on the root element, so
+        // continue parsing from there
+        retval = ((DefaultXmlDeserializer<?>) deserializer).deserializeToNodeItem(reader, documentUri);
+      }
+    } catch (XMLStreamException ex) {
+      throw new IOException(ex);
+    }
+
+    if (retval == null) {
+      retval = deserializeToNodeItem(clazz, Format.XML, bis, documentUri);
+    }
+    return retval;
   }
 
   @NonNull
@@ -335,7 +480,7 @@ public class DefaultBoundLoader implements IBoundLoader {
       }
       break;
     case YAML:
-      YAMLFactory factory = YamlFactoryFactory.newParserFactoryInstance(getConfiguration());
+      YAMLFactory factory = YamlFactoryFactory.parserFactoryInstance(getConfiguration());
       clazz = detectModelJsonClass(ObjectUtils.notNull(factory.createParser(bis)));
       if (clazz == null) {
         throw new IllegalStateException(
@@ -383,31 +528,40 @@ public class DefaultBoundLoader implements IBoundLoader {
 
   @NonNull
   protected Class<?> detectModelXmlClass(@NonNull InputStream is) throws IOException {
-
-    QName startElementQName;
     try {
-      XMLInputFactory2 xmlInputFactory = (XMLInputFactory2) XMLInputFactory.newInstance();
-      assert xmlInputFactory instanceof WstxInputFactory;
-      xmlInputFactory.configureForXmlConformance();
-      xmlInputFactory.setProperty(XMLInputFactory.IS_COALESCING, false);
-
-      Reader reader = new InputStreamReader(is, Charset.forName("UTF8"));
-      XMLEventReader2 eventReader = (XMLEventReader2) xmlInputFactory.createXMLEventReader(reader);
-      if (eventReader.peek().isStartDocument()) {
-        while (eventReader.hasNext() && !eventReader.peek().isStartElement()) {
-          eventReader.nextEvent();
-        }
-      }
-
-      if (!eventReader.peek().isStartElement()) {
-        throw new UnsupportedOperationException("Unable to detect a start element");
-      }
+      XMLInputFactory2 xmlInputFactory = XmlFactoryFactory.inputFactoryInstance();
 
-      StartElement start = eventReader.nextEvent().asStartElement();
-      startElementQName = ObjectUtils.notNull(start.getName());
+      XMLStreamReader2 reader = (XMLStreamReader2) xmlInputFactory.createXMLStreamReader(is);
+      return detectModelXmlClass(ObjectUtils.notNull(reader));
     } catch (XMLStreamException ex) {
       throw new IOException(ex);
     }
+  }
+
+  /**
+   * Detect the bound class using the root element read from the provided reader.
+   * <p>
+   * Any events preceding the root element are consumed, leaving the reader positioned on the root
+   * element's start element. This allows the reader to be used to parse the content after detection.
+   *
+   * @param reader
+   *          the reader to read from
+   * @return the bound class
+   * @throws XMLStreamException
+   *           if an error occurred while reading the XML content
+   */
+  @NonNull
+  protected Class<?> detectModelXmlClass(@NonNull XMLStreamReader2 reader) throws XMLStreamException {
+    int eventType = reader.getEventType();
+    while (eventType != XMLStreamConstants.START_ELEMENT && reader.hasNext()) {
+      eventType = reader.next();
+    }
+
+    if (eventType != XMLStreamConstants.START_ELEMENT) {
+      throw new UnsupportedOperationException("Unable to detect a start element");
+    }
+
+    QName startElementQName = ObjectUtils.notNull(reader.getName());
 
     Class<?> clazz = getBoundClassForXmlQName(startElementQName);
 
@@ -452,14 +606,14 @@ public class DefaultBoundLoader implements IBoundLoader {
       throw new UnsupportedOperationException("Character streams are not supported");
     } else if (source.getByteStream() != null) {
       // attempt to use a provided byte stream stream
-      try (BufferedInputStream bis = new BufferedInputStream(source.getByteStream(), LOOK_AHEAD_BYTES)) {
+      try (BufferedInputStream bis = new PooledBufferedInputStream(ObjectUtils.notNull(source.getByteStream()))) {
         retval = loadInternal(clazz, bis, uri);
       }
     } else {
       // fall back to a URL-based connection
       URL url = uri.toURL();
       try (InputStream is = url.openStream()) {
-        try (BufferedInputStream bis = new BufferedInputStream(is, LOOK_AHEAD_BYTES)) {
+        try (BufferedInputStream bis = new PooledBufferedInputStream(ObjectUtils.notNull(is))) {
           retval = loadInternal(clazz, bis, uri);
         }
       }
@@ -482,6 +636,45 @@ public class DefaultBoundLoader implements IBoundLoader {
     return (CLASS) ObjectUtils.requireNonNull(nodeItem.getValue());
   }
 
+  @Override
+  public <ITEM> Stream<ITEM> streamItems(Class<?> clazz, String instanceName, InputSource source)
+      throws IOException {
+    URI uri = ObjectUtils.notNull(URI.create(source.getSystemId()));
+
+    InputStream is;
+    if (source.getCharacterStream() != null) {
+      throw new UnsupportedOperationException("Character streams are not supported");
+    } else if (source.getByteStream() != null) {
+      // attempt to use a provided byte stream stream
+      is = source.getByteStream();
+    } else {
+      // fall back to a URL-based connection
+      is = uri.toURL().openStream();
+    }
+
+    // the stream is closed when the item stream is closed
+    BufferedInputStream bis = new PooledBufferedInputStream(ObjectUtils.notNull(is)); // NOPMD - closed by the stream
+    try {
+      bis.mark(LOOK_AHEAD_BYTES);
+      Format format = detectFormatInternal(bis);
+      bis.reset();
+
+      IDeserializer<?> deserializer = getDeserializer(clazz, format, getConfiguration());
+      // the parser detects the character encoding
+      Stream<ITEM> retval = deserializer.deserializeItems(bis, uri, instanceName);
+      return ObjectUtils.notNull(retval.onClose(() -> {
+        try {
+          bis.close();
+        } catch (IOException ex) {
+          throw new UncheckedIOException(ex);
+        }
+      }));
+    } catch (IOException | RuntimeException ex) {
+      bis.close();
+      throw ex;
+    }
+  }
+
   @NonNull
   protected <CLASS> IDeserializer<CLASS> getDeserializer(
       @NonNull Class<CLASS> clazz,
@@ -52,6 +52,15 @@ public final class DeserializationFeature<V>
   public static final DeserializationFeature<Boolean> DESERIALIZE_JSON_ROOT_PROPERTY
       = new DeserializationFeature<>(Boolean.class, true);
 
+  /**
+   * If enabled, the items of the root assembly's grouped JSON and YAML properties are bound in
+   * parallel. The content is still parsed once by a single thread, with each item's tokens buffered
+   * and bound as a fork-join task. The bound items are collected in document order.
+   */
+  @NonNull
+  public static final DeserializationFeature<Boolean> DESERIALIZE_JSON_PARALLEL_BINDING
+      = new DeserializationFeature<>(Boolean.class, false);
+
   /**
    * If enabled, perform constraint validation on the deserialized bound objects.
    */
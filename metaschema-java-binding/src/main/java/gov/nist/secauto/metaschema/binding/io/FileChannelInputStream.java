@@ -0,0 +1,215 @@
+/*
+ * Portions of this software was developed by employees of the National Institute
+ * of Standards and Technology (NIST), an agency of the Federal Government and is
+ * being made available as a public service. Pursuant to title 17 United States
+ * Code Section 105, works of NIST employees are not subject to copyright
+ * protection in the United States. This software may be subject to foreign
+ * copyright. Permission in the United States and in foreign countries, to the
+ * extent that NIST may hold copyright, to use, copy, modify, create derivative
+ * works, and distribute this software and its documentation without fee is hereby
+ * granted on a non-exclusive basis, provided that this notice and disclaimer
+ * of warranty appears in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED 'AS IS' WITHOUT ANY WARRANTY OF ANY KIND, EITHER
+ * EXPRESSED, IMPLIED, OR STATUTORY, INCLUDING, BUT NOT LIMITED TO, ANY WARRANTY
+ * THAT THE SOFTWARE WILL CONFORM TO SPECIFICATIONS, ANY IMPLIED WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE, AND FREEDOM FROM
+ * INFRINGEMENT, AND ANY WARRANTY THAT THE DOCUMENTATION WILL CONFORM TO THE
+ * SOFTWARE, OR ANY WARRANTY THAT THE SOFTWARE WILL BE ERROR FREE.  IN NO EVENT
+ * SHALL NIST BE LIABLE FOR ANY DAMAGES, INCLUDING, BUT NOT LIMITED TO, DIRECT,
+ * INDIRECT, SPECIAL OR CONSEQUENTIAL DAMAGES, ARISING OUT OF, RESULTING FROM,
+ * OR IN ANY WAY CONNECTED WITH THIS SOFTWARE, WHETHER OR NOT BASED UPON WARRANTY,
+ * CONTRACT, TORT, OR OTHERWISE, WHETHER OR NOT INJURY WAS SUSTAINED BY PERSONS OR
+ * PROPERTY OR OTHERWISE, AND WHETHER OR NOT LOSS WAS SUSTAINED FROM, OR AROSE OUT
+ * OF THE RESULTS OF, OR USE OF, THE SOFTWARE OR SERVICES PROVIDED HEREUNDER.
+ */
+
+package gov.nist.secauto.metaschema.binding.io;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Objects;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+
+/**
+ * An {@link InputStream} that reads the bytes of a file channel, starting at the channel's current
+ * position.
+ * <p>
+ * Large files are memory-mapped, allowing the parsers to copy the file content directly from the
+ * mapped pages without the overhead of a read system call for each buffer. Since a single mapping
+ * is limited to 2 GiB, larger files are mapped one region at a time as they are read. Smaller files
+ * are read using positional channel reads, since the cost of creating a mapping, which is only
+ * released when it is garbage collected, outweighs the benefit for a small file.
+ * <p>
+ * The position of the channel is not changed by reading from this stream.
+ */
+final class FileChannelInputStream
+    extends InputStream {
+  /**
+   * The minimum number of bytes to read from the channel for the file to be memory-mapped.
+   */
+  static final long MAPPING_THRESHOLD = 8L * 1024 * 1024;
+  private static final long MAX_REGION_SIZE = Integer.MAX_VALUE;
+
+  @NonNull
+  private final FileChannel channel;
+  private final boolean ownsChannel;
+  private final long maxRegionSize;
+  private final long end;
+  private final boolean mapped;
+  /**
+   * A buffer used by {@link #read()}, which is reused to avoid an allocation for each byte read.
+   */
+  @NonNull
+  private final byte[] single = new byte[1];
+  /**
+   * The file position of the next byte to read.
+   */
+  private long position;
+  /**
+   * The currently mapped region, or {@code null} if no region is mapped.
+   */
+  private MappedByteBuffer region;
+
+  /**
+   * Open the file for reading.
+   *
+   * @param path
+   *          the file to read
+   * @return the stream, which closes the file when it is closed
+   * @throws IOException
+   *           if an error occurred while opening the file
+   */
+  @NonNull
+  static FileChannelInputStream open(@NonNull Path path) throws IOException {
+    FileChannel channel = FileChannel.open(path, StandardOpenOption.READ);
+    try {
+      return new FileChannelInputStream(channel, true, MAPPING_THRESHOLD, MAX_REGION_SIZE);
+    } catch (IOException ex) {
+      channel.close();
+      throw ex;
+    }
+  }
+
+  /**
+   * Construct a new stream that reads from the provided channel, which is not closed when the stream
+   * is closed.
+   *
+   * @param channel
+   *          the channel to read from
+   * @throws IOException
+   *           if an error occurred while getting the channel's position or size
+   */
+  FileChannelInputStream(@NonNull FileChannel channel) throws IOException {
+    this(channel, false, MAPPING_THRESHOLD, MAX_REGION_SIZE);
+  }
+
+  /**
+   * Construct a new stream that reads from the provided channel.
+   *
+   * @param channel
+   *          the channel to read from
+   * @param ownsChannel
+   *          {@code true} if the channel is to be closed when the stream is closed
+   * @param mappingThreshold
+   *          the minimum number of bytes to read for the file to be memory-mapped
+   * @param maxRegionSize
+   *          the maximum size of a mapped region
+   * @throws IOException
+   *           if an error occurred while getting the channel's position or size
+   */
+  FileChannelInputStream(
+      @NonNull FileChannel channel,
+      boolean ownsChannel,
+      long mappingThreshold,
+      long maxRegionSize) throws IOException {
+    this.channel = channel;
+    this.ownsChannel = ownsChannel;
+    this.maxRegionSize = maxRegionSize;
+    this.position = channel.position();
+    this.end = channel.size();
+    this.mapped = end - position >= mappingThreshold;
+  }
+
+  /**
+   * Determine if the file content is read using memory-mapped regions.
+   *
+   * @return {@code true} if the content is memory-mapped, or {@code false} otherwise
+   */
+  boolean isMapped() {
+    return mapped;
+  }
+
+  @NonNull
+  private ByteBuffer currentRegion() throws IOException {
+    MappedByteBuffer retval = region;
+    if (retval == null || !retval.hasRemaining()) {
+      long size = Math.min(maxRegionSize, end - position);
+      retval = channel.map(FileChannel.MapMode.READ_ONLY, position, size);
+      region = retval;
+    }
+    return retval;
+  }
+
+  @Override
+  public int read() throws IOException {
+    return read(single, 0, 1) == -1 ? -1 : single[0] & 0xFF;
+  }
+
+  @Override
+  public int read(byte[] bytes, int off, int len) throws IOException {
+    Objects.checkFromIndexSize(off, len, bytes.length);
+
+    int retval;
+    if (len == 0) {
+      retval = 0;
+    } else if (mapped) {
+      if (position >= end) {
+        retval = -1;
+      } else {
+        ByteBuffer buffer = currentRegion();
+        retval = Math.min(len, buffer.remaining());
+        buffer.get(bytes, off, retval);
+        position += retval;
+      }
+    } else {
+      retval = channel.read(ByteBuffer.wrap(bytes, off, len), position);
+      if (retval > 0) {
+        position += retval;
+      }
+    }
+    return retval;
+  }
+
+  @Override
+  public long skip(long count) throws IOException {
+    long retval = Math.max(0, Math.min(count, (mapped ? end : channel.size()) - position));
+    if (retval > 0) {
+      position += retval;
+      // the next read will map a new region at the new position
+      region = null;
+    }
+    return retval;
+  }
+
+  @Override
+  public int available() throws IOException {
+    long remaining = (mapped ? end : channel.size()) - position;
+    return (int) Math.max(0, Math.min(Integer.MAX_VALUE, remaining));
+  }
+
+  @Override
+  public void close() throws IOException {
+    // the mapping is released when the region is garbage collected
+    region = null;
+    if (ownsChannel) {
+      channel.close();
+    }
+  }
+}
@@ -32,6 +32,7 @@ import gov.nist.secauto.metaschema.model.common.configuration.IConfiguration;
 import gov.nist.secauto.metaschema.model.common.configuration.IMutableConfiguration;
 import gov.nist.secauto.metaschema.model.common.metapath.IDocumentLoader;
 import gov.nist.secauto.metaschema.model.common.metapath.item.IDocumentNodeItem;
+import gov.nist.secauto.metaschema.model.common.util.BoundedExecutor;
 import gov.nist.secauto.metaschema.model.common.util.ObjectUtils;
 
 import org.xml.sax.InputSource;
@@ -41,10 +42,20 @@ import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.io.UncheckedIOException;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.net.URL;
+import java.nio.channels.FileChannel;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 import edu.umd.cs.findbugs.annotations.NonNull;
 
@@ -148,6 +159,131 @@ public interface IBoundLoader extends IDocumentLoader, IMutableConfiguration<Des
   @NonNull
   Format detectFormat(@NonNull InputSource source) throws IOException;
 
+  /**
+   * Load data from the provided file into a node item.
+   * <p>
+   * This method will auto-detect the format of the provided file. Large files are memory-mapped.
+   *
+   * @param path
+   *          the file to load
+   * @return the loaded document node item
+   * @throws IOException
+   *           if an error occurred while reading the file
+   */
+  @Override
+  default IDocumentNodeItem loadAsNodeItem(@NonNull Path path) throws IOException {
+    try (InputStream is = FileChannelInputStream.open(path)) {
+      return loadAsNodeItem(is, ObjectUtils.notNull(path.toUri()));
+    }
+  }
+
+  @Override
+  default IDocumentNodeItem loadAsNodeItem(@NonNull File file) throws IOException {
+    return loadAsNodeItem(ObjectUtils.notNull(file.toPath()));
+  }
+
+  /**
+   * Load data from the provided file channel into a node item, starting at the channel's current
+   * position.
+   * <p>
+   * This method will auto-detect the format of the provided content. Large files are memory-mapped.
+   * <p>
+   * This method will not close the provided {@link FileChannel}, since it does not own the channel.
+   *
+   * @param channel
+   *          the channel to read from
+   * @param documentUri
+   *          the URI of the resource
+   * @return the loaded document node item
+   * @throws IOException
+   *           if an error occurred while reading the resource
+   */
+  @NonNull
+  default IDocumentNodeItem loadAsNodeItem(@NonNull FileChannel channel, @NonNull URI documentUri)
+      throws IOException {
+    try (InputStream is = new FileChannelInputStream(channel)) {
+      return loadAsNodeItem(is, documentUri);
+    }
+  }
+
+  /**
+   * Load the provided files into node items concurrently using the provided executor.
+   * <p>
+   * At most twice the number of available processors are loaded or waiting to be loaded at a time.
+   * This method blocks while this limit is reached, so that a large batch of files does not flood
+   * the executor's queue. This loader is shared by all tasks, so its configuration must not be
+   * changed until all loads have completed.
+   *
+   * @param paths
+   *          the files to load
+   * @param executor
+   *          the executor used to load the files
+   * @return a future for each file's loaded document node item in the order the files were
+   *         provided, which will complete exceptionally if an error occurred while loading the file;
+   *         a file that is provided more than once is loaded once for each time it is provided
+   * @see #loadAll(Collection, Executor, int)
+   */
+  @NonNull
+  default List<CompletableFuture<IDocumentNodeItem>> loadAll(
+      @NonNull Collection<Path> paths,
+      @NonNull Executor executor) {
+    return loadAll(paths, executor, Runtime.getRuntime().availableProcessors() * 2);
+  }
+
+  /**
+   * Load the provided files into node items concurrently using the provided executor.
+   * <p>
+   * This method blocks while the maximum number of files are loaded or waiting to be loaded. This
+   * loader is shared by all tasks, so its configuration must not be changed until all loads have
+   * completed.
+   *
+   * @param paths
+   *          the files to load
+   * @param executor
+   *          the executor used to load the files
+   * @param maxPendingLoads
+   *          the maximum number of files that can be loaded or waiting to be loaded at a time
+   * @return a future for each file's loaded document node item in the order the files were
+   *         provided, which will complete exceptionally if an error occurred while loading the file;
+   *         a file that is provided more than once is loaded once for each time it is provided
+   */
+  @NonNull
+  default List<CompletableFuture<IDocumentNodeItem>> loadAll(
+      @NonNull Collection<Path> paths,
+      @NonNull Executor executor,
+      int maxPendingLoads) {
+    List<Callable<IDocumentNodeItem>> tasks = new ArrayList<>(paths.size());
+    for (Path path : paths) {
+      assert path != null;
+      tasks.add(() -> loadAsNodeItem(path));
+    }
+    return new BoundedExecutor(executor, maxPendingLoads).submitAll(tasks);
+  }
+
+  /**
+   * Load data from the provided file channel into a bound object, starting at the channel's current
+   * position.
+   * <p>
+   * This method will auto-detect the format of the provided content. Large files are memory-mapped.
+   * <p>
+   * This method will not close the provided {@link FileChannel}, since it does not own the channel.
+   *
+   * @param <CLASS>
+   *          the type of the bound object to return
+   * @param channel
+   *          the channel to read from
+   * @param documentUri
+   *          the URI of the resource
+   * @return a bound object containing the loaded data
+   * @throws IOException
+   *           if an error occurred while reading the resource
+   */
+  @SuppressWarnings("unchecked")
+  @NonNull
+  default <CLASS> CLASS load(@NonNull FileChannel channel, @NonNull URI documentUri) throws IOException {
+    return (CLASS) loadAsNodeItem(channel, documentUri).getValue();
+  }
+
   /**
    * Load data from the provided resource into a bound object.
    * <p>
@@ -273,10 +409,10 @@ public interface IBoundLoader extends IDocumentLoader, IMutableConfiguration<Des
    */
   @NonNull
   default <CLASS> CLASS load(@NonNull Class<CLASS> clazz, @NonNull Path path) throws IOException {
-    try {
-      return load(clazz, ObjectUtils.notNull(path.toUri()));
-    } catch (URISyntaxException ex) {
-      throw new IOException(ex);
+    try (InputStream is = FileChannelInputStream.open(path)) {
+      InputSource source = toInputSource(ObjectUtils.notNull(path.toUri()));
+      source.setByteStream(is);
+      return load(clazz, source);
     }
   }
 
@@ -368,6 +504,91 @@ public interface IBoundLoader extends IDocumentLoader, IMutableConfiguration<Des
 
   IDocumentNodeItem loadAsNodeItem(@NonNull Format format, @NonNull InputSource source) throws IOException;
 
+  /**
+   * Load the items of the named model instance on the root object of the specified resource one at
+   * a time, with each item bound to the Java type of the instance.
+   * <p>
+   * The returned stream must be closed to release the underlying resource.
+   *
+   * @param <ITEM>
+   *          the Java type of the items
+   * @param clazz
+   *          the class for the root object's java type
+   * @param instanceName
+   *          the effective name of a model instance on the root object
+   * @param path
+   *          the resource to load
+   * @return a stream of the instance's items, in document order
+   * @throws IOException
+   *           if an error occurred while opening the specified file
+   * @see #streamItems(Class, String, InputSource)
+   */
+  @NonNull
+  default <ITEM> Stream<ITEM> streamItems(
+      @NonNull Class<?> clazz,
+      @NonNull String instanceName,
+      @NonNull Path path) throws IOException {
+    return streamItems(clazz, instanceName, toInputSource(ObjectUtils.notNull(path.toUri())));
+  }
+
+  /**
+   * Load the items of the named model instance on the root object of the specified resource one at
+   * a time, with each item bound to the Java type of the instance.
+   * <p>
+   * This allows very large collections to be processed using memory bounded by the size of the
+   * largest item. The items are not constraint validated. See
+   * {@link IDeserializer#deserializeItems(java.io.Reader, URI, String)} for details.
+   * <p>
+   * The returned stream must be closed to release the underlying resource.
+   *
+   * @param <ITEM>
+   *          the Java type of the items
+   * @param clazz
+   *          the class for the root object's java type
+   * @param instanceName
+   *          the effective name of a model instance on the root object
+   * @param source
+   *          information about how to access the resource
+   * @return a stream of the instance's items, in document order
+   * @throws IOException
+   *           if an error occurred while opening the resource or detecting its format
+   */
+  @NonNull
+  <ITEM> Stream<ITEM> streamItems(
+      @NonNull Class<?> clazz,
+      @NonNull String instanceName,
+      @NonNull InputSource source) throws IOException;
+
+  /**
+   * Pass each item of the named model instance on the root object of the specified resource to the
+   * provided consumer, reading one item at a time.
+   *
+   * @param <ITEM>
+   *          the Java type of the items
+   * @param clazz
+   *          the class for the root object's java type
+   * @param instanceName
+   *          the effective name of a model instance on the root object
+   * @param path
+   *          the resource to load
+   * @param consumer
+   *          the consumer to pass each item to
+   * @throws IOException
+   *           if an error occurred while reading the specified file
+   * @see #streamItems(Class, String, Path)
+   */
+  default <ITEM> void forEachItem(
+      @NonNull Class<?> clazz,
+      @NonNull String instanceName,
+      @NonNull Path path,
+      @NonNull Consumer<? super ITEM> consumer) throws IOException {
+    try (Stream<ITEM> items = streamItems(clazz, instanceName, path)) {
+      items.forEachOrdered(consumer);
+    } catch (UncheckedIOException ex) {
+      throw ex.getCause();
+    }
+  }
+
   /**
    * Get the configured Metaschema binding context to use to load Java types.
    *
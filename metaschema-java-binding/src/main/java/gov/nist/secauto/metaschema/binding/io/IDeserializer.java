@@ -37,12 +37,13 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.io.Reader;
+import java.io.UncheckedIOException;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.net.URL;
 import java.nio.charset.StandardCharsets;
-import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.stream.Stream;
 
 import edu.umd.cs.findbugs.annotations.NonNull;
 
@@ -84,6 +85,8 @@ public interface IDeserializer<CLASS> extends IMutableConfiguration<Deserializat
 
   /**
    * Read data from the {@link InputStream} into a bound class instance.
+   * <p>
+   * Implementations may parse the bytes directly, detecting the character encoding from the content.
    *
    * @param is
    *          the input stream to read from
@@ -93,13 +96,17 @@ public interface IDeserializer<CLASS> extends IMutableConfiguration<Deserializat
    * @throws IOException
    *           if an error occurred while reading data from the stream
    */
+  @SuppressWarnings("unchecked")
   @NonNull
   default CLASS deserialize(@NonNull InputStream is, @NonNull URI documentUri) throws IOException {
-    return deserialize(new InputStreamReader(is, StandardCharsets.UTF_8), documentUri);
+    INodeItem nodeItem = deserializeToNodeItem(is, documentUri);
+    return (CLASS) ObjectUtils.requireNonNull(nodeItem.getValue());
   }
 
   /**
    * Read data from the {@link Path} into a bound class instance.
+   * <p>
+   * Large files are memory-mapped.
    *
    * @param path
    *          the file to read from
@@ -110,8 +117,8 @@ public interface IDeserializer<CLASS> extends IMutableConfiguration<Deserializat
    */
   @NonNull
   default CLASS deserialize(@NonNull Path path) throws IOException {
-    try (Reader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
-      return deserialize(ObjectUtils.notNull(reader), ObjectUtils.notNull(path.toUri()));
+    try (InputStream is = FileChannelInputStream.open(path)) {
+      return deserialize(is, ObjectUtils.notNull(path.toUri()));
     }
   }
 
@@ -198,4 +205,101 @@ public interface IDeserializer<CLASS> extends IMutableConfiguration<Deserializat
    */
   @NonNull
   INodeItem deserializeToNodeItem(@NonNull Reader reader, @NonNull URI documentUri) throws IOException;
+
+  /**
+   * Read the items of the named model instance on the root object from the {@link Path} one at a
+   * time.
+   * <p>
+   * The returned stream must be closed to release the underlying file.
+   *
+   * @param <ITEM>
+   *          the Java type of the items
+   * @param path
+   *          the file to read from
+   * @param instanceName
+   *          the effective name of a model instance on the root object
+   * @return a stream of the instance's items, in document order
+   * @throws IOException
+   *           if an error occurred while opening the file
+   * @see #deserializeItems(Reader, URI, String)
+   */
+  @NonNull
+  default <ITEM> Stream<ITEM> deserializeItems(@NonNull Path path, @NonNull String instanceName)
+      throws IOException {
+    InputStream is = FileChannelInputStream.open(path);
+    try {
+      Stream<ITEM> retval = deserializeItems(
+          is,
+          ObjectUtils.notNull(path.toUri()),
+          instanceName);
+      return ObjectUtils.notNull(retval.onClose(() -> {
+        try {
+          is.close();
+        } catch (IOException ex) {
+          throw new UncheckedIOException(ex);
+        }
+      }));
+    } catch (IOException | RuntimeException ex) {
+      is.close();
+      throw ex;
+    }
+  }
+
+  /**
+   * Read the items of the named model instance on the root object from the {@link InputStream} one
+   * at a time.
+   * <p>
+   * Implementations may parse the bytes directly, detecting the character encoding from the content.
+   * The provided stream is not closed when the returned stream is closed.
+   *
+   * @param <ITEM>
+   *          the Java type of the items
+   * @param is
+   *          the input stream to read from
+   * @param documentUri
+   *          the URI of the document to read from
+   * @param instanceName
+   *          the effective name of a model instance on the root object
+   * @return a stream of the instance's items, in document order
+   * @throws IOException
+   *           if an error occurred while setting up the parser
+   * @see #deserializeItems(Reader, URI, String)
+   */
+  @NonNull
+  default <ITEM> Stream<ITEM> deserializeItems(
+      @NonNull InputStream is,
+      @NonNull URI documentUri,
+      @NonNull String instanceName) throws IOException {
+    return deserializeItems(new InputStreamReader(is, StandardCharsets.UTF_8), documentUri, instanceName);
+  }
+
+  /**
+   * Read the items of the named model instance on the root object from the {@link Reader} one at
+   * a time.
+   * <p>
+   * Only a single item is bound at a time, allowing very large collections to be processed without
+   * holding the whole document in memory. Other content of the root object is skipped without
+   * being bound. Since the document is never fully loaded, the items are not constraint validated.
+   * <p>
+   * Parsing occurs lazily as the stream is consumed. Parse errors are reported using an
+   * {@link UncheckedIOException}. The returned stream must be closed to release the parser.
+   *
+   * @param <ITEM>
+   *          the Java type of the items
+   * @param reader
+   *          the reader to read from
+   * @param documentUri
+   *          the URI of the document to read from
+   * @param instanceName
+   *          the effective name of a model instance on the root object
+   * @return a stream of the instance's items, in document order
+   * @throws IOException
+   *           if an error occurred while setting up the parser
+   * @throws IllegalArgumentException
+   *           if the bound class is not a root assembly or does not have a model instance with the
+   *           provided name
+   */
+  @NonNull
+  <ITEM> Stream<ITEM> deserializeItems(@NonNull Reader reader, @NonNull URI documentUri, @NonNull String instanceName)
+      throws IOException;
 }
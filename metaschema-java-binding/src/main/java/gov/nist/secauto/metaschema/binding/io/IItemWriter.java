@@ -0,0 +1,80 @@
+/*
+ * Portions of this software was developed by employees of the National Institute
+ * of Standards and Technology (NIST), an agency of the Federal Government and is
+ * being made available as a public service. Pursuant to title 17 United States
+ * Code Section 105, works of NIST employees are not subject to copyright
+ * protection in the United States. This software may be subject to foreign
+ * copyright. Permission in the United States and in foreign countries, to the
+ * extent that NIST may hold copyright, to use, copy, modify, create derivative
+ * works, and distribute this software and its documentation without fee is hereby
+ * granted on a non-exclusive basis, provided that this notice and disclaimer
+ * of warranty appears in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED 'AS IS' WITHOUT ANY WARRANTY OF ANY KIND, EITHER
+ * EXPRESSED, IMPLIED, OR STATUTORY, INCLUDING, BUT NOT LIMITED TO, ANY WARRANTY
+ * THAT THE SOFTWARE WILL CONFORM TO SPECIFICATIONS, ANY IMPLIED WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE, AND FREEDOM FROM
+ * INFRINGEMENT, AND ANY WARRANTY THAT THE DOCUMENTATION WILL CONFORM TO THE
+ * SOFTWARE, OR ANY WARRANTY THAT THE SOFTWARE WILL BE ERROR FREE.  IN NO EVENT
+ * SHALL NIST BE LIABLE FOR ANY DAMAGES, INCLUDING, BUT NOT LIMITED TO, DIRECT,
+ * INDIRECT, SPECIAL OR CONSEQUENTIAL DAMAGES, ARISING OUT OF, RESULTING FROM,
+ * OR IN ANY WAY CONNECTED WITH THIS SOFTWARE, WHETHER OR NOT BASED UPON WARRANTY,
+ * CONTRACT, TORT, OR OTHERWISE, WHETHER OR NOT INJURY WAS SUSTAINED BY PERSONS OR
+ * PROPERTY OR OTHERWISE, AND WHETHER OR NOT LOSS WAS SUSTAINED FROM, OR AROSE OUT
+ * OF THE RESULTS OF, OR USE OF, THE SOFTWARE OR SERVICES PROVIDED HEREUNDER.
+ */
+
+package gov.nist.secauto.metaschema.binding.io;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.Iterator;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+
+/**
+ * Writes the items of a single model instance on a document's root object one at a time.
+ * <p>
+ * The start of the document is written when the item writer is created, and the end of the
+ * document is written when it is closed. Only the item being written is held in memory, allowing
+ * very large documents to be produced.
+ *
+ * @param <ITEM>
+ *          the Java type of the items
+ */
+public interface IItemWriter<ITEM> extends Closeable {
+  /**
+   * Write the next item.
+   *
+   * @param item
+   *          the item to write
+   * @throws IOException
+   *           if an error occurred while writing the item
+   */
+  void write(@NonNull ITEM item) throws IOException;
+
+  /**
+   * Write each remaining item provided by the iterator.
+   *
+   * @param items
+   *          the items to write
+   * @throws IOException
+   *           if an error occurred while writing an item
+   */
+  default void writeAll(@NonNull Iterator<? extends ITEM> items) throws IOException {
+    while (items.hasNext()) {
+      ITEM item = items.next();
+      assert item != null;
+      write(item);
+    }
+  }
+
+  /**
+   * Complete the document by writing the remainder of the root object.
+   *
+   * @throws IOException
+   *           if an error occurred while writing the end of the document
+   */
+  @Override
+  void close() throws IOException;
+}
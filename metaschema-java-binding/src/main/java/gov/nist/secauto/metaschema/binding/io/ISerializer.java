@@ -128,4 +128,37 @@ public interface ISerializer<CLASS> extends IMutableConfiguration<SerializationF
    *           if an error occurred while writing data to the stream
    */
   void serialize(@NonNull CLASS data, @NonNull Writer writer) throws IOException;
+
+  /**
+   * Start writing a document to the {@link Writer}, whose root object is provided by the
+   * {@code header} and whose items for the named model instance are written incrementally using the
+   * returned item writer.
+   * <p>
+   * The flags and other model instances of the root object are written from the {@code header} in
+   * their usual position, while any value the {@code header} has for the named instance is ignored.
+   * Only the item being written is held in memory, allowing very large documents to be generated
+   * from an {@link java.util.Iterator} or database cursor.
+   * <p>
+   * The returned item writer must be closed to complete the document.
+   *
+   * @param <ITEM>
+   *          the Java type of the items
+   * @param header
+   *          the root object providing the values of the other flags and model instances
+   * @param instanceName
+   *          the effective name of a model instance on the root object that allows multiple items
+   * @param writer
+   *          the writer to write to
+   * @return the item writer used to write the items
+   * @throws IOException
+   *           if an error occurred while writing the start of the document
+   * @throws IllegalArgumentException
+   *           if the bound class is not a root assembly or does not have a model instance with the
+   *           provided name that allows multiple items
+   */
+  @NonNull
+  <ITEM> IItemWriter<ITEM> newItemWriter(
+      @NonNull CLASS header,
+      @NonNull String instanceName,
+      @NonNull Writer writer) throws IOException;
 }
@@ -0,0 +1,97 @@
+/*
+ * Portions of this software was developed by employees of the National Institute
+ * of Standards and Technology (NIST), an agency of the Federal Government and is
+ * being made available as a public service. Pursuant to title 17 United States
+ * Code Section 105, works of NIST employees are not subject to copyright
+ * protection in the United States. This software may be subject to foreign
+ * copyright. Permission in the United States and in foreign countries, to the
+ * extent that NIST may hold copyright, to use, copy, modify, create derivative
+ * works, and distribute this software and its documentation without fee is hereby
+ * granted on a non-exclusive basis, provided that this notice and disclaimer
+ * of warranty appears in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED 'AS IS' WITHOUT ANY WARRANTY OF ANY KIND, EITHER
+ * EXPRESSED, IMPLIED, OR STATUTORY, INCLUDING, BUT NOT LIMITED TO, ANY WARRANTY
+ * THAT THE SOFTWARE WILL CONFORM TO SPECIFICATIONS, ANY IMPLIED WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE, AND FREEDOM FROM
+ * INFRINGEMENT, AND ANY WARRANTY THAT THE DOCUMENTATION WILL CONFORM TO THE
+ * SOFTWARE, OR ANY WARRANTY THAT THE SOFTWARE WILL BE ERROR FREE.  IN NO EVENT
+ * SHALL NIST BE LIABLE FOR ANY DAMAGES, INCLUDING, BUT NOT LIMITED TO, DIRECT,
+ * INDIRECT, SPECIAL OR CONSEQUENTIAL DAMAGES, ARISING OUT OF, RESULTING FROM,
+ * OR IN ANY WAY CONNECTED WITH THIS SOFTWARE, WHETHER OR NOT BASED UPON WARRANTY,
+ * CONTRACT, TORT, OR OTHERWISE, WHETHER OR NOT INJURY WAS SUSTAINED BY PERSONS OR
+ * PROPERTY OR OTHERWISE, AND WHETHER OR NOT LOSS WAS SUSTAINED FROM, OR AROSE OUT
+ * OF THE RESULTS OF, OR USE OF, THE SOFTWARE OR SERVICES PROVIDED HEREUNDER.
+ */
+
+package gov.nist.secauto.metaschema.binding.io;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.ref.SoftReference;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+
+/**
+ * A {@link BufferedInputStream} with a {@link DefaultBoundLoader#LOOK_AHEAD_BYTES} buffer that is
+ * reused across streams created on the same thread.
+ * <p>
+ * The loader buffers each resource to allow the format and root element to be detected before
+ * parsing. When loading many small resources, allocating a new look-ahead buffer for each one is a
+ * significant cost. The buffer is taken from a per-thread pool when the stream is created and is
+ * returned to the pool when the stream is closed. If the pool is empty, for example when streams
+ * are nested, a new buffer is allocated.
+ */
+class PooledBufferedInputStream
+    extends BufferedInputStream {
+  /**
+   * A soft reference is used to allow idle buffers to be reclaimed under memory pressure.
+   */
+  @NonNull
+  private static final ThreadLocal<SoftReference<byte[]>> BUFFER_POOL = new ThreadLocal<>();
+
+  private byte[] pooledBuffer;
+
+  /**
+   * Construct a new stream that reads from the provided stream. The mark is set at the start of the
+   * stream, allowing up to {@link DefaultBoundLoader#LOOK_AHEAD_BYTES} to be read before a reset.
+   *
+   * @param in
+   *          the underlying stream
+   */
+  PooledBufferedInputStream(@NonNull InputStream in) {
+    // use a minimal initial buffer, which is replaced by the pooled buffer
+    super(in, 1);
+    byte[] buffer = acquireBuffer();
+    this.pooledBuffer = buffer;
+    this.buf = buffer;
+    mark(DefaultBoundLoader.LOOK_AHEAD_BYTES);
+  }
+
+  @NonNull
+  private static byte[] acquireBuffer() {
+    SoftReference<byte[]> ref = BUFFER_POOL.get();
+    byte[] retval = ref == null ? null : ref.get();
+    if (retval == null) {
+      retval = new byte[DefaultBoundLoader.LOOK_AHEAD_BYTES];
+    } else {
+      // remove the buffer from the pool while it is in use
+      BUFFER_POOL.remove();
+    }
+    return retval;
+  }
+
+  @Override
+  public void close() throws IOException {
+    try {
+      super.close();
+    } finally {
+      byte[] buffer = pooledBuffer;
+      if (buffer != null) {
+        pooledBuffer = null;
+        BUFFER_POOL.set(new SoftReference<>(buffer));
+      }
+    }
+  }
+}
@@ -0,0 +1,260 @@
+/*
+ * Portions of this software was developed by employees of the National Institute
+ * of Standards and Technology (NIST), an agency of the Federal Government and is
+ * being made available as a public service. Pursuant to title 17 United States
+ * Code Section 105, works of NIST employees are not subject to copyright
+ * protection in the United States. This software may be subject to foreign
+ * copyright. Permission in the United States and in foreign countries, to the
+ * extent that NIST may hold copyright, to use, copy, modify, create derivative
+ * works, and distribute this software and its documentation without fee is hereby
+ * granted on a non-exclusive basis, provided that this notice and disclaimer
+ * of warranty appears in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED 'AS IS' WITHOUT ANY WARRANTY OF ANY KIND, EITHER
+ * EXPRESSED, IMPLIED, OR STATUTORY, INCLUDING, BUT NOT LIMITED TO, ANY WARRANTY
+ * THAT THE SOFTWARE WILL CONFORM TO SPECIFICATIONS, ANY IMPLIED WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE, AND FREEDOM FROM
+ * INFRINGEMENT, AND ANY WARRANTY THAT THE DOCUMENTATION WILL CONFORM TO THE
+ * SOFTWARE, OR ANY WARRANTY THAT THE SOFTWARE WILL BE ERROR FREE.  IN NO EVENT
+ * SHALL NIST BE LIABLE FOR ANY DAMAGES, INCLUDING, BUT NOT LIMITED TO, DIRECT,
+ * INDIRECT, SPECIAL OR CONSEQUENTIAL DAMAGES, ARISING OUT OF, RESULTING FROM,
+ * OR IN ANY WAY CONNECTED WITH THIS SOFTWARE, WHETHER OR NOT BASED UPON WARRANTY,
+ * CONTRACT, TORT, OR OTHERWISE, WHETHER OR NOT INJURY WAS SUSTAINED BY PERSONS OR
+ * PROPERTY OR OTHERWISE, AND WHETHER OR NOT LOSS WAS SUSTAINED FROM, OR AROSE OUT
+ * OF THE RESULTS OF, OR USE OF, THE SOFTWARE OR SERVICES PROVIDED HEREUNDER.
+ */
+
+package gov.nist.secauto.metaschema.binding.io;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+
+import gov.nist.secauto.metaschema.binding.IBindingContext;
+import gov.nist.secauto.metaschema.binding.IBindingContext.IValidationSchemaProvider;
+import gov.nist.secauto.metaschema.binding.io.json.DefaultJsonDeserializer;
+import gov.nist.secauto.metaschema.binding.io.json.JsonFactoryFactory;
+import gov.nist.secauto.metaschema.binding.io.json.JsonObjectRecordingParser;
+import gov.nist.secauto.metaschema.binding.io.xml.DefaultXmlDeserializer;
+import gov.nist.secauto.metaschema.binding.io.yaml.DefaultYamlDeserializer;
+import gov.nist.secauto.metaschema.binding.io.yaml.YamlFactoryFactory;
+import gov.nist.secauto.metaschema.binding.model.IAssemblyClassBinding;
+import gov.nist.secauto.metaschema.binding.model.IClassBinding;
+import gov.nist.secauto.metaschema.model.common.metapath.item.INodeItem;
+import gov.nist.secauto.metaschema.model.common.util.ObjectUtils;
+import gov.nist.secauto.metaschema.model.common.validation.AggregateValidationResult;
+import gov.nist.secauto.metaschema.model.common.validation.IValidationResult;
+import gov.nist.secauto.metaschema.model.common.validation.JsonSchemaContentValidator;
+import gov.nist.secauto.metaschema.model.common.validation.XmlSchemaContentValidator;
+import gov.nist.secauto.metaschema.model.common.validation.XmlSchemaContentValidator.XmlValidationErrorHandler;
+
+import org.json.JSONObject;
+import org.xml.sax.SAXException;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.nio.file.Path;
+
+import javax.xml.validation.ValidatorHandler;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+
+/**
+ * Performs schema and constraint validation of a resource using a single parse of the resource.
+ * <p>
+ * For JSON and YAML, the JSON object used for JSON schema validation is recorded from the tokens
+ * read while binding the content, using a {@link JsonObjectRecordingParser}. For XML, the events
+ * read while binding the content are forwarded to an XML schema {@link ValidatorHandler}.
+ * <p>
+ * As with {@link IBindingContext#validate(Path, Format, IValidationSchemaProvider)}, the
+ * constraint validation findings are only reported if the schema validation passes.
+ */
+public class SinglePassContentValidator {
+  @NonNull
+  private final IBindingContext bindingContext;
+  @NonNull
+  private final IValidationSchemaProvider schemaProvider;
+  /**
+   * Used to detect the bound class of the resource and to provide the deserialization
+   * configuration.
+   */
+  @NonNull
+  private final DefaultBoundLoader loader;
+
+  /**
+   * Construct a new validator.
+   *
+   * @param bindingContext
+   *          the binding context used to bind the content and perform constraint validation
+   * @param schemaProvider
+   *          provides callbacks to get the appropriate schemas
+   */
+  public SinglePassContentValidator(
+      @NonNull IBindingContext bindingContext,
+      @NonNull IValidationSchemaProvider schemaProvider) {
+    this.bindingContext = bindingContext;
+    this.schemaProvider = schemaProvider;
+    this.loader = new DefaultBoundLoader(bindingContext);
+    this.loader.disableFeature(DeserializationFeature.DESERIALIZE_VALIDATE_CONSTRAINTS);
+  }
+
+  /**
+   * Perform schema and constraint validation on the target.
+   *
+   * @param target
+   *          the target to validate
+   * @param asFormat
+   *          the schema format to use to validate the target
+   * @return the validation result
+   * @throws IOException
+   *           if an error occurred while reading the target
+   * @throws SAXException
+   *           if an error occurred when loading the XML schemas
+   */
+  @NonNull
+  public IValidationResult validate(@NonNull Path target, @NonNull Format asFormat) throws IOException, SAXException {
+    URI documentUri = ObjectUtils.notNull(target.toUri());
+
+    IValidationResult retval;
+    switch (asFormat) {
+    case JSON:
+      retval = validateJson(target, documentUri, JsonFactoryFactory.instance(), false);
+      break;
+    case YAML:
+      retval = validateJson(
+          target,
+          documentUri,
+          YamlFactoryFactory.parserFactoryInstance(loader.getConfiguration()),
+          true);
+      break;
+    case XML:
+      retval = validateXml(target, documentUri);
+      break;
+    default:
+      throw new UnsupportedOperationException("Unsupported format: " + asFormat.name());
+    }
+    return retval;
+  }
+
+  @NonNull
+  private IValidationResult validateJson(
+      @NonNull Path target,
+      @NonNull URI documentUri,
+      @NonNull JsonFactory factory,
+      boolean yaml) throws IOException {
+    try (InputStream is = FileChannelInputStream.open(target);
+        JsonObjectRecordingParser parser
+            = new JsonObjectRecordingParser(ObjectUtils.notNull(factory.createParser(is)))) {
+      // bind the content, while recording the JSON object used for schema validation
+      INodeItem nodeItem;
+      try {
+        nodeItem = bindJson(parser, documentUri, yaml);
+      } catch (IOException | RuntimeException ex) {
+        IValidationResult schemaResult = validateWithJsonSchema(parser, documentUri);
+        if (schemaResult.isPassing()) {
+          throw ex;
+        }
+        // invalid content may not be bindable, report the schema findings instead
+        return schemaResult;
+      }
+
+      IValidationResult retval = validateWithJsonSchema(parser, documentUri);
+      if (retval.isPassing()) {
+        retval = AggregateValidationResult.aggregate(retval, bindingContext.validate(nodeItem));
+      }
+      return retval;
+    }
+  }
+
+  @NonNull
+  private IValidationResult validateWithJsonSchema(
+      @NonNull JsonObjectRecordingParser parser,
+      @NonNull URI documentUri) throws IOException {
+    // record any content not read while binding
+    JSONObject json = parser.recordRemaining();
+    if (json == null) {
+      throw new IOException(String.format("Unable to read a JSON object from '%s'", documentUri));
+    }
+    return new JsonSchemaContentValidator(schemaProvider.getJsonSchema()).validate(json, documentUri);
+  }
+
+  @NonNull
+  private INodeItem bindJson(
+      @NonNull JsonParser parser,
+      @NonNull URI documentUri,
+      boolean yaml) throws IOException {
+    Class<?> clazz = loader.detectModelJsonClass(parser);
+    if (clazz == null) {
+      throw new IOException(String.format("Unable to detect the bound data type of '%s'", documentUri));
+    }
+
+    IAssemblyClassBinding classBinding = getAssemblyClassBinding(clazz);
+    DefaultJsonDeserializer<?> deserializer = yaml
+        ? new DefaultYamlDeserializer<>(bindingContext, classBinding)
+        : new DefaultJsonDeserializer<>(bindingContext, classBinding);
+    deserializer.applyConfiguration(loader.getConfiguration());
+    // the root property is always expected, since it was used to detect the bound class
+    deserializer.enableFeature(DeserializationFeature.DESERIALIZE_JSON_ROOT_PROPERTY);
+
+    // the parser is positioned on the root property, continue parsing from there
+    return deserializer.deserializeToNodeItem(parser, documentUri);
+  }
+
+  @NonNull
+  private IValidationResult validateXml(@NonNull Path target, @NonNull URI documentUri)
+      throws IOException, SAXException {
+    XmlSchemaContentValidator schemaValidator = new XmlSchemaContentValidator(schemaProvider.getXmlSchema());
+    ValidatorHandler validatorHandler = schemaValidator.getSchema().newValidatorHandler();
+    XmlValidationErrorHandler errorHandler = new XmlValidationErrorHandler(documentUri);
+    validatorHandler.setErrorHandler(errorHandler);
+
+    IValidationResult retval;
+    try (InputStream is = FileChannelInputStream.open(target);
+        BufferedInputStream bis = new PooledBufferedInputStream(ObjectUtils.notNull(is))) {
+      Class<?> clazz;
+      try {
+        clazz = loader.detectModelXmlClass(bis);
+      } catch (UnsupportedOperationException ex) {
+        // the content cannot be bound, but the schema findings are still useful
+        IValidationResult schemaResult = schemaValidator.validate(target);
+        if (schemaResult.isPassing()) {
+          throw ex;
+        }
+        return schemaResult;
+      }
+      bis.reset();
+
+      DefaultXmlDeserializer<?> deserializer
+          = new DefaultXmlDeserializer<>(bindingContext, getAssemblyClassBinding(clazz));
+      deserializer.applyConfiguration(loader.getConfiguration());
+
+      INodeItem nodeItem;
+      try {
+        // the parser detects the document's encoding from the bytes
+        nodeItem = deserializer.deserializeToNodeItem(bis, documentUri, validatorHandler);
+      } catch (IOException | RuntimeException ex) {
+        if (errorHandler.isPassing()) {
+          throw ex;
+        }
+        // invalid content may not be bindable, report the schema findings instead
+        return errorHandler;
+      }
+
+      retval = errorHandler;
+      if (retval.isPassing()) {
+        retval = AggregateValidationResult.aggregate(retval, bindingContext.validate(nodeItem));
+      }
+    }
+    return retval;
+  }
+
+  @NonNull
+  private IAssemblyClassBinding getAssemblyClassBinding(@NonNull Class<?> clazz) {
+    IClassBinding classBinding = bindingContext.getClassBinding(clazz);
+    if (!(classBinding instanceof IAssemblyClassBinding)) {
+      throw new IllegalStateException(String.format("Class '%s' is not bound to an assembly", clazz.getName()));
+    }
+    return (IAssemblyClassBinding) classBinding;
+  }
+}
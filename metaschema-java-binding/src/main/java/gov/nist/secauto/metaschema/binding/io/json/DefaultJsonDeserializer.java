@@ -32,7 +32,9 @@ import com.fasterxml.jackson.core.JsonParser;
 import gov.nist.secauto.metaschema.binding.IBindingContext;
 import gov.nist.secauto.metaschema.binding.io.AbstractDeserializer;
 import gov.nist.secauto.metaschema.binding.io.DeserializationFeature;
+import gov.nist.secauto.metaschema.binding.io.IItemReader;
 import gov.nist.secauto.metaschema.binding.model.IAssemblyClassBinding;
+import gov.nist.secauto.metaschema.binding.model.IBoundNamedModelInstance;
 import gov.nist.secauto.metaschema.binding.model.RootAssemblyDefinition;
 import gov.nist.secauto.metaschema.model.common.configuration.IConfiguration;
 import gov.nist.secauto.metaschema.model.common.metapath.item.DefaultNodeItemFactory;
@@ -40,8 +42,10 @@ import gov.nist.secauto.metaschema.model.common.metapath.item.INodeItem;
 import gov.nist.secauto.metaschema.model.common.util.ObjectUtils;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.Reader;
 import java.net.URI;
+import java.util.concurrent.ForkJoinPool;
 
 import edu.umd.cs.findbugs.annotations.NonNull;
 
@@ -80,36 +84,120 @@ public class DefaultJsonDeserializer<CLASS>
     return ObjectUtils.notNull(getJsonFactory().createParser(reader));
   }
 
-  @SuppressWarnings("null")
+  @NonNull
+  protected JsonParser newJsonParser(@NonNull InputStream is) throws IOException {
+    return ObjectUtils.notNull(getJsonFactory().createParser(is));
+  }
+
   @Override
   protected INodeItem deserializeToNodeItemInternal(@NonNull Reader reader, @NonNull URI documentUri)
       throws IOException {
-    INodeItem retval;
     try (JsonParser parser = newJsonParser(reader)) {
-      DefaultJsonParsingContext parsingContext = new DefaultJsonParsingContext(parser, new DefaultJsonProblemHandler());
-      IAssemblyClassBinding classBinding = getClassBinding();
-      IConfiguration<DeserializationFeature<?>> configuration = getConfiguration();
-
-      if (classBinding.isRoot()
-          && configuration.isFeatureEnabled(DeserializationFeature.DESERIALIZE_JSON_ROOT_PROPERTY)) {
-
-        RootAssemblyDefinition root = new RootAssemblyDefinition(classBinding);
-        // now parse the root property
-        @SuppressWarnings("unchecked") CLASS value = ObjectUtils.requireNonNull((CLASS) root.readRoot(parsingContext));
-
-        // // we should be at the end object
-        // JsonUtil.assertCurrent(parser, JsonToken.END_OBJECT);
-        //
-        // // advance past the end object
-        // JsonToken end = parser.nextToken();
-
-        retval = DefaultNodeItemFactory.instance().newDocumentNodeItem(root, value, documentUri);
-      } else {
-        @SuppressWarnings("unchecked") CLASS value
-            = ObjectUtils.requireNonNull((CLASS) classBinding.readObject(parsingContext));
-        retval = DefaultNodeItemFactory.instance().newAssemblyNodeItem(classBinding, value, documentUri);
-      }
-      return retval;
+      return deserializeToNodeItemInternal(parser, documentUri);
+    }
+  }
+
+  @Override
+  protected INodeItem deserializeToNodeItemInternal(@NonNull InputStream is, @NonNull URI documentUri)
+      throws IOException {
+    // the parser decodes the bytes directly, detecting the encoding
+    try (JsonParser parser = newJsonParser(is)) {
+      return deserializeToNodeItemInternal(parser, documentUri);
+    }
+  }
+
+  /**
+   * Read data from the provided {@link JsonParser} into a node item instance.
+   * <p>
+   * This allows content that has already been tokenized, such as content replayed from a
+   * {@link com.fasterxml.jackson.databind.util.TokenBuffer}, to be bound without parsing it again.
+   * The parser may also be positioned on the root property, such as after the root property has been
+   * read to detect the bound class. The parser is not closed by this method.
+   *
+   * @param parser
+   *          the parser to read tokens from
+   * @param documentUri
+   *          the URI of the document to read from
+   * @return a new node item
+   * @throws IOException
+   *           if an error occurred while reading data from the parser
+   */
+  @NonNull
+  public INodeItem deserializeToNodeItem(@NonNull JsonParser parser, @NonNull URI documentUri) throws IOException {
+    INodeItem nodeItem;
+    try {
+      nodeItem = deserializeToNodeItemInternal(parser, documentUri);
+    } catch (Exception ex) { // NOPMD - this is intentional
+      throw new IOException(ex);
+    }
+
+    if (isValidating()) {
+      validateConstraints(nodeItem);
     }
+    return nodeItem;
+  }
+
+  @SuppressWarnings("null")
+  @NonNull
+  protected INodeItem deserializeToNodeItemInternal(@NonNull JsonParser parser, @NonNull URI documentUri)
+      throws IOException {
+    INodeItem retval;
+    IAssemblyClassBinding classBinding = getClassBinding();
+    IConfiguration<DeserializationFeature<?>> configuration = getConfiguration();
+    DefaultJsonParsingContext parsingContext = new DefaultJsonParsingContext(
+        parser,
+        new DefaultJsonProblemHandler(),
+        configuration.isFeatureEnabled(DeserializationFeature.DESERIALIZE_JSON_PARALLEL_BINDING)
+            ? ForkJoinPool.commonPool()
+            : null);
+
+    if (classBinding.isRoot()
+        && configuration.isFeatureEnabled(DeserializationFeature.DESERIALIZE_JSON_ROOT_PROPERTY)) {
+
+      RootAssemblyDefinition root = new RootAssemblyDefinition(classBinding);
+      // now parse the root property
+      @SuppressWarnings("unchecked") CLASS value = ObjectUtils.requireNonNull((CLASS) root.readRoot(parsingContext));
+
+      // // we should be at the end object
+      // JsonUtil.assertCurrent(parser, JsonToken.END_OBJECT);
+      //
+      // // advance past the end object
+      // JsonToken end = parser.nextToken();
+
+      retval = DefaultNodeItemFactory.instance().newDocumentNodeItem(root, value, documentUri);
+    } else {
+      @SuppressWarnings("unchecked") CLASS value
+          = ObjectUtils.requireNonNull((CLASS) classBinding.readObject(parsingContext));
+      retval = DefaultNodeItemFactory.instance().newAssemblyNodeItem(classBinding, value, documentUri);
+    }
+    return retval;
+  }
+
+  @Override
+  protected IItemReader newItemReader(
+      @NonNull Reader reader,
+      @NonNull URI documentUri,
+      @NonNull IBoundNamedModelInstance instance) throws IOException {
+    return newItemReader(newJsonParser(reader), instance);
+  }
+
+  @Override
+  protected IItemReader newItemReader(
+      @NonNull InputStream is,
+      @NonNull URI documentUri,
+      @NonNull IBoundNamedModelInstance instance) throws IOException {
+    // the parser decodes the bytes directly, detecting the encoding
+    return newItemReader(newJsonParser(is), instance);
+  }
+
+  @NonNull
+  private IItemReader newItemReader(@NonNull JsonParser parser, @NonNull IBoundNamedModelInstance instance) {
+    IAssemblyClassBinding classBinding = getClassBinding();
+    return new JsonItemReader(
+        new DefaultJsonParsingContext(parser, new DefaultJsonProblemHandler()),
+        classBinding,
+        instance,
+        classBinding.isRoot()
+            && getConfiguration().isFeatureEnabled(DeserializationFeature.DESERIALIZE_JSON_ROOT_PROPERTY));
   }
 }
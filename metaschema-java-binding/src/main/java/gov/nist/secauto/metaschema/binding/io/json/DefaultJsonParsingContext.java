@@ -30,7 +30,10 @@ import com.fasterxml.jackson.core.JsonParser;
 
 import gov.nist.secauto.metaschema.binding.io.AbstractParsingContext;
 
+import java.util.concurrent.ForkJoinPool;
+
 import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
 
 public class DefaultJsonParsingContext
     extends AbstractParsingContext<JsonParser, IJsonProblemHandler>
@@ -40,9 +43,36 @@ public class DefaultJsonParsingContext
   // this(parser, new DefaultJsonProblemHandler(), false);
   // }
 
+  @Nullable
+  private final ForkJoinPool bindingPool;
+
   public DefaultJsonParsingContext(
       @NonNull JsonParser parser,
       @NonNull IJsonProblemHandler problemHandler) {
+    this(parser, problemHandler, null);
+  }
+
+  /**
+   * Construct a new parsing context.
+   *
+   * @param parser
+   *          the parser to read tokens from
+   * @param problemHandler
+   *          the handler used to resolve parsing issues
+   * @param bindingPool
+   *          the pool used to bind independent top-level items in parallel, or {@code null} to bind
+   *          all items on the parsing thread
+   */
+  public DefaultJsonParsingContext(
+      @NonNull JsonParser parser,
+      @NonNull IJsonProblemHandler problemHandler,
+      @Nullable ForkJoinPool bindingPool) {
     super(parser, problemHandler);
+    this.bindingPool = bindingPool;
+  }
+
+  @Override
+  public ForkJoinPool getBindingPool() {
+    return bindingPool;
   }
 }
@@ -32,8 +32,10 @@ import com.fasterxml.jackson.core.util.DefaultPrettyPrinter;
 
 import gov.nist.secauto.metaschema.binding.IBindingContext;
 import gov.nist.secauto.metaschema.binding.io.AbstractSerializer;
+import gov.nist.secauto.metaschema.binding.io.IItemWriter;
 import gov.nist.secauto.metaschema.binding.io.SerializationFeature;
 import gov.nist.secauto.metaschema.binding.model.IAssemblyClassBinding;
+import gov.nist.secauto.metaschema.binding.model.IBoundNamedModelInstance;
 import gov.nist.secauto.metaschema.binding.model.RootAssemblyDefinition;
 import gov.nist.secauto.metaschema.model.common.configuration.IMutableConfiguration;
 
@@ -99,4 +101,18 @@ public class DefaultJsonSerializer<CLASS>
     }
   }
 
+  @Override
+  protected <ITEM> IItemWriter<ITEM> newItemWriterInternal(
+      CLASS header,
+      IBoundNamedModelInstance instance,
+      Writer writer) throws IOException {
+    JsonGenerator generator = newJsonGenerator(writer);
+    try {
+      return new JsonItemWriter<>(new DefaultJsonWritingContext(generator), getClassBinding(), instance, header);
+    } catch (IOException | RuntimeException ex) {
+      generator.close();
+      throw ex;
+    }
+  }
+
 }
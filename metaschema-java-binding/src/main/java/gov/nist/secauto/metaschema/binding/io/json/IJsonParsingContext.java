@@ -30,6 +30,18 @@ import com.fasterxml.jackson.core.JsonParser;
 
 import gov.nist.secauto.metaschema.binding.io.IParsingContext;
 
+import java.util.concurrent.ForkJoinPool;
+
+import edu.umd.cs.findbugs.annotations.Nullable;
+
 public interface IJsonParsingContext extends IParsingContext<JsonParser, IJsonProblemHandler> {
-  // no extra methods
+  /**
+   * Get the pool used to bind independent top-level items in parallel.
+   *
+   * @return the pool, or {@code null} if all items are bound on the parsing thread
+   */
+  @Nullable
+  default ForkJoinPool getBindingPool() {
+    return null;
+  }
 }
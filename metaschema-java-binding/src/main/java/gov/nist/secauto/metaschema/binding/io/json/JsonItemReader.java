@@ -0,0 +1,208 @@
+/*
+ * Portions of this software was developed by employees of the National Institute
+ * of Standards and Technology (NIST), an agency of the Federal Government and is
+ * being made available as a public service. Pursuant to title 17 United States
+ * Code Section 105, works of NIST employees are not subject to copyright
+ * protection in the United States. This software may be subject to foreign
+ * copyright. Permission in the United States and in foreign countries, to the
+ * extent that NIST may hold copyright, to use, copy, modify, create derivative
+ * works, and distribute this software and its documentation without fee is hereby
+ * granted on a non-exclusive basis, provided that this notice and disclaimer
+ * of warranty appears in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED 'AS IS' WITHOUT ANY WARRANTY OF ANY KIND, EITHER
+ * EXPRESSED, IMPLIED, OR STATUTORY, INCLUDING, BUT NOT LIMITED TO, ANY WARRANTY
+ * THAT THE SOFTWARE WILL CONFORM TO SPECIFICATIONS, ANY IMPLIED WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE, AND FREEDOM FROM
+ * INFRINGEMENT, AND ANY WARRANTY THAT THE DOCUMENTATION WILL CONFORM TO THE
+ * SOFTWARE, OR ANY WARRANTY THAT THE SOFTWARE WILL BE ERROR FREE.  IN NO EVENT
+ * SHALL NIST BE LIABLE FOR ANY DAMAGES, INCLUDING, BUT NOT LIMITED TO, DIRECT,
+ * INDIRECT, SPECIAL OR CONSEQUENTIAL DAMAGES, ARISING OUT OF, RESULTING FROM,
+ * OR IN ANY WAY CONNECTED WITH THIS SOFTWARE, WHETHER OR NOT BASED UPON WARRANTY,
+ * CONTRACT, TORT, OR OTHERWISE, WHETHER OR NOT INJURY WAS SUSTAINED BY PERSONS OR
+ * PROPERTY OR OTHERWISE, AND WHETHER OR NOT LOSS WAS SUSTAINED FROM, OR AROSE OUT
+ * OF THE RESULTS OF, OR USE OF, THE SOFTWARE OR SERVICES PROVIDED HEREUNDER.
+ */
+
+package gov.nist.secauto.metaschema.binding.io.json;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import gov.nist.secauto.metaschema.binding.io.IItemReader;
+import gov.nist.secauto.metaschema.binding.model.IAssemblyClassBinding;
+import gov.nist.secauto.metaschema.binding.model.IBoundNamedModelInstance;
+import gov.nist.secauto.metaschema.model.common.JsonGroupAsBehavior;
+
+import java.io.IOException;
+import java.util.List;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+
+/**
+ * Reads the items of a model instance on a JSON or YAML document's root object one at a time.
+ * <p>
+ * Other properties of the root object that appear before the selected instance are skipped over
+ * without being bound. Parsing stops after the last item of the selected instance.
+ */
+class JsonItemReader implements IItemReader {
+  private enum State {
+    INITIAL,
+    ARRAY,
+    KEYED_OBJECT,
+    SINGLETON,
+    DONE;
+  }
+
+  @NonNull
+  private final IJsonParsingContext context;
+  @NonNull
+  private final IAssemblyClassBinding classBinding;
+  @NonNull
+  private final IBoundNamedModelInstance instance;
+  private final boolean readRootProperty;
+  @NonNull
+  private State state = State.INITIAL;
+
+  /**
+   * Construct a new item reader.
+   *
+   * @param context
+   *          the JSON parsing context providing the parser to read from
+   * @param classBinding
+   *          the bound class of the document's root object
+   * @param instance
+   *          the model instance on the root object whose items are to be read
+   * @param readRootProperty
+   *          {@code true} if the root object is wrapped in an object containing a root property, or
+   *          {@code false} otherwise
+   */
+  public JsonItemReader(
+      @NonNull IJsonParsingContext context,
+      @NonNull IAssemblyClassBinding classBinding,
+      @NonNull IBoundNamedModelInstance instance,
+      boolean readRootProperty) {
+    this.context = context;
+    this.classBinding = classBinding;
+    this.instance = instance;
+    this.readRootProperty = readRootProperty;
+  }
+
+  @SuppressWarnings("resource") // not owned
+  @Override
+  public List<Object> readNext() throws IOException {
+    if (State.INITIAL.equals(state)) {
+      state = seekInstance();
+    }
+
+    JsonParser parser = context.getReader(); // NOPMD - intentional
+
+    List<Object> retval;
+    switch (state) {
+    case ARRAY:
+      if (JsonToken.END_ARRAY.equals(parser.currentToken())) {
+        JsonUtil.assertAndAdvance(parser, JsonToken.END_ARRAY);
+        state = State.DONE;
+        retval = null;
+      } else {
+        retval = instance.readItem(null, false, context);
+      }
+      break;
+    case KEYED_OBJECT:
+      if (JsonToken.END_OBJECT.equals(parser.currentToken())) {
+        JsonUtil.assertAndAdvance(parser, JsonToken.END_OBJECT);
+        state = State.DONE;
+        retval = null;
+      } else {
+        // a keyed item will always start with a FIELD_NAME, since this represents the key
+        JsonUtil.assertCurrent(parser, JsonToken.FIELD_NAME);
+        retval = instance.readItem(null, true, context);
+      }
+      break;
+    case SINGLETON:
+      state = State.DONE;
+      retval = instance.readItem(null, false, context);
+      break;
+    case DONE:
+    default:
+      retval = null;
+      break;
+    }
+    return retval;
+  }
+
+  /**
+   * Advance the parser to the value of the selected instance's property on the root object.
+   *
+   * @return the state to use to read the value's items
+   * @throws IOException
+   *           if an error occurred while parsing
+   */
+  @SuppressWarnings("resource") // not owned
+  @NonNull
+  private State seekInstance() throws IOException {
+    JsonParser parser = context.getReader(); // NOPMD - intentional
+
+    if (parser.currentToken() == null) {
+      parser.nextToken();
+    }
+
+    if (readRootProperty) {
+      JsonUtil.assertAndAdvance(parser, JsonToken.START_OBJECT);
+
+      String rootFieldName = classBinding.getRootJsonName();
+      while (JsonToken.FIELD_NAME.equals(parser.currentToken())
+          && !parser.currentName().equals(rootFieldName)) {
+        JsonUtil.skipNextValue(parser);
+      }
+
+      if (!JsonToken.FIELD_NAME.equals(parser.currentToken())) {
+        throw new IOException(String.format("Failed to find root field '%s'.", rootFieldName));
+      }
+      JsonUtil.assertAndAdvance(parser, JsonToken.FIELD_NAME);
+    }
+
+    // advance past the root object's START_OBJECT to the first property
+    JsonUtil.assertAndAdvance(parser, JsonToken.START_OBJECT);
+
+    String jsonName = instance.getJsonName();
+    while (JsonToken.FIELD_NAME.equals(parser.currentToken())) {
+      if (parser.currentName().equals(jsonName)) {
+        // advance past the property name to the value
+        JsonUtil.assertAndAdvance(parser, JsonToken.FIELD_NAME);
+        return startValue(parser);
+      }
+      JsonUtil.skipNextValue(parser);
+    }
+    // the property was not found
+    return State.DONE;
+  }
+
+  @NonNull
+  private State startValue(@NonNull JsonParser parser) throws IOException {
+    JsonToken token = parser.currentToken();
+    JsonGroupAsBehavior behavior = instance.getJsonGroupAsBehavior();
+
+    State retval;
+    if (JsonToken.VALUE_NULL.equals(token)) {
+      JsonUtil.assertAndAdvance(parser, JsonToken.VALUE_NULL);
+      retval = State.DONE;
+    } else if (JsonGroupAsBehavior.KEYED.equals(behavior)) {
+      // a map value is always wrapped in a START_OBJECT, since fields are used for the keys
+      JsonUtil.assertAndAdvance(parser, JsonToken.START_OBJECT);
+      retval = State.KEYED_OBJECT;
+    } else if (JsonToken.START_ARRAY.equals(token) && !JsonGroupAsBehavior.NONE.equals(behavior)) {
+      JsonUtil.assertAndAdvance(parser, JsonToken.START_ARRAY);
+      retval = State.ARRAY;
+    } else {
+      retval = State.SINGLETON;
+    }
+    return retval;
+  }
+
+  @SuppressWarnings("resource") // owned by this reader
+  @Override
+  public void close() throws IOException {
+    context.getReader().close();
+  }
+}
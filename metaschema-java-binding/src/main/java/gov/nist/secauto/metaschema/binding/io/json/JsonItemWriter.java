@@ -0,0 +1,183 @@
+/*
+ * Portions of this software was developed by employees of the National Institute
+ * of Standards and Technology (NIST), an agency of the Federal Government and is
+ * being made available as a public service. Pursuant to title 17 United States
+ * Code Section 105, works of NIST employees are not subject to copyright
+ * protection in the United States. This software may be subject to foreign
+ * copyright. Permission in the United States and in foreign countries, to the
+ * extent that NIST may hold copyright, to use, copy, modify, create derivative
+ * works, and distribute this software and its documentation without fee is hereby
+ * granted on a non-exclusive basis, provided that this notice and disclaimer
+ * of warranty appears in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED 'AS IS' WITHOUT ANY WARRANTY OF ANY KIND, EITHER
+ * EXPRESSED, IMPLIED, OR STATUTORY, INCLUDING, BUT NOT LIMITED TO, ANY WARRANTY
+ * THAT THE SOFTWARE WILL CONFORM TO SPECIFICATIONS, ANY IMPLIED WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE, AND FREEDOM FROM
+ * INFRINGEMENT, AND ANY WARRANTY THAT THE DOCUMENTATION WILL CONFORM TO THE
+ * SOFTWARE, OR ANY WARRANTY THAT THE SOFTWARE WILL BE ERROR FREE.  IN NO EVENT
+ * SHALL NIST BE LIABLE FOR ANY DAMAGES, INCLUDING, BUT NOT LIMITED TO, DIRECT,
+ * INDIRECT, SPECIAL OR CONSEQUENTIAL DAMAGES, ARISING OUT OF, RESULTING FROM,
+ * OR IN ANY WAY CONNECTED WITH THIS SOFTWARE, WHETHER OR NOT BASED UPON WARRANTY,
+ * CONTRACT, TORT, OR OTHERWISE, WHETHER OR NOT INJURY WAS SUSTAINED BY PERSONS OR
+ * PROPERTY OR OTHERWISE, AND WHETHER OR NOT LOSS WAS SUSTAINED FROM, OR AROSE OUT
+ * OF THE RESULTS OF, OR USE OF, THE SOFTWARE OR SERVICES PROVIDED HEREUNDER.
+ */
+
+package gov.nist.secauto.metaschema.binding.io.json;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import gov.nist.secauto.metaschema.binding.io.IItemWriter;
+import gov.nist.secauto.metaschema.binding.model.IAssemblyClassBinding;
+import gov.nist.secauto.metaschema.binding.model.IBoundNamedInstance;
+import gov.nist.secauto.metaschema.binding.model.IBoundNamedModelInstance;
+import gov.nist.secauto.metaschema.model.common.JsonGroupAsBehavior;
+import gov.nist.secauto.metaschema.model.common.util.CollectionUtil;
+
+import java.io.IOException;
+import java.util.Iterator;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
+
+/**
+ * Writes the items of a model instance on a JSON document's root object one at a time.
+ * <p>
+ * The properties of the root object are taken from a header object, with the exception of the
+ * selected instance, whose value is written from the items provided to {@link #write(Object)}.
+ * <p>
+ * To support the {@link JsonGroupAsBehavior#SINGLETON_OR_LIST} behavior, the first item is held
+ * until either a second item is written, which starts the array, or the writer is closed, in which
+ * case the item is written as a singleton.
+ *
+ * @param <ITEM>
+ *          the Java type of the items
+ */
+class JsonItemWriter<ITEM> implements IItemWriter<ITEM> {
+  @NonNull
+  private final IJsonWritingContext context;
+  @NonNull
+  private final IBoundNamedModelInstance instance;
+  @NonNull
+  private final Object header;
+  @NonNull
+  private final Iterator<? extends IBoundNamedInstance> remainingProperties;
+  private boolean started;
+  private boolean closed;
+  @Nullable
+  private ITEM pending;
+
+  /**
+   * Construct a new item writer, writing the start of the document and the properties of the root
+   * object that precede the selected instance.
+   *
+   * @param context
+   *          the JSON writing context providing the generator to write to
+   * @param classBinding
+   *          the bound class of the document's root object
+   * @param instance
+   *          the model instance on the root object whose items are to be written
+   * @param header
+   *          the root object providing the values of the other properties
+   * @throws IOException
+   *           if an error occurred while writing the start of the document
+   */
+  @SuppressWarnings("resource") // not owned
+  public JsonItemWriter(
+      @NonNull IJsonWritingContext context,
+      @NonNull IAssemblyClassBinding classBinding,
+      @NonNull IBoundNamedModelInstance instance,
+      @NonNull Object header) throws IOException {
+    this.context = context;
+    this.instance = instance;
+    this.header = header;
+
+    JsonGenerator writer = context.getWriter(); // NOPMD - intentional
+    writer.writeStartObject();
+    writer.writeFieldName(classBinding.getRootJsonName());
+    writer.writeStartObject();
+
+    Iterator<? extends IBoundNamedInstance> properties = classBinding.getNamedInstances(null).values().iterator();
+    while (properties.hasNext()) {
+      IBoundNamedInstance property = properties.next();
+      if (instance.equals(property)) {
+        break;
+      }
+      property.write(header, context);
+    }
+    this.remainingProperties = properties;
+  }
+
+  @SuppressWarnings("resource") // not owned
+  @Override
+  public void write(ITEM item) throws IOException {
+    if (closed) {
+      throw new IllegalStateException("The writer is closed.");
+    }
+
+    JsonGroupAsBehavior behavior = instance.getJsonGroupAsBehavior();
+    if (!started && JsonGroupAsBehavior.SINGLETON_OR_LIST.equals(behavior) && pending == null) {
+      // wait to see if there is a second item
+      pending = item;
+    } else {
+      if (!started) {
+        JsonGenerator writer = context.getWriter(); // NOPMD - intentional
+        writer.writeFieldName(instance.getJsonName());
+        if (JsonGroupAsBehavior.KEYED.equals(behavior)) {
+          writer.writeStartObject();
+        } else {
+          writer.writeStartArray();
+        }
+        started = true;
+
+        ITEM first = pending;
+        if (first != null) {
+          pending = null;
+          writeItem(first);
+        }
+      }
+      writeItem(item);
+    }
+  }
+
+  private void writeItem(@NonNull ITEM item) throws IOException {
+    // keyed items use the key as the property name, instead of being wrapped in an object
+    boolean writeObjectWrapper = !JsonGroupAsBehavior.KEYED.equals(instance.getJsonGroupAsBehavior());
+    instance.getDataTypeHandler().writeItems(CollectionUtil.singleton(item), writeObjectWrapper, context);
+  }
+
+  @Override
+  public void close() throws IOException {
+    if (!closed) {
+      closed = true;
+
+      JsonGenerator writer = context.getWriter(); // NOPMD - intentional
+      try {
+        ITEM singleton = pending;
+        if (singleton != null) {
+          writer.writeFieldName(instance.getJsonName());
+          writeItem(singleton);
+          pending = null;
+        } else if (started) {
+          if (JsonGroupAsBehavior.KEYED.equals(instance.getJsonGroupAsBehavior())) {
+            writer.writeEndObject();
+          } else {
+            writer.writeEndArray();
+          }
+        }
+
+        while (remainingProperties.hasNext()) {
+          remainingProperties.next().write(header, context);
+        }
+
+        // end of the root object
+        writer.writeEndObject();
+        // end of the document object
+        writer.writeEndObject();
+      } finally {
+        writer.close();
+      }
+    }
+  }
+}
@@ -0,0 +1,168 @@
+/*
+ * Portions of this software was developed by employees of the National Institute
+ * of Standards and Technology (NIST), an agency of the Federal Government and is
+ * being made available as a public service. Pursuant to title 17 United States
+ * Code Section 105, works of NIST employees are not subject to copyright
+ * protection in the United States. This software may be subject to foreign
+ * copyright. Permission in the United States and in foreign countries, to the
+ * extent that NIST may hold copyright, to use, copy, modify, create derivative
+ * works, and distribute this software and its documentation without fee is hereby
+ * granted on a non-exclusive basis, provided that this notice and disclaimer
+ * of warranty appears in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED 'AS IS' WITHOUT ANY WARRANTY OF ANY KIND, EITHER
+ * EXPRESSED, IMPLIED, OR STATUTORY, INCLUDING, BUT NOT LIMITED TO, ANY WARRANTY
+ * THAT THE SOFTWARE WILL CONFORM TO SPECIFICATIONS, ANY IMPLIED WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE, AND FREEDOM FROM
+ * INFRINGEMENT, AND ANY WARRANTY THAT THE DOCUMENTATION WILL CONFORM TO THE
+ * SOFTWARE, OR ANY WARRANTY THAT THE SOFTWARE WILL BE ERROR FREE.  IN NO EVENT
+ * SHALL NIST BE LIABLE FOR ANY DAMAGES, INCLUDING, BUT NOT LIMITED TO, DIRECT,
+ * INDIRECT, SPECIAL OR CONSEQUENTIAL DAMAGES, ARISING OUT OF, RESULTING FROM,
+ * OR IN ANY WAY CONNECTED WITH THIS SOFTWARE, WHETHER OR NOT BASED UPON WARRANTY,
+ * CONTRACT, TORT, OR OTHERWISE, WHETHER OR NOT INJURY WAS SUSTAINED BY PERSONS OR
+ * PROPERTY OR OTHERWISE, AND WHETHER OR NOT LOSS WAS SUSTAINED FROM, OR AROSE OUT
+ * OF THE RESULTS OF, OR USE OF, THE SOFTWARE OR SERVICES PROVIDED HEREUNDER.
+ */
+
+package gov.nist.secauto.metaschema.binding.io.json;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.util.JsonParserDelegate;
+
+import org.json.JSONArray;
+import org.json.JSONObject;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
+
+/**
+ * A parser that builds an org.json object from the tokens as they are read by the consumer of this
+ * parser.
+ * <p>
+ * This allows a single parse of JSON content to be bound and validated using a JSON schema, without
+ * buffering the tokens. Children skipped by the consumer are still read and recorded.
+ */
+public class JsonObjectRecordingParser
+    extends JsonParserDelegate {
+  @NonNull
+  private final Deque<Object> containers = new ArrayDeque<>();
+  @Nullable
+  private String fieldName;
+  @Nullable
+  private JSONObject root;
+
+  /**
+   * Construct a new recording parser.
+   *
+   * @param parser
+   *          the parser to read tokens from
+   */
+  public JsonObjectRecordingParser(@NonNull JsonParser parser) {
+    super(parser);
+  }
+
+  /**
+   * Get the JSON object recorded from the tokens read so far.
+   *
+   * @return the root JSON object, or {@code null} if the content does not start with an object
+   */
+  @Nullable
+  public JSONObject getRecordedObject() {
+    return root;
+  }
+
+  /**
+   * Read and record any remaining tokens.
+   *
+   * @return the root JSON object, or {@code null} if the content does not start with an object
+   * @throws IOException
+   *           if an error occurred while reading the tokens
+   */
+  @Nullable
+  public JSONObject recordRemaining() throws IOException {
+    while (nextToken() != null) { // NOPMD - intentional
+      // read the token
+    }
+    return root;
+  }
+
+  @Override
+  public JsonToken nextToken() throws IOException {
+    JsonToken retval = super.nextToken();
+    if (retval != null) {
+      record(retval);
+    }
+    return retval;
+  }
+
+  @Override
+  public JsonToken nextValue() throws IOException {
+    JsonToken retval = nextToken();
+    if (JsonToken.FIELD_NAME.equals(retval)) {
+      retval = nextToken();
+    }
+    return retval;
+  }
+
+  @Override
+  public JsonParser skipChildren() throws IOException {
+    // read the children using nextToken() so they are recorded
+    JsonToken token = currentToken();
+    if (token != null && token.isStructStart()) {
+      int open = 1;
+      while (open > 0 && (token = nextToken()) != null) {
+        if (token.isStructStart()) {
+          open++;
+        } else if (token.isStructEnd()) {
+          open--;
+        }
+      }
+    }
+    return this;
+  }
+
+  private void record(@NonNull JsonToken token) throws IOException {
+    switch (token) {
+    case START_OBJECT:
+      startContainer(new JSONObject());
+      break;
+    case START_ARRAY:
+      startContainer(new JSONArray());
+      break;
+    case END_OBJECT:
+    case END_ARRAY:
+      containers.pop();
+      break;
+    case FIELD_NAME:
+      fieldName = getCurrentName();
+      break;
+    default:
+      add(JsonUtil.toJsonScalarValue(this));
+      break;
+    }
+  }
+
+  private void startContainer(@NonNull Object container) {
+    add(container);
+    containers.push(container);
+  }
+
+  private void add(@NonNull Object value) {
+    Object container = containers.peek();
+    if (container == null) {
+      // only the first root object is recorded
+      if (root == null && value instanceof JSONObject) {
+        root = (JSONObject) value;
+      }
+    } else if (container instanceof JSONObject) {
+      ((JSONObject) container).put(fieldName, value);
+    } else {
+      ((JSONArray) container).put(value);
+    }
+  }
+}
@@ -37,6 +37,7 @@ import gov.nist.secauto.metaschema.model.common.util.ObjectUtils;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.json.JSONObject;
 
 import java.io.IOException;
 import java.util.Arrays;
@@ -222,4 +223,42 @@ public final class JsonUtil {
     return ObjectUtils.notNull(builder.toString());
   }
 
+  /**
+   * Get the org.json value of the scalar value at the parser's current token.
+   *
+   * @param parser
+   *          the JSON parser, whose current token must be a scalar value
+   * @return the value
+   * @throws IOException
+   *           if the current token is not a scalar value
+   */
+  @NonNull
+  static Object toJsonScalarValue(@NonNull JsonParser parser) throws IOException {
+    JsonToken token = ObjectUtils.requireNonNull(parser.currentToken());
+
+    Object retval;
+    switch (token) {
+    case VALUE_STRING:
+      retval = parser.getText();
+      break;
+    case VALUE_NUMBER_INT:
+      retval = parser.getNumberValue();
+      break;
+    case VALUE_NUMBER_FLOAT:
+      retval = parser.getDecimalValue();
+      break;
+    case VALUE_TRUE:
+      retval = Boolean.TRUE;
+      break;
+    case VALUE_FALSE:
+      retval = Boolean.FALSE;
+      break;
+    case VALUE_NULL:
+      retval = JSONObject.NULL;
+      break;
+    default:
+      throw new IOException(String.format("Unexpected %s", toString(parser)));
+    }
+    return ObjectUtils.notNull(retval);
+  }
 }
@@ -27,14 +27,21 @@
 package gov.nist.secauto.metaschema.binding.io.xml;
 
 import javax.xml.stream.EventFilter;
+import javax.xml.stream.StreamFilter;
 import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamReader;
 import javax.xml.stream.events.XMLEvent;
 
-public class CommentFilter implements EventFilter {
+public class CommentFilter implements EventFilter, StreamFilter {
 
   @Override
   public boolean accept(XMLEvent event) {
     return event.getEventType() != XMLStreamConstants.COMMENT;
   }
 
+  @Override
+  public boolean accept(XMLStreamReader reader) {
+    return reader.getEventType() != XMLStreamConstants.COMMENT;
+  }
+
 }
@@ -26,27 +26,27 @@
 
 package gov.nist.secauto.metaschema.binding.io.xml;
 
-import com.ctc.wstx.stax.WstxInputFactory;
-
 import gov.nist.secauto.metaschema.binding.IBindingContext;
 import gov.nist.secauto.metaschema.binding.io.AbstractDeserializer;
+import gov.nist.secauto.metaschema.binding.io.IItemReader;
 import gov.nist.secauto.metaschema.binding.model.IAssemblyClassBinding;
+import gov.nist.secauto.metaschema.binding.model.IBoundNamedModelInstance;
 import gov.nist.secauto.metaschema.binding.model.RootAssemblyDefinition;
 import gov.nist.secauto.metaschema.model.common.metapath.item.DefaultNodeItemFactory;
 import gov.nist.secauto.metaschema.model.common.metapath.item.IDocumentNodeItem;
 import gov.nist.secauto.metaschema.model.common.util.AutoCloser;
 import gov.nist.secauto.metaschema.model.common.util.ObjectUtils;
 
-import org.codehaus.stax2.XMLEventReader2;
 import org.codehaus.stax2.XMLInputFactory2;
+import org.codehaus.stax2.XMLStreamReader2;
+import org.xml.sax.ContentHandler;
+import org.xml.sax.SAXException;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.Reader;
 import java.net.URI;
 
-import javax.xml.stream.EventFilter;
-import javax.xml.stream.XMLEventReader;
-import javax.xml.stream.XMLInputFactory;
 import javax.xml.stream.XMLStreamException;
 
 import edu.umd.cs.findbugs.annotations.NonNull;
@@ -64,15 +64,20 @@ public class DefaultXmlDeserializer<CLASS>
   // return Format.XML;
   // }
 
+  /**
+   * Get the XML input factory used by this deserializer, which may be customized.
+   * <p>
+   * The first call creates a factory for this deserializer using {@link #newXMLInputFactory()}.
+   * Until then, or a factory is provided using {@link #setXMLInputFactory(XMLInputFactory2)}, a
+   * shared factory is used.
+   *
+   * @return the factory
+   */
   @NonNull
   protected XMLInputFactory2 getXMLInputFactory() {
     synchronized (this) {
       if (xmlInputFactory == null) {
-        xmlInputFactory = (XMLInputFactory2) XMLInputFactory.newInstance();
-        assert xmlInputFactory instanceof WstxInputFactory;
-        xmlInputFactory.configureForXmlConformance();
-        xmlInputFactory.setProperty(XMLInputFactory.IS_COALESCING, false);
-        // xmlInputFactory.configureForSpeed();
+        xmlInputFactory = newXMLInputFactory();
       }
       return ObjectUtils.notNull(xmlInputFactory);
     }
@@ -84,26 +89,215 @@ public class DefaultXmlDeserializer<CLASS>
     }
   }
 
+  /**
+   * Create a new XML input factory for use by this deserializer.
+   * <p>
+   * Extending classes can override this method to provide a differently configured factory.
+   *
+   * @return the new factory
+   */
+  @NonNull
+  protected XMLInputFactory2 newXMLInputFactory() {
+    return XmlFactoryFactory.newXMLInputFactory();
+  }
+
+  /**
+   * Get the XML input factory used to create the readers of this deserializer.
+   * <p>
+   * Unlike {@link #getXMLInputFactory()}, this does not create a factory for this deserializer. If
+   * the factory has not been customized, the {@link XmlFactoryFactory#inputFactoryInstance() shared
+   * factory} is returned.
+   *
+   * @return the factory
+   */
+  @NonNull
+  public XMLInputFactory2 getReaderFactory() {
+    synchronized (this) {
+      // avoid creating a factory if this deserializer has not been customized
+      return xmlInputFactory == null ? XmlFactoryFactory.inputFactoryInstance() : xmlInputFactory;
+    }
+  }
+
+  /**
+   * Create a new cursor-based reader for the provided stream, which skips over any comments.
+   *
+   * @param is
+   *          the stream to read from
+   * @return the new reader
+   * @throws XMLStreamException
+   *           if an error occurred while creating the reader
+   */
   @NonNull
-  protected XMLEventReader2 newXMLEventReader2(@NonNull Reader reader) throws XMLStreamException {
-    XMLEventReader eventReader = getXMLInputFactory().createXMLEventReader(reader);
-    EventFilter filter = new CommentFilter();
-    return ObjectUtils.notNull((XMLEventReader2) getXMLInputFactory().createFilteredReader(eventReader, filter));
+  protected XMLStreamReader2 newXMLStreamReader2(@NonNull InputStream is) throws XMLStreamException {
+    XMLInputFactory2 factory = getReaderFactory();
+    return ObjectUtils.notNull(
+        (XMLStreamReader2) factory.createFilteredReader(factory.createXMLStreamReader(is), new CommentFilter()));
+  }
+
+  /**
+   * Create a new cursor-based reader for the provided reader, which skips over any comments.
+   *
+   * @param reader
+   *          the reader to read from
+   * @return the new reader
+   * @throws XMLStreamException
+   *           if an error occurred while creating the reader
+   */
+  @NonNull
+  protected XMLStreamReader2 newXMLStreamReader2(@NonNull Reader reader) throws XMLStreamException {
+    XMLInputFactory2 factory = getReaderFactory();
+    return ObjectUtils.notNull(
+        (XMLStreamReader2) factory.createFilteredReader(factory.createXMLStreamReader(reader), new CommentFilter()));
+  }
+
+  @Override
+  protected IDocumentNodeItem deserializeToNodeItemInternal(InputStream is, URI documentUri) throws IOException {
+    // the parser decodes the bytes directly, using the encoding declared by the document
+    try (AutoCloser<XMLStreamReader2, XMLStreamException> closer
+        = new AutoCloser<>(newXMLStreamReader2(is), reader -> reader.close())) {
+      return parseXmlInternal(closer.getResource(), documentUri);
+    } catch (XMLStreamException ex) {
+      throw new IOException("Unable to create a new XMLStreamReader2 instance.", ex);
+    }
   }
 
   @Override
   protected IDocumentNodeItem deserializeToNodeItemInternal(Reader reader, URI documentUri) throws IOException {
     // doesn't auto close the underlying reader
-    try (AutoCloser<XMLEventReader2, XMLStreamException> closer
-        = new AutoCloser<>(newXMLEventReader2(reader), event -> event.close())) {
+    try (AutoCloser<XMLStreamReader2, XMLStreamException> closer
+        = new AutoCloser<>(newXMLStreamReader2(reader), streamReader -> streamReader.close())) {
       return parseXmlInternal(closer.getResource(), documentUri);
     } catch (XMLStreamException ex) {
-      throw new IOException("Unable to create a new XMLEventReader2 instance.", ex);
+      throw new IOException("Unable to create a new XMLStreamReader2 instance.", ex);
+    }
+  }
+
+  /**
+   * Read data from the provided {@link XMLStreamReader2} into a node item instance.
+   * <p>
+   * This allows content that has already been partially read, such as when the root element has
+   * been inspected to detect the bound class, to be bound without parsing it again. Events preceding
+   * the root element may have already been consumed, but the reader must not have advanced past the
+   * root element's start element. The reader is not closed by this method.
+   *
+   * @param reader
+   *          the stream reader to read from
+   * @param documentUri
+   *          the URI of the document to read from
+   * @return a new node item
+   * @throws IOException
+   *           if an error occurred while reading data from the reader
+   */
+  @NonNull
+  public IDocumentNodeItem deserializeToNodeItem(@NonNull XMLStreamReader2 reader, @NonNull URI documentUri)
+      throws IOException {
+    IDocumentNodeItem nodeItem;
+    try {
+      nodeItem = parseXmlInternal(reader, documentUri);
+    } catch (Exception ex) { // NOPMD - this is intentional
+      throw new IOException(ex);
+    }
+
+    if (isValidating()) {
+      validateConstraints(nodeItem);
     }
+    return nodeItem;
   }
 
+  /**
+   * Read data from the {@link Reader} into a node item instance, while forwarding each parsed event
+   * to the provided SAX content handler.
+   * <p>
+   * This allows a consumer of SAX events, such as a
+   * {@link javax.xml.validation.ValidatorHandler}, to observe the same parse that is used to bind
+   * the content. Any content following the root element is also read, so that the content handler
+   * receives the complete document.
+   *
+   * @param reader
+   *          the reader to read from
+   * @param documentUri
+   *          the URI of the document to read from
+   * @param contentHandler
+   *          the SAX content handler to forward parsed events to
+   * @return a new node item
+   * @throws IOException
+   *           if an error occurred while reading data from the stream or if the content handler
+   *           raised an exception
+   */
   @NonNull
-  protected IDocumentNodeItem parseXmlInternal(@NonNull XMLEventReader2 reader, @NonNull URI documentUri)
+  public IDocumentNodeItem deserializeToNodeItem(
+      @NonNull Reader reader,
+      @NonNull URI documentUri,
+      @NonNull ContentHandler contentHandler) throws IOException {
+    // doesn't auto close the underlying reader
+    try (AutoCloser<XMLStreamReader2, XMLStreamException> closer
+        = new AutoCloser<>(newXMLStreamReader2(reader), streamReader -> streamReader.close())) {
+      return deserializeToNodeItem(closer.getResource(), documentUri, contentHandler);
+    } catch (XMLStreamException ex) {
+      throw new IOException(ex);
+    }
+  }
+
+  /**
+   * Read data from the {@link InputStream} into a node item instance, while forwarding each parsed
+   * event to the provided SAX content handler.
+   * <p>
+   * Unlike {@link #deserializeToNodeItem(Reader, URI, ContentHandler)}, the parser decodes the bytes
+   * directly, using the byte order mark or encoding declared by the document.
+   *
+   * @param is
+   *          the input stream to read from
+   * @param documentUri
+   *          the URI of the document to read from
+   * @param contentHandler
+   *          the SAX content handler to forward parsed events to
+   * @return a new node item
+   * @throws IOException
+   *           if an error occurred while reading data from the stream or if the content handler
+   *           raised an exception
+   */
+  @NonNull
+  public IDocumentNodeItem deserializeToNodeItem(
+      @NonNull InputStream is,
+      @NonNull URI documentUri,
+      @NonNull ContentHandler contentHandler) throws IOException {
+    // doesn't auto close the underlying stream
+    try (AutoCloser<XMLStreamReader2, XMLStreamException> closer
+        = new AutoCloser<>(newXMLStreamReader2(is), streamReader -> streamReader.close())) {
+      return deserializeToNodeItem(closer.getResource(), documentUri, contentHandler);
+    } catch (XMLStreamException ex) {
+      throw new IOException(ex);
+    }
+  }
+
+  @NonNull
+  private IDocumentNodeItem deserializeToNodeItem(
+      @NonNull XMLStreamReader2 reader,
+      @NonNull URI documentUri,
+      @NonNull ContentHandler contentHandler) throws IOException, XMLStreamException {
+    SaxForwardingStreamReader forwardingReader = new SaxForwardingStreamReader(reader, contentHandler);
+    IDocumentNodeItem nodeItem = parseXmlInternal(forwardingReader, documentUri);
+
+    // forward the remainder of the document
+    while (forwardingReader.hasNext()) {
+      forwardingReader.next();
+    }
+
+    SAXException handlerException = forwardingReader.getException();
+    if (handlerException != null) {
+      throw new IOException(
+          String.format("Unexpected failure while handling the content of '%s'", documentUri),
+          handlerException);
+    }
+
+    if (isValidating()) {
+      validateConstraints(nodeItem);
+    }
+    return nodeItem;
+  }
+
+  @NonNull
+  protected IDocumentNodeItem parseXmlInternal(@NonNull XMLStreamReader2 reader, @NonNull URI documentUri)
       throws IOException, XMLStreamException {
 
     IAssemblyClassBinding classBinding = getClassBinding();
@@ -118,4 +312,39 @@ public class DefaultXmlDeserializer<CLASS>
 
     return DefaultNodeItemFactory.instance().newDocumentNodeItem(root, root.readRoot(parsingContext), documentUri);
   }
+
+  @Override
+  protected IItemReader newItemReader(
+      @NonNull Reader reader,
+      @NonNull URI documentUri,
+      @NonNull IBoundNamedModelInstance instance) throws IOException {
+    XMLStreamReader2 streamReader;
+    try {
+      streamReader = newXMLStreamReader2(reader);
+    } catch (XMLStreamException ex) {
+      throw new IOException("Unable to create a new XMLStreamReader2 instance.", ex);
+    }
+    return new XmlItemReader(
+        new DefaultXmlParsingContext(streamReader, new DefaultXmlProblemHandler()),
+        getClassBinding(),
+        instance);
+  }
+
+  @Override
+  protected IItemReader newItemReader(
+      @NonNull InputStream is,
+      @NonNull URI documentUri,
+      @NonNull IBoundNamedModelInstance instance) throws IOException {
+    // the parser decodes the bytes directly, using the encoding declared by the document
+    XMLStreamReader2 streamReader;
+    try {
+      streamReader = newXMLStreamReader2(is);
+    } catch (XMLStreamException ex) {
+      throw new IOException("Unable to create a new XMLStreamReader2 instance.", ex);
+    }
+    return new XmlItemReader(
+        new DefaultXmlParsingContext(streamReader, new DefaultXmlProblemHandler()),
+        getClassBinding(),
+        instance);
+  }
 }
@@ -28,20 +28,16 @@ package gov.nist.secauto.metaschema.binding.io.xml;
 
 import gov.nist.secauto.metaschema.binding.io.AbstractParsingContext;
 
-import org.codehaus.stax2.XMLEventReader2;
+import org.codehaus.stax2.XMLStreamReader2;
 
 import edu.umd.cs.findbugs.annotations.NonNull;
 
 public class DefaultXmlParsingContext
-    extends AbstractParsingContext<XMLEventReader2, IXmlProblemHandler>
+    extends AbstractParsingContext<XMLStreamReader2, IXmlProblemHandler>
     implements IXmlParsingContext {
 
-  // public DefaultXmlParsingContext(XMLEventReader2 eventReader) {
-  // this(eventReader, new DefaultXmlProblemHandler());
-  // }
-
-  public DefaultXmlParsingContext(@NonNull XMLEventReader2 eventReader,
+  public DefaultXmlParsingContext(@NonNull XMLStreamReader2 reader,
       @NonNull IXmlProblemHandler problemHandler) {
-    super(eventReader, problemHandler);
+    super(reader, problemHandler);
   }
 }
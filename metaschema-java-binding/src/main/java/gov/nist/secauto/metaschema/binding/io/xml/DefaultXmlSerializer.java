@@ -26,12 +26,11 @@
 
 package gov.nist.secauto.metaschema.binding.io.xml;
 
-import com.ctc.wstx.api.WstxOutputProperties;
-import com.ctc.wstx.stax.WstxOutputFactory;
-
 import gov.nist.secauto.metaschema.binding.IBindingContext;
 import gov.nist.secauto.metaschema.binding.io.AbstractSerializer;
+import gov.nist.secauto.metaschema.binding.io.IItemWriter;
 import gov.nist.secauto.metaschema.binding.model.IAssemblyClassBinding;
+import gov.nist.secauto.metaschema.binding.model.IBoundNamedModelInstance;
 import gov.nist.secauto.metaschema.binding.model.RootAssemblyDefinition;
 import gov.nist.secauto.metaschema.model.common.util.ObjectUtils;
 
@@ -41,7 +40,6 @@ import org.codehaus.stax2.XMLStreamWriter2;
 import java.io.IOException;
 import java.io.Writer;
 
-import javax.xml.stream.XMLOutputFactory;
 import javax.xml.stream.XMLStreamException;
 
 import edu.umd.cs.findbugs.annotations.NonNull;
@@ -54,15 +52,20 @@ public class DefaultXmlSerializer<CLASS>
     super(bindingContext, classBinding);
   }
 
+  /**
+   * Get the XML output factory used by this serializer, which may be customized.
+   * <p>
+   * The first call creates a factory for this serializer using {@link #newXMLOutputFactory()}.
+   * Until then, or a factory is provided using {@link #setXMLOutputFactory(XMLOutputFactory2)}, a
+   * shared factory is used.
+   *
+   * @return the factory
+   */
   @NonNull
   protected XMLOutputFactory2 getXMLOutputFactory() {
     synchronized (this) {
       if (xmlOutputFactory == null) {
-        xmlOutputFactory = (XMLOutputFactory2) XMLOutputFactory.newInstance();
-        assert xmlOutputFactory instanceof WstxOutputFactory;
-        xmlOutputFactory.configureForSpeed();
-        xmlOutputFactory.setProperty(WstxOutputProperties.P_USE_DOUBLE_QUOTES_IN_XML_DECL, true);
-        xmlOutputFactory.setProperty(XMLOutputFactory.IS_REPAIRING_NAMESPACES, true);
+        xmlOutputFactory = newXMLOutputFactory();
       }
       assert xmlOutputFactory != null;
       return xmlOutputFactory;
@@ -75,10 +78,30 @@ public class DefaultXmlSerializer<CLASS>
     }
   }
 
+  /**
+   * Create a new XML output factory for use by this serializer.
+   * <p>
+   * Extending classes can override this method to provide a differently configured factory.
+   *
+   * @return the new factory
+   */
+  @NonNull
+  protected XMLOutputFactory2 newXMLOutputFactory() {
+    return XmlFactoryFactory.newXMLOutputFactory();
+  }
+
+  @NonNull
+  private XMLOutputFactory2 getWriterFactory() {
+    synchronized (this) {
+      // avoid creating a factory if this serializer has not been customized
+      return xmlOutputFactory == null ? XmlFactoryFactory.outputFactoryInstance() : xmlOutputFactory;
+    }
+  }
+
   @NonNull
   protected XMLStreamWriter2 newXMLStreamWriter(@NonNull Writer writer) throws IOException {
     try {
-      return ObjectUtils.notNull((XMLStreamWriter2) getXMLOutputFactory().createXMLStreamWriter(writer));
+      return ObjectUtils.notNull((XMLStreamWriter2) getWriterFactory().createXMLStreamWriter(writer));
       // XMLStreamWriter2 streamWriter = (XMLStreamWriter2)
       // getXMLOutputFactory().createXMLStreamWriter(writer);
       // streamWriter = new IndentingXmlStreamWriter2(streamWriter);
@@ -115,4 +138,22 @@ public class DefaultXmlSerializer<CLASS>
       }
     }
   }
+
+  @Override
+  protected <ITEM> IItemWriter<ITEM> newItemWriterInternal(
+      CLASS header,
+      IBoundNamedModelInstance instance,
+      Writer writer) throws IOException {
+    XMLStreamWriter2 streamWriter = newXMLStreamWriter(writer);
+    try {
+      return new XmlItemWriter<>(new DefaultXmlWritingContext(streamWriter), getClassBinding(), instance, header);
+    } catch (IOException | RuntimeException ex) {
+      try {
+        streamWriter.close();
+      } catch (XMLStreamException closeEx) {
+        ex.addSuppressed(closeEx);
+      }
+      throw ex;
+    }
+  }
 }
@@ -28,8 +28,14 @@ package gov.nist.secauto.metaschema.binding.io.xml;
 
 import gov.nist.secauto.metaschema.binding.io.IParsingContext;
 
-import org.codehaus.stax2.XMLEventReader2;
+import org.codehaus.stax2.XMLStreamReader2;
 
-public interface IXmlParsingContext extends IParsingContext<XMLEventReader2, IXmlProblemHandler> {
+/**
+ * Provides a parsing context that reads XML content using a cursor-based {@link XMLStreamReader2}.
+ * <p>
+ * The reader's current event is treated as the next event to be read, so no event object is
+ * allocated for the nodes read.
+ */
+public interface IXmlParsingContext extends IParsingContext<XMLStreamReader2, IXmlProblemHandler> {
   // no extra methods
 }
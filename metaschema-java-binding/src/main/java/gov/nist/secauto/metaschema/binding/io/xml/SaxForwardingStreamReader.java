@@ -0,0 +1,277 @@
+/*
+ * Portions of this software was developed by employees of the National Institute
+ * of Standards and Technology (NIST), an agency of the Federal Government and is
+ * being made available as a public service. Pursuant to title 17 United States
+ * Code Section 105, works of NIST employees are not subject to copyright
+ * protection in the United States. This software may be subject to foreign
+ * copyright. Permission in the United States and in foreign countries, to the
+ * extent that NIST may hold copyright, to use, copy, modify, create derivative
+ * works, and distribute this software and its documentation without fee is hereby
+ * granted on a non-exclusive basis, provided that this notice and disclaimer
+ * of warranty appears in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED 'AS IS' WITHOUT ANY WARRANTY OF ANY KIND, EITHER
+ * EXPRESSED, IMPLIED, OR STATUTORY, INCLUDING, BUT NOT LIMITED TO, ANY WARRANTY
+ * THAT THE SOFTWARE WILL CONFORM TO SPECIFICATIONS, ANY IMPLIED WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE, AND FREEDOM FROM
+ * INFRINGEMENT, AND ANY WARRANTY THAT THE DOCUMENTATION WILL CONFORM TO THE
+ * SOFTWARE, OR ANY WARRANTY THAT THE SOFTWARE WILL BE ERROR FREE.  IN NO EVENT
+ * SHALL NIST BE LIABLE FOR ANY DAMAGES, INCLUDING, BUT NOT LIMITED TO, DIRECT,
+ * INDIRECT, SPECIAL OR CONSEQUENTIAL DAMAGES, ARISING OUT OF, RESULTING FROM,
+ * OR IN ANY WAY CONNECTED WITH THIS SOFTWARE, WHETHER OR NOT BASED UPON WARRANTY,
+ * CONTRACT, TORT, OR OTHERWISE, WHETHER OR NOT INJURY WAS SUSTAINED BY PERSONS OR
+ * PROPERTY OR OTHERWISE, AND WHETHER OR NOT LOSS WAS SUSTAINED FROM, OR AROSE OUT
+ * OF THE RESULTS OF, OR USE OF, THE SOFTWARE OR SERVICES PROVIDED HEREUNDER.
+ */
+
+package gov.nist.secauto.metaschema.binding.io.xml;
+
+import org.codehaus.stax2.XMLStreamReader2;
+import org.codehaus.stax2.util.StreamReader2Delegate;
+import org.xml.sax.ContentHandler;
+import org.xml.sax.Locator;
+import org.xml.sax.SAXException;
+import org.xml.sax.helpers.AttributesImpl;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.LinkedList;
+import java.util.List;
+
+import javax.xml.XMLConstants;
+import javax.xml.stream.Location;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
+
+/**
+ * A stream reader that forwards each event to a SAX {@link ContentHandler} as the reader is advanced
+ * to it.
+ * <p>
+ * This allows a consumer of SAX events, such as a schema validator, to observe the same parse that
+ * is used to bind the content, avoiding a second parse of the document. The reader's current event
+ * when this reader is constructed is forwarded first. All methods that advance the reader are
+ * implemented using {@link #next()}, so that no event is skipped.
+ * <p>
+ * Any {@link SAXException} raised by the content handler stops further forwarding and is made
+ * available using {@link #getException()}.
+ */
+class SaxForwardingStreamReader
+    extends StreamReader2Delegate
+    implements Locator {
+  @NonNull
+  private final ContentHandler contentHandler;
+  @NonNull
+  private final Deque<List<String>> prefixMappings = new ArrayDeque<>();
+  @Nullable
+  private SAXException exception;
+
+  /**
+   * Construct a new reader.
+   *
+   * @param reader
+   *          the reader to read from
+   * @param contentHandler
+   *          the SAX content handler to forward events to
+   */
+  public SaxForwardingStreamReader(@NonNull XMLStreamReader2 reader, @NonNull ContentHandler contentHandler) {
+    super(reader);
+    this.contentHandler = contentHandler;
+    forwardCurrent();
+  }
+
+  /**
+   * Get the first exception raised by the content handler, if any.
+   *
+   * @return the exception or {@code null} if no exception occurred
+   */
+  @Nullable
+  public SAXException getException() {
+    return exception;
+  }
+
+  @Override
+  public int next() throws XMLStreamException {
+    int retval = super.next();
+    forwardCurrent();
+    return retval;
+  }
+
+  @Override
+  public int nextTag() throws XMLStreamException {
+    int eventType = next();
+    while (((eventType == XMLStreamConstants.CHARACTERS || eventType == XMLStreamConstants.CDATA
+        || eventType == XMLStreamConstants.SPACE) && isWhiteSpace())
+        || eventType == XMLStreamConstants.PROCESSING_INSTRUCTION
+        || eventType == XMLStreamConstants.COMMENT) {
+      eventType = next();
+    }
+    if (eventType != XMLStreamConstants.START_ELEMENT && eventType != XMLStreamConstants.END_ELEMENT) {
+      throw new XMLStreamException("Expected a start or end element", getLocation());
+    }
+    return eventType;
+  }
+
+  @Override
+  public String getElementText() throws XMLStreamException {
+    if (getEventType() != XMLStreamConstants.START_ELEMENT) {
+      throw new XMLStreamException("The current event is not a start element", getLocation());
+    }
+
+    StringBuilder builder = new StringBuilder();
+    int eventType = next();
+    while (eventType != XMLStreamConstants.END_ELEMENT) {
+      switch (eventType) {
+      case XMLStreamConstants.CHARACTERS:
+      case XMLStreamConstants.CDATA:
+      case XMLStreamConstants.SPACE:
+      case XMLStreamConstants.ENTITY_REFERENCE:
+        builder.append(getText());
+        break;
+      case XMLStreamConstants.PROCESSING_INSTRUCTION:
+      case XMLStreamConstants.COMMENT:
+        // ignore
+        break;
+      default:
+        throw new XMLStreamException("Unexpected event while reading element text", getLocation());
+      }
+      eventType = next();
+    }
+    return builder.toString();
+  }
+
+  @Override
+  public void skipElement() throws XMLStreamException {
+    if (getEventType() != XMLStreamConstants.START_ELEMENT) {
+      throw new IllegalStateException("The current event is not a start element");
+    }
+
+    int depth = 1;
+    while (depth > 0) {
+      int eventType = next();
+      if (eventType == XMLStreamConstants.START_ELEMENT) {
+        depth++;
+      } else if (eventType == XMLStreamConstants.END_ELEMENT) {
+        depth--;
+      }
+    }
+  }
+
+  private void forwardCurrent() {
+    if (exception == null) {
+      try {
+        forward();
+      } catch (SAXException ex) {
+        exception = ex;
+      }
+    }
+  }
+
+  private void forward() throws SAXException {
+    switch (getEventType()) {
+    case XMLStreamConstants.START_DOCUMENT:
+      contentHandler.setDocumentLocator(this);
+      contentHandler.startDocument();
+      break;
+    case XMLStreamConstants.END_DOCUMENT:
+      contentHandler.endDocument();
+      break;
+    case XMLStreamConstants.START_ELEMENT:
+      startElement();
+      break;
+    case XMLStreamConstants.END_ELEMENT:
+      endElement();
+      break;
+    case XMLStreamConstants.CHARACTERS:
+    case XMLStreamConstants.CDATA:
+      contentHandler.characters(getTextCharacters(), getTextStart(), getTextLength());
+      break;
+    case XMLStreamConstants.SPACE:
+      contentHandler.ignorableWhitespace(getTextCharacters(), getTextStart(), getTextLength());
+      break;
+    case XMLStreamConstants.PROCESSING_INSTRUCTION:
+      contentHandler.processingInstruction(getPITarget(), getPIData());
+      break;
+    default:
+      // other events, such as comments and DTDs, are not reported to the content handler
+      break;
+    }
+  }
+
+  private void startElement() throws SAXException {
+    List<String> prefixes = new LinkedList<>();
+    for (int index = 0; index < getNamespaceCount(); index++) {
+      String prefix = emptyIfNull(getNamespacePrefix(index));
+      contentHandler.startPrefixMapping(prefix, emptyIfNull(getNamespaceURI(index)));
+      prefixes.add(prefix);
+    }
+    prefixMappings.push(prefixes);
+
+    AttributesImpl attributes = new AttributesImpl();
+    for (int index = 0; index < getAttributeCount(); index++) {
+      String localName = getAttributeLocalName(index);
+      attributes.addAttribute(
+          emptyIfNull(getAttributeNamespace(index)),
+          localName,
+          toQualifiedName(getAttributePrefix(index), localName),
+          "CDATA",
+          getAttributeValue(index));
+    }
+
+    String localName = getLocalName();
+    contentHandler.startElement(
+        emptyIfNull(getNamespaceURI()),
+        localName,
+        toQualifiedName(getPrefix(), localName),
+        attributes);
+  }
+
+  private void endElement() throws SAXException {
+    String localName = getLocalName();
+    contentHandler.endElement(
+        emptyIfNull(getNamespaceURI()),
+        localName,
+        toQualifiedName(getPrefix(), localName));
+
+    List<String> prefixes = prefixMappings.pop();
+    for (String prefix : prefixes) {
+      contentHandler.endPrefixMapping(prefix);
+    }
+  }
+
+  @NonNull
+  private static String emptyIfNull(@Nullable String value) {
+    return value == null ? XMLConstants.NULL_NS_URI : value;
+  }
+
+  @NonNull
+  private static String toQualifiedName(@Nullable String prefix, @NonNull String localName) {
+    return prefix == null || prefix.isEmpty() ? localName : prefix + ":" + localName;
+  }
+
+  @Override
+  public String getPublicId() {
+    Location location = getLocation();
+    return location == null ? null : location.getPublicId();
+  }
+
+  @Override
+  public String getSystemId() {
+    Location location = getLocation();
+    return location == null ? null : location.getSystemId();
+  }
+
+  @Override
+  public int getLineNumber() {
+    Location location = getLocation();
+    return location == null ? -1 : location.getLineNumber();
+  }
+
+  @Override
+  public int getColumnNumber() {
+    Location location = getLocation();
+    return location == null ? -1 : location.getColumnNumber();
+  }
+}
@@ -0,0 +1,201 @@
+/*
+ * Portions of this software was developed by employees of the National Institute
+ * of Standards and Technology (NIST), an agency of the Federal Government and is
+ * being made available as a public service. Pursuant to title 17 United States
+ * Code Section 105, works of NIST employees are not subject to copyright
+ * protection in the United States. This software may be subject to foreign
+ * copyright. Permission in the United States and in foreign countries, to the
+ * extent that NIST may hold copyright, to use, copy, modify, create derivative
+ * works, and distribute this software and its documentation without fee is hereby
+ * granted on a non-exclusive basis, provided that this notice and disclaimer
+ * of warranty appears in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED 'AS IS' WITHOUT ANY WARRANTY OF ANY KIND, EITHER
+ * EXPRESSED, IMPLIED, OR STATUTORY, INCLUDING, BUT NOT LIMITED TO, ANY WARRANTY
+ * THAT THE SOFTWARE WILL CONFORM TO SPECIFICATIONS, ANY IMPLIED WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE, AND FREEDOM FROM
+ * INFRINGEMENT, AND ANY WARRANTY THAT THE DOCUMENTATION WILL CONFORM TO THE
+ * SOFTWARE, OR ANY WARRANTY THAT THE SOFTWARE WILL BE ERROR FREE.  IN NO EVENT
+ * SHALL NIST BE LIABLE FOR ANY DAMAGES, INCLUDING, BUT NOT LIMITED TO, DIRECT,
+ * INDIRECT, SPECIAL OR CONSEQUENTIAL DAMAGES, ARISING OUT OF, RESULTING FROM,
+ * OR IN ANY WAY CONNECTED WITH THIS SOFTWARE, WHETHER OR NOT BASED UPON WARRANTY,
+ * CONTRACT, TORT, OR OTHERWISE, WHETHER OR NOT INJURY WAS SUSTAINED BY PERSONS OR
+ * PROPERTY OR OTHERWISE, AND WHETHER OR NOT LOSS WAS SUSTAINED FROM, OR AROSE OUT
+ * OF THE RESULTS OF, OR USE OF, THE SOFTWARE OR SERVICES PROVIDED HEREUNDER.
+ */
+
+package gov.nist.secauto.metaschema.binding.io.xml;
+
+import gov.nist.secauto.metaschema.binding.io.IItemReader;
+import gov.nist.secauto.metaschema.binding.model.IAssemblyClassBinding;
+import gov.nist.secauto.metaschema.binding.model.IBoundNamedModelInstance;
+import gov.nist.secauto.metaschema.model.common.util.CollectionUtil;
+import gov.nist.secauto.metaschema.model.common.util.XmlEventUtil;
+
+import org.codehaus.stax2.XMLStreamReader2;
+
+import java.io.IOException;
+import java.util.List;
+
+import javax.xml.namespace.QName;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
+
+/**
+ * Reads the items of a model instance on an XML document's root element one at a time.
+ * <p>
+ * Other child elements of the root element that appear before the selected instance are skipped
+ * over without being bound. Parsing stops after the last item of the selected instance.
+ */
+class XmlItemReader implements IItemReader {
+  private enum State {
+    INITIAL,
+    ITEMS,
+    DONE;
+  }
+
+  @NonNull
+  private final IXmlParsingContext context;
+  @NonNull
+  private final IAssemblyClassBinding classBinding;
+  @NonNull
+  private final IBoundNamedModelInstance instance;
+  @NonNull
+  private final QName itemQName;
+  @NonNull
+  private State state = State.INITIAL;
+  /**
+   * The grouping element's name, if the items are wrapped in a grouping element.
+   */
+  @Nullable
+  private QName groupQName;
+
+  /**
+   * Construct a new item reader.
+   *
+   * @param context
+   *          the XML parsing context providing the reader to read from
+   * @param classBinding
+   *          the bound class of the document's root element
+   * @param instance
+   *          the model instance on the root element whose items are to be read
+   * @throws IOException
+   *           if the instance's items are not represented as XML elements
+   */
+  public XmlItemReader(
+      @NonNull IXmlParsingContext context,
+      @NonNull IAssemblyClassBinding classBinding,
+      @NonNull IBoundNamedModelInstance instance) throws IOException {
+    this.context = context;
+    this.classBinding = classBinding;
+    this.instance = instance;
+
+    QName qname = instance.getXmlQName();
+    if (qname == null) {
+      throw new IOException(
+          String.format("The instance '%s' does not have an XML element name.", instance.getName()));
+    }
+    this.itemQName = qname;
+  }
+
+  @Override
+  public List<Object> readNext() throws IOException {
+    try {
+      if (State.INITIAL.equals(state)) {
+        state = seekInstance();
+      }
+
+      List<Object> retval = null;
+      if (State.ITEMS.equals(state)) {
+        XMLStreamReader2 reader = context.getReader();
+        XmlEventUtil.skipWhitespace(reader);
+
+        if (XmlEventUtil.isEventStartElement(reader, itemQName)) {
+          // the item element is consumed through its end element
+          Object item = instance.readItem(null, context);
+          retval = item == null ? CollectionUtil.emptyList() : CollectionUtil.singletonList(item);
+        } else {
+          if (groupQName != null) {
+            // consume the end of the group
+            XmlEventUtil.consumeAndAssert(reader, XMLStreamConstants.END_ELEMENT, groupQName);
+          }
+          state = State.DONE;
+        }
+      }
+      return retval;
+    } catch (XMLStreamException ex) {
+      throw new IOException(ex);
+    }
+  }
+
+  /**
+   * Advance the reader to the first item of the selected instance within the root element.
+   *
+   * @return the state to use to read the items
+   * @throws IOException
+   *           if the document's root element is not the expected element
+   * @throws XMLStreamException
+   *           if an error occurred while parsing
+   */
+  @NonNull
+  private State seekInstance() throws IOException, XMLStreamException {
+    XMLStreamReader2 reader = context.getReader();
+
+    // we may be at the START_DOCUMENT
+    XmlEventUtil.skipEvents(
+        reader,
+        XMLStreamConstants.START_DOCUMENT,
+        XMLStreamConstants.CHARACTERS,
+        XMLStreamConstants.SPACE,
+        XMLStreamConstants.PROCESSING_INSTRUCTION);
+
+    QName rootQName = classBinding.getRootXmlQName();
+    if (rootQName == null || !XmlEventUtil.isEventStartElement(reader, rootQName)) {
+      throw new IOException(
+          String.format("Expected an element named '%s', but found a '%s' instead.",
+              rootQName,
+              XmlEventUtil.toString(reader)));
+    }
+    // consume the root's start element
+    reader.next();
+
+    QName instanceGroupQName = instance.getXmlGroupAsQName();
+    State retval = null;
+    while (retval == null) {
+      int eventType = XmlEventUtil.skipWhitespace(reader);
+
+      if (eventType == XMLStreamConstants.START_ELEMENT) {
+        if (instanceGroupQName != null && XmlEventUtil.isEventStartElement(reader, instanceGroupQName)) {
+          // consume the start of the group
+          reader.next();
+          groupQName = instanceGroupQName;
+          retval = State.ITEMS;
+        } else if (XmlEventUtil.isEventStartElement(reader, itemQName)) {
+          retval = State.ITEMS;
+        } else {
+          // skip through the element's end element
+          reader.skipElement();
+          reader.next();
+        }
+      } else if (eventType == XMLStreamConstants.END_ELEMENT || eventType == XMLStreamConstants.END_DOCUMENT) {
+        // the instance was not found
+        retval = State.DONE;
+      } else {
+        reader.next();
+      }
+    }
+    return retval;
+  }
+
+  @Override
+  public void close() throws IOException {
+    try {
+      context.getReader().close();
+    } catch (XMLStreamException ex) {
+      throw new IOException(ex);
+    }
+  }
+}
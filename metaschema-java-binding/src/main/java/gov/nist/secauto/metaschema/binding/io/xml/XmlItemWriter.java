@@ -0,0 +1,200 @@
+/*
+ * Portions of this software was developed by employees of the National Institute
+ * of Standards and Technology (NIST), an agency of the Federal Government and is
+ * being made available as a public service. Pursuant to title 17 United States
+ * Code Section 105, works of NIST employees are not subject to copyright
+ * protection in the United States. This software may be subject to foreign
+ * copyright. Permission in the United States and in foreign countries, to the
+ * extent that NIST may hold copyright, to use, copy, modify, create derivative
+ * works, and distribute this software and its documentation without fee is hereby
+ * granted on a non-exclusive basis, provided that this notice and disclaimer
+ * of warranty appears in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED 'AS IS' WITHOUT ANY WARRANTY OF ANY KIND, EITHER
+ * EXPRESSED, IMPLIED, OR STATUTORY, INCLUDING, BUT NOT LIMITED TO, ANY WARRANTY
+ * THAT THE SOFTWARE WILL CONFORM TO SPECIFICATIONS, ANY IMPLIED WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE, AND FREEDOM FROM
+ * INFRINGEMENT, AND ANY WARRANTY THAT THE DOCUMENTATION WILL CONFORM TO THE
+ * SOFTWARE, OR ANY WARRANTY THAT THE SOFTWARE WILL BE ERROR FREE.  IN NO EVENT
+ * SHALL NIST BE LIABLE FOR ANY DAMAGES, INCLUDING, BUT NOT LIMITED TO, DIRECT,
+ * INDIRECT, SPECIAL OR CONSEQUENTIAL DAMAGES, ARISING OUT OF, RESULTING FROM,
+ * OR IN ANY WAY CONNECTED WITH THIS SOFTWARE, WHETHER OR NOT BASED UPON WARRANTY,
+ * CONTRACT, TORT, OR OTHERWISE, WHETHER OR NOT INJURY WAS SUSTAINED BY PERSONS OR
+ * PROPERTY OR OTHERWISE, AND WHETHER OR NOT LOSS WAS SUSTAINED FROM, OR AROSE OUT
+ * OF THE RESULTS OF, OR USE OF, THE SOFTWARE OR SERVICES PROVIDED HEREUNDER.
+ */
+
+package gov.nist.secauto.metaschema.binding.io.xml;
+
+import gov.nist.secauto.metaschema.binding.io.IItemWriter;
+import gov.nist.secauto.metaschema.binding.model.IAssemblyClassBinding;
+import gov.nist.secauto.metaschema.binding.model.IBoundFlagInstance;
+import gov.nist.secauto.metaschema.binding.model.IBoundNamedModelInstance;
+
+import org.codehaus.stax2.XMLStreamWriter2;
+
+import java.io.IOException;
+import java.util.Iterator;
+
+import javax.xml.namespace.NamespaceContext;
+import javax.xml.namespace.QName;
+import javax.xml.stream.XMLStreamException;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
+
+/**
+ * Writes the items of a model instance on an XML document's root element one at a time.
+ * <p>
+ * The flags and other child elements of the root element are taken from a header object, with the
+ * exception of the selected instance, whose value is written from the items provided to
+ * {@link #write(Object)}.
+ *
+ * @param <ITEM>
+ *          the Java type of the items
+ */
+class XmlItemWriter<ITEM> implements IItemWriter<ITEM> {
+  @NonNull
+  private final IXmlWritingContext context;
+  @NonNull
+  private final IBoundNamedModelInstance instance;
+  @NonNull
+  private final Object header;
+  @NonNull
+  private final QName rootQName;
+  @NonNull
+  private final Iterator<? extends IBoundNamedModelInstance> remainingInstances;
+  private boolean started;
+  private boolean closed;
+
+  /**
+   * Construct a new item writer, writing the start of the document and the flags and child
+   * elements of the root element that precede the selected instance.
+   *
+   * @param context
+   *          the XML writing context providing the stream writer to write to
+   * @param classBinding
+   *          the bound class of the document's root element
+   * @param instance
+   *          the model instance on the root element whose items are to be written
+   * @param header
+   *          the root object providing the values of the flags and other child elements
+   * @throws IOException
+   *           if an error occurred while writing the start of the document
+   */
+  public XmlItemWriter(
+      @NonNull IXmlWritingContext context,
+      @NonNull IAssemblyClassBinding classBinding,
+      @NonNull IBoundNamedModelInstance instance,
+      @NonNull Object header) throws IOException {
+    this.context = context;
+    this.instance = instance;
+    this.header = header;
+    this.rootQName = classBinding.getRootXmlQName();
+
+    XMLStreamWriter2 writer = context.getWriter();
+    try {
+      writer.writeStartDocument("UTF-8", "1.0");
+
+      NamespaceContext nsContext = writer.getNamespaceContext();
+      String prefix = nsContext.getPrefix(rootQName.getNamespaceURI());
+      if (prefix == null) {
+        prefix = "";
+      }
+
+      writer.writeStartElement(prefix, rootQName.getLocalPart(), rootQName.getNamespaceURI());
+
+      for (IBoundFlagInstance flag : classBinding.getFlagInstances()) {
+        flag.write(header, rootQName, context);
+      }
+
+      Iterator<? extends IBoundNamedModelInstance> instances = classBinding.getModelInstances().iterator();
+      while (instances.hasNext()) {
+        IBoundNamedModelInstance modelInstance = instances.next();
+        if (instance.equals(modelInstance)) {
+          break;
+        }
+        modelInstance.write(header, rootQName, context);
+      }
+      this.remainingInstances = instances;
+    } catch (XMLStreamException ex) {
+      throw new IOException(ex);
+    }
+  }
+
+  @Override
+  public void write(ITEM item) throws IOException {
+    if (closed) {
+      throw new IllegalStateException("The writer is closed.");
+    }
+
+    try {
+      if (!started) {
+        startGroup();
+      }
+      instance.writeItem(item, getItemParentQName(), context);
+    } catch (XMLStreamException ex) {
+      throw new IOException(ex);
+    }
+  }
+
+  private void startGroup() throws XMLStreamException {
+    QName groupQName = instance.getXmlGroupAsQName();
+    if (groupQName != null) {
+      // write the grouping element
+      context.getWriter().writeStartElement(groupQName.getNamespaceURI(), groupQName.getLocalPart());
+    }
+    started = true;
+  }
+
+  @NonNull
+  private QName getItemParentQName() {
+    QName groupQName = instance.getXmlGroupAsQName();
+    return groupQName == null ? rootQName : groupQName;
+  }
+
+  @Override
+  public void close() throws IOException {
+    if (!closed) {
+      closed = true;
+
+      XMLStreamWriter2 writer = context.getWriter();
+      IOException caughtException = null;
+      try {
+        if (!started && instance.getMinOccurs() > 0) {
+          // the wrapper is required, even if there are no items
+          startGroup();
+        }
+
+        if (started && instance.getXmlGroupAsQName() != null) {
+          writer.writeEndElement();
+        }
+
+        while (remainingInstances.hasNext()) {
+          remainingInstances.next().write(header, rootQName, context);
+        }
+
+        // end of the root element
+        writer.writeEndElement();
+        writer.flush();
+      } catch (XMLStreamException ex) {
+        caughtException = new IOException(ex);
+        throw caughtException;
+      } finally { // NOPMD - exception handling is needed
+        closeWriter(writer, caughtException);
+      }
+    }
+  }
+
+  private static void closeWriter(@NonNull XMLStreamWriter2 writer, @Nullable IOException caughtException)
+      throws IOException {
+    try {
+      writer.close();
+    } catch (XMLStreamException ex) {
+      if (caughtException == null) {
+        throw new IOException(ex);
+      }
+      caughtException.addSuppressed(ex);
+    }
+  }
+}
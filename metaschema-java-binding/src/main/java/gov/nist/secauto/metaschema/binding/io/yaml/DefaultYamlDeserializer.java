@@ -48,7 +48,7 @@ public class DefaultYamlDeserializer<CLASS>
 
   @Override
   protected YAMLFactory getJsonFactoryInstance() {
-    return YamlFactoryFactory.newParserFactoryInstance(getConfiguration());
+    return YamlFactoryFactory.parserFactoryInstance(getConfiguration());
   }
 
 }
@@ -34,18 +34,68 @@ import com.fasterxml.jackson.dataformat.yaml.YAMLGenerator;
 import gov.nist.secauto.metaschema.binding.io.DeserializationFeature;
 import gov.nist.secauto.metaschema.binding.io.SerializationFeature;
 import gov.nist.secauto.metaschema.binding.io.json.JsonFactoryFactory;
+import gov.nist.secauto.metaschema.model.common.configuration.DefaultConfiguration;
 import gov.nist.secauto.metaschema.model.common.configuration.IMutableConfiguration;
 import gov.nist.secauto.metaschema.model.common.util.ObjectUtils;
 
 import org.yaml.snakeyaml.LoaderOptions;
 
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
 import edu.umd.cs.findbugs.annotations.NonNull;
 
 public final class YamlFactoryFactory {
+  /**
+   * Parser factories keyed by the code point limit, which is the only configuration that affects
+   * the parser factory.
+   */
+  @NonNull
+  private static final Map<Integer, YAMLFactory> PARSER_FACTORIES = new ConcurrentHashMap<>();
+  @NonNull
+  private static final YAMLFactory GENERATOR_SINGLETON = newGeneratorFactoryInstance(new DefaultConfiguration<>());
+
   private YamlFactoryFactory() {
     // disable construction
   }
 
+  /**
+   * Get a shared parser factory for the provided configuration.
+   * <p>
+   * Building a YAML factory is expensive compared to parsing a small document. The factories are
+   * thread-safe, so a single instance is shared for each distinct configuration. The returned
+   * factory must not be reconfigured; use {@link #newParserFactoryInstance(IMutableConfiguration)}
+   * to get an instance that can be customized.
+   *
+   * @param config
+   *          the deserialization configuration
+   * @return the factory
+   */
+  @NonNull
+  public static YAMLFactory parserFactoryInstance(@NonNull IMutableConfiguration<DeserializationFeature<?>> config) {
+    Integer codePointLimit = config.get(DeserializationFeature.YAML_CODEPOINT_LIMIT);
+    return ObjectUtils.notNull(PARSER_FACTORIES.computeIfAbsent(codePointLimit, key -> {
+      DefaultConfiguration<DeserializationFeature<?>> keyConfig = new DefaultConfiguration<>();
+      keyConfig.set(DeserializationFeature.YAML_CODEPOINT_LIMIT, key);
+      return newParserFactoryInstance(keyConfig);
+    }));
+  }
+
+  /**
+   * Get a shared generator factory.
+   * <p>
+   * The generator factory is not affected by the serialization configuration, so a single
+   * thread-safe instance is shared. The returned factory must not be reconfigured; use
+   * {@link #newGeneratorFactoryInstance(IMutableConfiguration)} to get an instance that can be
+   * customized.
+   *
+   * @return the factory
+   */
+  @NonNull
+  public static YAMLFactory generatorFactoryInstance() {
+    return GENERATOR_SINGLETON;
+  }
+
   @NonNull
   public static YAMLFactory newParserFactoryInstance(@NonNull IMutableConfiguration<DeserializationFeature<?>> config) {
     YAMLFactoryBuilder builder = YAMLFactory.builder();
@@ -28,10 +28,9 @@ package gov.nist.secauto.metaschema.binding.model;
 
 import gov.nist.secauto.metaschema.binding.io.xml.IXmlParsingContext;
 import gov.nist.secauto.metaschema.binding.io.xml.IXmlWritingContext;
-import gov.nist.secauto.metaschema.model.common.util.ObjectUtils;
 import gov.nist.secauto.metaschema.model.common.util.XmlEventUtil;
 
-import org.codehaus.stax2.XMLEventReader2;
+import org.codehaus.stax2.XMLStreamReader2;
 import org.codehaus.stax2.XMLStreamWriter2;
 
 import java.io.IOException;
@@ -39,10 +38,7 @@ import java.lang.reflect.Field;
 import java.util.Locale;
 
 import javax.xml.namespace.QName;
-import javax.xml.stream.XMLStreamConstants;
 import javax.xml.stream.XMLStreamException;
-import javax.xml.stream.events.StartElement;
-import javax.xml.stream.events.XMLEvent;
 
 import edu.umd.cs.findbugs.annotations.NonNull;
 
@@ -66,25 +62,17 @@ abstract class AbstractAssemblyProperty
   }
 
   @Override
-  public Object readItem(Object parentInstance, StartElement start,
-      IXmlParsingContext context) throws XMLStreamException, IOException {
-    XMLEventReader2 eventReader = context.getReader();
+  public Object readItem(Object parentInstance, IXmlParsingContext context)
+      throws XMLStreamException, IOException {
+    XMLStreamReader2 reader = context.getReader();
 
     // consume extra whitespace between elements
-    XmlEventUtil.skipWhitespace(eventReader);
+    XmlEventUtil.skipWhitespace(reader);
 
     Object retval = null;
-    XMLEvent event = eventReader.peek();
-    if (event.isStartElement() && getXmlQName().equals(event.asStartElement().getName())) {
-      // Consume the start element
-      event = eventReader.nextEvent();
-      StartElement propertyStartElement = ObjectUtils.notNull(event.asStartElement());
-
-      // consume the value
-      retval = getDataTypeHandler().get(parentInstance, propertyStartElement, context);
-
-      // consume the end element
-      XmlEventUtil.consumeAndAssert(eventReader, XMLStreamConstants.END_ELEMENT, propertyStartElement.getName());
+    if (XmlEventUtil.isEventStartElement(reader, getXmlQName())) {
+      // consume the element and its value
+      retval = getDataTypeHandler().get(parentInstance, context);
     }
     return retval;
   }
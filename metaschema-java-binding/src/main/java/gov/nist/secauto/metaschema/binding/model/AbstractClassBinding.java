@@ -38,11 +38,10 @@ import gov.nist.secauto.metaschema.model.common.ModuleScopeEnum;
 import gov.nist.secauto.metaschema.model.common.util.ObjectUtils;
 import gov.nist.secauto.metaschema.model.common.util.XmlEventUtil;
 
+import org.codehaus.stax2.XMLStreamReader2;
+
 import java.io.IOException;
-import java.lang.reflect.Constructor;
 import java.lang.reflect.Field;
-import java.lang.reflect.InvocationTargetException;
-import java.lang.reflect.Method;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.LinkedHashMap;
@@ -57,10 +56,10 @@ import java.util.stream.Collectors;
 import javax.xml.namespace.QName;
 import javax.xml.stream.XMLStreamConstants;
 import javax.xml.stream.XMLStreamException;
-import javax.xml.stream.events.StartElement;
 
 import edu.umd.cs.findbugs.annotations.NonNull;
 import edu.umd.cs.findbugs.annotations.Nullable;
+import nl.talsmasoftware.lazy4j.Lazy;
 
 abstract class AbstractClassBinding implements IClassBinding {
   // private static final Logger logger = LogManager.getLogger(AbstractClassBinding.class);
@@ -69,8 +68,8 @@ abstract class AbstractClassBinding implements IClassBinding {
   private final IBindingContext bindingContext;
   @NonNull
   private final Class<?> clazz;
-  private final Method beforeDeserializeMethod;
-  private final Method afterDeserializeMethod;
+  @NonNull
+  private final Lazy<IClassAccessor> classAccessor;
   private IMetaschema metaschema;
   private Map<String, IBoundFlagInstance> flagInstances;
   private IBoundFlagInstance jsonKeyFlag;
@@ -86,8 +85,8 @@ abstract class AbstractClassBinding implements IClassBinding {
   public AbstractClassBinding(@NonNull Class<?> clazz, @NonNull IBindingContext bindingContext) {
     this.bindingContext = ObjectUtils.requireNonNull(bindingContext, "bindingContext");
     this.clazz = ObjectUtils.requireNonNull(clazz, "clazz");
-    this.beforeDeserializeMethod = ClassIntrospector.getMatchingMethod(clazz, "beforeDeserialize", Object.class);
-    this.afterDeserializeMethod = ClassIntrospector.getMatchingMethod(clazz, "afterDeserialize", Object.class);
+    this.classAccessor = ObjectUtils.notNull(
+        Lazy.lazy(() -> IClassAccessor.newInstance(clazz, bindingContext.isUsingGeneratedAccessors())));
   }
 
   @Override
@@ -267,18 +266,7 @@ abstract class AbstractClassBinding implements IClassBinding {
    */
   @NonNull
   protected <CLASS> CLASS newInstance() throws BindingException {
-    Class<?> clazz = getBoundClass();
-    try {
-      @SuppressWarnings("unchecked") Constructor<CLASS> constructor
-          = (Constructor<CLASS>) clazz.getDeclaredConstructor();
-      return ObjectUtils.notNull(constructor.newInstance());
-    } catch (NoSuchMethodException ex) {
-      String msg = String.format("Class '%s' does not have a required no-arg constructor.", clazz.getName());
-      throw new BindingException(msg, ex);
-    } catch (InstantiationException | IllegalAccessException | IllegalArgumentException
-        | InvocationTargetException ex) {
-      throw new BindingException(ex);
-    }
+    return classAccessor.get().newInstance();
   }
 
   /**
@@ -294,13 +282,7 @@ abstract class AbstractClassBinding implements IClassBinding {
    *           if an error occurs while calling a deserialization method
    */
   protected void callBeforeDeserialize(Object objectInstance, Object parentInstance) throws BindingException {
-    if (beforeDeserializeMethod != null) {
-      try {
-        beforeDeserializeMethod.invoke(objectInstance, parentInstance);
-      } catch (IllegalAccessException | IllegalArgumentException | InvocationTargetException ex) {
-        throw new BindingException(ex);
-      }
-    }
+    classAccessor.get().callBeforeDeserialize(objectInstance, parentInstance);
   }
 
   /**
@@ -316,23 +298,17 @@ abstract class AbstractClassBinding implements IClassBinding {
    *           if an error occurs while calling a deserialization method
    */
   protected void callAfterDeserialize(Object objectInstance, Object parentInstance) throws BindingException {
-    if (afterDeserializeMethod != null) {
-      try {
-        afterDeserializeMethod.invoke(objectInstance, parentInstance);
-      } catch (IllegalAccessException | IllegalArgumentException | InvocationTargetException ex) {
-        throw new BindingException(ex);
-      }
-    }
+    classAccessor.get().callAfterDeserialize(objectInstance, parentInstance);
   }
 
   @Override
-  public Object readItem(Object parentInstance, StartElement start,
-      IXmlParsingContext context) throws IOException, XMLStreamException {
+  public Object readItem(Object parentInstance, IXmlParsingContext context)
+      throws IOException, XMLStreamException {
 
     try {
       Object instance = newInstance();
       callBeforeDeserialize(instance, parentInstance);
-      readInternal(instance, start, context);
+      readInternal(instance, context);
       callAfterDeserialize(instance, parentInstance);
       return instance;
     } catch (BindingException ex) {
@@ -340,20 +316,28 @@ abstract class AbstractClassBinding implements IClassBinding {
     }
   }
 
-  protected void readInternal(@NonNull Object instance, @NonNull StartElement start,
-      @NonNull IXmlParsingContext context) throws IOException, XMLStreamException {
+  protected void readInternal(@NonNull Object instance, @NonNull IXmlParsingContext context)
+      throws IOException, XMLStreamException {
+    XMLStreamReader2 reader = context.getReader();
+
+    // the attributes are only available while the reader is on the start element
+    QName name = reader.getName();
     for (IBoundFlagInstance flag : getFlagInstances()) {
-      flag.read(instance, start, context);
+      flag.read(instance, context);
     }
-    readBody(instance, start, context);
 
-    XmlEventUtil.skipWhitespace(context.getReader());
+    // consume the start element
+    XmlEventUtil.consumeAndAssert(reader, XMLStreamConstants.START_ELEMENT, name);
+
+    readBody(instance, context);
+
+    XmlEventUtil.skipWhitespace(reader);
 
-    XmlEventUtil.assertNext(context.getReader(), XMLStreamConstants.END_ELEMENT, start.getName());
+    // consume the end element
+    XmlEventUtil.consumeAndAssert(reader, XMLStreamConstants.END_ELEMENT, name);
   }
 
-  protected abstract void readBody(@NonNull Object instance, @NonNull StartElement start,
-      @NonNull IXmlParsingContext context)
+  protected abstract void readBody(@NonNull Object instance, @NonNull IXmlParsingContext context)
       throws IOException, XMLStreamException;
 
   @Override
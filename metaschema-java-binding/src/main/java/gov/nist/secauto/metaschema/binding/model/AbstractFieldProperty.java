@@ -29,13 +29,12 @@ package gov.nist.secauto.metaschema.binding.model;
 import gov.nist.secauto.metaschema.binding.io.xml.IXmlParsingContext;
 import gov.nist.secauto.metaschema.binding.io.xml.IXmlWritingContext;
 import gov.nist.secauto.metaschema.binding.model.annotations.BoundField;
-import gov.nist.secauto.metaschema.model.common.datatype.IDataTypeAdapter;
 import gov.nist.secauto.metaschema.model.common.datatype.markup.MarkupLine;
 import gov.nist.secauto.metaschema.model.common.datatype.markup.MarkupMultiline;
 import gov.nist.secauto.metaschema.model.common.util.ObjectUtils;
 import gov.nist.secauto.metaschema.model.common.util.XmlEventUtil;
 
-import org.codehaus.stax2.XMLEventReader2;
+import org.codehaus.stax2.XMLStreamReader2;
 import org.codehaus.stax2.XMLStreamWriter2;
 
 import java.io.IOException;
@@ -45,8 +44,6 @@ import java.util.Locale;
 import javax.xml.namespace.QName;
 import javax.xml.stream.XMLStreamConstants;
 import javax.xml.stream.XMLStreamException;
-import javax.xml.stream.events.StartElement;
-import javax.xml.stream.events.XMLEvent;
 
 import edu.umd.cs.findbugs.annotations.NonNull;
 
@@ -108,6 +105,16 @@ public abstract class AbstractFieldProperty
     return getFieldAnnotation().inXmlWrapped();
   }
 
+  /**
+   * Determine if the field's value is wrapped in an XML element named by {@link #getXmlQName()}.
+   *
+   * @return {@code true} if the value is wrapped, or {@code false} if the value appears directly in
+   *         the containing element's content
+   */
+  boolean isValueWrappedInXml() {
+    return isInXmlWrapped() || !getDefinition().getJavaTypeAdapter().isUnrappedValueAllowedInXml();
+  }
+
   @Override
   public int getMinOccurs() {
     return getFieldAnnotation().minOccurs();
@@ -127,59 +134,31 @@ public abstract class AbstractFieldProperty
   public boolean isNextProperty(IXmlParsingContext context) throws XMLStreamException {
     boolean retval = super.isNextProperty(context);
     if (!retval) {
-      XMLEventReader2 eventReader = context.getReader();
-      XMLEvent event = eventReader.peek();
-      if (event.isStartElement()) {
-        QName qname = ObjectUtils.notNull(event.asStartElement().getName());
-        IDataTypeAdapter<?> adapter = getDefinition().getJavaTypeAdapter();
-        retval = !isInXmlWrapped() && adapter.isUnrappedValueAllowedInXml() && adapter.canHandleQName(qname);
+      XMLStreamReader2 reader = context.getReader();
+      if (reader.getEventType() == XMLStreamConstants.START_ELEMENT && !isValueWrappedInXml()) {
+        QName qname = ObjectUtils.notNull(reader.getName());
+        retval = getDefinition().getJavaTypeAdapter().canHandleQName(qname);
       }
     }
     return retval;
   }
 
   @Override
-  public Object readItem(Object parentInstance, StartElement start,
-      IXmlParsingContext context) throws XMLStreamException, IOException {
-    // figure out if we need to parse the wrapper or not
-    IDataTypeAdapter<?> adapter = getDefinition().getJavaTypeAdapter();
-    boolean parseWrapper = true;
-    if (!isInXmlWrapped() && adapter.isUnrappedValueAllowedInXml()) {
-      parseWrapper = false;
-    }
-
-    XMLEventReader2 eventReader = context.getReader();
+  public Object readItem(Object parentInstance, IXmlParsingContext context)
+      throws XMLStreamException, IOException {
+    if (isValueWrappedInXml()) {
+      XMLStreamReader2 reader = context.getReader();
 
-    StartElement currentStart = start;
-    if (parseWrapper) {
-      // TODO: not sure this is needed, since there is a peek just before this
       // parse any whitespace before the element
-      XmlEventUtil.skipWhitespace(eventReader);
-
-      XMLEvent event = eventReader.peek();
-      if (event.isStartElement() && getXmlQName().equals(event.asStartElement().getName())) {
-        // Consume the start element
-        currentStart
-            = ObjectUtils.notNull(
-                XmlEventUtil.consumeAndAssert(eventReader, XMLStreamConstants.START_ELEMENT, getXmlQName())
-                    .asStartElement());
-      } else {
+      XmlEventUtil.skipWhitespace(reader);
+
+      if (!XmlEventUtil.isEventStartElement(reader, getXmlQName())) {
         throw new IOException(String.format("Did not find expected element '%s'.", getXmlQName()));
       }
     }
 
-    // figure out how to parse the item
-    IXmlBindingSupplier supplier = getDataTypeHandler();
-
-    // consume the value
-    Object retval = supplier.get(parentInstance, currentStart, context);
-
-    if (parseWrapper) {
-      // consume the end element
-      XmlEventUtil.consumeAndAssert(context.getReader(), XMLStreamConstants.END_ELEMENT, currentStart.getName());
-    }
-
-    return retval;
+    // consume the value, along with the wrapper element if there is one
+    return getDataTypeHandler().get(parentInstance, context);
   }
 
   @Override
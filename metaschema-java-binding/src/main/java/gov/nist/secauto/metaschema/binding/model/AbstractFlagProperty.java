@@ -34,7 +34,6 @@ import gov.nist.secauto.metaschema.binding.io.json.IJsonWritingContext;
 import gov.nist.secauto.metaschema.binding.io.xml.IXmlParsingContext;
 import gov.nist.secauto.metaschema.binding.io.xml.IXmlWritingContext;
 import gov.nist.secauto.metaschema.model.common.datatype.IDataTypeAdapter;
-import gov.nist.secauto.metaschema.model.common.util.ObjectUtils;
 
 import org.codehaus.stax2.XMLStreamWriter2;
 
@@ -44,8 +43,6 @@ import java.util.function.Supplier;
 
 import javax.xml.namespace.QName;
 import javax.xml.stream.XMLStreamException;
-import javax.xml.stream.events.Attribute;
-import javax.xml.stream.events.StartElement;
 
 import edu.umd.cs.findbugs.annotations.NonNull;
 
@@ -70,18 +67,18 @@ abstract class AbstractFlagProperty
   }
 
   @Override
-  public boolean read(Object parentInstance, StartElement parent, IXmlParsingContext context) throws IOException {
+  public boolean read(Object parentInstance, IXmlParsingContext context) throws IOException {
 
-    // when reading an attribute:
-    // - "parent" will contain the attributes to read
-    // - the event reader "peek" will be on the end element or the next start element
+    // when reading an attribute, the reader will be on the parent's start element
     boolean handled = false;
-    Attribute attribute = parent.getAttributeByName(getXmlQName());
-    if (attribute != null) {
-      // get the attribute value
-      Object value = getDefinition().getJavaTypeAdapter().parse(ObjectUtils.notNull(attribute.getValue()));
+    QName name = getXmlQName();
+    String namespace = name.getNamespaceURI();
+    String value = context.getReader().getAttributeValue(
+        namespace.isEmpty() ? null : namespace,
+        name.getLocalPart());
+    if (value != null) {
       // apply the value to the parentObject
-      setValue(parentInstance, value);
+      setValue(parentInstance, getDefinition().getJavaTypeAdapter().parse(value));
 
       handled = true;
     }
@@ -41,19 +41,16 @@ import gov.nist.secauto.metaschema.model.common.XmlGroupAsBehavior;
 import gov.nist.secauto.metaschema.model.common.util.ObjectUtils;
 import gov.nist.secauto.metaschema.model.common.util.XmlEventUtil;
 
-import org.codehaus.stax2.XMLEventReader2;
+import org.codehaus.stax2.XMLStreamReader2;
 import org.codehaus.stax2.XMLStreamWriter2;
 
 import java.io.IOException;
 import java.lang.reflect.Field;
 import java.util.Collection;
-import java.util.List;
 
 import javax.xml.namespace.QName;
 import javax.xml.stream.XMLStreamConstants;
 import javax.xml.stream.XMLStreamException;
-import javax.xml.stream.events.StartElement;
-import javax.xml.stream.events.XMLEvent;
 
 import edu.umd.cs.findbugs.annotations.NonNull;
 import edu.umd.cs.findbugs.annotations.Nullable;
@@ -183,36 +180,23 @@ abstract class AbstractNamedModelProperty // NOPMD - intentional
   }
 
   public boolean isNextProperty(@NonNull IXmlParsingContext context) throws XMLStreamException {
-    XMLEventReader2 eventReader = context.getReader();
+    XMLStreamReader2 reader = context.getReader();
 
-    XmlEventUtil.skipWhitespace(eventReader);
+    XmlEventUtil.skipWhitespace(reader);
 
-    boolean handled = false;
+    // the group element, if there is one, or the first item element is expected
     QName groupQName = getXmlGroupAsQName();
-    if (groupQName != null) {
-      // we are to parse the grouping element, if the next token matches
-      XMLEvent event = eventReader.peek();
-      if (event.isStartElement() && groupQName.equals(event.asStartElement().getName())) {
-        handled = true;
-      }
-    }
-
-    if (!handled) {
-      XMLEvent event = eventReader.peek();
-      QName xmlQName = getXmlQName();
-      if (xmlQName != null && event.isStartElement() && xmlQName.equals(event.asStartElement().getName())) {
-        handled = true;
-      }
-    }
-    return handled;
+    QName xmlQName = getXmlQName();
+    return (groupQName != null && XmlEventUtil.isEventStartElement(reader, groupQName))
+        || (xmlQName != null && XmlEventUtil.isEventStartElement(reader, xmlQName));
   }
 
   @Override
-  public boolean read(Object parentInstance, StartElement start, IXmlParsingContext context)
+  public boolean read(Object parentInstance, IXmlParsingContext context)
       throws IOException, XMLStreamException {
     boolean handled = isNextProperty(context);
     if (handled) {
-      Object value = readInternal(parentInstance, start, context);
+      Object value = readInternal(parentInstance, context);
       setValue(parentInstance, value);
     }
     return handled;
@@ -238,34 +222,30 @@ abstract class AbstractNamedModelProperty // NOPMD - intentional
     return collector.getValue();
   }
 
-  protected Object readInternal(@Nullable Object parentInstance, @NonNull StartElement start,
-      @NonNull IXmlParsingContext context)
+  protected Object readInternal(@Nullable Object parentInstance, @NonNull IXmlParsingContext context)
       throws IOException, XMLStreamException {
-    XMLEventReader2 eventReader = context.getReader();
+    XMLStreamReader2 reader = context.getReader();
 
-    XmlEventUtil.skipWhitespace(eventReader);
-
-    StartElement currentStart = start;
+    XmlEventUtil.skipWhitespace(reader);
 
     QName groupQName = getXmlGroupAsQName();
     if (groupQName != null) {
       // we are to parse the grouping element, if the next token matches
-      XMLEvent groupEvent = XmlEventUtil.consumeAndAssert(eventReader, XMLStreamConstants.START_ELEMENT, groupQName);
-      currentStart = ObjectUtils.notNull(groupEvent.asStartElement());
+      XmlEventUtil.consumeAndAssert(reader, XMLStreamConstants.START_ELEMENT, groupQName);
     }
 
     IPropertyCollector collector = newPropertyCollector();
     // There are zero or more named values based on cardinality
-    getPropertyInfo().readValue(collector, parentInstance, currentStart, context);
+    getPropertyInfo().readValue(collector, parentInstance, context);
 
     Object value = collector.getValue();
 
     // consume extra whitespace between elements
-    XmlEventUtil.skipWhitespace(eventReader);
+    XmlEventUtil.skipWhitespace(reader);
 
     if (groupQName != null) {
       // consume the end of the group
-      XmlEventUtil.consumeAndAssert(eventReader, XMLStreamConstants.END_ELEMENT, groupQName);
+      XmlEventUtil.consumeAndAssert(reader, XMLStreamConstants.END_ELEMENT, groupQName);
     }
 
     return value;
@@ -277,10 +257,10 @@ abstract class AbstractNamedModelProperty // NOPMD - intentional
   }
 
   @Override
-  public List<Object> readItem(Object parentInstance, boolean requiresJsonKey, IJsonParsingContext context)
-      throws IOException {
+  public void readItem(Object parentInstance, boolean requiresJsonKey, IJsonParsingContext context,
+      IPropertyCollector collector) throws IOException {
     IDataTypeHandler supplier = getDataTypeHandler();
-    return supplier.get(parentInstance, requiresJsonKey, context);
+    supplier.get(parentInstance, requiresJsonKey, context, collector);
   }
 
   @Override
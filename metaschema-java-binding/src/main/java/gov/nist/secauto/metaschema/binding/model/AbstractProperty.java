@@ -26,11 +26,31 @@
 
 package gov.nist.secauto.metaschema.binding.model;
 
+import gov.nist.secauto.metaschema.model.common.util.ObjectUtils;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+
 import edu.umd.cs.findbugs.annotations.NonNull;
+import nl.talsmasoftware.lazy4j.Lazy;
 
 abstract class AbstractProperty<CLASS_BINDING extends IClassBinding> implements IBoundNamedInstance {
+  @NonNull
+  private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+  @NonNull
+  private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+
   @NonNull
   private final CLASS_BINDING parentClassBinding;
+  // resolved lazily, since the bound field is initialized by the subclass constructor
+  @NonNull
+  private final Lazy<MethodHandle> getter;
+  @NonNull
+  private final Lazy<MethodHandle> setter;
+  @NonNull
+  private final Lazy<String> internedEffectiveName;
 
   /**
    * Construct a new bound instance based on a Java property.
@@ -40,6 +60,68 @@ abstract class AbstractProperty<CLASS_BINDING extends IClassBinding> implements
    */
   public AbstractProperty(@NonNull CLASS_BINDING parentClassBinding) {
     this.parentClassBinding = parentClassBinding;
+    this.getter = ObjectUtils.notNull(Lazy.lazy(() -> newFieldHandle(true)));
+    this.setter = ObjectUtils.notNull(Lazy.lazy(() -> newFieldHandle(false)));
+    this.internedEffectiveName = ObjectUtils.notNull(Lazy.lazy(() -> getEffectiveName().intern()));
+  }
+
+  /**
+   * Resolve a method handle that reads or writes the bound Java field. This is done once per
+   * property, avoiding the cost of reflective access checks on each get or set.
+   *
+   * @param getter
+   *          {@code true} to create a getter, or {@code false} to create a setter
+   * @return the method handle, adapted to take and return {@link Object} values
+   */
+  @NonNull
+  private MethodHandle newFieldHandle(boolean getter) {
+    Field field = getField();
+    MethodHandle retval;
+    try {
+      MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(field.getDeclaringClass(), MethodHandles.lookup());
+      retval = getter ? lookup.unreflectGetter(field) : lookup.unreflectSetter(field);
+    } catch (IllegalAccessException ex) {
+      throw new IllegalStateException(
+          String.format("Unable to access field '%s' in class '%s'.", field.getName(),
+              field.getDeclaringClass().getName()),
+          ex);
+    }
+    return ObjectUtils.notNull(retval.asType(getter ? GETTER_TYPE : SETTER_TYPE));
+  }
+
+  @Override
+  public String getInternedEffectiveName() {
+    return ObjectUtils.notNull(internedEffectiveName.get());
+  }
+
+  @Override
+  public Object getValue(@NonNull Object parentInstance) {
+    try {
+      return (Object) getter.get().invokeExact(parentInstance);
+    } catch (Error ex) { // NOPMD - intentional
+      throw ex;
+    } catch (Throwable ex) { // NOPMD - intentional
+      Field field = getField();
+      throw new IllegalArgumentException(
+          String.format("Unable to get the value of field '%s' in class '%s'.", field.getName(),
+              field.getDeclaringClass().getName()),
+          ex);
+    }
+  }
+
+  @Override
+  public void setValue(@NonNull Object parentInstance, Object value) {
+    try {
+      setter.get().invokeExact(parentInstance, value);
+    } catch (Error ex) { // NOPMD - intentional
+      throw ex;
+    } catch (Throwable ex) { // NOPMD - intentional
+      Field field = getField();
+      throw new IllegalArgumentException(
+          String.format("Unable to set the value of field '%s' in class '%s'.", field.getName(),
+              field.getDeclaringClass().getName()),
+          ex);
+    }
   }
 
   @Override
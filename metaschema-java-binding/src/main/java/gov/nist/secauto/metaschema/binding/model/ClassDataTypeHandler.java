@@ -40,11 +40,9 @@ import gov.nist.secauto.metaschema.model.common.util.ObjectUtils;
 
 import java.io.IOException;
 import java.util.Collection;
-import java.util.List;
 
 import javax.xml.namespace.QName;
 import javax.xml.stream.XMLStreamException;
-import javax.xml.stream.events.StartElement;
 
 import edu.umd.cs.findbugs.annotations.NonNull;
 
@@ -83,26 +81,25 @@ class ClassDataTypeHandler implements IDataTypeHandler {
 
   @SuppressWarnings("resource") // not owned
   @Override
-  public List<Object> get(Object parentInstance, boolean requiresJsonKey, IJsonParsingContext context)
-      throws IOException {
+  public void get(Object parentInstance, boolean requiresJsonKey, IJsonParsingContext context,
+      IPropertyCollector collector) throws IOException {
     JsonParser parser = context.getReader(); // NOPMD - intentional
     boolean objectWrapper = JsonToken.START_OBJECT.equals(parser.currentToken());
     if (objectWrapper) {
       JsonUtil.assertAndAdvance(parser, JsonToken.START_OBJECT);
     }
 
-    List<Object> retval = classBinding.readItem(parentInstance, requiresJsonKey, context);
+    classBinding.readItem(parentInstance, requiresJsonKey, context, collector);
 
     if (objectWrapper) {
       JsonUtil.assertAndAdvance(parser, JsonToken.END_OBJECT);
     }
-    return retval;
   }
 
   @Override
-  public Object get(Object parentInstance, StartElement start, IXmlParsingContext context)
+  public Object get(Object parentInstance, IXmlParsingContext context)
       throws IOException, XMLStreamException {
-    return classBinding.readItem(parentInstance, start, context);
+    return classBinding.readItem(parentInstance, context);
   }
 
   @Override
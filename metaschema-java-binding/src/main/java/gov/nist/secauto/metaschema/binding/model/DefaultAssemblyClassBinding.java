@@ -57,14 +57,15 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.BitSet;
 import java.util.Collection;
-import java.util.HashSet;
+import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
-import java.util.Set;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
@@ -72,7 +73,6 @@ import java.util.stream.Stream;
 
 import javax.xml.namespace.QName;
 import javax.xml.stream.XMLStreamException;
-import javax.xml.stream.events.StartElement;
 
 import edu.umd.cs.findbugs.annotations.NonNull;
 import edu.umd.cs.findbugs.annotations.Nullable;
@@ -87,6 +87,10 @@ public class DefaultAssemblyClassBinding // NOPMD - ok
   private Map<String, IBoundNamedModelInstance> modelInstances;
   private final QName xmlRootQName;
   private final Lazy<IAssemblyConstraintSupport> constraints;
+  @NonNull
+  private final Lazy<JsonPropertyTable> jsonProperties;
+  @NonNull
+  private final Lazy<JsonPropertyTable> jsonPropertiesWithoutKey;
 
   /**
    * Create a new {@link IClassBinding} for a Java bean annotated with the {@link BoundAssembly}
@@ -132,6 +136,13 @@ public class DefaultAssemblyClassBinding // NOPMD - ok
         clazz.getAnnotation(ValueConstraints.class),
         clazz.getAnnotation(AssemblyConstraints.class),
         InternalModelSource.instance()));
+    this.jsonProperties = ObjectUtils.notNull(Lazy.lazy(() -> new JsonPropertyTable(getNamedInstances(null))));
+    this.jsonPropertiesWithoutKey = ObjectUtils.notNull(Lazy.lazy(() -> {
+      IBoundFlagInstance jsonKey = getJsonKeyFlagInstance();
+      return jsonKey == null
+          ? jsonProperties.get()
+          : new JsonPropertyTable(getNamedInstances(flag -> !jsonKey.equals(flag)));
+    }));
   }
 
   /**
@@ -354,27 +365,33 @@ public class DefaultAssemblyClassBinding // NOPMD - ok
     }
   }
 
+  /**
+   * Get the table of properties to use when reading or writing JSON for this class.
+   *
+   * @param excludeJsonKey
+   *          {@code true} if the JSON key flag, if any, is to be excluded from the table
+   * @return the property table
+   */
+  @NonNull
+  protected JsonPropertyTable getJsonPropertyTable(boolean excludeJsonKey) {
+    return ObjectUtils.notNull(excludeJsonKey ? jsonPropertiesWithoutKey.get() : jsonProperties.get());
+  }
+
   @Override
-  protected void readBody(Object instance, StartElement start, IXmlParsingContext context)
+  protected void readBody(Object instance, IXmlParsingContext context)
       throws IOException, XMLStreamException {
-    Set<IBoundNamedModelInstance> unhandledProperties = new HashSet<>();
     for (IBoundNamedModelInstance modelProperty : getModelInstances()) {
-      if (!modelProperty.read(instance, start, context)) {
-        unhandledProperties.add(modelProperty);
+      if (!modelProperty.read(instance, context)) {
+        // the property did not get a value, use the default value of the collector
+        modelProperty.setValue(instance, modelProperty.newPropertyCollector().getValue());
       }
     }
-
-    // process all properties that did not get a value
-    for (IBoundNamedModelInstance property : unhandledProperties) {
-      // use the default value of the collector
-      property.setValue(instance, property.newPropertyCollector().getValue());
-    }
   }
 
   @SuppressWarnings("resource") // not owned
   @Override
-  public List<Object> readItem(Object parentInstance, boolean requiresJsonKey, IJsonParsingContext context)
-      throws IOException {
+  public void readItem(Object parentInstance, boolean requiresJsonKey, IJsonParsingContext context,
+      IPropertyCollector collector) throws IOException {
 
     JsonUtil.assertCurrent(context.getReader(), JsonToken.FIELD_NAME, JsonToken.END_OBJECT);
 
@@ -383,7 +400,7 @@ public class DefaultAssemblyClassBinding // NOPMD - ok
 
       readInternal(instance, parentInstance, context);
 
-      return CollectionUtil.singletonList(instance);
+      collector.add(instance);
     } catch (BindingException ex) {
       throw new IOException(ex);
     }
@@ -422,14 +439,8 @@ public class DefaultAssemblyClassBinding // NOPMD - ok
     }
 
     IBoundFlagInstance jsonKey = getJsonKeyFlagInstance();
-    Map<String, ? extends IBoundNamedInstance> properties;
-    if (jsonKey == null) {
-      properties = getNamedInstances(null);
-    } else {
-      properties = getNamedInstances((flag) -> {
-        return !jsonKey.equals(flag);
-      });
-
+    JsonPropertyTable properties = getJsonPropertyTable(jsonKey != null);
+    if (jsonKey != null) {
       // if there is a json key, the first field will be the key
       String key = ObjectUtils.notNull(parser.getCurrentName());
 
@@ -443,18 +454,18 @@ public class DefaultAssemblyClassBinding // NOPMD - ok
       // JsonUtil.assertAndAdvance(jsonParser, JsonToken.START_OBJECT);
     }
 
-    Set<String> handledProperties = new HashSet<>();
+    BitSet handledProperties = new BitSet(properties.size());
     while (!JsonToken.END_OBJECT.equals(parser.currentToken())) {
       String propertyName = parser.getCurrentName();
-      IBoundNamedInstance property = properties.get(propertyName);
+      int ordinal = properties.getOrdinal(propertyName);
 
       boolean handled = false;
-      if (property != null) {
-        handled = property.read(instance, context);
+      if (ordinal >= 0) {
+        handled = properties.getProperty(ordinal).read(instance, context);
       }
 
       if (handled) {
-        handledProperties.add(propertyName);
+        handledProperties.set(ordinal);
       } else {
         if (LOGGER.isWarnEnabled()) {
           LOGGER.warn("Unrecognized property named '{}' at '{}'", propertyName,
@@ -466,13 +477,11 @@ public class DefaultAssemblyClassBinding // NOPMD - ok
     }
 
     // set undefined properties
-    // TODO: re-implement this by removing the parsed properties from the properties map to speed up
-    for (Map.Entry<String, ? extends IBoundNamedInstance> entry : properties.entrySet()) {
-      if (!handledProperties.contains(entry.getKey())) {
-        // use the default value of the collector
-        IBoundNamedInstance property = ObjectUtils.notNull(entry.getValue());
-        property.setValue(instance, property.newPropertyCollector().getValue());
-      }
+    for (int ordinal = handledProperties.nextClearBit(0); ordinal < properties.size();
+        ordinal = handledProperties.nextClearBit(ordinal + 1)) {
+      // use the default value of the collector
+      IBoundNamedInstance property = properties.getProperty(ordinal);
+      property.setValue(instance, property.newPropertyCollector().getValue());
     }
 
     if (jsonKey != null) {
@@ -514,14 +523,8 @@ public class DefaultAssemblyClassBinding // NOPMD - ok
     }
 
     IBoundFlagInstance jsonKey = getJsonKeyFlagInstance();
-    Map<String, ? extends IBoundNamedInstance> properties;
-    if (jsonKey == null) {
-      properties = getNamedInstances(null);
-    } else {
-      properties = getNamedInstances((flag) -> {
-        return !jsonKey.equals(flag);
-      });
-
+    JsonPropertyTable properties = getJsonPropertyTable(jsonKey != null);
+    if (jsonKey != null) {
       // if there is a json key, the first field will be the key
       Object flagValue = jsonKey.getValue(instance);
       String key = jsonKey.getValueAsString(flagValue);
@@ -534,8 +537,8 @@ public class DefaultAssemblyClassBinding // NOPMD - ok
       writer.writeStartObject();
     }
 
-    for (IBoundNamedInstance property : properties.values()) {
-      ObjectUtils.notNull(property).write(instance, context);
+    for (IBoundNamedInstance property : properties.getProperties()) {
+      property.write(instance, context);
     }
 
     if (jsonKey != null) {
@@ -580,4 +583,70 @@ public class DefaultAssemblyClassBinding // NOPMD - ok
   protected Class<? extends IMetaschema> getMetaschemaClass() {
     return getMetaschemaAssemblyAnnotation().metaschema();
   }
+
+  /**
+   * An immutable table used to dispatch JSON properties to the bound instances that read and write
+   * them. Each property is assigned an ordinal, based on its position in the table, which allows the
+   * properties handled while reading an object to be tracked using a {@link BitSet}.
+   */
+  protected static final class JsonPropertyTable {
+    @NonNull
+    private final Map<String, Integer> ordinals;
+    @NonNull
+    private final List<IBoundNamedInstance> properties;
+
+    private JsonPropertyTable(@NonNull Map<String, ? extends IBoundNamedInstance> properties) {
+      Map<String, Integer> ordinals = new HashMap<>(); // NOPMD - intentional
+      List<IBoundNamedInstance> list = new ArrayList<>(properties.size());
+      for (Map.Entry<String, ? extends IBoundNamedInstance> entry : properties.entrySet()) {
+        ordinals.put(entry.getKey(), list.size());
+        list.add(entry.getValue());
+      }
+      this.ordinals = CollectionUtil.unmodifiableMap(ordinals);
+      this.properties = CollectionUtil.unmodifiableList(list);
+    }
+
+    /**
+     * Get the number of properties in the table.
+     *
+     * @return the number of properties
+     */
+    public int size() {
+      return properties.size();
+    }
+
+    /**
+     * Get the ordinal of the property with the provided JSON name.
+     *
+     * @param name
+     *          the JSON property name
+     * @return the ordinal, or {@code -1} if no property has the provided name
+     */
+    public int getOrdinal(@Nullable String name) {
+      Integer retval = ordinals.get(name);
+      return retval == null ? -1 : retval;
+    }
+
+    /**
+     * Get the property with the provided ordinal.
+     *
+     * @param ordinal
+     *          the property's ordinal
+     * @return the property
+     */
+    @NonNull
+    public IBoundNamedInstance getProperty(int ordinal) {
+      return ObjectUtils.notNull(properties.get(ordinal));
+    }
+
+    /**
+     * Get the properties in the table, ordered by ordinal.
+     *
+     * @return the properties
+     */
+    @NonNull
+    public List<IBoundNamedInstance> getProperties() {
+      return properties;
+    }
+  }
 }
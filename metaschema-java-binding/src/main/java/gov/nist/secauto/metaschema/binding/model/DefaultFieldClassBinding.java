@@ -49,7 +49,6 @@ import gov.nist.secauto.metaschema.model.common.constraint.IValueConstraintSuppo
 import gov.nist.secauto.metaschema.model.common.datatype.IDataTypeAdapter;
 import gov.nist.secauto.metaschema.model.common.datatype.markup.MarkupLine;
 import gov.nist.secauto.metaschema.model.common.datatype.markup.MarkupMultiline;
-import gov.nist.secauto.metaschema.model.common.util.CollectionUtil;
 import gov.nist.secauto.metaschema.model.common.util.ObjectUtils;
 import gov.nist.secauto.metaschema.model.common.util.XmlEventUtil;
 
@@ -57,7 +56,6 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
 import java.io.IOException;
-import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -70,7 +68,6 @@ import java.util.function.Supplier;
 
 import javax.xml.namespace.QName;
 import javax.xml.stream.XMLStreamException;
-import javax.xml.stream.events.StartElement;
 
 import edu.umd.cs.findbugs.annotations.NonNull;
 import edu.umd.cs.findbugs.annotations.Nullable;
@@ -288,17 +285,18 @@ public class DefaultFieldClassBinding
   }
 
   @Override
-  protected void readBody(Object instance, StartElement start, IXmlParsingContext context)
+  protected void readBody(Object instance, IXmlParsingContext context)
       throws IOException, XMLStreamException {
-    if (!getFieldValueInstance().read(instance, start, context)) {
-      throw new IOException(String.format("Missing field value at '%s", XmlEventUtil.toLocation(start)));
+    if (!getFieldValueInstance().read(instance, context)) {
+      throw new IOException(
+          String.format("Missing field value at '%s", XmlEventUtil.toString(context.getReader().getLocation())));
     }
   }
 
   @SuppressWarnings("resource") // not owned
   @Override
-  public List<Object> readItem(Object parentInstance, boolean requiresJsonKey, IJsonParsingContext context)
-      throws IOException {
+  public void readItem(Object parentInstance, boolean requiresJsonKey, IJsonParsingContext context,
+      IPropertyCollector collector) throws IOException {
     JsonParser jsonParser = context.getReader(); // NOPMD - intentional
 
     if (requiresJsonKey) {
@@ -311,17 +309,15 @@ public class DefaultFieldClassBinding
       JsonUtil.assertCurrent(jsonParser, JsonToken.FIELD_NAME, JsonToken.END_OBJECT);
     }
 
-    List<Object> retval;
     if (isCollapsible()) {
-      retval = readCollapsed(parentInstance, requiresJsonKey, context);
+      readCollapsed(parentInstance, requiresJsonKey, context, collector);
     } else {
-      retval = CollectionUtil.singletonList(readNormal(parentInstance, requiresJsonKey, context));
+      collector.add(readNormal(parentInstance, requiresJsonKey, context));
     }
 
     // if (!requiresJsonKey) {
     // JsonUtil.assertAndAdvance(jsonParser, JsonToken.END_OBJECT);
     // }
-    return retval;
   }
 
   @SuppressWarnings("resource") // not owned
@@ -482,9 +478,8 @@ public class DefaultFieldClassBinding
   }
 
   @SuppressWarnings("resource") // not owned
-  @NonNull
-  private List<Object> readCollapsed(@Nullable Object parentInstance, boolean requiresJsonKey,
-      IJsonParsingContext context) throws IOException {
+  private void readCollapsed(@Nullable Object parentInstance, boolean requiresJsonKey,
+      IJsonParsingContext context, @NonNull IPropertyCollector collector) throws IOException {
 
     Predicate<IBoundFlagInstance> flagFilter = null;
 
@@ -616,7 +611,6 @@ public class DefaultFieldClassBinding
 
     // now we need to clone one item per value
     // TODO: handle the case where there are no values
-    List<Object> retval;
     if (values == null) {
       try {
         Object item = newInstance();
@@ -632,12 +626,11 @@ public class DefaultFieldClassBinding
 
         callAfterDeserialize(item, parentInstance);
 
-        retval = CollectionUtil.singletonList(item);
+        collector.add(item);
       } catch (BindingException ex) {
         throw new IOException(ex);
       }
     } else {
-      List<Object> items = new ArrayList<>(values.size());
       for (Object value : values) {
         try {
           Object item = newInstance();
@@ -654,14 +647,12 @@ public class DefaultFieldClassBinding
           }
 
           callAfterDeserialize(item, parentInstance);
-          items.add(item);
+          collector.add(item);
         } catch (BindingException ex) {
           throw new IOException(ex);
         }
       }
-      retval = items;
     }
-    return retval;
   }
 
   @SuppressWarnings("resource") // not owned
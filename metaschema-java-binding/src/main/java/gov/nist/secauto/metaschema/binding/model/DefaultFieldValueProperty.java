@@ -49,7 +49,6 @@ import java.lang.reflect.Field;
 
 import javax.xml.namespace.QName;
 import javax.xml.stream.XMLStreamException;
-import javax.xml.stream.events.StartElement;
 
 import edu.umd.cs.findbugs.annotations.NonNull;
 import edu.umd.cs.findbugs.annotations.Nullable;
@@ -200,7 +199,7 @@ class DefaultFieldValueProperty
   }
 
   @Override
-  public boolean read(Object parentInstance, StartElement start, IXmlParsingContext context)
+  public boolean read(Object parentInstance, IXmlParsingContext context)
       throws IOException, XMLStreamException {
     Object value = readInternal(context);
     setValue(parentInstance, value);
@@ -0,0 +1,171 @@
+/*
+ * Portions of this software was developed by employees of the National Institute
+ * of Standards and Technology (NIST), an agency of the Federal Government and is
+ * being made available as a public service. Pursuant to title 17 United States
+ * Code Section 105, works of NIST employees are not subject to copyright
+ * protection in the United States. This software may be subject to foreign
+ * copyright. Permission in the United States and in foreign countries, to the
+ * extent that NIST may hold copyright, to use, copy, modify, create derivative
+ * works, and distribute this software and its documentation without fee is hereby
+ * granted on a non-exclusive basis, provided that this notice and disclaimer
+ * of warranty appears in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED 'AS IS' WITHOUT ANY WARRANTY OF ANY KIND, EITHER
+ * EXPRESSED, IMPLIED, OR STATUTORY, INCLUDING, BUT NOT LIMITED TO, ANY WARRANTY
+ * THAT THE SOFTWARE WILL CONFORM TO SPECIFICATIONS, ANY IMPLIED WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE, AND FREEDOM FROM
+ * INFRINGEMENT, AND ANY WARRANTY THAT THE DOCUMENTATION WILL CONFORM TO THE
+ * SOFTWARE, OR ANY WARRANTY THAT THE SOFTWARE WILL BE ERROR FREE.  IN NO EVENT
+ * SHALL NIST BE LIABLE FOR ANY DAMAGES, INCLUDING, BUT NOT LIMITED TO, DIRECT,
+ * INDIRECT, SPECIAL OR CONSEQUENTIAL DAMAGES, ARISING OUT OF, RESULTING FROM,
+ * OR IN ANY WAY CONNECTED WITH THIS SOFTWARE, WHETHER OR NOT BASED UPON WARRANTY,
+ * CONTRACT, TORT, OR OTHERWISE, WHETHER OR NOT INJURY WAS SUSTAINED BY PERSONS OR
+ * PROPERTY OR OTHERWISE, AND WHETHER OR NOT LOSS WAS SUSTAINED FROM, OR AROSE OUT
+ * OF THE RESULTS OF, OR USE OF, THE SOFTWARE OR SERVICES PROVIDED HEREUNDER.
+ */
+
+package gov.nist.secauto.metaschema.binding.model;
+
+import gov.nist.secauto.metaschema.binding.io.BindingException;
+import gov.nist.secauto.metaschema.model.common.util.ObjectUtils;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.util.function.BiConsumer;
+import java.util.function.Supplier;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
+
+/**
+ * A class accessor that uses {@link LambdaMetafactory} to generate classes that call the bound
+ * class's constructor and deserialization methods directly. Unlike reflective calls, these can be
+ * inlined by the JIT.
+ */
+final class GeneratedClassAccessor implements IClassAccessor {
+  private static final Logger LOGGER = LogManager.getLogger(GeneratedClassAccessor.class);
+
+  @NonNull
+  private static final MethodType SUPPLIER_TYPE = MethodType.methodType(Object.class);
+  @NonNull
+  private static final MethodType BI_CONSUMER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+
+  @NonNull
+  private final Supplier<?> constructor;
+  @Nullable
+  private final BiConsumer<Object, Object> beforeDeserialize;
+  @Nullable
+  private final BiConsumer<Object, Object> afterDeserialize;
+
+  /**
+   * Generate an accessor for the provided bound class.
+   *
+   * @param clazz
+   *          the bound class
+   * @return the accessor, or {@code null} if an accessor could not be generated, in which case the
+   *         caller is expected to fall back to using reflection
+   */
+  @Nullable
+  public static GeneratedClassAccessor newInstance(@NonNull Class<?> clazz) {
+    GeneratedClassAccessor retval;
+    try {
+      retval = new GeneratedClassAccessor(
+          newConstructor(clazz),
+          newMethodCaller(ClassIntrospector.getMatchingMethod(clazz, "beforeDeserialize", Object.class)),
+          newMethodCaller(ClassIntrospector.getMatchingMethod(clazz, "afterDeserialize", Object.class)));
+    } catch (Throwable ex) { // NOPMD - any failure results in the reflective fallback
+      if (LOGGER.isDebugEnabled()) {
+        LOGGER.debug(String.format("Unable to generate an accessor for class '%s'. Using reflection instead.",
+            clazz.getName()), ex);
+      }
+      retval = null;
+    }
+    return retval;
+  }
+
+  private GeneratedClassAccessor(
+      @NonNull Supplier<?> constructor,
+      @Nullable BiConsumer<Object, Object> beforeDeserialize,
+      @Nullable BiConsumer<Object, Object> afterDeserialize) {
+    this.constructor = constructor;
+    this.beforeDeserialize = beforeDeserialize;
+    this.afterDeserialize = afterDeserialize;
+  }
+
+  @NonNull
+  private static Supplier<?> newConstructor(@NonNull Class<?> clazz) throws Throwable {
+    MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(clazz, MethodHandles.lookup());
+    MethodHandle target = lookup.findConstructor(clazz, MethodType.methodType(void.class));
+
+    CallSite site = LambdaMetafactory.metafactory(
+        lookup,
+        "get",
+        MethodType.methodType(Supplier.class),
+        SUPPLIER_TYPE,
+        target,
+        MethodType.methodType(clazz));
+    return ObjectUtils.notNull((Supplier<?>) site.getTarget().invoke());
+  }
+
+  @SuppressWarnings("unchecked")
+  @Nullable
+  private static BiConsumer<Object, Object> newMethodCaller(@Nullable Method method) throws Throwable {
+    if (method == null) {
+      return null;
+    }
+
+    // the method may be declared on a superclass, which is where the generated class needs to live
+    Class<?> declaringClass = method.getDeclaringClass();
+    MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(declaringClass, MethodHandles.lookup());
+    MethodHandle target = lookup.unreflect(method);
+
+    CallSite site = LambdaMetafactory.metafactory(
+        lookup,
+        "accept",
+        MethodType.methodType(BiConsumer.class),
+        BI_CONSUMER_TYPE,
+        target,
+        MethodType.methodType(void.class, declaringClass, Object.class));
+    return (BiConsumer<Object, Object>) site.getTarget().invoke();
+  }
+
+  @Override
+  public <CLASS> CLASS newInstance() throws BindingException {
+    try {
+      @SuppressWarnings("unchecked") CLASS retval = (CLASS) constructor.get();
+      return ObjectUtils.notNull(retval);
+    } catch (RuntimeException ex) {
+      throw new BindingException(ex);
+    }
+  }
+
+  @Override
+  public void callBeforeDeserialize(Object objectInstance, Object parentInstance) throws BindingException {
+    call(beforeDeserialize, objectInstance, parentInstance);
+  }
+
+  @Override
+  public void callAfterDeserialize(Object objectInstance, Object parentInstance) throws BindingException {
+    call(afterDeserialize, objectInstance, parentInstance);
+  }
+
+  private static void call(
+      @Nullable BiConsumer<Object, Object> caller,
+      @NonNull Object objectInstance,
+      Object parentInstance) throws BindingException {
+    if (caller != null) {
+      try {
+        caller.accept(objectInstance, parentInstance);
+      } catch (RuntimeException ex) {
+        throw new BindingException(ex);
+      }
+    }
+  }
+}
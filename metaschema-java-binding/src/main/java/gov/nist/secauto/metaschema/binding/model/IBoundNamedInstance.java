@@ -45,8 +45,6 @@ import java.util.Set;
 
 import javax.xml.namespace.QName;
 import javax.xml.stream.XMLStreamException;
-import javax.xml.stream.events.StartElement;
-import javax.xml.stream.events.XMLEvent;
 
 import edu.umd.cs.findbugs.annotations.NonNull;
 
@@ -119,24 +117,7 @@ public interface IBoundNamedInstance extends INamedInstance {
    * @return the value if available, or {@code null} otherwise
    */
   @Override
-  default Object getValue(@NonNull Object parentInstance) {
-    Field field = getField();
-    boolean accessable = field.canAccess(parentInstance);
-    field.setAccessible(true); // NOPMD - intentional
-    Object retval;
-    try {
-      Object result = field.get(parentInstance);
-      retval = result;
-    } catch (IllegalArgumentException | IllegalAccessException ex) {
-      throw new IllegalArgumentException(
-          String.format("Unable to get the value of field '%s' in class '%s'.", field.getName(),
-              field.getDeclaringClass().getName()),
-          ex);
-    } finally {
-      field.setAccessible(accessable); // NOPMD - intentional
-    }
-    return retval;
-  }
+  Object getValue(@NonNull Object parentInstance);
 
   /**
    * Set the provided value on the provided object. The provided object must be of the item's type
@@ -148,21 +129,7 @@ public interface IBoundNamedInstance extends INamedInstance {
    *          a value, which may be a simple {@link Type} or a {@link ParameterizedType} for a
    *          collection
    */
-  default void setValue(@NonNull Object parentInstance, Object value) {
-    Field field = getField();
-    boolean accessable = field.canAccess(parentInstance);
-    field.setAccessible(true); // NOPMD - intentional
-    try {
-      field.set(parentInstance, value);
-    } catch (IllegalArgumentException | IllegalAccessException ex) {
-      throw new IllegalArgumentException(
-          String.format("Unable to set the value of field '%s' in class '%s'.", field.getName(),
-              field.getDeclaringClass().getName()),
-          ex);
-    } finally {
-      field.setAccessible(accessable); // NOPMD - intentional
-    }
-  }
+  void setValue(@NonNull Object parentInstance, Object value);
 
   @NonNull
   IPropertyCollector newPropertyCollector();
@@ -204,13 +171,15 @@ public interface IBoundNamedInstance extends INamedInstance {
   Object read(@NonNull IJsonParsingContext context) throws IOException;
 
   /**
-   * Read the XML data associated with this property and apply it to the provided
-   * {@code objectInstance} on which this property exists.
+   * Read the XML data associated with this property using a cursor-based XML reader and apply it to
+   * the provided {@code objectInstance} on which this property exists.
+   * <p>
+   * For a flag, the reader's current event is the containing XML element's start element, which
+   * holds the attributes to read. Otherwise, the reader's current event is the next event in the
+   * containing XML element's content that has not been consumed.
    *
    * @param objectInstance
    *          an instance of the class on which this property exists
-   * @param parent
-   *          the containing XML element that was previously parsed
    * @param context
    *          the XML parsing context
    * @return {@code true} if the property was parsed, or {@code false} if the data did not contain
@@ -218,9 +187,9 @@ public interface IBoundNamedInstance extends INamedInstance {
    * @throws IOException
    *           if there was an error when reading XML data
    * @throws XMLStreamException
-   *           if there was an error generating an {@link XMLEvent} from the XML
+   *           if there was an error reading the XML
    */
-  boolean read(@NonNull Object objectInstance, @NonNull StartElement parent, @NonNull IXmlParsingContext context)
+  boolean read(@NonNull Object objectInstance, @NonNull IXmlParsingContext context)
       throws IOException, XMLStreamException;
 
   // /**
@@ -45,9 +45,8 @@ import java.util.List;
 import java.util.Map;
 
 import javax.xml.namespace.QName;
+import javax.xml.stream.XMLStreamConstants;
 import javax.xml.stream.XMLStreamException;
-import javax.xml.stream.events.StartElement;
-import javax.xml.stream.events.XMLEvent;
 
 import edu.umd.cs.findbugs.annotations.NonNull;
 import edu.umd.cs.findbugs.annotations.Nullable;
@@ -166,21 +165,23 @@ public interface IBoundNamedModelInstance extends IBoundNamedInstance, INamedMod
   Collection<? extends Object> getItemValues(Object value);
 
   /**
-   * Reads an individual XML item from the XML stream.
+   * Reads an individual XML item using a cursor-based XML reader.
+   * <p>
+   * When called, the reader's current event is expected to be the next event that has not been
+   * consumed. After returning, the reader is positioned on the event after the item's
+   * {@link XMLStreamConstants#END_ELEMENT}.
    *
    * @param parentInstance
    *          the object the data is parsed into
-   * @param start
-   *          the current containing XML element
    * @param context
    *          the XML parsing context
    * @return the item read, or {@code null} if no item was read
    * @throws XMLStreamException
-   *           if an error occurred while generating an {@link XMLEvent}
+   *           if an error occurred while reading the XML
    * @throws IOException
    *           if an error occurred reading the underlying XML file
    */
-  Object readItem(@Nullable Object parentInstance, @NonNull StartElement start, @NonNull IXmlParsingContext context)
+  Object readItem(@Nullable Object parentInstance, @NonNull IXmlParsingContext context)
       throws XMLStreamException, IOException;
 
   /**
@@ -199,8 +200,31 @@ public interface IBoundNamedModelInstance extends IBoundNamedInstance, INamedMod
    *           if an error occurred reading the underlying XML file
    */
   @NonNull
-  List<Object> readItem(@Nullable Object parentInstance, boolean requiresJsonKey,
-      @NonNull IJsonParsingContext context) throws IOException;
+  default List<Object> readItem(@Nullable Object parentInstance, boolean requiresJsonKey,
+      @NonNull IJsonParsingContext context) throws IOException {
+    ListPropertyCollector collector = new ListPropertyCollector(1);
+    readItem(parentInstance, requiresJsonKey, context, collector);
+    return collector.getValue();
+  }
+
+  /**
+   * Reads a set of JSON items from the JSON stream, adding each item read to the provided collector.
+   * <p>
+   * An item is a complete value, which can be a {@link JsonToken#START_OBJECT}, or a value token.
+   *
+   * @param parentInstance
+   *          the object the data is parsed into
+   * @param requiresJsonKey
+   *          when {@code true} indicates that the item will have a JSON key
+   * @param context
+   *          the JSON/YAML parsing context
+   * @param collector
+   *          the collector to add the items read to
+   * @throws IOException
+   *           if an error occurred reading the underlying JSON file
+   */
+  void readItem(@Nullable Object parentInstance, boolean requiresJsonKey,
+      @NonNull IJsonParsingContext context, @NonNull IPropertyCollector collector) throws IOException;
 
   void writeItem(@NonNull Object itemValue, @NonNull QName parentName, @NonNull IXmlWritingContext context)
       throws XMLStreamException, IOException;
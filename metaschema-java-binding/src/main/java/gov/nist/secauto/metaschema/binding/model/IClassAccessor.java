@@ -0,0 +1,99 @@
+/*
+ * Portions of this software was developed by employees of the National Institute
+ * of Standards and Technology (NIST), an agency of the Federal Government and is
+ * being made available as a public service. Pursuant to title 17 United States
+ * Code Section 105, works of NIST employees are not subject to copyright
+ * protection in the United States. This software may be subject to foreign
+ * copyright. Permission in the United States and in foreign countries, to the
+ * extent that NIST may hold copyright, to use, copy, modify, create derivative
+ * works, and distribute this software and its documentation without fee is hereby
+ * granted on a non-exclusive basis, provided that this notice and disclaimer
+ * of warranty appears in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED 'AS IS' WITHOUT ANY WARRANTY OF ANY KIND, EITHER
+ * EXPRESSED, IMPLIED, OR STATUTORY, INCLUDING, BUT NOT LIMITED TO, ANY WARRANTY
+ * THAT THE SOFTWARE WILL CONFORM TO SPECIFICATIONS, ANY IMPLIED WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE, AND FREEDOM FROM
+ * INFRINGEMENT, AND ANY WARRANTY THAT THE DOCUMENTATION WILL CONFORM TO THE
+ * SOFTWARE, OR ANY WARRANTY THAT THE SOFTWARE WILL BE ERROR FREE.  IN NO EVENT
+ * SHALL NIST BE LIABLE FOR ANY DAMAGES, INCLUDING, BUT NOT LIMITED TO, DIRECT,
+ * INDIRECT, SPECIAL OR CONSEQUENTIAL DAMAGES, ARISING OUT OF, RESULTING FROM,
+ * OR IN ANY WAY CONNECTED WITH THIS SOFTWARE, WHETHER OR NOT BASED UPON WARRANTY,
+ * CONTRACT, TORT, OR OTHERWISE, WHETHER OR NOT INJURY WAS SUSTAINED BY PERSONS OR
+ * PROPERTY OR OTHERWISE, AND WHETHER OR NOT LOSS WAS SUSTAINED FROM, OR AROSE OUT
+ * OF THE RESULTS OF, OR USE OF, THE SOFTWARE OR SERVICES PROVIDED HEREUNDER.
+ */
+
+package gov.nist.secauto.metaschema.binding.model;
+
+import gov.nist.secauto.metaschema.binding.io.BindingException;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+
+/**
+ * Provides the operations used to create and initialize instances of a bound class during
+ * deserialization and copying.
+ */
+interface IClassAccessor {
+
+  /**
+   * Create a new accessor for the provided bound class.
+   * <p>
+   * If {@code generated} is {@code true}, an accessor using classes generated at runtime is created
+   * if possible. Otherwise, a reflection-based accessor is returned.
+   *
+   * @param clazz
+   *          the bound class
+   * @param generated
+   *          {@code true} if a generated accessor is preferred, or {@code false} otherwise
+   * @return the new accessor
+   */
+  @NonNull
+  static IClassAccessor newInstance(@NonNull Class<?> clazz, boolean generated) {
+    IClassAccessor retval = null;
+    if (generated) {
+      retval = GeneratedClassAccessor.newInstance(clazz);
+    }
+
+    if (retval == null) {
+      retval = new ReflectiveClassAccessor(clazz);
+    }
+    return retval;
+  }
+
+  /**
+   * Gets a new instance of the bound class.
+   *
+   * @param <CLASS>
+   *          the type of the bound class
+   * @return a Java object for the class
+   * @throws BindingException
+   *           if the instance cannot be created due to a binding error
+   */
+  @NonNull
+  <CLASS> CLASS newInstance() throws BindingException;
+
+  /**
+   * Calls the "beforeDeserialize" method on the provided object, if the method exists.
+   *
+   * @param objectInstance
+   *          the object instance
+   * @param parentInstance
+   *          the object's parent object instance
+   * @throws BindingException
+   *           if an error occurs while calling the method
+   */
+  void callBeforeDeserialize(@NonNull Object objectInstance, Object parentInstance) throws BindingException;
+
+  /**
+   * Calls the "afterDeserialize" method on the provided object, if the method exists.
+   *
+   * @param objectInstance
+   *          the object instance
+   * @param parentInstance
+   *          the object's parent object instance
+   * @throws BindingException
+   *           if an error occurs while calling the method
+   */
+  void callAfterDeserialize(@NonNull Object objectInstance, Object parentInstance) throws BindingException;
+}
@@ -48,8 +48,6 @@ import java.util.function.Predicate;
 import javax.xml.namespace.QName;
 import javax.xml.stream.XMLStreamConstants;
 import javax.xml.stream.XMLStreamException;
-import javax.xml.stream.events.StartElement;
-import javax.xml.stream.events.XMLEvent;
 
 import edu.umd.cs.findbugs.annotations.NonNull;
 import edu.umd.cs.findbugs.annotations.Nullable;
@@ -103,36 +101,61 @@ public interface IClassBinding extends IBoundModelDefinition {
    */
   // TODO: check if a boolean return value is needed
   @NonNull
-  List<Object> readItem(@Nullable Object parentInstance, boolean requiresJsonKey,
+  default List<Object> readItem(@Nullable Object parentInstance, boolean requiresJsonKey,
       @NonNull IJsonParsingContext context)
+      throws IOException {
+    ListPropertyCollector collector = new ListPropertyCollector(1);
+    readItem(parentInstance, requiresJsonKey, context, collector);
+    return collector.getValue();
+  }
+
+  /**
+   * Reads a JSON/YAML object storing the associated data in the Java object {@code parentInstance},
+   * adding the resulting instances to the provided collector.
+   * <p>
+   * The parser is expected to be positioned as described in
+   * {@link #readItem(Object, boolean, IJsonParsingContext)}.
+   *
+   * @param parentInstance
+   *          the parent Java object to store the data in, which can be {@code null} if there is no
+   *          parent
+   * @param requiresJsonKey
+   *          when {@code true} indicates that the item will have a JSON key
+   * @param context
+   *          the parsing context
+   * @param collector
+   *          the collector to add the parsed instances to
+   * @throws IOException
+   *           if an error occurred while reading the parsed content
+   */
+  void readItem(@Nullable Object parentInstance, boolean requiresJsonKey,
+      @NonNull IJsonParsingContext context, @NonNull IPropertyCollector collector)
       throws IOException;
 
   /**
-   * Reads a XML element storing the associated data in a Java class instance, returning the resulting
-   * instance.
+   * Reads a XML element using a cursor-based XML reader, storing the associated data in a Java class
+   * instance and returning the resulting instance.
    * <p>
-   * When called the next {@link XMLEvent} of the {@link XMLStreamReader2} is expected to be a
-   * {@link XMLStreamConstants#START_ELEMENT} that is the XML element associated with the Java class.
+   * When called, the current event of the {@link XMLStreamReader2} is expected to be the
+   * {@link XMLStreamConstants#START_ELEMENT} of the XML element associated with the Java class. Its
+   * attributes are read before the start element is consumed.
    * <p>
-   * After returning the next {@link XMLEvent} of the {@link XMLStreamReader2} is expected to be a the
-   * next event after the {@link XMLStreamConstants#END_ELEMENT} for the XML
-   * {@link XMLStreamConstants#START_ELEMENT} element associated with the Java class.
+   * After returning, the {@link XMLStreamReader2} is positioned on the event after the
+   * {@link XMLStreamConstants#END_ELEMENT} for this XML element.
    *
    * @param parentInstance
    *          the Java instance for the object containing this object, which can be {@code null} if
    *          there is no parent
-   * @param start
-   *          the containing start element
    * @param context
    *          the parsing context
-   * @return the instance or {@code null} if no data was parsed
+   * @return the instance
    * @throws IOException
    *           if an error occurred while reading the parsed content
    * @throws XMLStreamException
    *           if an error occurred while parsing the content as XML
    */
   @NonNull
-  Object readItem(@Nullable Object parentInstance, @NonNull StartElement start, @NonNull IXmlParsingContext context)
+  Object readItem(@Nullable Object parentInstance, @NonNull IXmlParsingContext context)
       throws IOException, XMLStreamException;
 
   void writeItem(@NonNull Object item, @NonNull QName parentName, @NonNull IXmlWritingContext context)
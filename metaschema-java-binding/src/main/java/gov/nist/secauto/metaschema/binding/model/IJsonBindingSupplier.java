@@ -50,6 +50,31 @@ public interface IJsonBindingSupplier {
    *           if an error occurred while parsing
    */
   @NonNull
-  List<Object> get(@Nullable Object parentInstance, boolean requiresJsonKey, @NonNull IJsonParsingContext context)
+  default List<Object> get(@Nullable Object parentInstance, boolean requiresJsonKey,
+      @NonNull IJsonParsingContext context)
+      throws IOException {
+    ListPropertyCollector collector = new ListPropertyCollector(1);
+    get(parentInstance, requiresJsonKey, context, collector);
+    return collector.getValue();
+  }
+
+  /**
+   * Parse the next set of items from the JSON, adding each parsed item to the provided collector.
+   * <p>
+   * This avoids allocating an intermediate list when the items are destined for a property value.
+   *
+   * @param parentInstance
+   *          an optional parent object to use for serialization callbacks
+   * @param requiresJsonKey
+   *          when {@code true} indicates that the item will have a JSON key
+   * @param context
+   *          the JSON parser
+   * @param collector
+   *          the collector to add the parsed items to
+   * @throws IOException
+   *           if an error occurred while parsing
+   */
+  void get(@Nullable Object parentInstance, boolean requiresJsonKey, @NonNull IJsonParsingContext context,
+      @NonNull IPropertyCollector collector)
       throws IOException;
 }
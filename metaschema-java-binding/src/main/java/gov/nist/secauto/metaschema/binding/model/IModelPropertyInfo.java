@@ -37,7 +37,6 @@ import java.util.Collection;
 
 import javax.xml.namespace.QName;
 import javax.xml.stream.XMLStreamException;
-import javax.xml.stream.events.StartElement;
 
 import edu.umd.cs.findbugs.annotations.NonNull;
 import edu.umd.cs.findbugs.annotations.Nullable;
@@ -84,7 +83,24 @@ public interface IModelPropertyInfo {
       @NonNull IJsonParsingContext context)
       throws IOException;
 
-  boolean readValue(@NonNull IPropertyCollector collector, @Nullable Object parentInstance, @NonNull StartElement start,
+  /**
+   * Read the value data for the property using a cursor-based XML reader. At the point that this is
+   * called, the reader is positioned on the next event that has not been consumed, which may be the
+   * start element of the first item.
+   *
+   * @param collector
+   *          used to hold parsed values
+   * @param parentInstance
+   *          the instance the property is on
+   * @param context
+   *          the XML parsing context
+   * @return {@code true} if a value was read, or {@code false} otherwise
+   * @throws IOException
+   *           if there was an error when reading XML data
+   * @throws XMLStreamException
+   *           if there was an error reading the XML
+   */
+  boolean readValue(@NonNull IPropertyCollector collector, @Nullable Object parentInstance,
       @NonNull IXmlParsingContext context)
       throws IOException, XMLStreamException;
 
@@ -79,18 +79,17 @@ public interface IRootAssemblyClassBinding extends IAssemblyClassBinding, IRootA
   Object readRoot(@NonNull IJsonParsingContext context) throws IOException;
 
   /**
-   * Parses XML into a bound object. This assembly must be a root assembly for which a call to
-   * {@link IAssemblyClassBinding#isRoot()} will return {@code true}.
+   * Read the root element's content using a cursor-based XML reader. Any events preceding the root
+   * element are consumed.
    *
    * @param context
    *          the XML parser
-   * @return the bound object instance representing the JSON object
+   * @return the bound object instance representing the root element
    * @throws XMLStreamException
-   *           if an error occurred while parsing into XML
+   *           if an error occurred while parsing the XML
    * @throws IOException
    *           if an error occurred while reading the input
    */
-  // TODO: merge the XMLStreamException into IOException
   @NonNull
   Object readRoot(@NonNull IXmlParsingContext context) throws XMLStreamException, IOException;
 
@@ -31,14 +31,29 @@ import gov.nist.secauto.metaschema.binding.io.xml.IXmlParsingContext;
 import java.io.IOException;
 
 import javax.xml.stream.XMLStreamException;
-import javax.xml.stream.events.StartElement;
 
 import edu.umd.cs.findbugs.annotations.NonNull;
 import edu.umd.cs.findbugs.annotations.Nullable;
 
-@FunctionalInterface
 interface IXmlBindingSupplier {
+  /**
+   * Read an item using a cursor-based XML reader.
+   * <p>
+   * When the item is wrapped in an element, the reader's current event is that element's start
+   * element. Otherwise, it is the first event of the item's value. The item is consumed completely,
+   * including the wrapping element if there is one.
+   *
+   * @param parentInstance
+   *          the object the data is parsed into
+   * @param context
+   *          the XML parsing context
+   * @return the item read
+   * @throws IOException
+   *           if there was an error when reading XML data
+   * @throws XMLStreamException
+   *           if there was an error reading the XML
+   */
   @NonNull
-  Object get(@Nullable Object parentInstance, @NonNull StartElement start, @NonNull IXmlParsingContext context)
+  Object get(@Nullable Object parentInstance, @NonNull IXmlParsingContext context)
       throws IOException, XMLStreamException;
 }
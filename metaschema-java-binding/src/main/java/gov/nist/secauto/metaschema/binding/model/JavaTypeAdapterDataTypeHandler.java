@@ -32,16 +32,17 @@ import gov.nist.secauto.metaschema.binding.io.json.IJsonWritingContext;
 import gov.nist.secauto.metaschema.binding.io.xml.IXmlParsingContext;
 import gov.nist.secauto.metaschema.binding.io.xml.IXmlWritingContext;
 import gov.nist.secauto.metaschema.model.common.datatype.IDataTypeAdapter;
-import gov.nist.secauto.metaschema.model.common.util.CollectionUtil;
 import gov.nist.secauto.metaschema.model.common.util.ObjectUtils;
+import gov.nist.secauto.metaschema.model.common.util.XmlEventUtil;
+
+import org.codehaus.stax2.XMLStreamReader2;
 
 import java.io.IOException;
 import java.util.Collection;
-import java.util.List;
 
 import javax.xml.namespace.QName;
+import javax.xml.stream.XMLStreamConstants;
 import javax.xml.stream.XMLStreamException;
-import javax.xml.stream.events.StartElement;
 
 import edu.umd.cs.findbugs.annotations.NonNull;
 
@@ -76,19 +77,33 @@ class JavaTypeAdapterDataTypeHandler implements IDataTypeHandler {
   }
 
   @Override
-  public List<Object> get(Object parentInstance, boolean requiresJsonKey, IJsonParsingContext context)
-      throws IOException {
+  public void get(Object parentInstance, boolean requiresJsonKey, IJsonParsingContext context,
+      IPropertyCollector collector) throws IOException {
     if (requiresJsonKey) {
       throw new IOException("A scalar datatype cannot have a JSON key.");
     }
-    Object value = getJavaTypeAdapter().parse(context.getReader());
-    return CollectionUtil.singletonList(value);
+    collector.add(getJavaTypeAdapter().parse(context.getReader()));
   }
 
   @Override
-  public Object get(Object parentInstance, StartElement start, IXmlParsingContext context)
+  public Object get(Object parentInstance, IXmlParsingContext context)
       throws IOException, XMLStreamException {
-    return getJavaTypeAdapter().parse(context.getReader());
+    AbstractFieldProperty property = getProperty();
+    XMLStreamReader2 reader = context.getReader();
+
+    boolean wrapped = property.isValueWrappedInXml();
+    if (wrapped) {
+      // consume the start element
+      XmlEventUtil.consumeAndAssert(reader, XMLStreamConstants.START_ELEMENT, property.getXmlQName());
+    }
+
+    Object retval = getJavaTypeAdapter().parse(reader);
+
+    if (wrapped) {
+      // consume the end element
+      XmlEventUtil.consumeAndAssert(reader, XMLStreamConstants.END_ELEMENT, property.getXmlQName());
+    }
+    return retval;
   }
 
   @Override
@@ -26,35 +26,91 @@
 
 package gov.nist.secauto.metaschema.binding.model;
 
+import java.util.ArrayList;
 import java.util.Collection;
-import java.util.LinkedList;
 import java.util.List;
 
 import edu.umd.cs.findbugs.annotations.NonNull;
 
+/**
+ * Collects the items of a list-valued property into an array-backed list.
+ * <p>
+ * The backing list is allocated on the first added item using the capacity hint provided at
+ * construction, so properties that end up empty do not allocate an item array.
+ */
 class ListPropertyCollector
     implements IPropertyCollector {
-  @NonNull
-  private final List<Object> collection;
+  /**
+   * The largest capacity that will be allocated up front based on a hint. Larger lists grow as
+   * items are added.
+   */
+  static final int MAX_INITIAL_CAPACITY = 16;
+
+  private final int initialCapacity;
+  private ArrayList<Object> collection;
 
+  /**
+   * Construct a new collector using the default list capacity.
+   */
   public ListPropertyCollector() {
-    this.collection = new LinkedList<>();
+    this(0);
+  }
+
+  /**
+   * Construct a new collector whose backing list is sized to hold the expected number of items.
+   *
+   * @param expectedSize
+   *          the number of items that are expected to be collected, or {@code 0} if unknown
+   */
+  public ListPropertyCollector(int expectedSize) {
+    this.initialCapacity = Math.min(Math.max(expectedSize, 0), MAX_INITIAL_CAPACITY);
+  }
+
+  @NonNull
+  private ArrayList<Object> getCollection() {
+    ArrayList<Object> retval = collection;
+    if (retval == null) {
+      retval = initialCapacity == 0 ? new ArrayList<>() : new ArrayList<>(initialCapacity);
+      collection = retval;
+    }
+    return retval;
+  }
+
+  /**
+   * Ensure that the collector can hold the provided number of additional items without growing.
+   * This is used when the exact number of items is known ahead of time, such as when copying.
+   *
+   * @param additionalItems
+   *          the number of items that will be added
+   */
+  public void ensureCapacity(int additionalItems) {
+    if (collection == null) {
+      collection = new ArrayList<>(Math.max(additionalItems, initialCapacity));
+    } else {
+      collection.ensureCapacity(collection.size() + additionalItems);
+    }
   }
 
   @Override
   public void add(Object item) {
     assert item != null;
-    collection.add(item);
+    getCollection().add(item);
   }
 
   @NonNull
   @Override
-  public List<?> getValue() {
+  public List<Object> getValue() {
+    if (collection == null) {
+      // nothing was added, avoid allocating an item array for the empty value
+      collection = new ArrayList<>();
+    }
     return collection;
   }
 
   @Override
   public void addAll(Collection<? extends Object> items) {
-    collection.addAll(items);
+    if (!items.isEmpty()) {
+      getCollection().addAll(items);
+    }
   }
 }
@@ -41,7 +41,7 @@ import gov.nist.secauto.metaschema.model.common.util.CollectionUtil;
 import gov.nist.secauto.metaschema.model.common.util.ObjectUtils;
 import gov.nist.secauto.metaschema.model.common.util.XmlEventUtil;
 
-import org.codehaus.stax2.XMLEventReader2;
+import org.codehaus.stax2.XMLStreamReader2;
 
 import java.io.IOException;
 import java.lang.reflect.ParameterizedType;
@@ -49,8 +49,6 @@ import java.util.List;
 
 import javax.xml.namespace.QName;
 import javax.xml.stream.XMLStreamException;
-import javax.xml.stream.events.StartElement;
-import javax.xml.stream.events.XMLEvent;
 
 import edu.umd.cs.findbugs.annotations.NonNull;
 
@@ -70,7 +68,9 @@ class ListPropertyInfo
 
   @Override
   public ListPropertyCollector newPropertyCollector() {
-    return new ListPropertyCollector();
+    // use a bounded cardinality as a size hint, since no more items than this are expected
+    int maxOccurs = getProperty().getMaxOccurs();
+    return maxOccurs == -1 ? new ListPropertyCollector() : new ListPropertyCollector(maxOccurs);
   }
 
   @Override
@@ -90,30 +90,25 @@ class ListPropertyInfo
   }
 
   @Override
-  public boolean readValue(IPropertyCollector collector, Object parentInstance, StartElement start,
-      IXmlParsingContext context) throws IOException, XMLStreamException {
-    XMLEventReader2 eventReader = context.getReader();
+  public boolean readValue(IPropertyCollector collector, Object parentInstance, IXmlParsingContext context)
+      throws IOException, XMLStreamException {
+    XMLStreamReader2 reader = context.getReader();
 
-    // TODO: is this needed?
     // consume extra whitespace between elements
-    XmlEventUtil.skipWhitespace(eventReader);
+    XmlEventUtil.skipWhitespace(reader);
 
     QName expectedFieldItemQName = getProperty().getXmlQName();
 
     boolean handled = false;
-    XMLEvent event;
-
-    while ((event = eventReader.peek()).isStartElement()
-        && expectedFieldItemQName.equals(event.asStartElement().getName())) {
-
-      Object value = getProperty().readItem(parentInstance, start, context);
+    while (XmlEventUtil.isEventStartElement(reader, expectedFieldItemQName)) {
+      Object value = getProperty().readItem(parentInstance, context);
       if (value != null) {
         collector.add(value);
         handled = true;
       }
 
       // consume extra whitespace between elements
-      XmlEventUtil.skipWhitespace(eventReader);
+      XmlEventUtil.skipWhitespace(reader);
     }
 
     return handled;
@@ -136,8 +131,7 @@ class ListPropertyInfo
 
       // this is a singleton, just parse the value as a single item
       IBoundNamedModelInstance property = getProperty();
-      List<Object> values = property.readItem(parentInstance, false, context);
-      collector.addAll(values);
+      property.readItem(parentInstance, false, context, collector);
 
       // if (isObject) {
       // // read the object's END_OBJECT
@@ -149,6 +143,21 @@ class ListPropertyInfo
       // this is an array, we need to parse the array wrapper then each item
       JsonUtil.assertAndAdvance(parser, JsonToken.START_ARRAY);
 
+      ParallelJsonItemBinder binder
+          = ParallelJsonItemBinder.newInstance(getProperty(), parentInstance, context, collector);
+      if (binder != null) {
+        // bind the items in parallel, while reading the items here
+        try {
+          while (!JsonToken.END_ARRAY.equals(parser.currentToken())) {
+            binder.submit(false);
+          }
+          binder.complete();
+        } finally {
+          // only has an effect if reading the items failed
+          binder.cancel();
+        }
+      }
+
       // parse items
       while (!JsonToken.END_ARRAY.equals(parser.currentToken())) {
         //
@@ -158,8 +167,7 @@ class ListPropertyInfo
         // JsonUtil.assertAndAdvance(parser, JsonToken.START_OBJECT);
         // }
 
-        List<Object> values = getProperty().readItem(parentInstance, false, context);
-        collector.addAll(values);
+        getProperty().readItem(parentInstance, false, context, collector);
 
         // if (isObject) {
         // // read the object's END_OBJECT
@@ -216,7 +224,13 @@ class ListPropertyInfo
       throws BindingException {
     IBoundNamedModelInstance property = getProperty();
 
-    for (Object item : getItemsFromParentInstance(fromInstance)) {
+    List<? extends Object> items = getItemsFromParentInstance(fromInstance);
+    if (collector instanceof ListPropertyCollector) {
+      // the number of items is known, so size the copy exactly
+      ((ListPropertyCollector) collector).ensureCapacity(items.size());
+    }
+
+    for (Object item : items) {
       collector.add(property.copyItem(ObjectUtils.requireNonNull(item), toInstance));
     }
   }
@@ -39,7 +39,7 @@ import gov.nist.secauto.metaschema.binding.io.xml.IXmlWritingContext;
 import gov.nist.secauto.metaschema.model.common.util.ObjectUtils;
 import gov.nist.secauto.metaschema.model.common.util.XmlEventUtil;
 
-import org.codehaus.stax2.XMLEventReader2;
+import org.codehaus.stax2.XMLStreamReader2;
 
 import java.io.IOException;
 import java.lang.reflect.ParameterizedType;
@@ -50,8 +50,6 @@ import java.util.Map;
 
 import javax.xml.namespace.QName;
 import javax.xml.stream.XMLStreamException;
-import javax.xml.stream.events.StartElement;
-import javax.xml.stream.events.XMLEvent;
 
 import edu.umd.cs.findbugs.annotations.NonNull;
 import edu.umd.cs.findbugs.annotations.Nullable;
@@ -111,14 +109,30 @@ class MapPropertyInfo
     JsonUtil.assertAndAdvance(jsonParser, JsonToken.START_OBJECT);
 
     IBoundNamedModelInstance property = getProperty();
+
+    ParallelJsonItemBinder binder = ParallelJsonItemBinder.newInstance(property, parentInstance, context, collector);
+    if (binder != null) {
+      // bind the map items in parallel, while reading the items here
+      try {
+        while (!JsonToken.END_OBJECT.equals(jsonParser.currentToken())) {
+          // a map item will always start with a FIELD_NAME, since this represents the key
+          JsonUtil.assertCurrent(jsonParser, JsonToken.FIELD_NAME);
+          binder.submit(true);
+        }
+        binder.complete();
+      } finally {
+        // only has an effect if reading the items failed
+        binder.cancel();
+      }
+    }
+
     // process all map items
     while (!JsonToken.END_OBJECT.equals(jsonParser.currentToken())) {
 
       // a map item will always start with a FIELD_NAME, since this represents the key
       JsonUtil.assertCurrent(jsonParser, JsonToken.FIELD_NAME);
 
-      List<Object> values = property.readItem(parentInstance, true, context);
-      collector.addAll(values);
+      property.readItem(parentInstance, true, context, collector);
 
       // the next item will be a FIELD_NAME, or we will encounter an END_OBJECT if all items have been
       // read
@@ -130,27 +144,25 @@ class MapPropertyInfo
   }
 
   @Override
-  public boolean readValue(IPropertyCollector collector, Object parentInstance, StartElement start,
-      IXmlParsingContext context) throws IOException, XMLStreamException {
-    QName qname = getProperty().getXmlQName();
-    XMLEventReader2 eventReader = context.getReader();
+  public boolean readValue(IPropertyCollector collector, Object parentInstance, IXmlParsingContext context)
+      throws IOException, XMLStreamException {
+    XMLStreamReader2 reader = context.getReader();
 
     // consume extra whitespace between elements
-    XmlEventUtil.skipWhitespace(eventReader);
+    XmlEventUtil.skipWhitespace(reader);
 
-    boolean handled = false;
-    XMLEvent event;
-    while ((event = eventReader.peek()).isStartElement() && qname.equals(event.asStartElement().getName())) {
+    QName qname = getProperty().getXmlQName();
 
-      // Consume the start element
-      Object value = getProperty().readItem(parentInstance, start, context);
+    boolean handled = false;
+    while (XmlEventUtil.isEventStartElement(reader, qname)) {
+      Object value = getProperty().readItem(parentInstance, context);
       if (value != null) {
         collector.add(value);
         handled = true;
       }
 
       // consume extra whitespace between elements
-      XmlEventUtil.skipWhitespace(eventReader);
+      XmlEventUtil.skipWhitespace(reader);
     }
 
     return handled;
@@ -0,0 +1,269 @@
+/*
+ * Portions of this software was developed by employees of the National Institute
+ * of Standards and Technology (NIST), an agency of the Federal Government and is
+ * being made available as a public service. Pursuant to title 17 United States
+ * Code Section 105, works of NIST employees are not subject to copyright
+ * protection in the United States. This software may be subject to foreign
+ * copyright. Permission in the United States and in foreign countries, to the
+ * extent that NIST may hold copyright, to use, copy, modify, create derivative
+ * works, and distribute this software and its documentation without fee is hereby
+ * granted on a non-exclusive basis, provided that this notice and disclaimer
+ * of warranty appears in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED 'AS IS' WITHOUT ANY WARRANTY OF ANY KIND, EITHER
+ * EXPRESSED, IMPLIED, OR STATUTORY, INCLUDING, BUT NOT LIMITED TO, ANY WARRANTY
+ * THAT THE SOFTWARE WILL CONFORM TO SPECIFICATIONS, ANY IMPLIED WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE, AND FREEDOM FROM
+ * INFRINGEMENT, AND ANY WARRANTY THAT THE DOCUMENTATION WILL CONFORM TO THE
+ * SOFTWARE, OR ANY WARRANTY THAT THE SOFTWARE WILL BE ERROR FREE.  IN NO EVENT
+ * SHALL NIST BE LIABLE FOR ANY DAMAGES, INCLUDING, BUT NOT LIMITED TO, DIRECT,
+ * INDIRECT, SPECIAL OR CONSEQUENTIAL DAMAGES, ARISING OUT OF, RESULTING FROM,
+ * OR IN ANY WAY CONNECTED WITH THIS SOFTWARE, WHETHER OR NOT BASED UPON WARRANTY,
+ * CONTRACT, TORT, OR OTHERWISE, WHETHER OR NOT INJURY WAS SUSTAINED BY PERSONS OR
+ * PROPERTY OR OTHERWISE, AND WHETHER OR NOT LOSS WAS SUSTAINED FROM, OR AROSE OUT
+ * OF THE RESULTS OF, OR USE OF, THE SOFTWARE OR SERVICES PROVIDED HEREUNDER.
+ */
+
+package gov.nist.secauto.metaschema.binding.model;
+
+import com.fasterxml.jackson.core.JsonLocation;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.util.JsonParserDelegate;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+
+import gov.nist.secauto.metaschema.binding.io.json.DefaultJsonParsingContext;
+import gov.nist.secauto.metaschema.binding.io.json.IJsonParsingContext;
+import gov.nist.secauto.metaschema.binding.io.json.JsonUtil;
+import gov.nist.secauto.metaschema.model.common.util.ObjectUtils;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
+
+/**
+ * Binds the JSON items of a model instance using a {@link ForkJoinPool}, while the tokens are still
+ * read in document order by the parsing thread.
+ * <p>
+ * The tokens of each item are captured in a {@link TokenBuffer}, which is replayed by a task that
+ * binds the item. The bound items are added to the collector in the order they were submitted. The
+ * number of buffered items is bounded, so the parsing thread waits for the oldest item to be bound
+ * if it gets too far ahead.
+ * <p>
+ * The buffered tokens do not have a location in the source, so the location of the start of the
+ * item is reported for any token read by the binding task.
+ */
+class ParallelJsonItemBinder {
+  /**
+   * The number of items that may be pending for each thread in the pool.
+   */
+  private static final int PENDING_ITEMS_PER_THREAD = 4;
+
+  @NonNull
+  private final IBoundNamedModelInstance property;
+  @Nullable
+  private final Object parentInstance;
+  @NonNull
+  private final IJsonParsingContext context;
+  @NonNull
+  private final IPropertyCollector collector;
+  @NonNull
+  private final ForkJoinPool pool;
+  private final int maxPendingItems;
+  @NonNull
+  private final Deque<ForkJoinTask<List<Object>>> pendingItems = new ArrayDeque<>();
+
+  /**
+   * Get a binder for the items of the provided instance, if the items can be bound in parallel.
+   * <p>
+   * Only the items of the root assembly's properties that are bound to a class are bound in
+   * parallel. These are the large independent subtrees of a document. Any nested content is bound by
+   * the task binding the containing item.
+   *
+   * @param property
+   *          the model instance whose items are to be read
+   * @param parentInstance
+   *          the object the items are parsed into
+   * @param context
+   *          the JSON/YAML parsing context
+   * @param collector
+   *          the collector to add the bound items to
+   * @return the binder, or {@code null} if the items are to be bound on the parsing thread
+   */
+  @Nullable
+  public static ParallelJsonItemBinder newInstance(
+      @NonNull IBoundNamedModelInstance property,
+      @Nullable Object parentInstance,
+      @NonNull IJsonParsingContext context,
+      @NonNull IPropertyCollector collector) {
+    ForkJoinPool pool = context.getBindingPool();
+
+    ParallelJsonItemBinder retval = null;
+    if (pool != null
+        && property.getParentClassBinding().isRoot()
+        && property.getDataTypeHandler().getClassBinding() != null) {
+      retval = new ParallelJsonItemBinder(property, parentInstance, context, collector, pool);
+    }
+    return retval;
+  }
+
+  private ParallelJsonItemBinder(
+      @NonNull IBoundNamedModelInstance property,
+      @Nullable Object parentInstance,
+      @NonNull IJsonParsingContext context,
+      @NonNull IPropertyCollector collector,
+      @NonNull ForkJoinPool pool) {
+    this.property = property;
+    this.parentInstance = parentInstance;
+    this.context = context;
+    this.collector = collector;
+    this.pool = pool;
+    this.maxPendingItems = Math.max(pool.getParallelism(), 1) * PENDING_ITEMS_PER_THREAD;
+  }
+
+  /**
+   * Buffer the item at the parser's current token and submit it for binding. After returning, the
+   * parser's current token is the token following the item.
+   * <p>
+   * The item is buffered within a containing array, or a containing object for keyed items, so the
+   * item is replayed in the same position it is read from during sequential binding.
+   *
+   * @param requiresJsonKey
+   *          when {@code true} indicates that the item will have a JSON key
+   * @throws IOException
+   *           if an error occurred while reading the item's tokens or while binding a previous item
+   */
+  @SuppressWarnings("resource") // not owned
+  public void submit(boolean requiresJsonKey) throws IOException {
+    JsonParser parser = context.getReader(); // NOPMD - intentional
+    JsonLocation location = ObjectUtils.notNull(parser.getTokenLocation());
+
+    TokenBuffer buffer = new TokenBuffer(parser);
+    if (requiresJsonKey) {
+      buffer.writeStartObject();
+      buffer.copyCurrentStructure(parser);
+      buffer.writeEndObject();
+    } else {
+      buffer.writeStartArray();
+      buffer.copyCurrentStructure(parser);
+      buffer.writeEndArray();
+    }
+    // advance past the last token of the item
+    parser.nextToken();
+
+    pendingItems.addLast(pool.submit(() -> bind(buffer, location)));
+
+    // add any items that are already bound, and wait on the oldest item if too many are pending
+    while (!pendingItems.isEmpty()
+        && (pendingItems.size() > maxPendingItems || pendingItems.peekFirst().isDone())) {
+      collectNext();
+    }
+  }
+
+  /**
+   * Wait for all submitted items to be bound, adding them to the collector in document order.
+   *
+   * @throws IOException
+   *           if an error occurred while binding an item
+   */
+  public void complete() throws IOException {
+    while (!pendingItems.isEmpty()) {
+      collectNext();
+    }
+  }
+
+  /**
+   * Cancel binding of any items that have not been collected. This is used to clean up if reading
+   * the content fails.
+   */
+  public void cancel() {
+    for (ForkJoinTask<List<Object>> task : pendingItems) {
+      task.cancel(false);
+    }
+    pendingItems.clear();
+  }
+
+  private void collectNext() throws IOException {
+    ForkJoinTask<List<Object>> task = pendingItems.removeFirst();
+    try {
+      collector.addAll(task.get());
+    } catch (InterruptedException ex) {
+      Thread.currentThread().interrupt();
+      InterruptedIOException ioe = new InterruptedIOException("interrupted while binding items in parallel");
+      ioe.initCause(ex);
+      throw ioe;
+    } catch (ExecutionException ex) {
+      Throwable cause = ex.getCause();
+      if (cause instanceof IOException) {
+        throw (IOException) cause;
+      }
+      throw new IOException(cause);
+    }
+  }
+
+  @NonNull
+  private List<Object> bind(@NonNull TokenBuffer buffer, @NonNull JsonLocation location) throws IOException {
+    try (JsonParser parser = new ItemLocationParser(buffer.asParser(), location)) {
+      // advance to the containing array or object, then to the item
+      parser.nextToken();
+      JsonToken token = parser.nextToken();
+      assert token != null;
+
+      ListPropertyCollector items = new ListPropertyCollector(1);
+      property.readItem(
+          parentInstance,
+          JsonToken.FIELD_NAME.equals(token),
+          new DefaultJsonParsingContext(parser, context.getProblemHandler()),
+          items);
+      return items.getValue();
+    } catch (IOException | RuntimeException ex) {
+      throw new IOException(
+          String.format("Unable to bind the '%s' item at location '%s'.",
+              property.getJsonName(),
+              JsonUtil.toString(location)),
+          ex);
+    }
+  }
+
+  /**
+   * Reports the location of the item in the source for each of the item's buffered tokens.
+   */
+  private static final class ItemLocationParser
+      extends JsonParserDelegate {
+    @NonNull
+    private final JsonLocation location;
+
+    private ItemLocationParser(@NonNull JsonParser delegate, @NonNull JsonLocation location) {
+      super(delegate);
+      this.location = location;
+    }
+
+    @Override
+    public JsonLocation currentLocation() {
+      return location;
+    }
+
+    @Override
+    public JsonLocation currentTokenLocation() {
+      return location;
+    }
+
+    @Override
+    public JsonLocation getCurrentLocation() {
+      return location;
+    }
+
+    @Override
+    public JsonLocation getTokenLocation() {
+      return location;
+    }
+  }
+}
@@ -0,0 +1,108 @@
+/*
+ * Portions of this software was developed by employees of the National Institute
+ * of Standards and Technology (NIST), an agency of the Federal Government and is
+ * being made available as a public service. Pursuant to title 17 United States
+ * Code Section 105, works of NIST employees are not subject to copyright
+ * protection in the United States. This software may be subject to foreign
+ * copyright. Permission in the United States and in foreign countries, to the
+ * extent that NIST may hold copyright, to use, copy, modify, create derivative
+ * works, and distribute this software and its documentation without fee is hereby
+ * granted on a non-exclusive basis, provided that this notice and disclaimer
+ * of warranty appears in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED 'AS IS' WITHOUT ANY WARRANTY OF ANY KIND, EITHER
+ * EXPRESSED, IMPLIED, OR STATUTORY, INCLUDING, BUT NOT LIMITED TO, ANY WARRANTY
+ * THAT THE SOFTWARE WILL CONFORM TO SPECIFICATIONS, ANY IMPLIED WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE, AND FREEDOM FROM
+ * INFRINGEMENT, AND ANY WARRANTY THAT THE DOCUMENTATION WILL CONFORM TO THE
+ * SOFTWARE, OR ANY WARRANTY THAT THE SOFTWARE WILL BE ERROR FREE.  IN NO EVENT
+ * SHALL NIST BE LIABLE FOR ANY DAMAGES, INCLUDING, BUT NOT LIMITED TO, DIRECT,
+ * INDIRECT, SPECIAL OR CONSEQUENTIAL DAMAGES, ARISING OUT OF, RESULTING FROM,
+ * OR IN ANY WAY CONNECTED WITH THIS SOFTWARE, WHETHER OR NOT BASED UPON WARRANTY,
+ * CONTRACT, TORT, OR OTHERWISE, WHETHER OR NOT INJURY WAS SUSTAINED BY PERSONS OR
+ * PROPERTY OR OTHERWISE, AND WHETHER OR NOT LOSS WAS SUSTAINED FROM, OR AROSE OUT
+ * OF THE RESULTS OF, OR USE OF, THE SOFTWARE OR SERVICES PROVIDED HEREUNDER.
+ */
+
+package gov.nist.secauto.metaschema.binding.model;
+
+import gov.nist.secauto.metaschema.binding.io.BindingException;
+import gov.nist.secauto.metaschema.model.common.util.ObjectUtils;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
+
+/**
+ * A class accessor that uses Java reflection to create and initialize bound objects.
+ */
+class ReflectiveClassAccessor implements IClassAccessor {
+  @NonNull
+  private final Class<?> clazz;
+  @Nullable
+  private final Constructor<?> constructor;
+  @Nullable
+  private final Method beforeDeserializeMethod;
+  @Nullable
+  private final Method afterDeserializeMethod;
+
+  /**
+   * Construct a new accessor for the provided bound class.
+   *
+   * @param clazz
+   *          the bound class
+   */
+  public ReflectiveClassAccessor(@NonNull Class<?> clazz) {
+    this.clazz = clazz;
+    Constructor<?> noArgConstructor;
+    try {
+      noArgConstructor = clazz.getDeclaredConstructor();
+    } catch (NoSuchMethodException ex) {
+      // report this when an instance is requested
+      noArgConstructor = null;
+    }
+    this.constructor = noArgConstructor;
+    this.beforeDeserializeMethod = ClassIntrospector.getMatchingMethod(clazz, "beforeDeserialize", Object.class);
+    this.afterDeserializeMethod = ClassIntrospector.getMatchingMethod(clazz, "afterDeserialize", Object.class);
+  }
+
+  @Override
+  public <CLASS> CLASS newInstance() throws BindingException {
+    if (constructor == null) {
+      String msg = String.format("Class '%s' does not have a required no-arg constructor.", clazz.getName());
+      throw new BindingException(msg);
+    }
+
+    try {
+      @SuppressWarnings("unchecked") CLASS retval = (CLASS) constructor.newInstance();
+      return ObjectUtils.notNull(retval);
+    } catch (InstantiationException | IllegalAccessException | IllegalArgumentException
+        | InvocationTargetException ex) {
+      throw new BindingException(ex);
+    }
+  }
+
+  @Override
+  public void callBeforeDeserialize(Object objectInstance, Object parentInstance) throws BindingException {
+    invoke(beforeDeserializeMethod, objectInstance, parentInstance);
+  }
+
+  @Override
+  public void callAfterDeserialize(Object objectInstance, Object parentInstance) throws BindingException {
+    invoke(afterDeserializeMethod, objectInstance, parentInstance);
+  }
+
+  private static void invoke(@Nullable Method method, @NonNull Object objectInstance, Object parentInstance)
+      throws BindingException {
+    if (method != null) {
+      try {
+        method.invoke(objectInstance, parentInstance);
+      } catch (IllegalAccessException | IllegalArgumentException | InvocationTargetException ex) {
+        throw new BindingException(ex);
+      }
+    }
+  }
+}
@@ -45,12 +45,11 @@ import gov.nist.secauto.metaschema.model.common.util.XmlEventUtil;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
-import org.codehaus.stax2.XMLEventReader2;
+import org.codehaus.stax2.XMLStreamReader2;
 import org.codehaus.stax2.XMLStreamWriter2;
 
 import java.io.IOException;
 import java.util.Collection;
-import java.util.List;
 import java.util.Map;
 import java.util.function.Predicate;
 
@@ -58,7 +57,6 @@ import javax.xml.namespace.NamespaceContext;
 import javax.xml.namespace.QName;
 import javax.xml.stream.XMLStreamConstants;
 import javax.xml.stream.XMLStreamException;
-import javax.xml.stream.events.StartElement;
 
 import edu.umd.cs.findbugs.annotations.NonNull;
 
@@ -99,15 +97,15 @@ public class RootAssemblyDefinition
   }
 
   @Override
-  public List<Object> readItem(Object parentInstance, boolean requiresJsonKey, IJsonParsingContext context)
-      throws IOException {
-    return getRootDefinition().readItem(parentInstance, requiresJsonKey, context);
+  public void readItem(Object parentInstance, boolean requiresJsonKey, IJsonParsingContext context,
+      IPropertyCollector collector) throws IOException {
+    getRootDefinition().readItem(parentInstance, requiresJsonKey, context, collector);
   }
 
   @Override
-  public Object readItem(Object parentInstance, StartElement start, IXmlParsingContext context)
+  public Object readItem(Object parentInstance, IXmlParsingContext context)
       throws IOException, XMLStreamException {
-    return getRootDefinition().readItem(parentInstance, start, context);
+    return getRootDefinition().readItem(parentInstance, context);
   }
 
   @Override
@@ -172,39 +170,30 @@ public class RootAssemblyDefinition
     return getRootDefinition().getAssemblyInstanceByName(name);
   }
 
-  // TODO: this is unused, remove it
   @Override
   public Object readRoot(IXmlParsingContext context) throws IOException, XMLStreamException {
-
-    XMLEventReader2 reader = context.getReader();
+    XMLStreamReader2 reader = context.getReader();
 
     // we may be at the START_DOCUMENT
-    if (reader.peek().isStartDocument()) {
-      XmlEventUtil.consumeAndAssert(reader, XMLStreamConstants.START_DOCUMENT);
-    }
-
-    XmlEventUtil.skipEvents(reader, XMLStreamConstants.CHARACTERS, XMLStreamConstants.PROCESSING_INSTRUCTION);
+    int eventType = XmlEventUtil.skipEvents(
+        reader,
+        XMLStreamConstants.START_DOCUMENT,
+        XMLStreamConstants.CHARACTERS,
+        XMLStreamConstants.SPACE,
+        XMLStreamConstants.PROCESSING_INSTRUCTION);
 
     QName rootQName = getRootXmlQName();
-    if (!reader.peek().isStartElement()) {
+    if (eventType != XMLStreamConstants.START_ELEMENT) {
       throw new IOException(
           String.format("Expected an element named '%s', but found a '%s' instead.",
               rootQName,
-              XmlEventUtil.toString(reader.peek())));
+              XmlEventUtil.toString(reader)));
     }
 
-    XmlEventUtil.assertNext(reader, XMLStreamConstants.START_ELEMENT, rootQName);
-
-    StartElement start = ObjectUtils.notNull(reader.nextEvent().asStartElement());
-    Object result = ObjectUtils.requireNonNull(readItem(null, start, context));
-
-    XmlEventUtil.consumeAndAssert(reader, XMLStreamConstants.END_ELEMENT, rootQName);
-
-    // if (reader.hasNext() && LOGGER.isDebugEnabled()) {
-    // LOGGER.debug("After Parse: {}", XmlEventUtil.toString(reader.peek()));
-    // }
+    XmlEventUtil.assertEvent(reader, XMLStreamConstants.START_ELEMENT, rootQName);
 
-    return result;
+    // the root element is consumed through its end element
+    return ObjectUtils.requireNonNull(readItem(null, context));
   }
 
   @SuppressWarnings("resource") // not owned
@@ -39,7 +39,6 @@ import java.util.List;
 
 import javax.xml.namespace.QName;
 import javax.xml.stream.XMLStreamException;
-import javax.xml.stream.events.StartElement;
 
 import edu.umd.cs.findbugs.annotations.NonNull;
 
@@ -75,8 +74,7 @@ class SingletonPropertyInfo
     // JsonUtil.assertAndAdvance(parser, JsonToken.START_OBJECT);
     // }
 
-    List<Object> values = property.readItem(parentInstance, false, context);
-    collector.addAll(values);
+    property.readItem(parentInstance, false, context, collector);
 
     // if (isObject) {
     // // read the object's END_OBJECT
@@ -85,10 +83,10 @@ class SingletonPropertyInfo
   }
 
   @Override
-  public boolean readValue(IPropertyCollector collector, Object parentInstance, StartElement start,
-      IXmlParsingContext context) throws IOException, XMLStreamException {
+  public boolean readValue(IPropertyCollector collector, Object parentInstance, IXmlParsingContext context)
+      throws IOException, XMLStreamException {
     boolean handled = true;
-    Object value = getProperty().readItem(parentInstance, start, context);
+    Object value = getProperty().readItem(parentInstance, context);
     if (value != null) {
       collector.add(value);
       handled = true;
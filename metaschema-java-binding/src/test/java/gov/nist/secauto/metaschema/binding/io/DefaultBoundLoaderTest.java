@@ -0,0 +1,168 @@
+/*
+ * Portions of this software was developed by employees of the National Institute
+ * of Standards and Technology (NIST), an agency of the Federal Government and is
+ * being made available as a public service. Pursuant to title 17 United States
+ * Code Section 105, works of NIST employees are not subject to copyright
+ * protection in the United States. This software may be subject to foreign
+ * copyright. Permission in the United States and in foreign countries, to the
+ * extent that NIST may hold copyright, to use, copy, modify, create derivative
+ * works, and distribute this software and its documentation without fee is hereby
+ * granted on a non-exclusive basis, provided that this notice and disclaimer
+ * of warranty appears in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED 'AS IS' WITHOUT ANY WARRANTY OF ANY KIND, EITHER
+ * EXPRESSED, IMPLIED, OR STATUTORY, INCLUDING, BUT NOT LIMITED TO, ANY WARRANTY
+ * THAT THE SOFTWARE WILL CONFORM TO SPECIFICATIONS, ANY IMPLIED WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE, AND FREEDOM FROM
+ * INFRINGEMENT, AND ANY WARRANTY THAT THE DOCUMENTATION WILL CONFORM TO THE
+ * SOFTWARE, OR ANY WARRANTY THAT THE SOFTWARE WILL BE ERROR FREE.  IN NO EVENT
+ * SHALL NIST BE LIABLE FOR ANY DAMAGES, INCLUDING, BUT NOT LIMITED TO, DIRECT,
+ * INDIRECT, SPECIAL OR CONSEQUENTIAL DAMAGES, ARISING OUT OF, RESULTING FROM,
+ * OR IN ANY WAY CONNECTED WITH THIS SOFTWARE, WHETHER OR NOT BASED UPON WARRANTY,
+ * CONTRACT, TORT, OR OTHERWISE, WHETHER OR NOT INJURY WAS SUSTAINED BY PERSONS OR
+ * PROPERTY OR OTHERWISE, AND WHETHER OR NOT LOSS WAS SUSTAINED FROM, OR AROSE OUT
+ * OF THE RESULTS OF, OR USE OF, THE SOFTWARE OR SERVICES PROVIDED HEREUNDER.
+ */
+
+package gov.nist.secauto.metaschema.binding.io;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import gov.nist.secauto.metaschema.binding.DefaultBindingContext;
+import gov.nist.secauto.metaschema.binding.IBindingContext;
+import gov.nist.secauto.metaschema.binding.IBindingMatcher;
+import gov.nist.secauto.metaschema.binding.model.test.RootBoundAssembly;
+import gov.nist.secauto.metaschema.model.common.metapath.item.IDocumentNodeItem;
+import gov.nist.secauto.metaschema.model.common.util.CollectionUtil;
+import gov.nist.secauto.metaschema.model.common.util.ObjectUtils;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.xml.sax.InputSource;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import javax.xml.namespace.QName;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+
+class DefaultBoundLoaderTest {
+  @NonNull
+  private static final URI DOCUMENT_URI = ObjectUtils.notNull(URI.create("http://example.org/test"));
+
+  private static final String JSON = "{ \"$schema\": \"http://example.org/schema.json\", \"root\": {"
+      + " \"keyed-field-items\": { \"key1\": { \"field-value\": \"value1\" } } } }";
+
+  private static final String YAML = "---\n"
+      + "root:\n"
+      + "  keyed-field-items:\n"
+      + "    key1:\n"
+      + "      field-value: value1\n";
+
+  private static final String XML = "<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n"
+      + "<!-- a comment before the root -->\n"
+      + "<?example instruction?>\n"
+      + "<root xmlns=\"https://csrc.nist.gov/ns/test/xml\">"
+      + "<keyed-field field-required-flag=\"key1\">value1</keyed-field>"
+      + "</root>";
+
+  @NonNull
+  private static IBoundLoader newLoader() {
+    IBindingContext bindingContext = new DefaultBindingContext(CollectionUtil.emptySet());
+    bindingContext.registerBindingMatcher(new IBindingMatcher() {
+      @Override
+      public Class<?> getBoundClassForXmlQName(QName rootQName) {
+        return "root".equals(rootQName.getLocalPart()) ? RootBoundAssembly.class : null;
+      }
+
+      @Override
+      public Class<?> getBoundClassForJsonName(String rootName) {
+        return "root".equals(rootName) ? RootBoundAssembly.class : null;
+      }
+    });
+    IBoundLoader retval = bindingContext.newBoundLoader();
+    retval.disableFeature(DeserializationFeature.DESERIALIZE_VALIDATE_CONSTRAINTS);
+    return retval;
+  }
+
+  @NonNull
+  private static InputStream toInputStream(@NonNull String content) {
+    return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+  }
+
+  private static void assertLoaded(@NonNull IDocumentNodeItem nodeItem) {
+    assertAll(
+        () -> assertEquals(DOCUMENT_URI, nodeItem.getDocumentUri()),
+        () -> assertTrue(nodeItem.getValue() instanceof RootBoundAssembly));
+  }
+
+  @Test
+  void testDetectJson() throws IOException {
+    assertLoaded(newLoader().loadAsNodeItem(toInputStream(JSON), DOCUMENT_URI));
+  }
+
+  @Test
+  void testDetectYaml() throws IOException {
+    assertLoaded(newLoader().loadAsNodeItem(toInputStream(YAML), DOCUMENT_URI));
+  }
+
+  @Test
+  void testDetectXml() throws IOException {
+    assertLoaded(newLoader().loadAsNodeItem(toInputStream(XML), DOCUMENT_URI));
+  }
+
+  @Test
+  void testKnownFormat() throws IOException {
+    InputSource source = new InputSource(toInputStream(XML));
+    source.setSystemId(DOCUMENT_URI.toString());
+    assertLoaded(newLoader().loadAsNodeItem(Format.XML, source));
+  }
+
+  @Test
+  void testLoadAll(@TempDir Path tempDir) throws IOException, InterruptedException, ExecutionException {
+    List<Path> paths = new ArrayList<>();
+    for (int i = 0; i < 10; i++) {
+      Path path = ObjectUtils.notNull(tempDir.resolve("document" + i + ".json"));
+      Files.writeString(path, JSON, StandardCharsets.UTF_8);
+      paths.add(path);
+    }
+    // a duplicate path is loaded again
+    paths.add(paths.get(0));
+    Path missing = ObjectUtils.notNull(tempDir.resolve("missing.json"));
+    paths.add(missing);
+
+    ExecutorService executor = Executors.newFixedThreadPool(2);
+    try {
+      List<CompletableFuture<IDocumentNodeItem>> results = newLoader().loadAll(paths, executor, 2);
+      assertEquals(paths.size(), results.size());
+
+      for (int i = 0; i < 11; i++) {
+        Path path = paths.get(i);
+        IDocumentNodeItem nodeItem = results.get(i).get();
+        assertAll(
+            () -> assertEquals(path.toUri(), nodeItem.getDocumentUri()),
+            () -> assertTrue(nodeItem.getValue() instanceof RootBoundAssembly));
+      }
+
+      ExecutionException ex = assertThrows(ExecutionException.class, () -> results.get(11).get());
+      assertTrue(ex.getCause() instanceof IOException);
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+}
@@ -0,0 +1,173 @@
+/*
+ * Portions of this software was developed by employees of the National Institute
+ * of Standards and Technology (NIST), an agency of the Federal Government and is
+ * being made available as a public service. Pursuant to title 17 United States
+ * Code Section 105, works of NIST employees are not subject to copyright
+ * protection in the United States. This software may be subject to foreign
+ * copyright. Permission in the United States and in foreign countries, to the
+ * extent that NIST may hold copyright, to use, copy, modify, create derivative
+ * works, and distribute this software and its documentation without fee is hereby
+ * granted on a non-exclusive basis, provided that this notice and disclaimer
+ * of warranty appears in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED 'AS IS' WITHOUT ANY WARRANTY OF ANY KIND, EITHER
+ * EXPRESSED, IMPLIED, OR STATUTORY, INCLUDING, BUT NOT LIMITED TO, ANY WARRANTY
+ * THAT THE SOFTWARE WILL CONFORM TO SPECIFICATIONS, ANY IMPLIED WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE, AND FREEDOM FROM
+ * INFRINGEMENT, AND ANY WARRANTY THAT THE DOCUMENTATION WILL CONFORM TO THE
+ * SOFTWARE, OR ANY WARRANTY THAT THE SOFTWARE WILL BE ERROR FREE.  IN NO EVENT
+ * SHALL NIST BE LIABLE FOR ANY DAMAGES, INCLUDING, BUT NOT LIMITED TO, DIRECT,
+ * INDIRECT, SPECIAL OR CONSEQUENTIAL DAMAGES, ARISING OUT OF, RESULTING FROM,
+ * OR IN ANY WAY CONNECTED WITH THIS SOFTWARE, WHETHER OR NOT BASED UPON WARRANTY,
+ * CONTRACT, TORT, OR OTHERWISE, WHETHER OR NOT INJURY WAS SUSTAINED BY PERSONS OR
+ * PROPERTY OR OTHERWISE, AND WHETHER OR NOT LOSS WAS SUSTAINED FROM, OR AROSE OUT
+ * OF THE RESULTS OF, OR USE OF, THE SOFTWARE OR SERVICES PROVIDED HEREUNDER.
+ */
+
+package gov.nist.secauto.metaschema.binding.io;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import gov.nist.secauto.metaschema.binding.DefaultBindingContext;
+import gov.nist.secauto.metaschema.binding.IBindingContext;
+import gov.nist.secauto.metaschema.binding.model.test.FlaggedBoundField;
+import gov.nist.secauto.metaschema.binding.model.test.OnlyModelBoundAssembly;
+import gov.nist.secauto.metaschema.binding.model.test.RootBoundAssembly;
+import gov.nist.secauto.metaschema.model.common.util.ObjectUtils;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.StringReader;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+
+class DeserializeItemsTest {
+  @NonNull
+  private static final Path MINIMAL_JSON = ObjectUtils.notNull(Paths.get("src/test/resources/content/minimal.json"));
+
+  @Test
+  void testJsonSingletonOrArrayItems() throws IOException {
+    IBindingContext bindingContext = DefaultBindingContext.instance();
+    IDeserializer<RootBoundAssembly> deserializer
+        = bindingContext.newDeserializer(Format.JSON, RootBoundAssembly.class);
+
+    try (Stream<Object> items = deserializer.deserializeItems(MINIMAL_JSON, "singleton-or-array-assembly")) {
+      List<Object> list = items.collect(Collectors.toList());
+      assertAll(
+          () -> assertEquals(1, list.size()),
+          () -> assertTrue(list.get(0) instanceof OnlyModelBoundAssembly));
+    }
+  }
+
+  @Test
+  void testJsonKeyedItems() throws IOException {
+    IBindingContext bindingContext = DefaultBindingContext.instance();
+    IDeserializer<RootBoundAssembly> deserializer
+        = bindingContext.newDeserializer(Format.JSON, RootBoundAssembly.class);
+
+    try (Stream<Object> items = deserializer.deserializeItems(MINIMAL_JSON, "keyed-field")) {
+      List<Object> list = items.collect(Collectors.toList());
+      assertAll(
+          () -> assertEquals(1, list.size()),
+          () -> assertTrue(list.get(0) instanceof FlaggedBoundField));
+    }
+  }
+
+  @Test
+  void testXmlItems() throws IOException {
+    String xml = "<root xmlns=\"https://csrc.nist.gov/ns/test/xml\">"
+        + "<keyed-field field-required-flag=\"key1\">value1</keyed-field>"
+        + "<keyed-field field-required-flag=\"key2\">value2</keyed-field>"
+        + "</root>";
+
+    IBindingContext bindingContext = DefaultBindingContext.instance();
+    IDeserializer<RootBoundAssembly> deserializer
+        = bindingContext.newDeserializer(Format.XML, RootBoundAssembly.class);
+
+    try (Stream<Object> items = deserializer.deserializeItems(
+        new StringReader(xml),
+        ObjectUtils.notNull(URI.create("http://example.org/test.xml")),
+        "keyed-field")) {
+      List<Object> list = items.collect(Collectors.toList());
+      assertAll(
+          () -> assertEquals(2, list.size()),
+          () -> assertTrue(list.get(0) instanceof FlaggedBoundField),
+          () -> assertTrue(list.get(1) instanceof FlaggedBoundField));
+    }
+  }
+
+  @Test
+  void testUtf16XmlItems() throws IOException {
+    String xml = "<?xml version=\"1.0\" encoding=\"UTF-16\"?>"
+        + "<root xmlns=\"https://csrc.nist.gov/ns/test/xml\">"
+        + "<keyed-field field-required-flag=\"key1\">value\u00e9</keyed-field>"
+        + "</root>";
+
+    IBindingContext bindingContext = DefaultBindingContext.instance();
+    IDeserializer<RootBoundAssembly> deserializer
+        = bindingContext.newDeserializer(Format.XML, RootBoundAssembly.class);
+
+    try (Stream<Object> items = deserializer.deserializeItems(
+        new ByteArrayInputStream(xml.getBytes(StandardCharsets.UTF_16)),
+        ObjectUtils.notNull(URI.create("http://example.org/test.xml")),
+        "keyed-field")) {
+      List<Object> list = items.collect(Collectors.toList());
+      assertAll(
+          () -> assertEquals(1, list.size()),
+          () -> assertTrue(list.get(0) instanceof FlaggedBoundField));
+    }
+  }
+
+  @Test
+  void testUtf16JsonItems() throws IOException {
+    String json = "{ \"root\": { \"keyed-field-items\": { \"key1\": { \"field-value\": \"value\u00e9\" } } } }";
+
+    IBindingContext bindingContext = DefaultBindingContext.instance();
+    IDeserializer<RootBoundAssembly> deserializer
+        = bindingContext.newDeserializer(Format.JSON, RootBoundAssembly.class);
+
+    try (Stream<Object> items = deserializer.deserializeItems(
+        new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_16)),
+        ObjectUtils.notNull(URI.create("http://example.org/test.json")),
+        "keyed-field")) {
+      List<Object> list = items.collect(Collectors.toList());
+      assertAll(
+          () -> assertEquals(1, list.size()),
+          () -> assertTrue(list.get(0) instanceof FlaggedBoundField));
+    }
+  }
+
+  @Test
+  void testLoaderForEachItem() throws IOException {
+    IBoundLoader loader = DefaultBindingContext.instance().newBoundLoader();
+
+    int[] count = { 0 };
+    loader.<OnlyModelBoundAssembly>forEachItem(
+        RootBoundAssembly.class,
+        "singleton-or-array-assembly",
+        MINIMAL_JSON,
+        item -> count[0]++);
+    assertEquals(1, count[0]);
+  }
+
+  @Test
+  void testUnknownInstance() {
+    IBindingContext bindingContext = DefaultBindingContext.instance();
+    IDeserializer<RootBoundAssembly> deserializer
+        = bindingContext.newDeserializer(Format.JSON, RootBoundAssembly.class);
+
+    assertThrows(IllegalArgumentException.class, () -> deserializer.deserializeItems(MINIMAL_JSON, "unknown"));
+  }
+}
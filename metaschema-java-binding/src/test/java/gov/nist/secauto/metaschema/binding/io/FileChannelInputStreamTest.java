@@ -0,0 +1,92 @@
+/*
+ * Portions of this software was developed by employees of the National Institute
+ * of Standards and Technology (NIST), an agency of the Federal Government and is
+ * being made available as a public service. Pursuant to title 17 United States
+ * Code Section 105, works of NIST employees are not subject to copyright
+ * protection in the United States. This software may be subject to foreign
+ * copyright. Permission in the United States and in foreign countries, to the
+ * extent that NIST may hold copyright, to use, copy, modify, create derivative
+ * works, and distribute this software and its documentation without fee is hereby
+ * granted on a non-exclusive basis, provided that this notice and disclaimer
+ * of warranty appears in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED 'AS IS' WITHOUT ANY WARRANTY OF ANY KIND, EITHER
+ * EXPRESSED, IMPLIED, OR STATUTORY, INCLUDING, BUT NOT LIMITED TO, ANY WARRANTY
+ * THAT THE SOFTWARE WILL CONFORM TO SPECIFICATIONS, ANY IMPLIED WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE, AND FREEDOM FROM
+ * INFRINGEMENT, AND ANY WARRANTY THAT THE DOCUMENTATION WILL CONFORM TO THE
+ * SOFTWARE, OR ANY WARRANTY THAT THE SOFTWARE WILL BE ERROR FREE.  IN NO EVENT
+ * SHALL NIST BE LIABLE FOR ANY DAMAGES, INCLUDING, BUT NOT LIMITED TO, DIRECT,
+ * INDIRECT, SPECIAL OR CONSEQUENTIAL DAMAGES, ARISING OUT OF, RESULTING FROM,
+ * OR IN ANY WAY CONNECTED WITH THIS SOFTWARE, WHETHER OR NOT BASED UPON WARRANTY,
+ * CONTRACT, TORT, OR OTHERWISE, WHETHER OR NOT INJURY WAS SUSTAINED BY PERSONS OR
+ * PROPERTY OR OTHERWISE, AND WHETHER OR NOT LOSS WAS SUSTAINED FROM, OR AROSE OUT
+ * OF THE RESULTS OF, OR USE OF, THE SOFTWARE OR SERVICES PROVIDED HEREUNDER.
+ */
+
+package gov.nist.secauto.metaschema.binding.io;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+class FileChannelInputStreamTest {
+  private static final byte[] CONTENT
+      = "The quick brown fox jumps over the lazy dog.".getBytes(StandardCharsets.UTF_8);
+
+  @TempDir
+  Path tempDir;
+
+  private Path newFile() throws IOException {
+    return Files.write(tempDir.resolve("content.txt"), CONTENT);
+  }
+
+  @Test
+  void testMappedRegions() throws IOException {
+    try (FileChannel channel = FileChannel.open(newFile(), StandardOpenOption.READ)) {
+      // use a small region size to read across multiple mapped regions
+      try (FileChannelInputStream is = new FileChannelInputStream(channel, false, 0, 7)) {
+        assertTrue(is.isMapped());
+        assertArrayEquals(CONTENT, is.readAllBytes());
+        assertEquals(-1, is.read());
+      }
+      assertTrue(channel.isOpen());
+    }
+  }
+
+  @Test
+  void testUnmapped() throws IOException {
+    try (FileChannelInputStream is = FileChannelInputStream.open(newFile())) {
+      assertFalse(is.isMapped());
+      assertArrayEquals(CONTENT, is.readAllBytes());
+      assertEquals(-1, is.read());
+    }
+  }
+
+  @Test
+  void testChannelPositionAndSkip() throws IOException {
+    try (FileChannel channel = FileChannel.open(newFile(), StandardOpenOption.READ)) {
+      channel.position(4);
+      try (FileChannelInputStream is = new FileChannelInputStream(channel, false, 0, 7)) {
+        assertAll(
+            () -> assertEquals('q', is.read()),
+            () -> assertEquals(10, is.skip(10)),
+            () -> assertArrayEquals(Arrays.copyOfRange(CONTENT, 15, CONTENT.length), is.readAllBytes()),
+            () -> assertEquals(4, channel.position()));
+      }
+    }
+  }
+}
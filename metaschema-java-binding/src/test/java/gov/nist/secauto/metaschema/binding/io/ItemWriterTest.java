@@ -0,0 +1,121 @@
+/*
+ * Portions of this software was developed by employees of the National Institute
+ * of Standards and Technology (NIST), an agency of the Federal Government and is
+ * being made available as a public service. Pursuant to title 17 United States
+ * Code Section 105, works of NIST employees are not subject to copyright
+ * protection in the United States. This software may be subject to foreign
+ * copyright. Permission in the United States and in foreign countries, to the
+ * extent that NIST may hold copyright, to use, copy, modify, create derivative
+ * works, and distribute this software and its documentation without fee is hereby
+ * granted on a non-exclusive basis, provided that this notice and disclaimer
+ * of warranty appears in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED 'AS IS' WITHOUT ANY WARRANTY OF ANY KIND, EITHER
+ * EXPRESSED, IMPLIED, OR STATUTORY, INCLUDING, BUT NOT LIMITED TO, ANY WARRANTY
+ * THAT THE SOFTWARE WILL CONFORM TO SPECIFICATIONS, ANY IMPLIED WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE, AND FREEDOM FROM
+ * INFRINGEMENT, AND ANY WARRANTY THAT THE DOCUMENTATION WILL CONFORM TO THE
+ * SOFTWARE, OR ANY WARRANTY THAT THE SOFTWARE WILL BE ERROR FREE.  IN NO EVENT
+ * SHALL NIST BE LIABLE FOR ANY DAMAGES, INCLUDING, BUT NOT LIMITED TO, DIRECT,
+ * INDIRECT, SPECIAL OR CONSEQUENTIAL DAMAGES, ARISING OUT OF, RESULTING FROM,
+ * OR IN ANY WAY CONNECTED WITH THIS SOFTWARE, WHETHER OR NOT BASED UPON WARRANTY,
+ * CONTRACT, TORT, OR OTHERWISE, WHETHER OR NOT INJURY WAS SUSTAINED BY PERSONS OR
+ * PROPERTY OR OTHERWISE, AND WHETHER OR NOT LOSS WAS SUSTAINED FROM, OR AROSE OUT
+ * OF THE RESULTS OF, OR USE OF, THE SOFTWARE OR SERVICES PROVIDED HEREUNDER.
+ */
+
+package gov.nist.secauto.metaschema.binding.io;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import gov.nist.secauto.metaschema.binding.DefaultBindingContext;
+import gov.nist.secauto.metaschema.binding.IBindingContext;
+import gov.nist.secauto.metaschema.binding.model.test.OnlyModelBoundAssembly;
+import gov.nist.secauto.metaschema.binding.model.test.RootBoundAssembly;
+import gov.nist.secauto.metaschema.model.common.util.ObjectUtils;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.net.URI;
+import java.nio.file.Paths;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+
+class ItemWriterTest {
+  @NonNull
+  private static final URI DOCUMENT_URI = ObjectUtils.notNull(URI.create("http://example.org/test"));
+
+  static Stream<Arguments> provideFormatsAndCounts() {
+    return Stream.of(
+        Arguments.of(Format.JSON, 1),
+        Arguments.of(Format.JSON, 3),
+        Arguments.of(Format.YAML, 3),
+        Arguments.of(Format.XML, 3));
+  }
+
+  @NonNull
+  private static OnlyModelBoundAssembly loadItem(@NonNull IBindingContext bindingContext) throws IOException {
+    IDeserializer<RootBoundAssembly> deserializer
+        = bindingContext.newDeserializer(Format.JSON, RootBoundAssembly.class);
+    try (Stream<OnlyModelBoundAssembly> items = deserializer.deserializeItems(
+        ObjectUtils.notNull(Paths.get("src/test/resources/content/minimal.json")),
+        "singleton-or-array-assembly")) {
+      return ObjectUtils.requireNonNull(items.findFirst().orElse(null));
+    }
+  }
+
+  @ParameterizedTest
+  @MethodSource("provideFormatsAndCounts")
+  void testWriteItems(@NonNull Format format, int count) throws IOException {
+    IBindingContext bindingContext = DefaultBindingContext.instance();
+    OnlyModelBoundAssembly item = loadItem(bindingContext);
+
+    StringWriter writer = new StringWriter();
+    ISerializer<RootBoundAssembly> serializer = bindingContext.newSerializer(format, RootBoundAssembly.class);
+    try (IItemWriter<OnlyModelBoundAssembly> itemWriter
+        = serializer.newItemWriter(new RootBoundAssembly(), "singleton-or-array-assembly", writer)) {
+      itemWriter.writeAll(Collections.nCopies(count, item).iterator());
+    }
+
+    IDeserializer<RootBoundAssembly> deserializer = bindingContext.newDeserializer(format, RootBoundAssembly.class);
+    deserializer.disableFeature(DeserializationFeature.DESERIALIZE_VALIDATE_CONSTRAINTS);
+
+    // the written document can be read as a whole
+    assertNotNull(deserializer.deserialize(new StringReader(writer.toString()), DOCUMENT_URI));
+
+    // and item-by-item
+    try (Stream<Object> items = deserializer.deserializeItems(
+        new StringReader(writer.toString()),
+        DOCUMENT_URI,
+        "singleton-or-array-assembly")) {
+      List<Object> list = items.collect(Collectors.toList());
+      assertAll(
+          () -> assertEquals(count, list.size()),
+          () -> assertTrue(list.stream().allMatch(obj -> obj instanceof OnlyModelBoundAssembly)));
+    }
+  }
+
+  @ParameterizedTest
+  @EnumSource(Format.class)
+  void testSingletonInstance(@NonNull Format format) {
+    IBindingContext bindingContext = DefaultBindingContext.instance();
+    ISerializer<RootBoundAssembly> serializer = bindingContext.newSerializer(format, RootBoundAssembly.class);
+
+    assertThrows(IllegalArgumentException.class,
+        () -> serializer.newItemWriter(new RootBoundAssembly(), "simple-singleton-field", new StringWriter()));
+  }
+}
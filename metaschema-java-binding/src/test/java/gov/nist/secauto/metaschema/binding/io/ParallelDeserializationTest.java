@@ -0,0 +1,125 @@
+/*
+ * Portions of this software was developed by employees of the National Institute
+ * of Standards and Technology (NIST), an agency of the Federal Government and is
+ * being made available as a public service. Pursuant to title 17 United States
+ * Code Section 105, works of NIST employees are not subject to copyright
+ * protection in the United States. This software may be subject to foreign
+ * copyright. Permission in the United States and in foreign countries, to the
+ * extent that NIST may hold copyright, to use, copy, modify, create derivative
+ * works, and distribute this software and its documentation without fee is hereby
+ * granted on a non-exclusive basis, provided that this notice and disclaimer
+ * of warranty appears in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED 'AS IS' WITHOUT ANY WARRANTY OF ANY KIND, EITHER
+ * EXPRESSED, IMPLIED, OR STATUTORY, INCLUDING, BUT NOT LIMITED TO, ANY WARRANTY
+ * THAT THE SOFTWARE WILL CONFORM TO SPECIFICATIONS, ANY IMPLIED WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE, AND FREEDOM FROM
+ * INFRINGEMENT, AND ANY WARRANTY THAT THE DOCUMENTATION WILL CONFORM TO THE
+ * SOFTWARE, OR ANY WARRANTY THAT THE SOFTWARE WILL BE ERROR FREE.  IN NO EVENT
+ * SHALL NIST BE LIABLE FOR ANY DAMAGES, INCLUDING, BUT NOT LIMITED TO, DIRECT,
+ * INDIRECT, SPECIAL OR CONSEQUENTIAL DAMAGES, ARISING OUT OF, RESULTING FROM,
+ * OR IN ANY WAY CONNECTED WITH THIS SOFTWARE, WHETHER OR NOT BASED UPON WARRANTY,
+ * CONTRACT, TORT, OR OTHERWISE, WHETHER OR NOT INJURY WAS SUSTAINED BY PERSONS OR
+ * PROPERTY OR OTHERWISE, AND WHETHER OR NOT LOSS WAS SUSTAINED FROM, OR AROSE OUT
+ * OF THE RESULTS OF, OR USE OF, THE SOFTWARE OR SERVICES PROVIDED HEREUNDER.
+ */
+
+package gov.nist.secauto.metaschema.binding.io;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import gov.nist.secauto.metaschema.binding.DefaultBindingContext;
+import gov.nist.secauto.metaschema.binding.IBindingContext;
+import gov.nist.secauto.metaschema.binding.model.test.RootBoundAssembly;
+import gov.nist.secauto.metaschema.model.common.util.ObjectUtils;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.net.URI;
+import java.util.LinkedList;
+import java.util.List;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+
+class ParallelDeserializationTest {
+  @NonNull
+  private static final URI DOCUMENT_URI = ObjectUtils.notNull(URI.create("http://example.org/test.json"));
+
+  @NonNull
+  private static String newContent(int count) {
+    StringBuilder builder = new StringBuilder(256 * count);
+    builder.append("{ \"root\": { \"keyed-field-items\": {");
+    for (int i = 0; i < count; i++) {
+      if (i > 0) {
+        builder.append(',');
+      }
+      builder.append("\"key").append(i).append("\": { \"field-value\": \"value").append(i).append("\" }");
+    }
+    builder.append("}, \"singleton-or-array-assembly-items\": [");
+    for (int i = 0; i < count; i++) {
+      if (i > 0) {
+        builder.append(',');
+      }
+      builder.append("{ \"simple-required-singleton-field\": \"required-value").append(i).append("\",")
+          .append("\"simple-required-array-field-items\": [ \"array-value").append(i).append("\" ],")
+          .append("\"flagged-required-singleton-field\": { \"field-required-flag\": \"id").append(i)
+          .append("\", \"field-value\": \"field value ").append(i).append("\" } }");
+    }
+    builder.append("] } }");
+    return ObjectUtils.notNull(builder.toString());
+  }
+
+  @NonNull
+  private static String roundTrip(@NonNull String content, boolean parallel) throws IOException {
+    IBindingContext bindingContext = DefaultBindingContext.instance();
+    IDeserializer<RootBoundAssembly> deserializer
+        = bindingContext.newDeserializer(Format.JSON, RootBoundAssembly.class);
+    deserializer.set(DeserializationFeature.DESERIALIZE_JSON_PARALLEL_BINDING, parallel);
+    deserializer.disableFeature(DeserializationFeature.DESERIALIZE_VALIDATE_CONSTRAINTS);
+
+    RootBoundAssembly root = deserializer.deserialize(new StringReader(content), DOCUMENT_URI);
+
+    StringWriter writer = new StringWriter();
+    bindingContext.newSerializer(Format.JSON, RootBoundAssembly.class).serialize(root, writer);
+    return ObjectUtils.notNull(writer.toString());
+  }
+
+  @Test
+  void testParallelBindingPreservesOrder() throws IOException {
+    String content = newContent(200);
+
+    assertEquals(roundTrip(content, false), roundTrip(content, true));
+  }
+
+  @Test
+  void testParallelBindingErrorLocation() {
+    // each item is on its own line, and the third item's flag is not a boolean
+    String content = "{ \"root\": { \"keyed-field-items\": {\n"
+        + "\"key0\": { \"field-value\": \"value0\" },\n"
+        + "\"key1\": { \"field-value\": \"value1\" },\n"
+        + "\"key2\": { \"field-other-flag\": \"not a boolean\", \"field-value\": \"value2\" }\n"
+        + "} } }";
+
+    IBindingContext bindingContext = DefaultBindingContext.instance();
+    IDeserializer<RootBoundAssembly> deserializer
+        = bindingContext.newDeserializer(Format.JSON, RootBoundAssembly.class);
+    deserializer.set(DeserializationFeature.DESERIALIZE_JSON_PARALLEL_BINDING, true);
+    deserializer.disableFeature(DeserializationFeature.DESERIALIZE_VALIDATE_CONSTRAINTS);
+
+    Exception ex = assertThrows(Exception.class,
+        () -> deserializer.deserialize(new StringReader(content), DOCUMENT_URI));
+
+    List<String> messages = new LinkedList<>();
+    for (Throwable cause = ex; cause != null; cause = cause.getCause()) {
+      messages.add(String.valueOf(cause.getMessage()));
+    }
+    // the error is reported at the location of the item in the source
+    assertTrue(messages.stream().anyMatch(message -> message.contains("at location '4:1'")),
+        () -> "Unexpected error messages: " + messages);
+  }
+}
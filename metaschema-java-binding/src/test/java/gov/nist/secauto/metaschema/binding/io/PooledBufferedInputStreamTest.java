@@ -0,0 +1,73 @@
+/*
+ * Portions of this software was developed by employees of the National Institute
+ * of Standards and Technology (NIST), an agency of the Federal Government and is
+ * being made available as a public service. Pursuant to title 17 United States
+ * Code Section 105, works of NIST employees are not subject to copyright
+ * protection in the United States. This software may be subject to foreign
+ * copyright. Permission in the United States and in foreign countries, to the
+ * extent that NIST may hold copyright, to use, copy, modify, create derivative
+ * works, and distribute this software and its documentation without fee is hereby
+ * granted on a non-exclusive basis, provided that this notice and disclaimer
+ * of warranty appears in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED 'AS IS' WITHOUT ANY WARRANTY OF ANY KIND, EITHER
+ * EXPRESSED, IMPLIED, OR STATUTORY, INCLUDING, BUT NOT LIMITED TO, ANY WARRANTY
+ * THAT THE SOFTWARE WILL CONFORM TO SPECIFICATIONS, ANY IMPLIED WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE, AND FREEDOM FROM
+ * INFRINGEMENT, AND ANY WARRANTY THAT THE DOCUMENTATION WILL CONFORM TO THE
+ * SOFTWARE, OR ANY WARRANTY THAT THE SOFTWARE WILL BE ERROR FREE.  IN NO EVENT
+ * SHALL NIST BE LIABLE FOR ANY DAMAGES, INCLUDING, BUT NOT LIMITED TO, DIRECT,
+ * INDIRECT, SPECIAL OR CONSEQUENTIAL DAMAGES, ARISING OUT OF, RESULTING FROM,
+ * OR IN ANY WAY CONNECTED WITH THIS SOFTWARE, WHETHER OR NOT BASED UPON WARRANTY,
+ * CONTRACT, TORT, OR OTHERWISE, WHETHER OR NOT INJURY WAS SUSTAINED BY PERSONS OR
+ * PROPERTY OR OTHERWISE, AND WHETHER OR NOT LOSS WAS SUSTAINED FROM, OR AROSE OUT
+ * OF THE RESULTS OF, OR USE OF, THE SOFTWARE OR SERVICES PROVIDED HEREUNDER.
+ */
+
+package gov.nist.secauto.metaschema.binding.io;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+class PooledBufferedInputStreamTest {
+  private static final byte[] FIRST = "first resource content".getBytes(StandardCharsets.UTF_8);
+  private static final byte[] SECOND = "second resource content".getBytes(StandardCharsets.UTF_8);
+
+  @Test
+  void testResetToStart() throws IOException {
+    try (InputStream is = new PooledBufferedInputStream(new ByteArrayInputStream(FIRST))) {
+      is.readNBytes(5);
+      is.reset();
+      assertArrayEquals(FIRST, is.readAllBytes());
+    }
+  }
+
+  @Test
+  void testNestedStreams() throws IOException {
+    try (InputStream outer = new PooledBufferedInputStream(new ByteArrayInputStream(FIRST))) {
+      outer.readNBytes(5);
+      try (InputStream inner = new PooledBufferedInputStream(new ByteArrayInputStream(SECOND))) {
+        assertArrayEquals(SECOND, inner.readAllBytes());
+      }
+      outer.reset();
+      assertArrayEquals(FIRST, outer.readAllBytes());
+    }
+  }
+
+  @Test
+  void testSequentialStreams() throws IOException {
+    try (InputStream is = new PooledBufferedInputStream(new ByteArrayInputStream(SECOND))) {
+      assertArrayEquals(SECOND, is.readAllBytes());
+    }
+    // the pooled buffer from the previous stream must not leak content
+    try (InputStream is = new PooledBufferedInputStream(new ByteArrayInputStream(FIRST))) {
+      assertArrayEquals(FIRST, is.readAllBytes());
+    }
+  }
+}
@@ -0,0 +1,100 @@
+/*
+ * Portions of this software was developed by employees of the National Institute
+ * of Standards and Technology (NIST), an agency of the Federal Government and is
+ * being made available as a public service. Pursuant to title 17 United States
+ * Code Section 105, works of NIST employees are not subject to copyright
+ * protection in the United States. This software may be subject to foreign
+ * copyright. Permission in the United States and in foreign countries, to the
+ * extent that NIST may hold copyright, to use, copy, modify, create derivative
+ * works, and distribute this software and its documentation without fee is hereby
+ * granted on a non-exclusive basis, provided that this notice and disclaimer
+ * of warranty appears in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED 'AS IS' WITHOUT ANY WARRANTY OF ANY KIND, EITHER
+ * EXPRESSED, IMPLIED, OR STATUTORY, INCLUDING, BUT NOT LIMITED TO, ANY WARRANTY
+ * THAT THE SOFTWARE WILL CONFORM TO SPECIFICATIONS, ANY IMPLIED WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE, AND FREEDOM FROM
+ * INFRINGEMENT, AND ANY WARRANTY THAT THE DOCUMENTATION WILL CONFORM TO THE
+ * SOFTWARE, OR ANY WARRANTY THAT THE SOFTWARE WILL BE ERROR FREE.  IN NO EVENT
+ * SHALL NIST BE LIABLE FOR ANY DAMAGES, INCLUDING, BUT NOT LIMITED TO, DIRECT,
+ * INDIRECT, SPECIAL OR CONSEQUENTIAL DAMAGES, ARISING OUT OF, RESULTING FROM,
+ * OR IN ANY WAY CONNECTED WITH THIS SOFTWARE, WHETHER OR NOT BASED UPON WARRANTY,
+ * CONTRACT, TORT, OR OTHERWISE, WHETHER OR NOT INJURY WAS SUSTAINED BY PERSONS OR
+ * PROPERTY OR OTHERWISE, AND WHETHER OR NOT LOSS WAS SUSTAINED FROM, OR AROSE OUT
+ * OF THE RESULTS OF, OR USE OF, THE SOFTWARE OR SERVICES PROVIDED HEREUNDER.
+ */
+
+package gov.nist.secauto.metaschema.binding.io.json;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import com.fasterxml.jackson.core.JsonToken;
+
+import org.json.JSONObject;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+
+class JsonObjectRecordingParserTest {
+  private static final String JSON
+      = "{\"string\":\"value\",\"int\":1,\"decimal\":1.50,\"boolean\":true,\"null\":null,"
+          + "\"array\":[1,\"two\",{\"three\":3}],\"object\":{\"nested\":[]}}";
+
+  @Test
+  void testRecordedObject() throws IOException {
+    try (JsonObjectRecordingParser parser
+        = new JsonObjectRecordingParser(JsonFactoryFactory.instance().createParser(JSON))) {
+      JSONObject json = parser.recordRemaining();
+
+      assertNotNull(json);
+      assertAll(
+          () -> assertEquals("value", json.get("string")),
+          () -> assertEquals(1, json.get("int")),
+          // the original decimal representation is preserved
+          () -> assertEquals(new BigDecimal("1.50"), json.get("decimal")),
+          () -> assertEquals(Boolean.TRUE, json.get("boolean")),
+          () -> assertEquals(JSONObject.NULL, json.get("null")),
+          () -> assertEquals(3, json.getJSONArray("array").length()),
+          () -> assertEquals(3, json.getJSONArray("array").getJSONObject(2).get("three")),
+          () -> assertEquals(0, json.getJSONObject("object").getJSONArray("nested").length()));
+    }
+  }
+
+  @Test
+  void testSkippedChildrenAreRecorded() throws IOException {
+    try (JsonObjectRecordingParser parser
+        = new JsonObjectRecordingParser(JsonFactoryFactory.instance().createParser(JSON))) {
+      // the consumer reads up to the array and skips over it
+      JsonToken token;
+      while ((token = parser.nextToken()) != JsonToken.START_ARRAY) {
+        assertNotNull(token);
+      }
+      parser.skipChildren();
+      assertEquals(JsonToken.END_ARRAY, parser.currentToken());
+
+      // the skipped content is recorded, without the rest of the content being read
+      JSONObject json = parser.getRecordedObject();
+      assertAll(
+          () -> assertEquals(3, json.getJSONArray("array").length()),
+          () -> assertEquals(3, json.getJSONArray("array").getJSONObject(2).get("three")),
+          () -> assertNull(json.opt("object")));
+    }
+  }
+
+  @Test
+  void testNextValueIsRecorded() throws IOException {
+    try (JsonObjectRecordingParser parser
+        = new JsonObjectRecordingParser(JsonFactoryFactory.instance().createParser("{\"a\":{\"b\":\"c\"}}"))) {
+      assertEquals(JsonToken.START_OBJECT, parser.nextValue());
+      assertEquals(JsonToken.START_OBJECT, parser.nextValue());
+      assertEquals("a", parser.getCurrentName());
+      assertEquals(JsonToken.VALUE_STRING, parser.nextValue());
+
+      assertEquals("c", parser.recordRemaining().getJSONObject("a").get("b"));
+    }
+  }
+}
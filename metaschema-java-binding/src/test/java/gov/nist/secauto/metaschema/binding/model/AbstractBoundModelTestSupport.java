@@ -46,7 +46,7 @@ import gov.nist.secauto.metaschema.model.common.datatype.IDataTypeAdapter;
 import gov.nist.secauto.metaschema.model.common.datatype.adapter.MetaschemaDataTypeProvider;
 import gov.nist.secauto.metaschema.model.common.util.ObjectUtils;
 
-import org.codehaus.stax2.XMLEventReader2;
+import org.codehaus.stax2.XMLStreamReader2;
 import org.jmock.Expectations;
 import org.jmock.auto.Mock;
 import org.jmock.junit5.JUnit5Mockery;
@@ -91,6 +91,8 @@ public class AbstractBoundModelTestSupport {
       { // NOPMD - intentional
         allowing(bindingContext).getClassBinding(clazz);
         will(returnValue(retval));
+        allowing(bindingContext).isUsingGeneratedAccessors();
+        will(returnValue(false));
       }
     });
     return retval;
@@ -105,6 +107,8 @@ public class AbstractBoundModelTestSupport {
       { // NOPMD - intentional
         allowing(bindingContext).getClassBinding(clazz);
         will(returnValue(retval));
+        allowing(bindingContext).isUsingGeneratedAccessors();
+        will(returnValue(false));
       }
     });
     return retval;
@@ -151,7 +155,7 @@ public class AbstractBoundModelTestSupport {
 
     XMLInputFactory factory = XMLInputFactory.newInstance();
     assert factory instanceof WstxInputFactory;
-    XMLEventReader2 parser = (XMLEventReader2) factory.createXMLEventReader(reader);
+    XMLStreamReader2 parser = (XMLStreamReader2) factory.createXMLStreamReader(reader);
 
     IXmlParsingContext retval = context.mock(IXmlParsingContext.class);
 
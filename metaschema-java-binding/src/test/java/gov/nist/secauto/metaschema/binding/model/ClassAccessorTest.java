@@ -0,0 +1,141 @@
+/*
+ * Portions of this software was developed by employees of the National Institute
+ * of Standards and Technology (NIST), an agency of the Federal Government and is
+ * being made available as a public service. Pursuant to title 17 United States
+ * Code Section 105, works of NIST employees are not subject to copyright
+ * protection in the United States. This software may be subject to foreign
+ * copyright. Permission in the United States and in foreign countries, to the
+ * extent that NIST may hold copyright, to use, copy, modify, create derivative
+ * works, and distribute this software and its documentation without fee is hereby
+ * granted on a non-exclusive basis, provided that this notice and disclaimer
+ * of warranty appears in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED 'AS IS' WITHOUT ANY WARRANTY OF ANY KIND, EITHER
+ * EXPRESSED, IMPLIED, OR STATUTORY, INCLUDING, BUT NOT LIMITED TO, ANY WARRANTY
+ * THAT THE SOFTWARE WILL CONFORM TO SPECIFICATIONS, ANY IMPLIED WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE, AND FREEDOM FROM
+ * INFRINGEMENT, AND ANY WARRANTY THAT THE DOCUMENTATION WILL CONFORM TO THE
+ * SOFTWARE, OR ANY WARRANTY THAT THE SOFTWARE WILL BE ERROR FREE.  IN NO EVENT
+ * SHALL NIST BE LIABLE FOR ANY DAMAGES, INCLUDING, BUT NOT LIMITED TO, DIRECT,
+ * INDIRECT, SPECIAL OR CONSEQUENTIAL DAMAGES, ARISING OUT OF, RESULTING FROM,
+ * OR IN ANY WAY CONNECTED WITH THIS SOFTWARE, WHETHER OR NOT BASED UPON WARRANTY,
+ * CONTRACT, TORT, OR OTHERWISE, WHETHER OR NOT INJURY WAS SUSTAINED BY PERSONS OR
+ * PROPERTY OR OTHERWISE, AND WHETHER OR NOT LOSS WAS SUSTAINED FROM, OR AROSE OUT
+ * OF THE RESULTS OF, OR USE OF, THE SOFTWARE OR SERVICES PROVIDED HEREUNDER.
+ */
+
+package gov.nist.secauto.metaschema.binding.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import gov.nist.secauto.metaschema.binding.io.BindingException;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.LinkedList;
+import java.util.List;
+
+class ClassAccessorTest {
+
+  @ParameterizedTest
+  @ValueSource(booleans = { true, false })
+  void testNewInstance(boolean generated) throws BindingException {
+    IClassAccessor accessor = IClassAccessor.newInstance(CallbackClass.class, generated);
+    CallbackClass instance = accessor.newInstance();
+    assertNotNull(instance);
+  }
+
+  @ParameterizedTest
+  @ValueSource(booleans = { true, false })
+  void testDeserializeCallbacks(boolean generated) throws BindingException {
+    IClassAccessor accessor = IClassAccessor.newInstance(CallbackClass.class, generated);
+    CallbackClass instance = accessor.newInstance();
+    Object parent = new Object();
+
+    accessor.callBeforeDeserialize(instance, parent);
+    accessor.callAfterDeserialize(instance, parent);
+
+    assertEquals(List.of("before", "after"), instance.getCalls());
+    assertEquals(parent, instance.getParent());
+  }
+
+  @ParameterizedTest
+  @ValueSource(booleans = { true, false })
+  void testNoCallbacks(boolean generated) throws BindingException {
+    IClassAccessor accessor = IClassAccessor.newInstance(NoCallbackClass.class, generated);
+    NoCallbackClass instance = accessor.newInstance();
+
+    // should do nothing
+    accessor.callBeforeDeserialize(instance, null);
+    accessor.callAfterDeserialize(instance, null);
+  }
+
+  @ParameterizedTest
+  @ValueSource(booleans = { true, false })
+  void testCallbackException(boolean generated) throws BindingException {
+    IClassAccessor accessor = IClassAccessor.newInstance(FailingCallbackClass.class, generated);
+    FailingCallbackClass instance = accessor.newInstance();
+
+    assertThrows(BindingException.class, () -> accessor.callBeforeDeserialize(instance, null));
+  }
+
+  @ParameterizedTest
+  @ValueSource(booleans = { true, false })
+  void testMissingConstructor(boolean generated) {
+    IClassAccessor accessor = IClassAccessor.newInstance(NoDefaultConstructorClass.class, generated);
+    assertTrue(accessor instanceof ReflectiveClassAccessor, "expected the reflective fallback");
+    assertThrows(BindingException.class, () -> accessor.newInstance());
+  }
+
+  @Test
+  void testGeneratedAccessor() {
+    assertTrue(IClassAccessor.newInstance(CallbackClass.class, true) instanceof GeneratedClassAccessor);
+  }
+
+  static class BaseCallbackClass {
+    private final List<String> calls = new LinkedList<>();
+    private Object parent;
+
+    public void beforeDeserialize(Object parent) {
+      calls.add("before");
+      this.parent = parent;
+    }
+
+    public List<String> getCalls() {
+      return calls;
+    }
+
+    public Object getParent() {
+      return parent;
+    }
+  }
+
+  static final class CallbackClass
+      extends BaseCallbackClass {
+
+    public void afterDeserialize(Object parent) {
+      getCalls().add("after");
+    }
+  }
+
+  static final class NoCallbackClass {
+    // no callbacks
+  }
+
+  static final class FailingCallbackClass {
+    public void beforeDeserialize(Object parent) {
+      throw new IllegalStateException("failure");
+    }
+  }
+
+  static final class NoDefaultConstructorClass {
+    NoDefaultConstructorClass(String value) {
+      // do nothing
+    }
+  }
+}
@@ -26,7 +26,10 @@
 
 package gov.nist.secauto.metaschema.binding.model;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import com.fasterxml.jackson.core.JsonParseException;
 
@@ -38,7 +41,14 @@ import org.junit.jupiter.api.Test;
 import java.io.BufferedReader;
 import java.io.File;
 import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
 import java.nio.file.Files;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
 
 class DefaultAssemblyClassBindingTest
     extends AbstractBoundModelTestSupport {
@@ -72,6 +82,71 @@ class DefaultAssemblyClassBindingTest
     }
   }
 
+  @NonNull
+  private Object parseJson(@NonNull IAssemblyClassBinding classBinding, @NonNull String json)
+      throws IOException {
+    try (Reader reader = new StringReader(json)) {
+      IJsonParsingContext context = newJsonParsingContext(reader);
+
+      RootAssemblyDefinition root = new RootAssemblyDefinition(classBinding);
+
+      Object value = root.readRoot(context);
+      assertNotNull(value, "root was null");
+      return value;
+    }
+  }
+
+  private static Object getPropertyValue(@NonNull IAssemblyClassBinding classBinding, @NonNull Object instance,
+      @NonNull String jsonName) {
+    IBoundNamedInstance property = classBinding.getNamedInstances(null).get(jsonName);
+    assertNotNull(property, "unknown property: " + jsonName);
+    return property.getValue(instance);
+  }
+
+  @Test
+  void testJsonParseMissingRequiredProperty() throws IOException {
+    IAssemblyClassBinding classBinding = getRootAssemblyClassBinding();
+    Object value = parseJson(classBinding, "{ \"root\": { \"singleton-or-array-assembly-items\": {} } }");
+
+    // properties that are not present get the default value of their collector
+    assertNull(getPropertyValue(classBinding, value, "simple-singleton-field"));
+    Map<?, ?> keyedField = (Map<?, ?>) getPropertyValue(classBinding, value, "keyed-field-items");
+    assertNotNull(keyedField, "keyed-field-items was null");
+    assertTrue(keyedField.isEmpty(), "keyed-field-items was not empty");
+    assertEquals(1, ((List<?>) getPropertyValue(classBinding, value, "singleton-or-array-assembly-items")).size());
+  }
+
+  @Test
+  void testJsonParseDuplicateProperty() throws IOException {
+    IAssemblyClassBinding classBinding = getRootAssemblyClassBinding();
+    Object value = parseJson(classBinding, "{ \"root\": {"
+        + " \"simple-singleton-field\": \"first\","
+        + " \"singleton-or-array-assembly-items\": {},"
+        + " \"simple-singleton-field\": \"second\""
+        + " } }");
+
+    // the last occurrence of a property wins
+    assertEquals("second", getPropertyValue(classBinding, value, "simple-singleton-field"));
+    assertEquals(1, ((List<?>) getPropertyValue(classBinding, value, "singleton-or-array-assembly-items")).size());
+  }
+
+  @Test
+  void testJsonParseNonDefaultPropertyOrder() throws IOException {
+    IAssemblyClassBinding classBinding = getRootAssemblyClassBinding();
+    Object value = parseJson(classBinding, "{ \"root\": {"
+        + " \"singleton-or-array-assembly-items\": [ {}, {} ],"
+        + " \"keyed-field-items\": { \"key1\": { \"field-value\": \"value1\" } },"
+        + " \"simple-singleton-field\": \"simple\","
+        + " \"uuid\": \"0d1e6bbd-d4b1-47b9-8a9b-4a8b1ad1d3c6\""
+        + " } }");
+
+    UUID uuid = UUID.fromString("0d1e6bbd-d4b1-47b9-8a9b-4a8b1ad1d3c6");
+    assertEquals(uuid, getPropertyValue(classBinding, value, "uuid"));
+    assertEquals("simple", getPropertyValue(classBinding, value, "simple-singleton-field"));
+    assertEquals(1, ((Map<?, ?>) getPropertyValue(classBinding, value, "keyed-field-items")).size());
+    assertEquals(2, ((List<?>) getPropertyValue(classBinding, value, "singleton-or-array-assembly-items")).size());
+  }
+
   @Test
   void testMetaschema() {
     IAssemblyClassBinding classBinding = getRootAssemblyClassBinding();
@@ -51,7 +51,7 @@ import gov.nist.secauto.metaschema.model.common.datatype.markup.MarkupMultiline;
 import gov.nist.secauto.metaschema.model.common.util.CollectionUtil;
 import gov.nist.secauto.metaschema.model.common.util.ObjectUtils;
 
-import org.codehaus.stax2.XMLEventReader2;
+import org.codehaus.stax2.XMLStreamReader2;
 import org.jmock.Expectations;
 import org.jmock.auto.Mock;
 import org.jmock.junit5.JUnit5Mockery;
@@ -61,15 +61,13 @@ import org.junit.jupiter.api.extension.RegisterExtension;
 import java.io.IOException;
 import java.io.StringReader;
 import java.net.URI;
+import java.util.ArrayList;
 import java.util.Collections;
-import java.util.LinkedList;
 import java.util.List;
 
 import javax.xml.stream.XMLInputFactory;
 import javax.xml.stream.XMLStreamConstants;
 import javax.xml.stream.XMLStreamException;
-import javax.xml.stream.events.StartElement;
-import javax.xml.stream.events.XMLEvent;
 
 import edu.umd.cs.findbugs.annotations.NonNull;
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
@@ -145,7 +143,7 @@ class DefaultFieldPropertyTest {
           () -> assertEquals("fields2", jsonParser.currentName()),
 
           () -> assertTrue(field2Property.read(obj, ObjectUtils.notNull(jsonParsingContext))),
-          () -> assertTrue(obj.getField2() instanceof LinkedList),
+          () -> assertTrue(obj.getField2() instanceof ArrayList),
           () -> assertIterableEquals(Collections.singleton("field2value"), obj.getField2()));
 
       // assertEquals(JsonToken.START_OBJECT, jsonParser.nextToken());
@@ -155,11 +153,11 @@ class DefaultFieldPropertyTest {
   }
 
   @Test
-  void testXmlRead() throws JsonParseException, IOException, NoSuchFieldException, XMLStreamException {
+  void testXmlRead() throws IOException, NoSuchFieldException, XMLStreamException {
     String xml = "<test xmlns='http://example.com/ns'>" + "  <field1>field1value</field1>" + "</test>";
     XMLInputFactory factory = XMLInputFactory.newInstance();
     assert factory instanceof WstxInputFactory;
-    XMLEventReader2 eventReader = (XMLEventReader2) factory.createXMLEventReader(new StringReader(xml));
+    XMLStreamReader2 reader = (XMLStreamReader2) factory.createXMLStreamReader(new StringReader(xml));
     Class<?> theClass = TestField.class;
 
     IMetaschema metaschema = new TestMetaschema(CollectionUtil.emptyList(), ObjectUtils.notNull(bindingContext));
@@ -179,7 +177,7 @@ class DefaultFieldPropertyTest {
         will(returnValue(metaschema));
 
         allowing(xmlParsingContext).getReader();
-        will(returnValue(eventReader));
+        will(returnValue(reader));
       }
     });
 
@@ -194,21 +192,18 @@ class DefaultFieldPropertyTest {
 
     TestField obj = new TestField();
 
-    assertEquals(XMLStreamConstants.START_DOCUMENT, eventReader.nextEvent().getEventType());
-    XMLEvent event = eventReader.nextEvent();
-    assertEquals(XMLStreamConstants.START_ELEMENT, event.getEventType());
-    StartElement start = event.asStartElement();
-    // assertEquals("test", jsonParser.nextFieldName());
-    // assertEquals(JsonToken.START_OBJECT, jsonParser.nextToken());
-    // assertEquals(JsonToken.FIELD_NAME, jsonParser.nextToken());
+    assertEquals(XMLStreamConstants.START_ELEMENT, reader.nextTag());
+    // move into the content of the containing element
+    reader.next();
 
-    assert start != null;
-
-    assertTrue(field1Property.read(obj, start, ObjectUtils.notNull(xmlParsingContext)));
-    assertFalse(field2Property.read(obj, start, ObjectUtils.notNull(xmlParsingContext)));
+    assertTrue(field1Property.read(obj, ObjectUtils.notNull(xmlParsingContext)));
+    assertFalse(field2Property.read(obj, ObjectUtils.notNull(xmlParsingContext)));
 
     assertEquals("field1value", obj.getField1());
     assertEquals(null, obj.getField2());
+
+    // the reader is left on the end of the containing element
+    assertEquals(XMLStreamConstants.END_ELEMENT, reader.getEventType());
   }
 
   @Test
@@ -217,7 +212,7 @@ class DefaultFieldPropertyTest {
         + "  </fields2>\n" + "</test>";
     XMLInputFactory factory = XMLInputFactory.newInstance();
     assert factory instanceof WstxInputFactory;
-    XMLEventReader2 eventReader = (XMLEventReader2) factory.createXMLEventReader(new StringReader(xml));
+    XMLStreamReader2 reader = (XMLStreamReader2) factory.createXMLStreamReader(new StringReader(xml));
     Class<?> theClass = TestField.class;
 
     IMetaschema metaschema = new TestMetaschema(CollectionUtil.emptyList(), ObjectUtils.notNull(bindingContext));
@@ -237,7 +232,7 @@ class DefaultFieldPropertyTest {
         will(returnValue(metaschema));
 
         allowing(xmlParsingContext).getReader();
-        will(returnValue(eventReader));
+        will(returnValue(reader));
       }
     });
 
@@ -252,19 +247,12 @@ class DefaultFieldPropertyTest {
 
     TestField obj = new TestField();
 
-    assertEquals(XMLStreamConstants.START_DOCUMENT, eventReader.nextEvent().getEventType());
-    XMLEvent event = eventReader.nextEvent();
-    assertEquals(XMLStreamConstants.START_ELEMENT, event.getEventType());
-    StartElement start = event.asStartElement();
-    // assertEquals("test", jsonParser.nextFieldName());
-    // assertEquals(JsonToken.START_OBJECT, jsonParser.nextToken());
-    // assertEquals(JsonToken.FIELD_NAME, jsonParser.nextToken());
-
-    assert start != null;
-    assert xmlParsingContext != null;
+    assertEquals(XMLStreamConstants.START_ELEMENT, reader.nextTag());
+    // move into the content of the containing element
+    reader.next();
 
-    assertFalse(field1Property.read(obj, start, ObjectUtils.notNull(xmlParsingContext)));
-    assertTrue(field2Property.read(obj, start, ObjectUtils.notNull(xmlParsingContext)));
+    assertFalse(field1Property.read(obj, ObjectUtils.notNull(xmlParsingContext)));
+    assertTrue(field2Property.read(obj, ObjectUtils.notNull(xmlParsingContext)));
 
     assertEquals(null, obj.getField1());
     assertIterableEquals(Collections.singleton("field2value"), obj.getField2());
@@ -329,7 +317,7 @@ class DefaultFieldPropertyTest {
       assertEquals("fields2", jsonParser.currentName());
 
       assertTrue(field2Property.read(obj, ObjectUtils.notNull(jsonParsingContext)));
-      assertTrue(obj.getField2() instanceof LinkedList);
+      assertTrue(obj.getField2() instanceof ArrayList);
       assertIterableEquals(Collections.singleton("field2value"), obj.getField2());
     }
   }
@@ -47,7 +47,7 @@ import gov.nist.secauto.metaschema.model.common.datatype.markup.MarkupLine;
 import gov.nist.secauto.metaschema.model.common.datatype.markup.MarkupMultiline;
 import gov.nist.secauto.metaschema.model.common.util.ObjectUtils;
 
-import org.codehaus.stax2.XMLEventReader2;
+import org.codehaus.stax2.XMLStreamReader2;
 import org.jmock.Expectations;
 import org.jmock.junit5.JUnit5Mockery;
 import org.junit.jupiter.api.Test;
@@ -62,8 +62,6 @@ import java.util.List;
 import javax.xml.stream.XMLInputFactory;
 import javax.xml.stream.XMLStreamConstants;
 import javax.xml.stream.XMLStreamException;
-import javax.xml.stream.events.StartElement;
-import javax.xml.stream.events.XMLEvent;
 
 import edu.umd.cs.findbugs.annotations.NonNull;
 
@@ -130,7 +128,7 @@ class DefaultFieldValuePropertyTest {
     String xml = "<field xmlns='http://example.com/ns'>theValue</field>";
     XMLInputFactory factory = XMLInputFactory.newInstance();
     assert factory instanceof WstxInputFactory;
-    XMLEventReader2 eventReader = (XMLEventReader2) factory.createXMLEventReader(new StringReader(xml));
+    XMLStreamReader2 reader = (XMLStreamReader2) factory.createXMLStreamReader(new StringReader(xml));
     Class<?> theClass = SimpleField.class;
 
     Field field = theClass.getDeclaredField("_value");
@@ -146,7 +144,7 @@ class DefaultFieldValuePropertyTest {
         will(returnValue(bindingContext));
 
         allowing(xmlParsingContext).getReader();
-        will(returnValue(eventReader));
+        will(returnValue(reader));
       }
     });
 
@@ -154,18 +152,13 @@ class DefaultFieldValuePropertyTest {
         ObjectUtils.notNull(classBinding),
         ObjectUtils.notNull(field));
 
-    assertEquals(XMLStreamConstants.START_DOCUMENT, eventReader.nextEvent().getEventType());
-    XMLEvent event = eventReader.nextEvent();
-    assertEquals(XMLStreamConstants.START_ELEMENT, event.getEventType());
-    StartElement start = event.asStartElement();
-    // assertEquals("test", jsonParser.nextFieldName());
-    // assertEquals(JsonToken.START_OBJECT, jsonParser.nextToken());
-    // assertEquals(JsonToken.FIELD_NAME, jsonParser.nextToken());
+    assertEquals(XMLStreamConstants.START_ELEMENT, reader.nextTag());
+    // move into the content of the field element
+    reader.next();
 
     SimpleField obj = new SimpleField();
-    assert start != null;
     assert xmlParsingContext != null;
-    idProperty.read(obj, start, xmlParsingContext);
+    idProperty.read(obj, xmlParsingContext);
 
     assertEquals("theValue", obj.getValue());
   }
@@ -281,7 +274,7 @@ class DefaultFieldValuePropertyTest {
     String xml = "<field xmlns='http://example.com/ns'>theValue</field>";
     XMLInputFactory factory = XMLInputFactory.newInstance();
     assert factory instanceof WstxInputFactory;
-    XMLEventReader2 eventReader = (XMLEventReader2) factory.createXMLEventReader(new StringReader(xml));
+    XMLStreamReader2 reader = (XMLStreamReader2) factory.createXMLStreamReader(new StringReader(xml));
     Class<?> theClass = SimpleField2.class;
 
     Field field = theClass.getDeclaredField("_value");
@@ -297,7 +290,7 @@ class DefaultFieldValuePropertyTest {
         will(returnValue(bindingContext));
 
         allowing(xmlParsingContext).getReader();
-        will(returnValue(eventReader));
+        will(returnValue(reader));
       }
     });
 
@@ -305,18 +298,13 @@ class DefaultFieldValuePropertyTest {
         ObjectUtils.notNull(classBinding),
         ObjectUtils.notNull(field));
 
-    assertEquals(XMLStreamConstants.START_DOCUMENT, eventReader.nextEvent().getEventType());
-    XMLEvent event = eventReader.nextEvent();
-    assertEquals(XMLStreamConstants.START_ELEMENT, event.getEventType());
-    StartElement start = event.asStartElement();
-    // assertEquals("test", jsonParser.nextFieldName());
-    // assertEquals(JsonToken.START_OBJECT, jsonParser.nextToken());
-    // assertEquals(JsonToken.FIELD_NAME, jsonParser.nextToken());
+    assertEquals(XMLStreamConstants.START_ELEMENT, reader.nextTag());
+    // move into the content of the field element
+    reader.next();
 
     SimpleField2 obj = new SimpleField2();
-    assert start != null;
     assert xmlParsingContext != null;
-    idProperty.read(obj, start, xmlParsingContext);
+    idProperty.read(obj, xmlParsingContext);
 
     assertEquals("theValue", obj.getValue());
   }
@@ -49,7 +49,7 @@ import gov.nist.secauto.metaschema.model.common.datatype.markup.MarkupLine;
 import gov.nist.secauto.metaschema.model.common.datatype.markup.MarkupMultiline;
 import gov.nist.secauto.metaschema.model.common.util.ObjectUtils;
 
-import org.codehaus.stax2.XMLEventReader2;
+import org.codehaus.stax2.XMLStreamReader2;
 import org.jmock.Expectations;
 import org.jmock.junit5.JUnit5Mockery;
 import org.junit.jupiter.api.Test;
@@ -68,8 +68,6 @@ import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import javax.xml.stream.XMLInputFactory;
 import javax.xml.stream.XMLStreamConstants;
 import javax.xml.stream.XMLStreamException;
-import javax.xml.stream.events.StartElement;
-import javax.xml.stream.events.XMLEvent;
 
 class DefaultFlagPropertyTest {
   @RegisterExtension
@@ -131,7 +129,7 @@ class DefaultFlagPropertyTest {
     String xml = "<test xmlns='http://example.com/ns' id='theId' number='1'/>";
     XMLInputFactory factory = XMLInputFactory.newInstance();
     assert factory instanceof WstxInputFactory;
-    XMLEventReader2 eventReader = (XMLEventReader2) factory.createXMLEventReader(new StringReader(xml));
+    XMLStreamReader2 reader = (XMLStreamReader2) factory.createXMLStreamReader(new StringReader(xml));
 
     Field field = SimpleAssembly.class.getDeclaredField("_id");
 
@@ -146,7 +144,7 @@ class DefaultFlagPropertyTest {
         will(returnValue(bindingContext));
 
         allowing(xmlParsingContext).getReader();
-        will(returnValue(eventReader));
+        will(returnValue(reader));
       }
     });
 
@@ -154,18 +152,12 @@ class DefaultFlagPropertyTest {
         ObjectUtils.notNull(field),
         ObjectUtils.notNull(classBinding));
 
-    assertEquals(XMLStreamConstants.START_DOCUMENT, eventReader.nextEvent().getEventType());
-    XMLEvent event = eventReader.nextEvent();
-    assertEquals(XMLStreamConstants.START_ELEMENT, event.getEventType());
-    StartElement start = event.asStartElement();
-    // assertEquals("test", jsonParser.nextFieldName());
-    // assertEquals(JsonToken.START_OBJECT, jsonParser.nextToken());
-    // assertEquals(JsonToken.FIELD_NAME, jsonParser.nextToken());
+    // the flags are read from the current start element
+    assertEquals(XMLStreamConstants.START_ELEMENT, reader.nextTag());
 
     SimpleAssembly obj = new SimpleAssembly();
-    assert start != null;
     assert xmlParsingContext != null;
-    assertTrue(idProperty.read(obj, start, xmlParsingContext));
+    assertTrue(idProperty.read(obj, xmlParsingContext));
 
     assertEquals("theId", obj.getId());
   }
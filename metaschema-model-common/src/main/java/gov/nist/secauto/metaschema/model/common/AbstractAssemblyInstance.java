@@ -26,11 +26,17 @@
 
 package gov.nist.secauto.metaschema.model.common;
 
+import gov.nist.secauto.metaschema.model.common.util.ObjectUtils;
+
 import edu.umd.cs.findbugs.annotations.NonNull;
+import nl.talsmasoftware.lazy4j.Lazy;
 
 public abstract class AbstractAssemblyInstance
     extends AbstractModelInstance
     implements IAssemblyInstance {
+  @NonNull
+  private final Lazy<String> internedEffectiveName = ObjectUtils.notNull(Lazy.lazy(() -> getEffectiveName().intern()));
+
   /**
    * Create a new assembly instance.
    *
@@ -41,6 +47,11 @@ public abstract class AbstractAssemblyInstance
     super(parent);
   }
 
+  @Override
+  public String getInternedEffectiveName() {
+    return ObjectUtils.notNull(internedEffectiveName.get());
+  }
+
   @Override
   public String getXmlNamespace() {
     return getContainingMetaschema().getXmlNamespace().toASCIIString();
@@ -26,11 +26,16 @@
 
 package gov.nist.secauto.metaschema.model.common;
 
+import gov.nist.secauto.metaschema.model.common.util.ObjectUtils;
+
 import edu.umd.cs.findbugs.annotations.NonNull;
+import nl.talsmasoftware.lazy4j.Lazy;
 
 public abstract class AbstractFieldInstance
     extends AbstractModelInstance
     implements IFieldInstance {
+  @NonNull
+  private final Lazy<String> internedEffectiveName = ObjectUtils.notNull(Lazy.lazy(() -> getEffectiveName().intern()));
 
   /**
    * Create a new field instance.
@@ -41,4 +46,9 @@ public abstract class AbstractFieldInstance
   public AbstractFieldInstance(@NonNull IModelContainer parent) {
     super(parent);
   }
+
+  @Override
+  public String getInternedEffectiveName() {
+    return ObjectUtils.notNull(internedEffectiveName.get());
+  }
 }
@@ -26,11 +26,16 @@
 
 package gov.nist.secauto.metaschema.model.common;
 
+import gov.nist.secauto.metaschema.model.common.util.ObjectUtils;
+
 import edu.umd.cs.findbugs.annotations.NonNull;
+import nl.talsmasoftware.lazy4j.Lazy;
 
 public abstract class AbstractFlagInstance
     extends AbstractInstance<IFlagContainer>
     implements IFlagInstance {
+  @NonNull
+  private final Lazy<String> internedEffectiveName = ObjectUtils.notNull(Lazy.lazy(() -> getEffectiveName().intern()));
 
   /**
    * Create a new flag instance.
@@ -47,6 +52,11 @@ public abstract class AbstractFlagInstance
     return getParentContainer();
   }
 
+  @Override
+  public String getInternedEffectiveName() {
+    return ObjectUtils.notNull(internedEffectiveName.get());
+  }
+
   // @Override
   // public boolean isJsonKey() {
   // return this.equals(getContainingDefinition().getJsonKeyFlagInstance());
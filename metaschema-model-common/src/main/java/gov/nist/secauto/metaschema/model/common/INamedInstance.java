@@ -27,6 +27,7 @@
 package gov.nist.secauto.metaschema.model.common;
 
 import gov.nist.secauto.metaschema.model.common.datatype.markup.MarkupLine;
+import gov.nist.secauto.metaschema.model.common.util.ObjectUtils;
 
 import javax.xml.namespace.QName;
 
@@ -115,6 +116,19 @@ public interface INamedInstance extends IInstance, INamedModelElement {
     return result;
   }
 
+  /**
+   * Get the {@link #getEffectiveName() effective name} as an interned string.
+   * <p>
+   * Node items are indexed by this name, so that lookups using the interned names of a compiled
+   * Metapath match by identity. Implementations should intern the name only once.
+   *
+   * @return the interned effective name
+   */
+  @NonNull
+  default String getInternedEffectiveName() {
+    return ObjectUtils.notNull(getEffectiveName().intern());
+  }
+
   @Override
   default String getEffectiveFormalName() {
     String result = getFormalName();
@@ -49,6 +49,12 @@ public final class DefaultAllowedValuesConstraint
   private final Extensible extensible;
   @NonNull
   private final Map<String, DefaultAllowedValue> allowedValues;
+  /**
+   * An immutable copy of {@link #allowedValues} used for lookups, which avoids the ordering overhead
+   * of the original map.
+   */
+  @NonNull
+  private final Map<String, DefaultAllowedValue> allowedValueLookup;
 
   /**
    * Construct a new allowed values constraint which ensures that a target instance's value match one
@@ -96,6 +102,7 @@ public final class DefaultAllowedValuesConstraint
       @Nullable MarkupMultiline remarks) {
     super(id, formalName, description, source, level, target, properties, remarks);
     this.allowedValues = allowedValues;
+    this.allowedValueLookup = ObjectUtils.notNull(Map.copyOf(allowedValues));
     this.allowedOther = allowedOther;
     this.extensible = extensible;
   }
@@ -105,6 +112,12 @@ public final class DefaultAllowedValuesConstraint
     return allowedValues;
   }
 
+  @Override
+  public DefaultAllowedValue getAllowedValue(String name) {
+    // the immutable map does not permit null lookups
+    return name == null ? null : allowedValueLookup.get(name);
+  }
+
   @Override
   public boolean isAllowedOther() {
     return allowedOther;
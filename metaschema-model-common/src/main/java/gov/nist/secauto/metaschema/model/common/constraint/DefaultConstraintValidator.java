@@ -27,8 +27,10 @@
 package gov.nist.secauto.metaschema.model.common.constraint;
 
 import gov.nist.secauto.metaschema.model.common.IAssemblyDefinition;
+import gov.nist.secauto.metaschema.model.common.IDefinition;
 import gov.nist.secauto.metaschema.model.common.IFieldDefinition;
 import gov.nist.secauto.metaschema.model.common.IFlagDefinition;
+import gov.nist.secauto.metaschema.model.common.UsedDefinitionModelWalker;
 import gov.nist.secauto.metaschema.model.common.datatype.IDataTypeAdapter;
 import gov.nist.secauto.metaschema.model.common.metapath.DynamicContext;
 import gov.nist.secauto.metaschema.model.common.metapath.ISequence;
@@ -43,18 +45,28 @@ import gov.nist.secauto.metaschema.model.common.metapath.item.IDocumentNodeItem;
 import gov.nist.secauto.metaschema.model.common.metapath.item.IFieldNodeItem;
 import gov.nist.secauto.metaschema.model.common.metapath.item.IFlagNodeItem;
 import gov.nist.secauto.metaschema.model.common.metapath.item.IMetaschemaNodeItem;
+import gov.nist.secauto.metaschema.model.common.metapath.item.IModelNodeItem;
 import gov.nist.secauto.metaschema.model.common.metapath.item.INodeItem;
 import gov.nist.secauto.metaschema.model.common.util.CollectionUtil;
+import gov.nist.secauto.metaschema.model.common.util.ObjectUtils;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveTask;
 import java.util.function.Predicate;
 import java.util.regex.Pattern;
 
@@ -64,13 +76,37 @@ import edu.umd.cs.findbugs.annotations.Nullable;
 /**
  * Used to perform constraint validation over one or more node items.
  * <p>
- * This class is not thread safe.
+ * If a {@link #setForkJoinPool(ForkJoinPool) fork-join pool} is configured, the subtrees of each
+ * assembly are validated concurrently. The resulting findings are reported to the
+ * {@link IConstraintValidationHandler} in document order, once the whole item has been validated.
+ * Allowed values are checked within the subtree that contains the target item. An allowed values
+ * constraint that targets an item in a subtree validated by another task is registered once the
+ * findings for the preceding nodes have been reported, and is checked by
+ * {@link #finalizeValidation()}. Checks that depend on the state of the whole document, such as index
+ * and key reference checks, also wait for the preceding subtrees.
+ * <p>
+ * This class is not thread safe. A single validator must not be used to validate multiple items
+ * concurrently.
  */
 public class DefaultConstraintValidator implements IConstraintValidator { // NOPMD - intentional
   private static final Logger LOGGER = LogManager.getLogger(DefaultConstraintValidator.class);
+  /**
+   * The default minimum number of node items validated by a single fork-join task.
+   */
+  public static final int DEFAULT_FORK_THRESHOLD = 64;
 
   @NonNull
   private final Map<INodeItem, ValueStatus> valueMap = new LinkedHashMap<>(); // NOPMD - intentional
+  /**
+   * Tracks the target items that only a single allowed values constraint has been registered for,
+   * which is the common case. A {@link ValueStatus} is only created once a second constraint is
+   * registered.
+   */
+  @NonNull
+  private final Map<INodeItem, IAllowedValuesConstraint> singleAllowedValuesMap = new LinkedHashMap<>(); // NOPMD
+  @NonNull
+  private final Map<List<IAllowedValuesConstraint>, AllowedValuesCombination> allowedValuesCombinations
+      = new ConcurrentHashMap<>();
   @NonNull
   private final Map<String, IIndex> indexNameToIndexMap = new ConcurrentHashMap<>();
   @NonNull
@@ -79,6 +115,13 @@ public class DefaultConstraintValidator implements IConstraintValidator { // NOP
   private final DynamicContext metapathContext;
   @NonNull
   private final IConstraintValidationHandler handler;
+  @NonNull
+  private final Map<IDefinition, ValidationPlan> validationPlans = new ConcurrentHashMap<>();
+  @NonNull
+  private final ThreadLocal<TaskState> currentTask = new ThreadLocal<>();
+  @Nullable
+  private ForkJoinPool forkJoinPool;
+  private int forkThreshold = DEFAULT_FORK_THRESHOLD;
 
   public DefaultConstraintValidator(
       @NonNull DynamicContext metapathContext,
@@ -87,19 +130,131 @@ public class DefaultConstraintValidator implements IConstraintValidator { // NOP
     this.handler = handler;
   }
 
+  /**
+   * Get the handler to report findings to.
+   * <p>
+   * When called while validating a subtree concurrently, this is a handler that records the findings
+   * so that they can be reported in document order.
+   *
+   * @return the handler
+   */
   @NonNull
   public IConstraintValidationHandler getConstraintValidationHandler() {
-    return handler;
+    TaskState task = currentTask.get();
+    return task == null ? handler : task.getHandler();
   }
 
   @NonNull
   protected DynamicContext getMetapathContext() {
-    return metapathContext;
+    TaskState task = currentTask.get();
+    return task == null ? metapathContext : task.getMetapathContext();
+  }
+
+  /**
+   * Get the pool used to validate subtrees concurrently.
+   *
+   * @return the pool, or {@code null} if validation is performed on the calling thread
+   */
+  @Nullable
+  public ForkJoinPool getForkJoinPool() {
+    return forkJoinPool;
+  }
+
+  /**
+   * Set the pool used to validate subtrees concurrently.
+   *
+   * @param pool
+   *          the pool to use, or {@code null} to validate on the calling thread
+   */
+  public void setForkJoinPool(@Nullable ForkJoinPool pool) {
+    this.forkJoinPool = pool;
+  }
+
+  /**
+   * Get the minimum number of node items validated by a single fork-join task.
+   *
+   * @return the threshold
+   */
+  public int getForkThreshold() {
+    return forkThreshold;
+  }
+
+  /**
+   * Set the minimum number of node items validated by a single fork-join task. Sibling subtrees that
+   * are smaller than this are validated together, since validating a small subtree as a separate task
+   * costs more than it saves.
+   *
+   * @param threshold
+   *          the minimum number of node items
+   * @throws IllegalArgumentException
+   *           if the threshold is not positive
+   */
+  public void setForkThreshold(int threshold) {
+    if (threshold < 1) {
+      throw new IllegalArgumentException("The fork threshold must be positive.");
+    }
+    this.forkThreshold = threshold;
   }
 
   @Override
   public void validate(@NonNull INodeItem item) {
-    item.accept(new Visitor(), null);
+    prefetchDocuments(item);
+
+    ForkJoinPool pool = getForkJoinPool();
+    if (pool == null) {
+      item.accept(new Visitor(), null);
+    } else {
+      TaskState result = pool.invoke(new SubtreeTask(CollectionUtil.singletonList(item)));
+      result.getHandler().replay();
+    }
+  }
+
+  /**
+   * Start loading the documents referenced by the constraints of every definition that may be
+   * encountered while validating the provided item, so that the documents are loaded concurrently
+   * with validation.
+   * <p>
+   * This method does nothing if the Metapath context has no
+   * {@link DynamicContext#setDocumentPrefetchExecutor(java.util.concurrent.Executor) prefetch
+   * executor}.
+   *
+   * @param item
+   *          the item that is about to be validated
+   */
+  private void prefetchDocuments(@NonNull INodeItem item) {
+    DynamicContext dynamicContext = getMetapathContext();
+    INodeItem focus = item instanceof IDocumentNodeItem
+        ? ((IDocumentNodeItem) item).getRootAssemblyNodeItem()
+        : item;
+    if (dynamicContext.getDocumentPrefetchExecutor() != null && focus instanceof IDefinitionNodeItem) {
+      IDefinition definition = ((IDefinitionNodeItem) focus).getDefinition();
+      Collection<? extends IDefinition> definitions = definition instanceof IAssemblyDefinition
+          ? UsedDefinitionModelWalker.collectUsedDefinitions(
+              CollectionUtil.singletonList((IAssemblyDefinition) definition))
+          : CollectionUtil.singletonList(definition);
+      for (IDefinition used : definitions) {
+        getValidationPlan(ObjectUtils.notNull(used)).prefetchDocuments(dynamicContext);
+      }
+    }
+  }
+
+  /**
+   * Perform the provided action now, or if a subtree is being validated concurrently, once the
+   * findings for the preceding nodes have been reported.
+   * <p>
+   * This is used for actions that update state shared across subtrees, so that the state is updated
+   * in document order.
+   *
+   * @param action
+   *          the action to perform
+   */
+  protected void defer(@NonNull Runnable action) {
+    TaskState task = currentTask.get();
+    if (task == null) {
+      action.run();
+    } else {
+      task.getHandler().defer(action);
+    }
   }
 
   /**
@@ -112,11 +267,14 @@ public class DefaultConstraintValidator implements IConstraintValidator { // NOP
    */
   protected void validateFlag(@NonNull IFlagNodeItem item) {
     IFlagDefinition definition = item.getDefinition();
-
-    validateExpect(definition.getExpectConstraints(), item);
-    validateAllowedValues(definition.getAllowedValuesConstraints(), item);
-    validateIndexHasKey(definition.getIndexHasKeyConstraints(), item);
-    validateMatches(definition.getMatchesConstraints(), item);
+    ValidationPlan plan = getValidationPlan(definition);
+    if (!plan.isEmpty()) {
+      ValidationPlan.TargetResolver resolver = plan.newResolver(item, getMetapathContext());
+      validateExpect(definition.getExpectConstraints(), item, resolver);
+      validateAllowedValues(definition.getAllowedValuesConstraints(), item, resolver);
+      validateIndexHasKey(definition.getIndexHasKeyConstraints(), item, resolver);
+      validateMatches(definition.getMatchesConstraints(), item, resolver);
+    }
   }
 
   /**
@@ -129,11 +287,14 @@ public class DefaultConstraintValidator implements IConstraintValidator { // NOP
    */
   protected void validateField(@NonNull IFieldNodeItem item) {
     IFieldDefinition definition = item.getDefinition();
-
-    validateExpect(definition.getExpectConstraints(), item);
-    validateAllowedValues(definition.getAllowedValuesConstraints(), item);
-    validateIndexHasKey(definition.getIndexHasKeyConstraints(), item);
-    validateMatches(definition.getMatchesConstraints(), item);
+    ValidationPlan plan = getValidationPlan(definition);
+    if (!plan.isEmpty()) {
+      ValidationPlan.TargetResolver resolver = plan.newResolver(item, getMetapathContext());
+      validateExpect(definition.getExpectConstraints(), item, resolver);
+      validateAllowedValues(definition.getAllowedValuesConstraints(), item, resolver);
+      validateIndexHasKey(definition.getIndexHasKeyConstraints(), item, resolver);
+      validateMatches(definition.getMatchesConstraints(), item, resolver);
+    }
   }
 
   /**
@@ -146,14 +307,34 @@ public class DefaultConstraintValidator implements IConstraintValidator { // NOP
    */
   protected void validateAssembly(@NonNull IAssemblyNodeItem item) {
     IAssemblyDefinition definition = item.getDefinition();
+    ValidationPlan plan = getValidationPlan(definition);
+    if (!plan.isEmpty()) {
+      ValidationPlan.TargetResolver resolver = plan.newResolver(item, getMetapathContext());
+      validateExpect(definition.getExpectConstraints(), item, resolver);
+      validateAllowedValues(definition.getAllowedValuesConstraints(), item, resolver);
+      validateIndexHasKey(definition.getIndexHasKeyConstraints(), item, resolver);
+      validateMatches(definition.getMatchesConstraints(), item, resolver);
+      validateHasCardinality(definition.getHasCardinalityConstraints(), item, resolver);
+      validateIndex(definition.getIndexConstraints(), item, resolver);
+      validateUnique(definition.getUniqueConstraints(), item, resolver);
+    }
+  }
 
-    validateExpect(definition.getExpectConstraints(), item);
-    validateAllowedValues(definition.getAllowedValuesConstraints(), item);
-    validateIndexHasKey(definition.getIndexHasKeyConstraints(), item);
-    validateMatches(definition.getMatchesConstraints(), item);
-    validateHasCardinality(definition.getHasCardinalityConstraints(), item);
-    validateIndex(definition.getIndexConstraints(), item);
-    validateUnique(definition.getUniqueConstraints(), item);
+  /**
+   * Get the validation plan for the provided definition, compiling it if needed.
+   *
+   * @param definition
+   *          the definition to get the plan for
+   * @return the plan
+   */
+  @NonNull
+  private ValidationPlan getValidationPlan(@NonNull IDefinition definition) {
+    return ObjectUtils.notNull(validationPlans.computeIfAbsent(definition, ValidationPlan::forDefinition));
+  }
+
+  @NonNull
+  private ValidationPlan.TargetResolver newTargetResolver(@NonNull IDefinitionNodeItem item) {
+    return getValidationPlan(item.getDefinition()).newResolver(item, getMetapathContext());
   }
 
   protected void validateHasCardinality(@NonNull List<? extends ICardinalityConstraint> constraints,
@@ -167,8 +348,14 @@ public class DefaultConstraintValidator implements IConstraintValidator { // NOP
 
   protected void validateHasCardinality(@NonNull List<? extends ICardinalityConstraint> constraints,
       @NonNull IAssemblyNodeItem item) {
+    validateHasCardinality(constraints, item, newTargetResolver(item));
+  }
+
+  private void validateHasCardinality(@NonNull List<? extends ICardinalityConstraint> constraints,
+      @NonNull IAssemblyNodeItem item,
+      @NonNull ValidationPlan.TargetResolver resolver) {
     for (ICardinalityConstraint constraint : constraints) {
-      ISequence<? extends IDefinitionNodeItem> targets = constraint.matchTargets(item, getMetapathContext());
+      ISequence<? extends IDefinitionNodeItem> targets = resolver.match(constraint);
       try {
         validateHasCardinality(constraint, item, targets);
       } catch (MetapathException ex) {
@@ -202,8 +389,14 @@ public class DefaultConstraintValidator implements IConstraintValidator { // NOP
 
   protected void validateIndex(@NonNull List<? extends IIndexConstraint> constraints,
       @NonNull IAssemblyNodeItem item) {
+    validateIndex(constraints, item, newTargetResolver(item));
+  }
+
+  private void validateIndex(@NonNull List<? extends IIndexConstraint> constraints,
+      @NonNull IAssemblyNodeItem item,
+      @NonNull ValidationPlan.TargetResolver resolver) {
     for (IIndexConstraint constraint : constraints) {
-      ISequence<? extends IDefinitionNodeItem> targets = constraint.matchTargets(item, getMetapathContext());
+      ISequence<? extends IDefinitionNodeItem> targets = resolver.match(constraint);
       try {
         validateIndex(constraint, item, targets);
       } catch (MetapathException ex) {
@@ -215,18 +408,41 @@ public class DefaultConstraintValidator implements IConstraintValidator { // NOP
   protected void validateIndex(@NonNull IIndexConstraint constraint, @NonNull IAssemblyNodeItem node,
       @NonNull ISequence<? extends INodeItem> targets) {
     String indexName = constraint.getName();
-    if (indexNameToIndexMap.containsKey(indexName)) {
-      getConstraintValidationHandler().handleIndexDuplicateViolation(constraint, node);
-      return; // NOPMD - readability
+    TaskState task = currentTask.get();
+    if (task == null) {
+      if (indexNameToIndexMap.containsKey(indexName)) {
+        getConstraintValidationHandler().handleIndexDuplicateViolation(constraint, node);
+        return; // NOPMD - readability
+      }
+
+      IIndex index = IIndex.newInstance(constraint.getKeyFields());
+      buildIndex(constraint, node, targets, index);
+      indexNameToIndexMap.put(indexName, index);
+    } else {
+      // build the index now, but register it in document order, since the first index with a given
+      // name wins
+      IIndex index = IIndex.newInstance(constraint.getKeyFields());
+      TaskState indexTask = task.newTask(handler);
+      indexTask.run(() -> buildIndex(constraint, node, targets, index));
+      task.getHandler().defer(() -> {
+        if (indexNameToIndexMap.containsKey(indexName)) {
+          handler.handleIndexDuplicateViolation(constraint, node);
+        } else {
+          indexTask.getHandler().replay();
+          indexNameToIndexMap.put(indexName, index);
+        }
+      });
     }
+  }
 
-    IIndex index = IIndex.newInstance(constraint.getKeyFields());
+  private void buildIndex(@NonNull IIndexConstraint constraint, @NonNull IAssemblyNodeItem node,
+      @NonNull ISequence<? extends INodeItem> targets, @NonNull IIndex index) {
     targets.asStream()
         .forEachOrdered(item -> {
           assert item != null;
 
           try {
-            INodeItem oldItem = index.put(item, metapathContext);
+            INodeItem oldItem = index.put(item, getMetapathContext());
             if (oldItem != null) {
               getConstraintValidationHandler().handleIndexDuplicateKeyViolation(constraint, node, oldItem, item);
             }
@@ -234,7 +450,6 @@ public class DefaultConstraintValidator implements IConstraintValidator { // NOP
             getConstraintValidationHandler().handleKeyMatchError(constraint, node, item, ex);
           }
         });
-    indexNameToIndexMap.put(indexName, index);
   }
 
   protected void validateUnique(@NonNull List<? extends IUniqueConstraint> constraints,
@@ -248,8 +463,14 @@ public class DefaultConstraintValidator implements IConstraintValidator { // NOP
 
   protected void validateUnique(@NonNull List<? extends IUniqueConstraint> constraints,
       @NonNull IAssemblyNodeItem item) {
+    validateUnique(constraints, item, newTargetResolver(item));
+  }
+
+  private void validateUnique(@NonNull List<? extends IUniqueConstraint> constraints,
+      @NonNull IAssemblyNodeItem item,
+      @NonNull ValidationPlan.TargetResolver resolver) {
     for (IUniqueConstraint constraint : constraints) {
-      ISequence<? extends IDefinitionNodeItem> targets = constraint.matchTargets(item, getMetapathContext());
+      ISequence<? extends IDefinitionNodeItem> targets = resolver.match(constraint);
       try {
         validateUnique(constraint, item, targets);
       } catch (MetapathException ex) {
@@ -265,7 +486,7 @@ public class DefaultConstraintValidator implements IConstraintValidator { // NOP
         .forEachOrdered(item -> {
           assert item != null;
           try {
-            INodeItem oldItem = index.put(item, metapathContext);
+            INodeItem oldItem = index.put(item, getMetapathContext());
             if (oldItem != null) {
               getConstraintValidationHandler().handleUniqueKeyViolation(constraint, node, oldItem, item);
             }
@@ -278,9 +499,14 @@ public class DefaultConstraintValidator implements IConstraintValidator { // NOP
 
   protected void validateMatches(@NonNull List<? extends IMatchesConstraint> constraints,
       @NonNull IDefinitionNodeItem item) {
+    validateMatches(constraints, item, newTargetResolver(item));
+  }
 
+  private void validateMatches(@NonNull List<? extends IMatchesConstraint> constraints,
+      @NonNull IDefinitionNodeItem item,
+      @NonNull ValidationPlan.TargetResolver resolver) {
     for (IMatchesConstraint constraint : constraints) {
-      ISequence<? extends IDefinitionNodeItem> targets = constraint.matchTargets(item, getMetapathContext());
+      ISequence<? extends IDefinitionNodeItem> targets = resolver.match(constraint);
       try {
         validateMatches(constraint, item, targets);
       } catch (MetapathException ex) {
@@ -319,9 +545,15 @@ public class DefaultConstraintValidator implements IConstraintValidator { // NOP
   protected void validateIndexHasKey(
       @NonNull List<? extends IIndexHasKeyConstraint> constraints,
       @NonNull IDefinitionNodeItem node) {
+    validateIndexHasKey(constraints, node, newTargetResolver(node));
+  }
 
+  private void validateIndexHasKey(
+      @NonNull List<? extends IIndexHasKeyConstraint> constraints,
+      @NonNull IDefinitionNodeItem node,
+      @NonNull ValidationPlan.TargetResolver resolver) {
     for (IIndexHasKeyConstraint constraint : constraints) {
-      ISequence<? extends IDefinitionNodeItem> targets = constraint.matchTargets(node, getMetapathContext());
+      ISequence<? extends IDefinitionNodeItem> targets = resolver.match(constraint);
       validateIndexHasKey(constraint, node, targets);
     }
   }
@@ -332,20 +564,27 @@ public class DefaultConstraintValidator implements IConstraintValidator { // NOP
       @NonNull ISequence<? extends INodeItem> targets) {
     String indexName = constraint.getIndexName();
 
-    List<KeyRef> keyRefItems = indexNameToKeyRefMap.get(indexName);
-    if (keyRefItems == null) {
-      keyRefItems = new LinkedList<>();
-      indexNameToKeyRefMap.put(indexName, keyRefItems);
-    }
-
     KeyRef keyRef = new KeyRef(constraint, node, new ArrayList<>(targets.asList()));
-    keyRefItems.add(keyRef);
+    defer(() -> {
+      List<KeyRef> keyRefItems = indexNameToKeyRefMap.get(indexName);
+      if (keyRefItems == null) {
+        keyRefItems = new LinkedList<>();
+        indexNameToKeyRefMap.put(indexName, keyRefItems);
+      }
+      keyRefItems.add(keyRef);
+    });
   }
 
   protected void validateExpect(@NonNull List<? extends IExpectConstraint> constraints,
       @NonNull IDefinitionNodeItem item) {
+    validateExpect(constraints, item, newTargetResolver(item));
+  }
+
+  private void validateExpect(@NonNull List<? extends IExpectConstraint> constraints,
+      @NonNull IDefinitionNodeItem item,
+      @NonNull ValidationPlan.TargetResolver resolver) {
     for (IExpectConstraint constraint : constraints) {
-      ISequence<? extends IDefinitionNodeItem> targets = constraint.matchTargets(item, getMetapathContext());
+      ISequence<? extends IDefinitionNodeItem> targets = resolver.match(constraint);
       validateExpect(constraint, item, targets);
     }
   }
@@ -370,8 +609,14 @@ public class DefaultConstraintValidator implements IConstraintValidator { // NOP
 
   protected void validateAllowedValues(@NonNull List<? extends IAllowedValuesConstraint> constraints,
       @NonNull IDefinitionNodeItem item) {
+    validateAllowedValues(constraints, item, newTargetResolver(item));
+  }
+
+  private void validateAllowedValues(@NonNull List<? extends IAllowedValuesConstraint> constraints,
+      @NonNull IDefinitionNodeItem item,
+      @NonNull ValidationPlan.TargetResolver resolver) {
     for (IAllowedValuesConstraint constraint : constraints) {
-      ISequence<? extends IDefinitionNodeItem> targets = constraint.matchTargets(item, getMetapathContext());
+      ISequence<? extends IDefinitionNodeItem> targets = resolver.match(constraint);
       validateAllowedValues(constraint, targets);
     }
   }
@@ -380,14 +625,27 @@ public class DefaultConstraintValidator implements IConstraintValidator { // NOP
       ISequence<? extends IDefinitionNodeItem> targets) {
     targets.asStream().forEachOrdered(item -> {
       assert item != null;
-      try {
-        updateValueStatus(item, constraint);
-      } catch (MetapathException ex) {
-        rethrowConstraintError(constraint, item, ex);
+      TaskState task = currentTask.get();
+      if (task == null || task.isInSubtree(item)) {
+        registerAllowedValues(item, constraint);
+        if (task != null) {
+          task.addAllowedValuesTarget(item);
+        }
+      } else {
+        // the item is validated by another task, so register the constraint in document order
+        task.getHandler().defer(() -> registerAllowedValues(item, constraint));
       }
     });
   }
 
+  private void registerAllowedValues(@NonNull INodeItem item, @NonNull IAllowedValuesConstraint constraint) {
+    try {
+      updateValueStatus(item, constraint);
+    } catch (MetapathException ex) {
+      rethrowConstraintError(constraint, item, ex);
+    }
+  }
+
   private static void rethrowConstraintError(@NonNull IConstraint constraint, INodeItem item,
       MetapathException ex) {
     StringBuilder builder = new StringBuilder(128);
@@ -423,26 +681,82 @@ public class DefaultConstraintValidator implements IConstraintValidator { // NOP
    *          the set of allowed values
    */
   protected void updateValueStatus(@NonNull INodeItem targetItem, @NonNull IAllowedValuesConstraint allowedValues) {
-    // constraint.getAllowedValues().containsKey(value)
-
-    @Nullable ValueStatus valueStatus = valueMap.get(targetItem);
-    if (valueStatus == null) {
-      valueStatus = new ValueStatus(targetItem);
-      valueMap.put(targetItem, valueStatus);
+    // subtrees validated concurrently share the value status trackers
+    synchronized (valueMap) {
+      @Nullable ValueStatus valueStatus = valueMap.get(targetItem);
+      if (valueStatus == null) {
+        IAllowedValuesConstraint first = singleAllowedValuesMap.putIfAbsent(targetItem, allowedValues);
+        if (first != null) {
+          // this is the second constraint for the item
+          singleAllowedValuesMap.remove(targetItem);
+          valueStatus = new ValueStatus(targetItem);
+          valueStatus.registerAllowedValue(first);
+          valueStatus.registerAllowedValue(allowedValues);
+          valueMap.put(targetItem, valueStatus);
+        }
+      } else {
+        valueStatus.registerAllowedValue(allowedValues);
+      }
     }
-
-    valueStatus.registerAllowedValue(allowedValues);
   }
 
   protected void handleAllowedValues(@NonNull INodeItem targetItem) {
-    ValueStatus valueStatus = valueMap.remove(targetItem);
-    if (valueStatus != null) {
+    ValueStatus valueStatus;
+    IAllowedValuesConstraint allowedValues;
+    synchronized (valueMap) {
+      valueStatus = valueMap.remove(targetItem);
+      allowedValues = valueStatus == null ? singleAllowedValuesMap.remove(targetItem) : null;
+    }
+
+    if (valueStatus == null) {
+      // it's not a failure if allow others is true
+      if (allowedValues != null && !allowedValues.isAllowedOther()) {
+        String value = FnData.fnDataItem(targetItem).asString();
+        if (allowedValues.getAllowedValue(value) == null) {
+          getConstraintValidationHandler().handleAllowedValuesViolation(
+              CollectionUtil.singletonList(allowedValues),
+              targetItem);
+        }
+      }
+    } else {
       valueStatus.validate();
     }
   }
 
+  /**
+   * Get the merged allowed values for the provided combination of constraints, computing them if
+   * needed.
+   *
+   * @param constraints
+   *          the constraints that apply to a target item
+   * @return the merged allowed values
+   */
+  @NonNull
+  private AllowedValuesCombination getAllowedValuesCombination(
+      @NonNull List<IAllowedValuesConstraint> constraints) {
+    AllowedValuesCombination retval = allowedValuesCombinations.get(constraints);
+    if (retval == null) {
+      retval = new AllowedValuesCombination(constraints);
+      allowedValuesCombinations.putIfAbsent(CollectionUtil.unmodifiableList(new ArrayList<>(constraints)), retval);
+    }
+    return retval;
+  }
+
   @Override
   public void finalizeValidation() {
+    // allowed values registered for items that had already been validated
+    List<INodeItem> pendingItems;
+    synchronized (valueMap) {
+      pendingItems = new ArrayList<>(singleAllowedValuesMap.keySet());
+      pendingItems.addAll(valueMap.keySet());
+    }
+    for (INodeItem item : pendingItems) {
+      // like the visitor, only check the values of flags and fields
+      if (item instanceof IFlagNodeItem || item instanceof IFieldNodeItem) {
+        handleAllowedValues(item);
+      }
+    }
+
     // key references
     for (Map.Entry<String, List<KeyRef>> entry : indexNameToKeyRefMap.entrySet()) {
       String indexName = entry.getKey();
@@ -469,11 +783,44 @@ public class DefaultConstraintValidator implements IConstraintValidator { // NOP
     }
   }
 
-  private class ValueStatus {
+  /**
+   * The allowed values of a combination of constraints that apply to the same target items, merged
+   * into a single set.
+   */
+  private static final class AllowedValuesCombination {
     @NonNull
-    private final List<IAllowedValuesConstraint> constraints = new LinkedList<>();
+    private final Set<String> values;
+    private final boolean extensibleNone;
+
+    private AllowedValuesCombination(@NonNull List<IAllowedValuesConstraint> constraints) {
+      Set<String> allValues = new HashSet<>(); // NOPMD - intentional
+      boolean none = false;
+      for (IAllowedValuesConstraint constraint : constraints) {
+        allValues.addAll(constraint.getAllowedValues().keySet());
+        none = none || IAllowedValuesConstraint.Extensible.NONE.equals(constraint.getExtensible());
+      }
+      this.values = ObjectUtils.notNull(Set.copyOf(allValues));
+      this.extensibleNone = none;
+    }
+
+    /**
+     * Determine if the provided value is allowed by the combination, without needing to check each
+     * constraint.
+     *
+     * @param value
+     *          the value to check
+     * @return {@code true} if the value is allowed, or {@code false} if each constraint needs to be
+     *         checked
+     */
+    public boolean isAllowed(@NonNull String value) {
+      // a constraint with an extensibility scope of none must allow the value itself
+      return !extensibleNone && values.contains(value);
+    }
+  }
+
+  private class ValueStatus {
     @NonNull
-    private final String value;
+    private final List<IAllowedValuesConstraint> constraints = new ArrayList<>(2); // NOPMD - intentional
     @NonNull
     private final INodeItem item;
     private boolean allowOthers = true;
@@ -482,7 +829,11 @@ public class DefaultConstraintValidator implements IConstraintValidator { // NOP
 
     public ValueStatus(@NonNull INodeItem item) {
       this.item = item;
-      this.value = FnData.fnDataItem(item).asString();
+    }
+
+    @NonNull
+    public List<IAllowedValuesConstraint> getConstraints() {
+      return constraints;
     }
 
     public void registerAllowedValue(@NonNull IAllowedValuesConstraint allowedValues) {
@@ -512,7 +863,13 @@ public class DefaultConstraintValidator implements IConstraintValidator { // NOP
     }
 
     public void validate() {
-      if (!constraints.isEmpty()) {
+      // it's not a failure if allow others is true
+      if (!constraints.isEmpty() && !allowOthers) {
+        String value = FnData.fnDataItem(item).asString();
+        if (getAllowedValuesCombination(constraints).isAllowed(value)) {
+          return; // NOPMD - readability
+        }
+
         boolean match = false;
         List<IAllowedValuesConstraint> failedConstraints = new LinkedList<>();
         for (IAllowedValuesConstraint allowedValues : constraints) {
@@ -529,8 +886,7 @@ public class DefaultConstraintValidator implements IConstraintValidator { // NOP
           } // this constraint passes, but we need to make sure other constraints do as well
         }
 
-        // it's not a failure if allow others is true
-        if (!match && !allowOthers) {
+        if (!match) {
           getConstraintValidationHandler().handleAllowedValuesViolation(failedConstraints, item);
         }
       }
@@ -579,6 +935,232 @@ public class DefaultConstraintValidator implements IConstraintValidator { // NOP
     }
   }
 
+  /**
+   * Validates the model children of each assembly as separate fork-join tasks. Consecutive children
+   * are validated together in a single task until the task has at least the
+   * {@link #getForkThreshold() fork threshold} number of node items. If all children fit in a single
+   * task, they are validated by the current task.
+   */
+  private class ParallelVisitor
+      extends Visitor {
+    @Override
+    protected Void visitModelChildren(@NonNull INodeItem item, Void context) {
+      int threshold = getForkThreshold();
+      List<SubtreeTask> tasks = new ArrayList<>(); // NOPMD - intentional
+      List<INodeItem> batch = new ArrayList<>(); // NOPMD - intentional
+      int batchSize = 0;
+      for (List<? extends IModelNodeItem> childItems : item.getModelItems()) {
+        for (IModelNodeItem childItem : childItems) {
+          assert childItem != null;
+          batch.add(childItem);
+          batchSize += countItems(childItem, threshold - batchSize);
+          if (batchSize >= threshold) {
+            tasks.add(new SubtreeTask(batch));
+            batch = new ArrayList<>(); // NOPMD - intentional
+            batchSize = 0;
+          }
+        }
+      }
+
+      if (!tasks.isEmpty()) {
+        ForkJoinTask.invokeAll(tasks);
+
+        // record the findings in document order
+        DeferredConstraintValidationHandler current = ObjectUtils.requireNonNull(currentTask.get()).getHandler();
+        for (SubtreeTask task : tasks) {
+          current.deferAll(task.join().getHandler());
+        }
+      }
+
+      // the remaining children are too few to be worth a separate task
+      for (INodeItem childItem : batch) {
+        childItem.accept(this, context);
+      }
+      return null;
+    }
+  }
+
+  /**
+   * Count the node items in the subtree rooted at the provided item, stopping once the limit is
+   * reached.
+   *
+   * @param item
+   *          the root of the subtree
+   * @param limit
+   *          the count to stop at
+   * @return the number of node items, up to the limit
+   */
+  private static int countItems(@NonNull INodeItem item, int limit) {
+    int retval = 1 + item.getFlags().size();
+    for (List<? extends IModelNodeItem> childItems : item.getModelItems()) {
+      for (IModelNodeItem childItem : childItems) {
+        if (retval >= limit) {
+          return Math.min(retval, limit); // NOPMD - readability
+        }
+        retval += countItems(ObjectUtils.notNull(childItem), limit - retval);
+      }
+    }
+    return Math.min(retval, limit);
+  }
+
+  /**
+   * Validates a sequence of sibling nodes and their descendants, recording the findings.
+   */
+  @SuppressWarnings("serial")
+  private class SubtreeTask
+      extends RecursiveTask<TaskState> {
+    @NonNull
+    private final List<? extends INodeItem> items;
+
+    public SubtreeTask(@NonNull List<? extends INodeItem> items) {
+      this.items = items;
+    }
+
+    @Override
+    protected TaskState compute() {
+      TaskState task = new TaskState(
+          metapathContext.subContext(),
+          new DeferredConstraintValidationHandler(handler),
+          items);
+      ParallelVisitor visitor = new ParallelVisitor();
+      task.run(() -> {
+        for (INodeItem item : items) {
+          item.accept(visitor, null);
+        }
+      });
+      task.deferPendingAllowedValues();
+      return task;
+    }
+  }
+
+  /**
+   * The state used by the current thread while validating a subtree concurrently.
+   */
+  private final class TaskState {
+    @NonNull
+    private final DynamicContext metapathContext;
+    @NonNull
+    private final DeferredConstraintValidationHandler handler;
+    @NonNull
+    private final Set<INodeItem> subtreeRoots;
+    @NonNull
+    private final List<INodeItem> allowedValuesTargets = new ArrayList<>(); // NOPMD - intentional
+
+    private TaskState(
+        @NonNull DynamicContext metapathContext,
+        @NonNull DeferredConstraintValidationHandler handler,
+        @NonNull Collection<? extends INodeItem> subtreeRoots) {
+      this.metapathContext = metapathContext;
+      this.handler = handler;
+      Set<INodeItem> roots = Collections.newSetFromMap(new IdentityHashMap<>());
+      roots.addAll(subtreeRoots);
+      this.subtreeRoots = roots;
+    }
+
+    @NonNull
+    public DynamicContext getMetapathContext() {
+      return metapathContext;
+    }
+
+    @NonNull
+    public DeferredConstraintValidationHandler getHandler() {
+      return handler;
+    }
+
+    /**
+     * Create a new state that shares this state's Metapath context, but records findings separately.
+     *
+     * @param delegate
+     *          the handler to report the findings to when they are replayed
+     * @return the new state
+     */
+    @NonNull
+    public TaskState newTask(@NonNull IConstraintValidationHandler delegate) {
+      return new TaskState(metapathContext, new DeferredConstraintValidationHandler(delegate), subtreeRoots);
+    }
+
+    /**
+     * Determine if the provided item is validated by this task.
+     *
+     * @param item
+     *          the item to check
+     * @return {@code true} if the item is in one of the subtrees validated by this task, or
+     *         {@code false} otherwise
+     */
+    public boolean isInSubtree(@NonNull INodeItem item) {
+      INodeItem node = item;
+      boolean retval = subtreeRoots.contains(node);
+      while (!retval && node != null) {
+        node = node.getParentNodeItem();
+        retval = node != null && subtreeRoots.contains(node);
+      }
+      return retval;
+    }
+
+    /**
+     * Record an item in this task's subtrees that an allowed values constraint was registered for.
+     *
+     * @param item
+     *          the target item of the constraint
+     */
+    public void addAllowedValuesTarget(@NonNull INodeItem item) {
+      allowedValuesTargets.add(item);
+    }
+
+    /**
+     * Once this task's subtrees have been validated, any allowed values still registered for a target
+     * item were registered after the item was validated. These are registered again in document order,
+     * so that they are checked by {@link DefaultConstraintValidator#finalizeValidation()} in the same
+     * order regardless of how the tasks were scheduled.
+     */
+    public void deferPendingAllowedValues() {
+      Map<INodeItem, List<IAllowedValuesConstraint>> pending = new LinkedHashMap<>(); // NOPMD - intentional
+      synchronized (valueMap) {
+        for (INodeItem item : allowedValuesTargets) {
+          ValueStatus valueStatus = valueMap.remove(item);
+          if (valueStatus != null) {
+            pending.put(item, valueStatus.getConstraints());
+          } else {
+            IAllowedValuesConstraint allowedValues = singleAllowedValuesMap.remove(item);
+            if (allowedValues != null) {
+              pending.put(item, CollectionUtil.singletonList(allowedValues));
+            }
+          }
+        }
+      }
+
+      if (!pending.isEmpty()) {
+        handler.defer(() -> {
+          for (Map.Entry<INodeItem, List<IAllowedValuesConstraint>> entry : pending.entrySet()) {
+            for (IAllowedValuesConstraint allowedValues : entry.getValue()) {
+              registerAllowedValues(ObjectUtils.notNull(entry.getKey()), ObjectUtils.notNull(allowedValues));
+            }
+          }
+        });
+      }
+    }
+
+    /**
+     * Run the provided action using this state as the current thread's state.
+     *
+     * @param action
+     *          the action to run
+     */
+    public void run(@NonNull Runnable action) {
+      TaskState previous = currentTask.get();
+      currentTask.set(this);
+      try {
+        action.run();
+      } finally {
+        if (previous == null) {
+          currentTask.remove();
+        } else {
+          currentTask.set(previous);
+        }
+      }
+    }
+  }
+
   private static class KeyRef {
     @NonNull
     private final IIndexHasKeyConstraint constraint;
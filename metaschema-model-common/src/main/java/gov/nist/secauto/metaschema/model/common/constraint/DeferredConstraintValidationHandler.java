@@ -0,0 +1,184 @@
+/*
+ * Portions of this software was developed by employees of the National Institute
+ * of Standards and Technology (NIST), an agency of the Federal Government and is
+ * being made available as a public service. Pursuant to title 17 United States
+ * Code Section 105, works of NIST employees are not subject to copyright
+ * protection in the United States. This software may be subject to foreign
+ * copyright. Permission in the United States and in foreign countries, to the
+ * extent that NIST may hold copyright, to use, copy, modify, create derivative
+ * works, and distribute this software and its documentation without fee is hereby
+ * granted on a non-exclusive basis, provided that this notice and disclaimer
+ * of warranty appears in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED 'AS IS' WITHOUT ANY WARRANTY OF ANY KIND, EITHER
+ * EXPRESSED, IMPLIED, OR STATUTORY, INCLUDING, BUT NOT LIMITED TO, ANY WARRANTY
+ * THAT THE SOFTWARE WILL CONFORM TO SPECIFICATIONS, ANY IMPLIED WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE, AND FREEDOM FROM
+ * INFRINGEMENT, AND ANY WARRANTY THAT THE DOCUMENTATION WILL CONFORM TO THE
+ * SOFTWARE, OR ANY WARRANTY THAT THE SOFTWARE WILL BE ERROR FREE.  IN NO EVENT
+ * SHALL NIST BE LIABLE FOR ANY DAMAGES, INCLUDING, BUT NOT LIMITED TO, DIRECT,
+ * INDIRECT, SPECIAL OR CONSEQUENTIAL DAMAGES, ARISING OUT OF, RESULTING FROM,
+ * OR IN ANY WAY CONNECTED WITH THIS SOFTWARE, WHETHER OR NOT BASED UPON WARRANTY,
+ * CONTRACT, TORT, OR OTHERWISE, WHETHER OR NOT INJURY WAS SUSTAINED BY PERSONS OR
+ * PROPERTY OR OTHERWISE, AND WHETHER OR NOT LOSS WAS SUSTAINED FROM, OR AROSE OUT
+ * OF THE RESULTS OF, OR USE OF, THE SOFTWARE OR SERVICES PROVIDED HEREUNDER.
+ */
+
+package gov.nist.secauto.metaschema.model.common.constraint;
+
+import gov.nist.secauto.metaschema.model.common.metapath.DynamicContext;
+import gov.nist.secauto.metaschema.model.common.metapath.ISequence;
+import gov.nist.secauto.metaschema.model.common.metapath.MetapathException;
+import gov.nist.secauto.metaschema.model.common.metapath.item.INodeItem;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+
+/**
+ * Records validation findings and other deferred actions, so that they can be replayed later in the
+ * order they were recorded.
+ * <p>
+ * This is used to validate parts of a document concurrently, while still reporting the findings to
+ * the delegate handler in document order.
+ */
+class DeferredConstraintValidationHandler implements IConstraintValidationHandler {
+  @NonNull
+  private final IConstraintValidationHandler delegate;
+  @NonNull
+  private final List<Runnable> actions = new ArrayList<>(); // NOPMD - intentional
+
+  /**
+   * Construct a new deferred handler.
+   *
+   * @param delegate
+   *          the handler to report the findings to when they are replayed
+   */
+  public DeferredConstraintValidationHandler(@NonNull IConstraintValidationHandler delegate) {
+    this.delegate = delegate;
+  }
+
+  /**
+   * Record an action to perform when this handler is replayed.
+   *
+   * @param action
+   *          the action to record
+   */
+  public void defer(@NonNull Runnable action) {
+    actions.add(action);
+  }
+
+  /**
+   * Record the actions of the provided handler, which will be performed in their recorded order when
+   * this handler is replayed.
+   *
+   * @param other
+   *          the handler whose actions to record
+   */
+  public void deferAll(@NonNull DeferredConstraintValidationHandler other) {
+    actions.addAll(other.actions);
+  }
+
+  /**
+   * Perform the recorded actions in the order they were recorded.
+   */
+  public void replay() {
+    for (Runnable action : actions) {
+      action.run();
+    }
+  }
+
+  @Override
+  public void handleCardinalityMinimumViolation(
+      @NonNull ICardinalityConstraint constraint,
+      @NonNull INodeItem node,
+      @NonNull ISequence<? extends INodeItem> targets) {
+    defer(() -> delegate.handleCardinalityMinimumViolation(constraint, node, targets));
+  }
+
+  @Override
+  public void handleCardinalityMaximumViolation(
+      @NonNull ICardinalityConstraint constraint,
+      @NonNull INodeItem node,
+      @NonNull ISequence<? extends INodeItem> targets) {
+    defer(() -> delegate.handleCardinalityMaximumViolation(constraint, node, targets));
+  }
+
+  @Override
+  public void handleIndexDuplicateViolation(
+      @NonNull IIndexConstraint constraint,
+      @NonNull INodeItem node) {
+    defer(() -> delegate.handleIndexDuplicateViolation(constraint, node));
+  }
+
+  @Override
+  public void handleIndexDuplicateKeyViolation(
+      @NonNull IIndexConstraint constraint,
+      @NonNull INodeItem node,
+      @NonNull INodeItem oldItem,
+      @NonNull INodeItem target) {
+    defer(() -> delegate.handleIndexDuplicateKeyViolation(constraint, node, oldItem, target));
+  }
+
+  @Override
+  public void handleUniqueKeyViolation(
+      @NonNull IUniqueConstraint constraint,
+      @NonNull INodeItem node,
+      @NonNull INodeItem oldItem,
+      @NonNull INodeItem target) {
+    defer(() -> delegate.handleUniqueKeyViolation(constraint, node, oldItem, target));
+  }
+
+  @Override
+  public void handleMatchPatternViolation(
+      @NonNull IMatchesConstraint constraint,
+      @NonNull INodeItem node,
+      @NonNull INodeItem target,
+      @NonNull String value) {
+    defer(() -> delegate.handleMatchPatternViolation(constraint, node, target, value));
+  }
+
+  @Override
+  public void handleMatchDatatypeViolation(
+      @NonNull IMatchesConstraint constraint,
+      @NonNull INodeItem node,
+      @NonNull INodeItem target,
+      @NonNull String value,
+      @NonNull IllegalArgumentException cause) {
+    defer(() -> delegate.handleMatchDatatypeViolation(constraint, node, target, value, cause));
+  }
+
+  @Override
+  public void handleExpectViolation(
+      @NonNull IExpectConstraint constraint,
+      @NonNull INodeItem node,
+      @NonNull INodeItem target,
+      @NonNull DynamicContext metapathContext) {
+    defer(() -> delegate.handleExpectViolation(constraint, node, target, metapathContext));
+  }
+
+  @Override
+  public void handleKeyMatchError(
+      @NonNull IKeyConstraint constraint,
+      @NonNull INodeItem node,
+      @NonNull INodeItem target,
+      @NonNull MetapathException ex) {
+    defer(() -> delegate.handleKeyMatchError(constraint, node, target, ex));
+  }
+
+  @Override
+  public void handleIndexMiss(
+      @NonNull IIndexHasKeyConstraint constraint,
+      @NonNull INodeItem node,
+      @NonNull INodeItem target) {
+    defer(() -> delegate.handleIndexMiss(constraint, node, target));
+  }
+
+  @Override
+  public void handleAllowedValuesViolation(
+      @NonNull List<IAllowedValuesConstraint> failedConstraints,
+      @NonNull INodeItem target) {
+    defer(() -> delegate.handleAllowedValuesViolation(failedConstraints, target));
+  }
+}
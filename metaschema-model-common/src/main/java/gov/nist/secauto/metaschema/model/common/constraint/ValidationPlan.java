@@ -0,0 +1,302 @@
+/*
+ * Portions of this software was developed by employees of the National Institute
+ * of Standards and Technology (NIST), an agency of the Federal Government and is
+ * being made available as a public service. Pursuant to title 17 United States
+ * Code Section 105, works of NIST employees are not subject to copyright
+ * protection in the United States. This software may be subject to foreign
+ * copyright. Permission in the United States and in foreign countries, to the
+ * extent that NIST may hold copyright, to use, copy, modify, create derivative
+ * works, and distribute this software and its documentation without fee is hereby
+ * granted on a non-exclusive basis, provided that this notice and disclaimer
+ * of warranty appears in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED 'AS IS' WITHOUT ANY WARRANTY OF ANY KIND, EITHER
+ * EXPRESSED, IMPLIED, OR STATUTORY, INCLUDING, BUT NOT LIMITED TO, ANY WARRANTY
+ * THAT THE SOFTWARE WILL CONFORM TO SPECIFICATIONS, ANY IMPLIED WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE, AND FREEDOM FROM
+ * INFRINGEMENT, AND ANY WARRANTY THAT THE DOCUMENTATION WILL CONFORM TO THE
+ * SOFTWARE, OR ANY WARRANTY THAT THE SOFTWARE WILL BE ERROR FREE.  IN NO EVENT
+ * SHALL NIST BE LIABLE FOR ANY DAMAGES, INCLUDING, BUT NOT LIMITED TO, DIRECT,
+ * INDIRECT, SPECIAL OR CONSEQUENTIAL DAMAGES, ARISING OUT OF, RESULTING FROM,
+ * OR IN ANY WAY CONNECTED WITH THIS SOFTWARE, WHETHER OR NOT BASED UPON WARRANTY,
+ * CONTRACT, TORT, OR OTHERWISE, WHETHER OR NOT INJURY WAS SUSTAINED BY PERSONS OR
+ * PROPERTY OR OTHERWISE, AND WHETHER OR NOT LOSS WAS SUSTAINED FROM, OR AROSE OUT
+ * OF THE RESULTS OF, OR USE OF, THE SOFTWARE OR SERVICES PROVIDED HEREUNDER.
+ */
+
+package gov.nist.secauto.metaschema.model.common.constraint;
+
+import gov.nist.secauto.metaschema.model.common.IAssemblyDefinition;
+import gov.nist.secauto.metaschema.model.common.IDefinition;
+import gov.nist.secauto.metaschema.model.common.metapath.DynamicContext;
+import gov.nist.secauto.metaschema.model.common.metapath.ISequence;
+import gov.nist.secauto.metaschema.model.common.metapath.MetapathExpression;
+import gov.nist.secauto.metaschema.model.common.metapath.item.IDefinitionNodeItem;
+import gov.nist.secauto.metaschema.model.common.metapath.item.IFlagNodeItem;
+import gov.nist.secauto.metaschema.model.common.metapath.item.IModelNodeItem;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+
+/**
+ * The constraints of a definition, compiled once for use when validating each node item of the
+ * definition.
+ * <p>
+ * Each constraint's target is classified by its form. Targets that select the focus, a named flag,
+ * or named model children are resolved directly instead of evaluating the target Metapath.
+ * Constraints that share a target expression, which must be evaluated, resolve it once per node
+ * item.
+ */
+final class ValidationPlan {
+  @NonNull
+  private final Map<IConstraint, Target> constraintTargets;
+
+  /**
+   * Compile a validation plan for the provided definition.
+   *
+   * @param definition
+   *          the definition to compile the plan for
+   * @return the plan
+   */
+  @NonNull
+  public static ValidationPlan forDefinition(@NonNull IDefinition definition) {
+    List<IConstraint> constraints = new ArrayList<>(); // NOPMD - intentional
+    constraints.addAll(definition.getExpectConstraints());
+    constraints.addAll(definition.getAllowedValuesConstraints());
+    constraints.addAll(definition.getIndexHasKeyConstraints());
+    constraints.addAll(definition.getMatchesConstraints());
+    if (definition instanceof IAssemblyDefinition) {
+      IAssemblyDefinition assembly = (IAssemblyDefinition) definition;
+      constraints.addAll(assembly.getHasCardinalityConstraints());
+      constraints.addAll(assembly.getIndexConstraints());
+      constraints.addAll(assembly.getUniqueConstraints());
+    }
+    return new ValidationPlan(constraints);
+  }
+
+  private ValidationPlan(@NonNull List<IConstraint> constraints) {
+    Map<String, Target> pathToTarget = new HashMap<>(); // NOPMD - intentional
+    Map<IConstraint, Target> targets = new IdentityHashMap<>(); // NOPMD - intentional
+    for (IConstraint constraint : constraints) {
+      MetapathExpression expression = constraint.getTarget();
+      Target target = pathToTarget.get(expression.getPath());
+      if (target == null) {
+        target = newTarget(expression);
+        pathToTarget.put(expression.getPath(), target);
+      } else {
+        target.setShared();
+      }
+      targets.put(constraint, target);
+    }
+    this.constraintTargets = targets;
+  }
+
+  @NonNull
+  private static Target newTarget(@NonNull MetapathExpression expression) {
+    Target retval;
+    String flagName = expression.getFlagStepName();
+    String modelName = expression.getModelStepName();
+    if (expression.isContextItem()) {
+      retval = new SelfTarget();
+    } else if (flagName != null) {
+      retval = new FlagTarget(flagName);
+    } else if (modelName != null) {
+      retval = new ModelTarget(modelName);
+    } else {
+      retval = new MetapathTarget();
+    }
+    return retval;
+  }
+
+  /**
+   * Determine if the definition has no constraints, in which case no validation is needed.
+   *
+   * @return {@code true} if there are no constraints, or {@code false} otherwise
+   */
+  public boolean isEmpty() {
+    return constraintTargets.isEmpty();
+  }
+
+  /**
+   * Start loading the documents referenced by {@code fn:doc} calls in the Metapath expressions of
+   * the constraints in this plan.
+   *
+   * @param dynamicContext
+   *          the Metapath evaluation context that the documents are loaded into
+   * @see DynamicContext#prefetchDocuments(MetapathExpression)
+   */
+  public void prefetchDocuments(@NonNull DynamicContext dynamicContext) {
+    for (IConstraint constraint : constraintTargets.keySet()) {
+      dynamicContext.prefetchDocuments(constraint.getTarget());
+      if (constraint instanceof IExpectConstraint) {
+        dynamicContext.prefetchDocuments(((IExpectConstraint) constraint).getTest());
+      } else if (constraint instanceof IKeyConstraint) {
+        for (IKeyField keyField : ((IKeyConstraint) constraint).getKeyFields()) {
+          dynamicContext.prefetchDocuments(keyField.getTarget());
+        }
+      }
+    }
+  }
+
+  /**
+   * Create a new resolver for the targets of the constraints in this plan.
+   *
+   * @param item
+   *          the node item being validated
+   * @param dynamicContext
+   *          the Metapath evaluation context to use
+   * @return the new resolver
+   */
+  @NonNull
+  public TargetResolver newResolver(@NonNull IDefinitionNodeItem item, @NonNull DynamicContext dynamicContext) {
+    return new TargetResolver(item, dynamicContext);
+  }
+
+  /**
+   * Resolves the targets of constraints against a single node item, evaluating each shared target
+   * expression only once.
+   * <p>
+   * A resolver is only valid while the node item is being validated, since the evaluated targets are
+   * memoized by the plan's compiled target.
+   */
+  final class TargetResolver {
+    @NonNull
+    private final IDefinitionNodeItem item;
+    @NonNull
+    private final DynamicContext dynamicContext;
+    private Map<Target, ISequence<? extends IDefinitionNodeItem>> sharedTargets;
+
+    private TargetResolver(@NonNull IDefinitionNodeItem item, @NonNull DynamicContext dynamicContext) {
+      this.item = item;
+      this.dynamicContext = dynamicContext;
+    }
+
+    /**
+     * Find all nodes matching the target of the provided constraint.
+     *
+     * @param constraint
+     *          the constraint whose target to match
+     * @return the matching nodes as a sequence
+     * @see IConstraint#matchTargets(IDefinitionNodeItem, DynamicContext)
+     */
+    @NonNull
+    public ISequence<? extends IDefinitionNodeItem> match(@NonNull IConstraint constraint) {
+      Target target = constraintTargets.get(constraint);
+
+      ISequence<? extends IDefinitionNodeItem> retval;
+      if (target == null) {
+        // not part of the plan
+        retval = constraint.matchTargets(item, dynamicContext);
+      } else if (target.isShared()) {
+        if (sharedTargets == null) {
+          sharedTargets = new IdentityHashMap<>(); // NOPMD - intentional
+        }
+        retval = sharedTargets.get(target);
+        if (retval == null) {
+          retval = target.match(constraint, item, dynamicContext);
+          // materialize the sequence, so that it can be consumed more than once
+          retval.asList();
+          sharedTargets.put(target, retval);
+        }
+      } else {
+        retval = target.match(constraint, item, dynamicContext);
+      }
+      return retval;
+    }
+  }
+
+  private abstract static class Target {
+    private boolean shared;
+
+    public boolean isShared() {
+      return shared;
+    }
+
+    public void setShared() {
+      this.shared = true;
+    }
+
+    @NonNull
+    public abstract ISequence<? extends IDefinitionNodeItem> match(
+        @NonNull IConstraint constraint,
+        @NonNull IDefinitionNodeItem item,
+        @NonNull DynamicContext dynamicContext);
+  }
+
+  /**
+   * A target of {@code .}, which selects the focus.
+   */
+  private static final class SelfTarget
+      extends Target {
+    @Override
+    public ISequence<? extends IDefinitionNodeItem> match(
+        IConstraint constraint,
+        IDefinitionNodeItem item,
+        DynamicContext dynamicContext) {
+      return ISequence.of(item);
+    }
+  }
+
+  /**
+   * A target such as {@code @id}, which selects a named flag of the focus.
+   */
+  private static final class FlagTarget
+      extends Target {
+    @NonNull
+    private final String name;
+
+    public FlagTarget(@NonNull String name) {
+      this.name = name;
+    }
+
+    @Override
+    public ISequence<? extends IDefinitionNodeItem> match(
+        IConstraint constraint,
+        IDefinitionNodeItem item,
+        DynamicContext dynamicContext) {
+      IFlagNodeItem flag = item.getFlagByName(name);
+      return ISequence.of(flag);
+    }
+  }
+
+  /**
+   * A target such as {@code title}, which selects the named model children of the focus.
+   */
+  private static final class ModelTarget
+      extends Target {
+    @NonNull
+    private final String name;
+
+    public ModelTarget(@NonNull String name) {
+      this.name = name;
+    }
+
+    @Override
+    public ISequence<? extends IDefinitionNodeItem> match(
+        IConstraint constraint,
+        IDefinitionNodeItem item,
+        DynamicContext dynamicContext) {
+      List<? extends IModelNodeItem> items = item.getModelItemsByName(name);
+      return ISequence.of(items);
+    }
+  }
+
+  /**
+   * Any other target, which is resolved by evaluating the target Metapath.
+   */
+  private static final class MetapathTarget
+      extends Target {
+    @Override
+    public ISequence<? extends IDefinitionNodeItem> match(
+        IConstraint constraint,
+        IDefinitionNodeItem item,
+        DynamicContext dynamicContext) {
+      return constraint.matchTargets(item, dynamicContext);
+    }
+  }
+}
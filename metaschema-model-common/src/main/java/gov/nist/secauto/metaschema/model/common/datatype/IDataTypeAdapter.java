@@ -33,8 +33,10 @@ import com.fasterxml.jackson.databind.jsonFormatVisitors.JsonFormatTypes;
 import gov.nist.secauto.metaschema.model.common.metapath.function.InvalidValueForCastFunctionException;
 import gov.nist.secauto.metaschema.model.common.metapath.item.IAnyAtomicItem;
 import gov.nist.secauto.metaschema.model.common.util.ObjectUtils;
+import gov.nist.secauto.metaschema.model.common.util.XmlEventUtil;
 
 import org.codehaus.stax2.XMLEventReader2;
+import org.codehaus.stax2.XMLStreamReader2;
 import org.codehaus.stax2.XMLStreamWriter2;
 import org.codehaus.stax2.evt.XMLEventFactory2;
 
@@ -225,6 +227,36 @@ public interface IDataTypeAdapter<TYPE> {
   @NonNull
   TYPE parse(@NonNull XMLEventReader2 eventReader) throws IOException;
 
+  /**
+   * This method is expected to parse content starting at the stream reader's current event. Parsing
+   * will continue until the current event represents content that is not handled by this adapter.
+   * This means the stream reader should be positioned after any {@link XMLEvent#END_ELEMENT} that
+   * corresponds to an {@link XMLEvent#START_ELEMENT} parsed by this adapter.
+   * <p>
+   * This is the cursor-based equivalent of {@link #parse(XMLEventReader2)}. By default, the content is
+   * parsed using {@link #parse(XMLEventReader2)} over the stream reader's events. Implementations
+   * should override this method to read directly from the stream reader, which avoids allocating an
+   * event object for each node read.
+   *
+   * @param reader
+   *          the XML stream reader used to read the parsed value
+   * @return the parsed value
+   * @throws IOException
+   *           if a parsing error occurs
+   */
+  @NonNull
+  default TYPE parse(@NonNull XMLStreamReader2 reader) throws IOException {
+    try {
+      XMLEventReader2 eventReader = XmlEventUtil.toEventReader(reader);
+      TYPE retval = parse(eventReader);
+      // leave the stream reader on the first event that was not parsed
+      eventReader.peek();
+      return retval;
+    } catch (XMLStreamException ex) {
+      throw new IOException(ex);
+    }
+  }
+
   /**
    * Parses a JSON property value.
    *
@@ -276,6 +308,26 @@ public interface IDataTypeAdapter<TYPE> {
     return () -> copy(retval);
   }
 
+  /**
+   * Parses a provided string using {@link IDataTypeAdapter#parse(XMLStreamReader2)}.
+   * <p>
+   * This method may pre-parse the data and then return copies, since the data can only be parsed
+   * once, but the supplier might be called multiple times.
+   *
+   * @param reader
+   *          the XML stream reader used to read the parsed value
+   * @return a supplier that will provide new instances of the parsed data
+   * @throws IOException
+   *           if an error occurs while parsing
+   * @see #parse(String)
+   * @see #parse(XMLStreamReader2)
+   */
+  @NonNull
+  default Supplier<TYPE> parseAndSupply(@NonNull XMLStreamReader2 reader) throws IOException {
+    TYPE retval = parse(reader);
+    return () -> copy(retval);
+  }
+
   /**
    * Parses a provided string using {@link #parse(JsonParser)}.
    * <p>
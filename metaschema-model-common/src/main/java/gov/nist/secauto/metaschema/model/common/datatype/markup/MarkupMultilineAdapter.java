@@ -33,6 +33,7 @@ import gov.nist.secauto.metaschema.model.common.metapath.item.IMarkupItem;
 import gov.nist.secauto.metaschema.model.common.util.ObjectUtils;
 
 import org.codehaus.stax2.XMLEventReader2;
+import org.codehaus.stax2.XMLStreamReader2;
 
 import java.io.IOException;
 import java.util.List;
@@ -80,6 +81,16 @@ public class MarkupMultilineAdapter
     }
   }
 
+  @SuppressWarnings("null")
+  @Override
+  public MarkupMultiline parse(XMLStreamReader2 reader) throws IOException {
+    try {
+      return XmlMarkupParser.instance().parseMarkupMultiline(reader);
+    } catch (XMLStreamException ex) {
+      throw new IOException(ex);
+    }
+  }
+
   @Override
   public MarkupMultiline parse(JsonParser parser) throws IOException {
     @SuppressWarnings("null") MarkupMultiline retval = parse(parser.getValueAsString());
@@ -37,10 +37,12 @@ import gov.nist.secauto.metaschema.model.common.util.XmlEventUtil;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.codehaus.stax2.XMLEventReader2;
+import org.codehaus.stax2.XMLStreamReader2;
 
 import java.util.Set;
 
 import javax.xml.namespace.QName;
+import javax.xml.stream.XMLStreamConstants;
 import javax.xml.stream.XMLStreamException;
 import javax.xml.stream.events.Attribute;
 import javax.xml.stream.events.Characters;
@@ -233,4 +235,99 @@ public class XmlMarkupParser { // NOPMD - acceptable
     // }
   }
 
+
+  public MarkupLine parseMarkupline(XMLStreamReader2 reader) throws XMLStreamException { // NOPMD - acceptable
+    StringBuilder buffer = new StringBuilder();
+    parseContents(reader, buffer);
+    String html = buffer.toString().trim();
+    return html.isEmpty() ? null : MarkupLine.fromHtml(html);
+  }
+
+  public MarkupMultiline parseMarkupMultiline(XMLStreamReader2 reader) throws XMLStreamException {
+    StringBuilder buffer = new StringBuilder();
+    parseToString(reader, buffer);
+    String html = buffer.toString().trim();
+
+    if (LOGGER.isDebugEnabled()) {
+      LOGGER.debug("XML->HTML: {}", html);
+    }
+    return html.isEmpty() ? null : MarkupMultiline.fromHtml(html);
+  }
+
+  /**
+   * Parse the block elements starting at the reader's current event into HTML.
+   * <p>
+   * This is the cursor-based equivalent of {@link #parseToString(XMLEventReader2, StringBuilder)}.
+   * Parsing stops on the first event that is not whitespace or a block element.
+   *
+   * @param reader
+   *          the stream reader to read from
+   * @param buffer
+   *          the buffer to write the HTML to
+   * @throws XMLStreamException
+   *           if an error occurred while reading
+   */
+  protected void parseToString(XMLStreamReader2 reader, StringBuilder buffer) // NOPMD - acceptable
+      throws XMLStreamException {
+    // skip whitespace before the next block element
+    int eventType = XmlEventUtil.skipWhitespace(reader);
+    while (eventType == XMLStreamConstants.START_ELEMENT && BLOCK_ELEMENTS.contains(reader.getLocalName())) {
+      // the start element is consumed by the called method
+      parseStartElement(reader, buffer);
+
+      // skip whitespace before the next block element
+      eventType = XmlEventUtil.skipWhitespace(reader);
+    }
+  }
+
+  private void parseStartElement(XMLStreamReader2 reader, StringBuilder buffer)
+      throws XMLStreamException {
+    String localName = reader.getLocalName();
+    buffer.append('<')
+        .append(localName);
+    for (int index = 0, count = reader.getAttributeCount(); index < count; index++) {
+      buffer
+          .append(' ')
+          .append(reader.getAttributeLocalName(index))
+          .append("=\"")
+          .append(reader.getAttributeValue(index))
+          .append('"');
+    }
+
+    // consume the start event
+    if (reader.next() == XMLStreamConstants.END_ELEMENT) {
+      buffer.append("/>");
+    } else {
+      buffer.append('>');
+
+      // parse until the start's END_ELEMENT is reached
+      parseContents(reader, buffer);
+
+      buffer
+          .append("</")
+          .append(localName)
+          .append('>');
+    }
+
+    // consume the start's END_ELEMENT
+    XmlEventUtil.consumeAndAssert(reader, XMLStreamConstants.END_ELEMENT, null);
+  }
+
+  private void parseContents(XMLStreamReader2 reader, StringBuilder buffer)
+      throws XMLStreamException {
+    int eventType = reader.getEventType();
+    while (eventType != XMLStreamConstants.END_ELEMENT && eventType != XMLStreamConstants.END_DOCUMENT) {
+      if (eventType == XMLStreamConstants.START_ELEMENT) {
+        parseStartElement(reader, buffer);
+        eventType = reader.getEventType();
+      } else {
+        if (eventType == XMLStreamConstants.CHARACTERS
+            || eventType == XMLStreamConstants.CDATA
+            || eventType == XMLStreamConstants.SPACE) {
+          buffer.append(Escaping.escapeHtml(reader.getText(), true));
+        }
+        eventType = reader.next();
+      }
+    }
+  }
 }
@@ -101,7 +101,13 @@ abstract class AbstractPathExpression<RESULT_TYPE extends IItem>
       childMatches = Stream.empty();
     } else {
       // create a stream of flags and model elements to check
-      Stream<? extends IFlagNodeItem> flags = nodeContext.flags();
+      Stream<? extends IFlagNodeItem> flags;
+      if (expression instanceof AbstractNamedInstanceExpression) {
+        // flags have no child flags or model items, so a flag or model step can never match on a flag
+        flags = Stream.empty();
+      } else {
+        flags = nodeContext.flags();
+      }
       Stream<? extends INodeItem> modelItems = nodeContext.modelItems();
       childMatches = Stream.concat(flags, modelItems)
           .flatMap(instance -> {
@@ -32,6 +32,7 @@ import gov.nist.secauto.metaschema.model.common.configuration.IMutableConfigurat
 import gov.nist.secauto.metaschema.model.common.metapath.function.DefaultFunction.CallingContext;
 import gov.nist.secauto.metaschema.model.common.metapath.item.IDocumentNodeItem;
 import gov.nist.secauto.metaschema.model.common.metapath.item.INodeItem;
+import gov.nist.secauto.metaschema.model.common.util.LruCache;
 import gov.nist.secauto.metaschema.model.common.util.ObjectUtils;
 
 import org.xml.sax.EntityResolver;
@@ -39,19 +40,31 @@ import org.xml.sax.InputSource;
 import org.xml.sax.SAXException;
 
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.net.URI;
 import java.time.Clock;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Function;
 
 import edu.umd.cs.findbugs.annotations.NonNull;
 import edu.umd.cs.findbugs.annotations.Nullable;
 
 public class DynamicContext { // NOPMD - intentional data class
+  /**
+   * The default maximum number of documents loaded using {@code fn:doc} to keep in memory.
+   */
+  public static final int DEFAULT_DOCUMENT_CACHE_SIZE = 128;
+  /**
+   * The default maximum number of deterministic function results to keep in memory.
+   */
+  public static final int DEFAULT_FUNCTION_RESULT_CACHE_SIZE = 4096;
+
   @NonNull
   private final StaticContext staticContext;
   @NonNull
@@ -59,8 +72,11 @@ public class DynamicContext { // NOPMD - intentional data class
   @NonNull
   private final ZonedDateTime currentDateTime;
   @NonNull
-  private final Map<URI, IDocumentNodeItem> availableDocuments;
-  private final Map<CallingContext, ISequence<?>> functionResultCache;
+  private final LruCache<URI, IDocumentNodeItem> availableDocuments;
+  @Nullable
+  private Executor documentPrefetchExecutor;
+  @NonNull
+  private final LruCache<CallingContext, ISequence<?>> functionResultCache;
   private CachingLoader documentLoader;
   @NonNull
   private final IMutableConfiguration<MetapathEvaluationFeature<?>> configuration;
@@ -75,13 +91,38 @@ public class DynamicContext { // NOPMD - intentional data class
 
     this.implicitTimeZone = clock.getZone();
     this.currentDateTime = ZonedDateTime.now(clock);
-    this.availableDocuments = new HashMap<>();
-    this.functionResultCache = new HashMap<>();
+    this.availableDocuments = new LruCache<>(DEFAULT_DOCUMENT_CACHE_SIZE);
+    this.functionResultCache = new LruCache<>(DEFAULT_FUNCTION_RESULT_CACHE_SIZE);
     this.configuration = new DefaultConfiguration<>();
     this.configuration.enableFeature(MetapathEvaluationFeature.METAPATH_EVALUATE_PREDICATES);
     this.letVariableMap = new ConcurrentHashMap<>();
   }
 
+  private DynamicContext(@NonNull DynamicContext context) {
+    this.staticContext = context.staticContext;
+    this.implicitTimeZone = context.implicitTimeZone;
+    this.currentDateTime = context.currentDateTime;
+    this.availableDocuments = context.availableDocuments;
+    this.documentPrefetchExecutor = context.documentPrefetchExecutor;
+    this.functionResultCache = context.functionResultCache;
+    this.documentLoader = context.documentLoader;
+    this.configuration = context.configuration;
+    this.letVariableMap = new ConcurrentHashMap<>();
+  }
+
+  /**
+   * Create a new dynamic context that shares this context's configuration, document loader, and
+   * caches, but has its own variable bindings. This allows expressions to be evaluated concurrently
+   * on different threads, since variables bound by a {@code let} expression on one thread are not
+   * visible on another.
+   *
+   * @return the new dynamic context
+   */
+  @NonNull
+  public DynamicContext subContext() {
+    return new DynamicContext(this);
+  }
+
   @NonNull
   public StaticContext getStaticContext() {
     return staticContext;
@@ -100,7 +141,34 @@ public class DynamicContext { // NOPMD - intentional data class
   @SuppressWarnings("null")
   @NonNull
   public Map<URI, INodeItem> getAvailableDocuments() {
-    return Collections.unmodifiableMap(availableDocuments);
+    return Collections.unmodifiableMap(availableDocuments.toMap());
+  }
+
+  /**
+   * Set the maximum number of documents loaded using {@code fn:doc} to keep in memory. When this
+   * limit is exceeded, the least recently used document is discarded and will be loaded again if it
+   * is referenced later.
+   *
+   * @param maxSize
+   *          the maximum number of documents
+   * @throws IllegalArgumentException
+   *           if the maximum size is not positive
+   */
+  public void setDocumentCacheSize(int maxSize) {
+    availableDocuments.setMaxSize(maxSize);
+  }
+
+  /**
+   * Set the maximum number of deterministic function results to keep in memory. When this limit is
+   * exceeded, the least recently used result is discarded.
+   *
+   * @param maxSize
+   *          the maximum number of function results
+   * @throws IllegalArgumentException
+   *           if the maximum size is not positive
+   */
+  public void setFunctionResultCacheSize(int maxSize) {
+    functionResultCache.setMaxSize(maxSize);
   }
 
   public IDocumentLoader getDocumentLoader() {
@@ -111,10 +179,125 @@ public class DynamicContext { // NOPMD - intentional data class
     this.documentLoader = new CachingLoader(documentLoader);
   }
 
+  /**
+   * Get the executor used to load documents referenced by a Metapath expression ahead of their
+   * evaluation.
+   *
+   * @return the executor, or {@code null} if document prefetching is disabled
+   */
+  @Nullable
+  public Executor getDocumentPrefetchExecutor() {
+    return documentPrefetchExecutor;
+  }
+
+  /**
+   * Set the executor used to load documents referenced by a Metapath expression ahead of their
+   * evaluation. Loading a document is typically bound by I/O, so an executor with more threads than
+   * available processors is appropriate.
+   *
+   * @param executor
+   *          the executor to use, or {@code null} to disable document prefetching
+   */
+  public void setDocumentPrefetchExecutor(@Nullable Executor executor) {
+    this.documentPrefetchExecutor = executor;
+  }
+
+  /**
+   * Start loading the documents statically referenced by {@code fn:doc} calls in the provided
+   * expression, so that the loads happen concurrently with each other and with evaluation.
+   * <p>
+   * This method does nothing if no {@link #setDocumentPrefetchExecutor(Executor) prefetch executor}
+   * or {@link #setDocumentLoader(IDocumentLoader) document loader} is configured.
+   *
+   * @param expression
+   *          the expression to prefetch documents for
+   */
+  public void prefetchDocuments(@NonNull MetapathExpression expression) {
+    if (documentPrefetchExecutor != null && documentLoader != null) {
+      for (String reference : expression.getDocumentReferences()) {
+        try {
+          prefetchDocument(ObjectUtils.notNull(URI.create(reference)));
+        } catch (IllegalArgumentException ex) {
+          // the error will be reported when fn:doc is evaluated
+        }
+      }
+    }
+  }
+
+  /**
+   * Start loading the document identified by the provided URI. A relative URI is resolved against
+   * the {@link StaticContext#getBaseUri()}.
+   * <p>
+   * The loaded document is made available to subsequent {@link #getDocumentLoader()} calls for the
+   * same resource. Any error that occurs while loading is reported by that call.
+   * <p>
+   * This method does nothing if no {@link #setDocumentPrefetchExecutor(Executor) prefetch executor}
+   * or {@link #setDocumentLoader(IDocumentLoader) document loader} is configured.
+   *
+   * @param uri
+   *          the resource to load
+   */
+  public void prefetchDocument(@NonNull URI uri) {
+    Executor executor = documentPrefetchExecutor;
+    CachingLoader loader = documentLoader;
+    if (executor == null || loader == null) {
+      return;
+    }
+
+    URI documentUri = uri;
+    URI baseUri = getStaticContext().getBaseUri();
+    if (baseUri != null) {
+      documentUri = baseUri.resolve(documentUri);
+    } else if (!documentUri.isAbsolute()) {
+      // unable to resolve; the error will be reported when fn:doc is evaluated
+      return;
+    }
+
+    InputSource source;
+    try {
+      source = loader.toInputSource(ObjectUtils.notNull(documentUri));
+    } catch (IOException ex) {
+      // the error will be reported when fn:doc is evaluated
+      return;
+    }
+
+    URI key = ObjectUtils.notNull(URI.create(source.getSystemId()));
+    if (!availableDocuments.containsKey(key)) {
+      try {
+        executor.execute(() -> {
+          try {
+            loader.loadAsNodeItem(source);
+          } catch (IOException ex) {
+            // the error will be reported when fn:doc is evaluated
+          }
+        });
+      } catch (RejectedExecutionException ex) {
+        // the document will be loaded when fn:doc is evaluated
+      }
+    }
+  }
+
   public ISequence<?> getCachedResult(@NonNull CallingContext callingContext) {
     return functionResultCache.get(callingContext);
   }
 
+  /**
+   * Get the cached result of a deterministic function call, computing and caching the result if it
+   * is not present. Concurrent calls using an equivalent calling context share a single computation.
+   *
+   * @param callingContext
+   *          the function and arguments the result is for
+   * @param mappingFunction
+   *          the function used to compute the result if it is not cached
+   * @return the cached or computed result
+   */
+  @NonNull
+  public ISequence<?> computeResultIfAbsent(
+      @NonNull CallingContext callingContext,
+      @NonNull Function<CallingContext, ISequence<?>> mappingFunction) {
+    return functionResultCache.computeIfAbsent(callingContext, mappingFunction);
+  }
+
   @NonNull
   public DynamicContext disablePredicateEvaluation() {
     this.configuration.disableFeature(MetapathEvaluationFeature.METAPATH_EVALUATE_PREDICATES);
@@ -127,8 +310,7 @@ public class DynamicContext { // NOPMD - intentional data class
   }
 
   public void cacheResult(@NonNull CallingContext callingContext, @NonNull ISequence<?> result) {
-    ISequence<?> old = functionResultCache.put(callingContext, result);
-    assert old == null;
+    functionResultCache.put(callingContext, result);
   }
 
   private class CachingLoader implements IDocumentLoader {
@@ -158,12 +340,17 @@ public class DynamicContext { // NOPMD - intentional data class
     public @NonNull IDocumentNodeItem loadAsNodeItem(@NonNull InputSource source) throws IOException {
       String systemId = source.getSystemId();
       URI uri = ObjectUtils.notNull(URI.create(systemId));
-      IDocumentNodeItem retval = availableDocuments.get(uri);
-      if (retval == null) {
-        retval = getProxiedDocumentLoader().loadAsNodeItem(source);
-        availableDocuments.put(uri, retval);
+      try {
+        return availableDocuments.computeIfAbsent(uri, key -> {
+          try {
+            return getProxiedDocumentLoader().loadAsNodeItem(source);
+          } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+          }
+        });
+      } catch (UncheckedIOException ex) {
+        throw ObjectUtils.notNull(ex.getCause());
       }
-      return retval;
     }
 
     public class ContextEntityResolver implements EntityResolver {
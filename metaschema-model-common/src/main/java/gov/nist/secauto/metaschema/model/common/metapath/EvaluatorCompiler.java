@@ -0,0 +1,537 @@
+/*
+ * Portions of this software was developed by employees of the National Institute
+ * of Standards and Technology (NIST), an agency of the Federal Government and is
+ * being made available as a public service. Pursuant to title 17 United States
+ * Code Section 105, works of NIST employees are not subject to copyright
+ * protection in the United States. This software may be subject to foreign
+ * copyright. Permission in the United States and in foreign countries, to the
+ * extent that NIST may hold copyright, to use, copy, modify, create derivative
+ * works, and distribute this software and its documentation without fee is hereby
+ * granted on a non-exclusive basis, provided that this notice and disclaimer
+ * of warranty appears in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED 'AS IS' WITHOUT ANY WARRANTY OF ANY KIND, EITHER
+ * EXPRESSED, IMPLIED, OR STATUTORY, INCLUDING, BUT NOT LIMITED TO, ANY WARRANTY
+ * THAT THE SOFTWARE WILL CONFORM TO SPECIFICATIONS, ANY IMPLIED WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE, AND FREEDOM FROM
+ * INFRINGEMENT, AND ANY WARRANTY THAT THE DOCUMENTATION WILL CONFORM TO THE
+ * SOFTWARE, OR ANY WARRANTY THAT THE SOFTWARE WILL BE ERROR FREE.  IN NO EVENT
+ * SHALL NIST BE LIABLE FOR ANY DAMAGES, INCLUDING, BUT NOT LIMITED TO, DIRECT,
+ * INDIRECT, SPECIAL OR CONSEQUENTIAL DAMAGES, ARISING OUT OF, RESULTING FROM,
+ * OR IN ANY WAY CONNECTED WITH THIS SOFTWARE, WHETHER OR NOT BASED UPON WARRANTY,
+ * CONTRACT, TORT, OR OTHERWISE, WHETHER OR NOT INJURY WAS SUSTAINED BY PERSONS OR
+ * PROPERTY OR OTHERWISE, AND WHETHER OR NOT LOSS WAS SUSTAINED FROM, OR AROSE OUT
+ * OF THE RESULTS OF, OR USE OF, THE SOFTWARE OR SERVICES PROVIDED HEREUNDER.
+ */
+
+package gov.nist.secauto.metaschema.model.common.metapath;
+
+import gov.nist.secauto.metaschema.model.common.metapath.function.library.FnBoolean;
+import gov.nist.secauto.metaschema.model.common.metapath.function.library.FnData;
+import gov.nist.secauto.metaschema.model.common.metapath.item.IAnyAtomicItem;
+import gov.nist.secauto.metaschema.model.common.metapath.item.IDecimalItem;
+import gov.nist.secauto.metaschema.model.common.metapath.item.IDefinitionNodeItem;
+import gov.nist.secauto.metaschema.model.common.metapath.item.IFlagNodeItem;
+import gov.nist.secauto.metaschema.model.common.metapath.item.IIntegerItem;
+import gov.nist.secauto.metaschema.model.common.metapath.item.IItem;
+import gov.nist.secauto.metaschema.model.common.metapath.item.IModelNodeItem;
+import gov.nist.secauto.metaschema.model.common.metapath.item.INodeItem;
+import gov.nist.secauto.metaschema.model.common.metapath.item.IStringItem;
+import gov.nist.secauto.metaschema.model.common.util.ObjectUtils;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
+
+/**
+ * Lowers a Metapath abstract syntax tree (AST) into a tree of {@link IEvaluator} objects.
+ * <p>
+ * Common expression forms, such as flag and model steps, relative paths, predicates, literals, and
+ * comparisons, are compiled into specialized evaluators that work directly on lists instead of
+ * streams. Literal values are built once at compile time. Any other expression is evaluated using its
+ * AST node.
+ */
+final class EvaluatorCompiler { // NOPMD - intentional
+  private EvaluatorCompiler() {
+    // disable construction
+  }
+
+  /**
+   * Compile the provided {@code expression} into an evaluator.
+   *
+   * @param expression
+   *          the expression to compile
+   * @return the evaluator
+   */
+  @NonNull
+  public static IEvaluator compile(@NonNull IExpression expression) { // NOPMD - intentional
+    IAnyAtomicItem literal = toLiteralItem(expression);
+
+    IEvaluator retval;
+    if (literal != null) {
+      retval = new ConstantEvaluator(literal);
+    } else if (expression instanceof ContextItem || expression instanceof Wildcard) {
+      retval = ContextItemEvaluator.INSTANCE;
+    } else if (expression instanceof Name) {
+      retval = new NameTestEvaluator(ObjectUtils.notNull(((Name) expression).getValue()));
+    } else if (expression instanceof Flag) {
+      String name = getNameTest((Flag) expression);
+      retval = name == null ? FlagWildcardEvaluator.INSTANCE : new FlagEvaluator(name);
+    } else if (expression instanceof ModelInstance) {
+      String name = getNameTest((ModelInstance) expression);
+      retval = name == null ? ModelWildcardEvaluator.INSTANCE : new ModelInstanceEvaluator(name);
+    } else if (expression instanceof RelativeSlashPath) {
+      RelativeSlashPath path = (RelativeSlashPath) expression;
+      retval = new PathEvaluator(compile(path.getLeft()), compile(path.getRight()));
+    } else if (expression instanceof RootSlashPath) {
+      retval = compile(((RootSlashPath) expression).getExpression());
+    } else if (expression instanceof Step) {
+      retval = compileStep((Step) expression);
+    } else if (expression instanceof Predicate) {
+      retval = compilePredicate((Predicate) expression);
+    } else if (expression instanceof GeneralComparison) {
+      GeneralComparison comparison = (GeneralComparison) expression;
+      retval = new GeneralComparisonEvaluator(
+          comparison,
+          compileOperand(comparison.getLeft()),
+          compileOperand(comparison.getRight()));
+    } else if (expression instanceof ValueComparison) {
+      ValueComparison comparison = (ValueComparison) expression;
+      retval = new ValueComparisonEvaluator(
+          comparison,
+          compileOperand(comparison.getLeft()),
+          compileOperand(comparison.getRight()));
+    } else {
+      retval = new ExpressionEvaluator(expression);
+    }
+    return retval;
+  }
+
+  @Nullable
+  private static IAnyAtomicItem toLiteralItem(@NonNull IExpression expression) {
+    IAnyAtomicItem retval;
+    if (expression instanceof StringLiteral) {
+      retval = IStringItem.valueOf(((StringLiteral) expression).getValue());
+    } else if (expression instanceof IntegerLiteral) {
+      retval = IIntegerItem.valueOf(((IntegerLiteral) expression).getValue());
+    } else if (expression instanceof DecimalLiteral) {
+      retval = IDecimalItem.valueOf(((DecimalLiteral) expression).getValue());
+    } else {
+      retval = null;
+    }
+    return retval;
+  }
+
+  @Nullable
+  private static String getNameTest(@NonNull AbstractNamedInstanceExpression<?> expression) {
+    IExpression test = expression.getTest();
+    return test instanceof Name ? ((Name) test).getValue() : null;
+  }
+
+  @NonNull
+  private static IEvaluator compileStep(@NonNull Step step) {
+    IEvaluator test = compile(step.getStep());
+    IEvaluator retval;
+    switch (step.getAxis()) {
+    case SELF:
+      retval = new SelfStepEvaluator(test);
+      break;
+    case CHILDREN:
+      if (step.getStep() instanceof Name) {
+        // only children with a matching name can pass the name test
+        String name = ObjectUtils.notNull(((Name) step.getStep()).getValue());
+        retval = new SelfStepEvaluator(new ModelInstanceEvaluator(name));
+      } else {
+        retval = new ChildStepEvaluator(test);
+      }
+      break;
+    case PARENT:
+      retval = new ParentStepEvaluator(test);
+      break;
+    default:
+      retval = new ExpressionEvaluator(step);
+      break;
+    }
+    return retval;
+  }
+
+  @NonNull
+  private static IEvaluator compilePredicate(@NonNull Predicate predicate) {
+    List<IExpression> filterExpressions = predicate.getFilterPredicates();
+    List<IEvaluator> filters = new ArrayList<>(filterExpressions.size());
+    for (IExpression filterExpression : filterExpressions) {
+      filters.add(compile(ObjectUtils.notNull(filterExpression)));
+    }
+    return new PredicateEvaluator(compile(predicate.getBase()), predicate.getPosition(), filters);
+  }
+
+  @NonNull
+  private static Operand compileOperand(@NonNull IExpression expression) {
+    IAnyAtomicItem literal = toLiteralItem(expression);
+    return literal == null ? new Operand(compile(expression), null) : new Operand(null, literal);
+  }
+
+  /**
+   * Build a sequence from a list of items that is owned by the caller, avoiding a defensive copy.
+   *
+   * @param items
+   *          the items to wrap
+   * @return the sequence
+   */
+  @NonNull
+  private static <T extends IItem> ISequence<T> toSequence(@NonNull List<T> items) {
+    ISequence<T> retval;
+    switch (items.size()) {
+    case 0:
+      retval = ISequence.empty();
+      break;
+    case 1:
+      retval = ISequence.of(items.get(0));
+      break;
+    default:
+      retval = new ListSequenceImpl<>(items, false);
+      break;
+    }
+    return retval;
+  }
+
+  private static final class ExpressionEvaluator implements IEvaluator {
+    @NonNull
+    private final IExpression expression;
+
+    private ExpressionEvaluator(@NonNull IExpression expression) {
+      this.expression = expression;
+    }
+
+    @Override
+    public ISequence<? extends IItem> evaluate(DynamicContext dynamicContext, INodeContext context) {
+      return expression.accept(dynamicContext, context);
+    }
+  }
+
+  private static final class ContextItemEvaluator implements IEvaluator {
+    @NonNull
+    private static final ContextItemEvaluator INSTANCE = new ContextItemEvaluator();
+
+    @Override
+    public ISequence<? extends IItem> evaluate(DynamicContext dynamicContext, INodeContext context) {
+      return ISequence.of(context.getNodeItem());
+    }
+  }
+
+  private static final class ConstantEvaluator implements IEvaluator {
+    @NonNull
+    private final ISequence<? extends IItem> value;
+
+    private ConstantEvaluator(@NonNull IAnyAtomicItem value) {
+      this.value = ISequence.of(value);
+    }
+
+    @Override
+    public ISequence<? extends IItem> evaluate(DynamicContext dynamicContext, INodeContext context) {
+      return value;
+    }
+  }
+
+  private static final class NameTestEvaluator implements IEvaluator {
+    @NonNull
+    private final String name;
+
+    private NameTestEvaluator(@NonNull String name) {
+      this.name = name;
+    }
+
+    @Override
+    public ISequence<? extends IItem> evaluate(DynamicContext dynamicContext, INodeContext context) {
+      INodeItem node = context.getNodeItem();
+      return node instanceof IDefinitionNodeItem && name.equals(((IDefinitionNodeItem) node).getName())
+          ? ISequence.of(node)
+          : ISequence.empty();
+    }
+  }
+
+  private static final class FlagEvaluator implements IEvaluator {
+    @NonNull
+    private final String name;
+
+    private FlagEvaluator(@NonNull String name) {
+      this.name = name;
+    }
+
+    @Override
+    public ISequence<? extends IItem> evaluate(DynamicContext dynamicContext, INodeContext context) {
+      return ISequence.of(context.getFlagByName(name));
+    }
+  }
+
+  private static final class FlagWildcardEvaluator implements IEvaluator {
+    @NonNull
+    private static final FlagWildcardEvaluator INSTANCE = new FlagWildcardEvaluator();
+
+    @Override
+    public ISequence<? extends IItem> evaluate(DynamicContext dynamicContext, INodeContext context) {
+      Collection<? extends IFlagNodeItem> flags = context.getFlags();
+      return toSequence(new ArrayList<>(flags));
+    }
+  }
+
+  private static final class ModelInstanceEvaluator implements IEvaluator {
+    @NonNull
+    private final String name;
+
+    private ModelInstanceEvaluator(@NonNull String name) {
+      this.name = name;
+    }
+
+    @Override
+    public ISequence<? extends IItem> evaluate(DynamicContext dynamicContext, INodeContext context) {
+      List<? extends IModelNodeItem> items = context.getModelItemsByName(name);
+      return toSequence(items);
+    }
+  }
+
+  private static final class ModelWildcardEvaluator implements IEvaluator {
+    @NonNull
+    private static final ModelWildcardEvaluator INSTANCE = new ModelWildcardEvaluator();
+
+    @Override
+    public ISequence<? extends IItem> evaluate(DynamicContext dynamicContext, INodeContext context) {
+      List<IModelNodeItem> items = new ArrayList<>(); // NOPMD - intentional
+      for (List<? extends IModelNodeItem> instanceItems : context.getModelItems()) {
+        items.addAll(instanceItems);
+      }
+      return toSequence(items);
+    }
+  }
+
+  /**
+   * Evaluates the right side of a path in the context of each node produced by the left side.
+   */
+  private static final class PathEvaluator implements IEvaluator {
+    @NonNull
+    private final IEvaluator left;
+    @NonNull
+    private final IEvaluator right;
+
+    private PathEvaluator(@NonNull IEvaluator left, @NonNull IEvaluator right) {
+      this.left = left;
+      this.right = right;
+    }
+
+    @Override
+    public ISequence<? extends IItem> evaluate(DynamicContext dynamicContext, INodeContext context) {
+      List<? extends IItem> leftItems = left.evaluate(dynamicContext, context).asList();
+
+      ISequence<? extends IItem> retval;
+      switch (leftItems.size()) {
+      case 0:
+        retval = ISequence.empty();
+        break;
+      case 1:
+        retval = right.evaluate(dynamicContext, (INodeItem) ObjectUtils.notNull(leftItems.get(0)));
+        break;
+      default:
+        List<IItem> items = new ArrayList<>(); // NOPMD - intentional
+        for (IItem item : leftItems) {
+          items.addAll(right.evaluate(dynamicContext, (INodeItem) ObjectUtils.notNull(item)).asList());
+        }
+        retval = toSequence(items);
+        break;
+      }
+      return retval;
+    }
+  }
+
+  private static final class SelfStepEvaluator implements IEvaluator {
+    @NonNull
+    private final IEvaluator test;
+
+    private SelfStepEvaluator(@NonNull IEvaluator test) {
+      this.test = test;
+    }
+
+    @Override
+    public ISequence<? extends IItem> evaluate(DynamicContext dynamicContext, INodeContext context) {
+      return test.evaluate(dynamicContext, context.getNodeItem());
+    }
+  }
+
+  private static final class ParentStepEvaluator implements IEvaluator {
+    @NonNull
+    private final IEvaluator test;
+
+    private ParentStepEvaluator(@NonNull IEvaluator test) {
+      this.test = test;
+    }
+
+    @Override
+    public ISequence<? extends IItem> evaluate(DynamicContext dynamicContext, INodeContext context) {
+      INodeItem parent = context.getNodeItem().getParentNodeItem();
+      return parent == null ? ISequence.empty() : test.evaluate(dynamicContext, parent);
+    }
+  }
+
+  private static final class ChildStepEvaluator implements IEvaluator {
+    @NonNull
+    private final IEvaluator test;
+
+    private ChildStepEvaluator(@NonNull IEvaluator test) {
+      this.test = test;
+    }
+
+    @Override
+    public ISequence<? extends IItem> evaluate(DynamicContext dynamicContext, INodeContext context) {
+      List<IItem> items = new ArrayList<>(); // NOPMD - intentional
+      for (List<? extends IModelNodeItem> instanceItems : context.getNodeItem().getModelItems()) {
+        for (IModelNodeItem item : instanceItems) {
+          items.addAll(test.evaluate(dynamicContext, ObjectUtils.notNull(item)).asList());
+        }
+      }
+      return toSequence(items);
+    }
+  }
+
+  private static final class PredicateEvaluator implements IEvaluator {
+    @NonNull
+    private final IEvaluator base;
+    private final int position;
+    @NonNull
+    private final List<IEvaluator> filters;
+
+    private PredicateEvaluator(@NonNull IEvaluator base, int position, @NonNull List<IEvaluator> filters) {
+      this.base = base;
+      this.position = position;
+      this.filters = filters;
+    }
+
+    @Override
+    public ISequence<? extends IItem> evaluate(DynamicContext dynamicContext, INodeContext context) {
+      ISequence<? extends IItem> retval = base.evaluate(dynamicContext, context);
+      if (dynamicContext.getConfiguration().isFeatureEnabled(MetapathEvaluationFeature.METAPATH_EVALUATE_PREDICATES)) {
+        Predicate.IItemFilter filter = filters.isEmpty()
+            ? null
+            : item -> matches(dynamicContext, (INodeContext) item);
+        retval = Predicate.select(retval, position, filter);
+      }
+      return retval;
+    }
+
+    private boolean matches(@NonNull DynamicContext dynamicContext, @NonNull INodeContext item) {
+      boolean retval = true;
+      for (IEvaluator filter : filters) {
+        if (!FnBoolean.fnBoolean(filter.evaluate(dynamicContext, item)).toBoolean()) {
+          retval = false;
+          break;
+        }
+      }
+      return retval;
+    }
+  }
+
+  /**
+   * A comparison operand, which is either a literal value or a compiled expression.
+   */
+  private static final class Operand {
+    @Nullable
+    private final IEvaluator evaluator;
+    @Nullable
+    private final IAnyAtomicItem constant;
+    @Nullable
+    private final ISequence<? extends IAnyAtomicItem> constantSequence;
+
+    private Operand(@Nullable IEvaluator evaluator, @Nullable IAnyAtomicItem constant) {
+      this.evaluator = evaluator;
+      this.constant = constant;
+      this.constantSequence = constant == null ? null : ISequence.of(constant);
+    }
+
+    /**
+     * Get the atomized values of this operand.
+     *
+     * @param dynamicContext
+     *          the dynamic evaluation context
+     * @param context
+     *          the focus node item
+     * @return the atomized values
+     */
+    @NonNull
+    private ISequence<? extends IAnyAtomicItem> atomize(@NonNull DynamicContext dynamicContext,
+        @NonNull INodeContext context) {
+      ISequence<? extends IAnyAtomicItem> retval = constantSequence;
+      if (retval == null) {
+        retval = FnData.fnData(ObjectUtils.notNull(evaluator).evaluate(dynamicContext, context));
+      }
+      return retval;
+    }
+
+    /**
+     * Get the atomized value of the first item of this operand.
+     *
+     * @param dynamicContext
+     *          the dynamic evaluation context
+     * @param context
+     *          the focus node item
+     * @return the atomized value, or {@code null} if the operand is empty
+     */
+    @Nullable
+    private IAnyAtomicItem getFirstDataItem(@NonNull DynamicContext dynamicContext,
+        @NonNull INodeContext context) {
+      IAnyAtomicItem retval = constant;
+      if (retval == null) {
+        retval = AbstractExpression.getFirstDataItem(
+            ObjectUtils.notNull(evaluator).evaluate(dynamicContext, context),
+            false);
+      }
+      return retval;
+    }
+  }
+
+  private static final class GeneralComparisonEvaluator implements IEvaluator {
+    @NonNull
+    private final GeneralComparison comparison;
+    @NonNull
+    private final Operand left;
+    @NonNull
+    private final Operand right;
+
+    private GeneralComparisonEvaluator(@NonNull GeneralComparison comparison, @NonNull Operand left,
+        @NonNull Operand right) {
+      this.comparison = comparison;
+      this.left = left;
+      this.right = right;
+    }
+
+    @Override
+    public ISequence<? extends IItem> evaluate(DynamicContext dynamicContext, INodeContext context) {
+      ISequence<? extends IAnyAtomicItem> leftItems = left.atomize(dynamicContext, context);
+      ISequence<? extends IAnyAtomicItem> rightItems = right.atomize(dynamicContext, context);
+      return ISequence.of(comparison.valueCompairison(leftItems, comparison.getOperator(), rightItems));
+    }
+  }
+
+  private static final class ValueComparisonEvaluator implements IEvaluator {
+    @NonNull
+    private final ValueComparison comparison;
+    @NonNull
+    private final Operand left;
+    @NonNull
+    private final Operand right;
+
+    private ValueComparisonEvaluator(@NonNull ValueComparison comparison, @NonNull Operand left,
+        @NonNull Operand right) {
+      this.comparison = comparison;
+      this.left = left;
+      this.right = right;
+    }
+
+    @Override
+    public ISequence<? extends IItem> evaluate(DynamicContext dynamicContext, INodeContext context) {
+      IAnyAtomicItem leftItem = left.getFirstDataItem(dynamicContext, context);
+      IAnyAtomicItem rightItem = right.getFirstDataItem(dynamicContext, context);
+      return comparison.resultOrEmpty(leftItem, rightItem);
+    }
+  }
+}
@@ -31,15 +31,28 @@ import gov.nist.secauto.metaschema.model.common.metapath.item.IAnyAtomicItem;
 import gov.nist.secauto.metaschema.model.common.metapath.item.IBooleanItem;
 import gov.nist.secauto.metaschema.model.common.metapath.item.IDayTimeDurationItem;
 import gov.nist.secauto.metaschema.model.common.metapath.item.IDecimalItem;
+import gov.nist.secauto.metaschema.model.common.metapath.item.IIntegerItem;
 import gov.nist.secauto.metaschema.model.common.metapath.item.INumericItem;
 import gov.nist.secauto.metaschema.model.common.metapath.item.IStringItem;
 import gov.nist.secauto.metaschema.model.common.metapath.item.IUntypedAtomicItem;
 import gov.nist.secauto.metaschema.model.common.metapath.item.IYearMonthDurationItem;
+import gov.nist.secauto.metaschema.model.common.util.ObjectUtils;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
 
 import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
 
 class GeneralComparison
     extends AbstractComparison {
+  /**
+   * The number of items both operands must exceed before an equality or inequality comparison is
+   * evaluated using hash sets instead of comparing every pair of items.
+   */
+  static final int HASH_COMPARISON_THRESHOLD = 8;
 
   /**
    * Create a new value comparison expression.
@@ -79,11 +92,121 @@ class GeneralComparison
    * @return a or an empty {@link ISequence} if either item is {@code null}
    */
   @NonNull
-  protected IBooleanItem valueCompairison( // NOPMD - acceptable complexity
+  protected IBooleanItem valueCompairison(
       @NonNull ISequence<? extends IAnyAtomicItem> leftItems,
       @NonNull Operator operator,
       @NonNull ISequence<? extends IAnyAtomicItem> rightItems) {
+    IBooleanItem retval = null;
+    if ((operator == Operator.EQ || operator == Operator.NE)
+        && leftItems.size() > HASH_COMPARISON_THRESHOLD
+        && rightItems.size() > HASH_COMPARISON_THRESHOLD) {
+      retval = hashCompare(leftItems.asList(), operator, rightItems.asList());
+    }
+
+    if (retval == null) {
+      retval = pairwiseCompare(leftItems, operator, rightItems);
+    }
+    return retval;
+  }
+
+  /**
+   * Compare the sets of atomic items using hash sets of comparison keys.
+   * <p>
+   * This is only possible when all items on both sides are strings, all are untyped atomic values, all
+   * are integers, or all are non-integer decimals. In these cases equality matches equality of a
+   * simple key, and comparing any two items never requires a type promotion that can fail.
+   *
+   * @param leftItems
+   *          the first set of items to compare
+   * @param operator
+   *          the comparison operator, which must be {@link Operator#EQ} or {@link Operator#NE}
+   * @param rightItems
+   *          the second set of items to compare
+   * @return the result, or {@code null} if the items cannot be compared by key
+   */
+  @Nullable
+  private static IBooleanItem hashCompare(
+      @NonNull List<? extends IAnyAtomicItem> leftItems,
+      @NonNull Operator operator,
+      @NonNull List<? extends IAnyAtomicItem> rightItems) {
+    Class<? extends IAnyAtomicItem> keyType = getComparisonKeyType(ObjectUtils.notNull(leftItems.get(0)));
+
+    IBooleanItem retval = null;
+    if (keyType != null) {
+      Set<Object> leftKeys = toComparisonKeys(leftItems, keyType);
+      Set<Object> rightKeys = leftKeys == null ? null : toComparisonKeys(rightItems, keyType);
+      if (leftKeys != null && rightKeys != null) {
+        if (Operator.EQ.equals(operator)) {
+          retval = IBooleanItem.valueOf(!Collections.disjoint(leftKeys, rightKeys));
+        } else {
+          // every pair is equal only if both sides contain the same single value
+          retval = IBooleanItem.valueOf(leftKeys.size() > 1 || !leftKeys.equals(rightKeys));
+        }
+      }
+    }
+    return retval;
+  }
 
+  @Nullable
+  private static Class<? extends IAnyAtomicItem> getComparisonKeyType(@NonNull IAnyAtomicItem item) {
+    Class<? extends IAnyAtomicItem> retval;
+    if (item instanceof IStringItem) {
+      retval = IStringItem.class;
+    } else if (item instanceof IUntypedAtomicItem) {
+      retval = IUntypedAtomicItem.class;
+    } else if (item instanceof IIntegerItem) {
+      retval = IIntegerItem.class;
+    } else if (item instanceof IDecimalItem) {
+      retval = IDecimalItem.class;
+    } else {
+      retval = null;
+    }
+    return retval;
+  }
+
+  @Nullable
+  private static Set<Object> toComparisonKeys(
+      @NonNull List<? extends IAnyAtomicItem> items,
+      @NonNull Class<? extends IAnyAtomicItem> keyType) {
+    Set<Object> retval = new HashSet<>(); // NOPMD - intentional
+    for (IAnyAtomicItem item : items) {
+      // an integer is also a decimal, but is compared to a decimal and to an integer differently
+      if (!keyType.equals(getComparisonKeyType(ObjectUtils.notNull(item)))) {
+        retval = null; // NOPMD - readability
+        break;
+      }
+
+      Object key;
+      if (item instanceof IIntegerItem) {
+        // the decimal form of a large integer is rounded, so integers compare by their exact value
+        key = ((IIntegerItem) item).asInteger();
+      } else if (item instanceof IDecimalItem) {
+        key = ((IDecimalItem) item).asDecimal();
+      } else {
+        // strings and untyped values compare as strings
+        key = item.asString();
+      }
+      retval.add(key);
+    }
+    return retval;
+  }
+
+  /**
+   * Compare every pair of atomic items, applying the general comparison type promotion rules.
+   *
+   * @param leftItems
+   *          the first set of items to compare
+   * @param operator
+   *          the comparison operator
+   * @param rightItems
+   *          the second set of items to compare
+   * @return the result
+   */
+  @NonNull
+  protected IBooleanItem pairwiseCompare( // NOPMD - acceptable complexity
+      @NonNull ISequence<? extends IAnyAtomicItem> leftItems,
+      @NonNull Operator operator,
+      @NonNull ISequence<? extends IAnyAtomicItem> rightItems) {
     IBooleanItem retval = IBooleanItem.FALSE;
     for (IAnyAtomicItem left : leftItems.asList()) {
       assert left != null;
@@ -39,6 +39,14 @@ public final class MetapathEvaluationFeature<V>
   public static final MetapathEvaluationFeature<Boolean> METAPATH_EVALUATE_PREDICATES
       = new MetapathEvaluationFeature<>(Boolean.class, true);
 
+  /**
+   * If enabled, evaluate expressions using evaluators compiled from the expression's abstract syntax
+   * tree, otherwise evaluate the abstract syntax tree directly.
+   */
+  @NonNull
+  public static final MetapathEvaluationFeature<Boolean> METAPATH_COMPILE_EVALUATORS
+      = new MetapathEvaluationFeature<>(Boolean.class, true);
+
   private MetapathEvaluationFeature(
       @NonNull Class<V> valueClass,
       @NonNull V defaultValue) {
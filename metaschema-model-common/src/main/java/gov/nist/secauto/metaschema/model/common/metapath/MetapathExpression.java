@@ -31,10 +31,12 @@ import gov.nist.secauto.metaschema.model.common.metapath.antlr.metapath10Parser;
 import gov.nist.secauto.metaschema.model.common.metapath.function.FunctionUtils;
 import gov.nist.secauto.metaschema.model.common.metapath.function.library.FnBoolean;
 import gov.nist.secauto.metaschema.model.common.metapath.function.library.FnData;
+import gov.nist.secauto.metaschema.model.common.metapath.function.library.FnDoc;
 import gov.nist.secauto.metaschema.model.common.metapath.item.IAnyAtomicItem;
 import gov.nist.secauto.metaschema.model.common.metapath.item.IDecimalItem;
 import gov.nist.secauto.metaschema.model.common.metapath.item.IItem;
 import gov.nist.secauto.metaschema.model.common.metapath.item.INumericItem;
+import gov.nist.secauto.metaschema.model.common.util.LruCache;
 import gov.nist.secauto.metaschema.model.common.util.ObjectUtils;
 
 import org.antlr.v4.runtime.CharStreams;
@@ -48,7 +50,12 @@ import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.PrintStream;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
 
 import edu.umd.cs.findbugs.annotations.NonNull;
 import edu.umd.cs.findbugs.annotations.Nullable;
@@ -65,15 +72,29 @@ public class MetapathExpression {
 
   private static final Logger LOGGER = LogManager.getLogger(MetapathExpression.class);
 
+  /**
+   * The default maximum number of compiled expressions to keep in the compile cache.
+   */
+  public static final int DEFAULT_COMPILE_CACHE_SIZE = 8192;
+
+  @NonNull
+  private static final LruCache<String, MetapathExpression> COMPILE_CACHE
+      = new LruCache<>(DEFAULT_COMPILE_CACHE_SIZE);
+
   @NonNull
   public static final MetapathExpression CONTEXT_NODE = new MetapathExpression(".", ContextItem.instance());
 
   private final String path;
   @NonNull
   private final IExpression node;
+  private volatile List<String> documentReferences;
+  private volatile IEvaluator evaluator;
 
   /**
    * Compiles a Metapath expression string.
+   * <p>
+   * Compiled expressions are immutable, so they are cached and shared by all callers compiling the
+   * same expression string.
    *
    * @param path
    *          the metapath expression
@@ -87,39 +108,84 @@ public class MetapathExpression {
     if (".".equals(path)) {
       retval = CONTEXT_NODE;
     } else {
-      try {
-        metapath10Lexer lexer = new metapath10Lexer(CharStreams.fromString(path));
-        CommonTokenStream tokens = new CommonTokenStream(lexer);
-        metapath10Parser parser = new metapath10Parser(tokens);
-        parser.removeErrorListeners();
-        parser.addErrorListener(new FailingErrorListener());
-
-        ParseTree tree = ObjectUtils.notNull(parser.expr());
-
-        if (LOGGER.isDebugEnabled()) {
-          try (ByteArrayOutputStream os = new ByteArrayOutputStream()) {
-            try (PrintStream ps = new PrintStream(os, true, StandardCharsets.UTF_8)) {
-              CSTPrinter printer = new CSTPrinter(ps);
-              printer.print(tree, Arrays.asList(metapath10Parser.ruleNames));
-              ps.flush();
-            }
-            LOGGER.atDebug().log(String.format("Metapath CST:%n%s", os.toString(StandardCharsets.UTF_8)));
-          } catch (IOException ex) {
-            LOGGER.atError().withThrowable(ex).log("An unexpected error occured while closing the steam.");
+      retval = COMPILE_CACHE.computeIfAbsent(path, MetapathExpression::parse);
+    }
+    return retval;
+  }
+
+  /**
+   * Set the maximum number of compiled expressions to keep in the compile cache. When this limit is
+   * exceeded, the least recently used expression is discarded.
+   *
+   * @param maxSize
+   *          the maximum number of compiled expressions
+   * @throws IllegalArgumentException
+   *           if the maximum size is not positive
+   */
+  public static void setCompileCacheSize(int maxSize) {
+    COMPILE_CACHE.setMaxSize(maxSize);
+  }
+
+  /**
+   * Get the number of {@link #compile(String)} calls that were satisfied by the compile cache.
+   *
+   * @return the hit count
+   */
+  public static long getCompileCacheHitCount() {
+    return COMPILE_CACHE.getHitCount();
+  }
+
+  /**
+   * Get the number of {@link #compile(String)} calls that required the expression to be parsed.
+   *
+   * @return the miss count
+   */
+  public static long getCompileCacheMissCount() {
+    return COMPILE_CACHE.getMissCount();
+  }
+
+  /**
+   * Remove all compiled expressions from the compile cache and reset its statistics.
+   */
+  public static void clearCompileCache() {
+    COMPILE_CACHE.clear();
+  }
+
+  @NonNull
+  private static MetapathExpression parse(@NonNull String path) {
+    @NonNull MetapathExpression retval;
+    try {
+      metapath10Lexer lexer = new metapath10Lexer(CharStreams.fromString(path));
+      CommonTokenStream tokens = new CommonTokenStream(lexer);
+      metapath10Parser parser = new metapath10Parser(tokens);
+      parser.removeErrorListeners();
+      parser.addErrorListener(new FailingErrorListener());
+
+      ParseTree tree = ObjectUtils.notNull(parser.expr());
+
+      if (LOGGER.isDebugEnabled()) {
+        try (ByteArrayOutputStream os = new ByteArrayOutputStream()) {
+          try (PrintStream ps = new PrintStream(os, true, StandardCharsets.UTF_8)) {
+            CSTPrinter printer = new CSTPrinter(ps);
+            printer.print(tree, Arrays.asList(metapath10Parser.ruleNames));
+            ps.flush();
           }
+          LOGGER.atDebug().log(String.format("Metapath CST:%n%s", os.toString(StandardCharsets.UTF_8)));
+        } catch (IOException ex) {
+          LOGGER.atError().withThrowable(ex).log("An unexpected error occured while closing the steam.");
         }
+      }
 
-        IExpression expr = new BuildAstVisitor().visit(tree);
+      IExpression expr = new BuildAstVisitor().visit(tree);
 
-        if (LOGGER.isDebugEnabled()) {
-          LOGGER.atDebug().log(String.format("Metapath AST:%n%s", ASTPrinter.instance().visit(expr)));
-        }
-        retval = new MetapathExpression(path, expr);
-      } catch (MetapathException | ParseCancellationException ex) {
-        String msg = String.format("Unable to compile Metapath '%s'", path);
-        LOGGER.atError().withThrowable(ex).log(msg);
-        throw new MetapathException(msg, ex);
+      if (LOGGER.isDebugEnabled()) {
+        LOGGER.atDebug().log(String.format("Metapath AST:%n%s", ASTPrinter.instance().visit(expr)));
       }
+      retval = new MetapathExpression(path, expr);
+    } catch (MetapathException | ParseCancellationException ex) {
+      String msg = String.format("Unable to compile Metapath '%s'", path);
+      LOGGER.atError().withThrowable(ex).log(msg);
+      throw new MetapathException(msg, ex);
     }
     return retval;
   }
@@ -156,6 +222,107 @@ public class MetapathExpression {
     return node;
   }
 
+  /**
+   * Determine if this expression is the context item expression {@code .}, which evaluates to the
+   * focus.
+   *
+   * @return {@code true} if this is the context item expression, or {@code false} otherwise
+   */
+  public boolean isContextItem() {
+    return getASTNode() instanceof ContextItem;
+  }
+
+  /**
+   * Get the name of the flag selected by this expression, if this expression is a single flag step
+   * with a name test, such as {@code @id}.
+   *
+   * @return the flag name, or {@code null} if this expression has a different form
+   */
+  @Nullable
+  public String getFlagStepName() {
+    IExpression expr = getASTNode();
+    return expr instanceof Flag ? getNameTest((Flag) expr) : null;
+  }
+
+  /**
+   * Get the name of the model instances selected by this expression, if this expression is a single
+   * child step with a name test, such as {@code title}.
+   *
+   * @return the model instance name, or {@code null} if this expression has a different form
+   */
+  @Nullable
+  public String getModelStepName() {
+    IExpression expr = getASTNode();
+    return expr instanceof ModelInstance ? getNameTest((ModelInstance) expr) : null;
+  }
+
+  @Nullable
+  private static String getNameTest(@NonNull AbstractNamedInstanceExpression<?> expr) {
+    IExpression test = expr.getTest();
+    return test instanceof Name ? ((Name) test).getValue() : null;
+  }
+
+  /**
+   * Get the string literal URIs passed to {@code fn:doc} calls in this expression. These documents
+   * are known before evaluation, so they can be loaded ahead of time.
+   *
+   * @return the referenced URIs, in the order they appear in the expression
+   * @see DynamicContext#prefetchDocuments(MetapathExpression)
+   */
+  @NonNull
+  public List<String> getDocumentReferences() {
+    List<String> retval = documentReferences;
+    if (retval == null) {
+      Set<String> references = new LinkedHashSet<>();
+      collectDocumentReferences(getASTNode(), references);
+      retval = references.isEmpty()
+          ? Collections.emptyList()
+          : Collections.unmodifiableList(new ArrayList<>(references));
+      documentReferences = retval;
+    }
+    return ObjectUtils.notNull(retval);
+  }
+
+  private static void collectDocumentReferences(@NonNull IExpression expr, @NonNull Set<String> references) {
+    if (expr instanceof FunctionCall) {
+      FunctionCall call = (FunctionCall) expr;
+      List<IExpression> arguments = call.getChildren();
+      if (arguments.size() == 1 && arguments.get(0) instanceof StringLiteral && isDocFunction(call)) {
+        references.add(((StringLiteral) arguments.get(0)).getValue());
+      }
+    }
+    for (IExpression child : expr.getChildren()) {
+      collectDocumentReferences(ObjectUtils.notNull(child), references);
+    }
+  }
+
+  private static boolean isDocFunction(@NonNull FunctionCall call) {
+    boolean retval;
+    try {
+      retval = FnDoc.isFnDoc(call.getFunction());
+    } catch (StaticMetapathException ex) {
+      // the error will be reported when the expression is evaluated
+      retval = false;
+    }
+    return retval;
+  }
+
+  /**
+   * Get the evaluator compiled from this expression's abstract syntax tree (AST). The evaluator is
+   * compiled on first use.
+   *
+   * @return the evaluator
+   */
+  @NonNull
+  IEvaluator getEvaluator() {
+    IEvaluator retval = evaluator;
+    if (retval == null) {
+      retval = EvaluatorCompiler.compile(getASTNode());
+      evaluator = retval;
+    }
+    return retval;
+  }
+
   @Override
   public String toString() {
     return ASTPrinter.instance().visit(getASTNode());
@@ -307,9 +474,15 @@ public class MetapathExpression {
   @NonNull
   public <T extends IItem> ISequence<T> evaluate(@NonNull INodeContext nodeContext,
       @NonNull DynamicContext dynamicContext) {
+    dynamicContext.prefetchDocuments(this);
     try {
-      return (ISequence<T>) getASTNode().accept(dynamicContext,
-          nodeContext);
+      ISequence<?> retval;
+      if (dynamicContext.getConfiguration().isFeatureEnabled(MetapathEvaluationFeature.METAPATH_COMPILE_EVALUATORS)) {
+        retval = getEvaluator().evaluate(dynamicContext, nodeContext);
+      } else {
+        retval = getASTNode().accept(dynamicContext, nodeContext);
+      }
+      return (ISequence<T>) retval;
     } catch (MetapathException ex) { // NOPMD - intentional
       throw new MetapathException(
           String.format("An error occurred while evaluating the expression '%s'.", getPath()), ex);
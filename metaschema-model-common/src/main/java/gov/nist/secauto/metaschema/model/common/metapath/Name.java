@@ -46,7 +46,9 @@ class Name // NOPMD - intentional
    *          the literal value
    */
   protected Name(@NonNull String value) {
-    this.value = value;
+    // interned once when the expression is compiled, so that name lookups against the interned node
+    // item names match by identity
+    this.value = value.intern();
   }
 
   public String getValue() {
@@ -28,22 +28,35 @@ package gov.nist.secauto.metaschema.model.common.metapath;
 
 import gov.nist.secauto.metaschema.model.common.metapath.function.library.FnBoolean;
 import gov.nist.secauto.metaschema.model.common.metapath.item.IItem;
+import gov.nist.secauto.metaschema.model.common.util.CollectionUtil;
 import gov.nist.secauto.metaschema.model.common.util.ObjectUtils;
 
 import java.math.BigInteger;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
-import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
+import nl.talsmasoftware.lazy4j.Lazy;
 
 class Predicate implements IExpression {
+  /**
+   * The position value used when the predicates do not select an item by position.
+   */
+  static final int ANY_POSITION = -1;
+  /**
+   * The position value used when the positional predicates can never match an item.
+   */
+  static final int NO_POSITION = 0;
+
   @NonNull
   private final IExpression base;
   @NonNull
   private final List<IExpression> predicates;
+  @NonNull
+  private final Lazy<Selection> selection;
 
   /**
    * Construct a new predicate expression.
@@ -56,6 +69,7 @@ class Predicate implements IExpression {
   protected Predicate(@NonNull IExpression base, @NonNull List<IExpression> predicates) {
     this.base = base;
     this.predicates = predicates;
+    this.selection = ObjectUtils.notNull(Lazy.lazy(() -> new Selection(predicates)));
   }
 
   /**
@@ -78,6 +92,26 @@ class Predicate implements IExpression {
     return predicates;
   }
 
+  /**
+   * Get the 1-based position selected by the constant integer predicates, such as {@code [1]}.
+   *
+   * @return the position, {@link #ANY_POSITION} if there are no integer predicates, or
+   *         {@link #NO_POSITION} if the integer predicates can never match
+   */
+  public int getPosition() {
+    return selection.get().getPosition();
+  }
+
+  /**
+   * Get the predicates that are evaluated as a boolean filter against each item.
+   *
+   * @return the list of filter predicates, which excludes any constant integer predicates
+   */
+  @NonNull
+  public List<IExpression> getFilterPredicates() {
+    return selection.get().getFilters();
+  }
+
   @Override
   public List<? extends IExpression> getChildren() {
     return ObjectUtils.notNull(
@@ -87,51 +121,147 @@ class Predicate implements IExpression {
   @Override
   public @NonNull ISequence<? extends IItem> accept(@NonNull DynamicContext dynamicContext,
       @NonNull INodeContext context) {
-
-    ISequence<?> retval = getBase().accept(dynamicContext, context);
-
+    ISequence<? extends IItem> retval = getBase().accept(dynamicContext, context);
     if (dynamicContext.getConfiguration().isFeatureEnabled(MetapathEvaluationFeature.METAPATH_EVALUATE_PREDICATES)) {
       // evaluate the predicates for this step
-      AtomicInteger index = new AtomicInteger();
-
-      Stream<? extends IItem> stream = ObjectUtils.notNull(
-          retval.asStream().map(item -> {
-            // build a positional index of the items
-            return Map.entry(BigInteger.valueOf(index.incrementAndGet()), item);
-          }).filter(entry -> {
-            @SuppressWarnings("null")
-            @NonNull IItem item = entry.getValue();
-
-            // return false if any predicate evaluates to false
-            return !predicates.stream()
-                .map(predicateExpr -> {
-                  boolean bool;
-                  if (predicateExpr instanceof IntegerLiteral) {
-                    // reduce the result to the matching item
-                    BigInteger predicateIndex = ((IntegerLiteral) predicateExpr).getValue();
-
-                    // get the position of the item
-                    final BigInteger position = entry.getKey();
-
-                    // it is a match if the position matches
-                    bool = position.equals(predicateIndex);
-                  } else {
-                    INodeContext childContext = (INodeContext) item;
-                    ISequence<?> predicateResult = predicateExpr.accept(dynamicContext, childContext);
-                    bool = FnBoolean.fnBoolean(predicateResult).toBoolean();
-                  }
-                  return bool;
-                }).anyMatch(x -> !x);
-          }).map(entry -> entry.getValue()));
-
-      retval = ISequence.of(stream);
+      List<IExpression> filters = getFilterPredicates();
+      IItemFilter filter = filters.isEmpty()
+          ? null
+          : item -> {
+            boolean match = true;
+            for (IExpression filterExpr : filters) {
+              ISequence<?> predicateResult = filterExpr.accept(dynamicContext, (INodeContext) item);
+              if (!FnBoolean.fnBoolean(predicateResult).toBoolean()) {
+                match = false;
+                break;
+              }
+            }
+            return match;
+          };
+      retval = select(retval, getPosition(), filter);
+    }
+    return retval;
+  }
+
+  /**
+   * Select the items from {@code items} that are at the provided {@code position} and that match the
+   * provided {@code filter}.
+   * <p>
+   * A specific position is selected by index on list-backed sequences, while a stream-backed sequence
+   * is only consumed up to the selected position.
+   *
+   * @param items
+   *          the items to select from
+   * @param position
+   *          the 1-based position to select, {@link #ANY_POSITION} to select all positions, or
+   *          {@link #NO_POSITION} to select nothing
+   * @param filter
+   *          the filter each selected item must match, or {@code null} if there is no filter
+   * @return the selected items
+   */
+  @NonNull
+  static ISequence<? extends IItem> select(
+      @NonNull ISequence<? extends IItem> items,
+      int position,
+      @Nullable IItemFilter filter) {
+    ISequence<? extends IItem> retval;
+    if (position == NO_POSITION) {
+      retval = ISequence.empty();
+    } else if (position == ANY_POSITION) {
+      retval = filter == null ? items : filter(items.asList(), filter);
+    } else {
+      IItem item = getItemAt(items, position);
+      retval = item == null || filter != null && !filter.test(item)
+          ? ISequence.empty()
+          : ISequence.of(item);
     }
     return retval;
   }
 
+  @Nullable
+  private static IItem getItemAt(@NonNull ISequence<? extends IItem> items, int position) {
+    IItem retval;
+    if (items instanceof StreamSequenceImpl) {
+      // avoid collecting the items after the selected position
+      retval = items.asStream().skip(position - 1L).findFirst().orElse(null);
+    } else {
+      List<? extends IItem> list = items.asList();
+      retval = position <= list.size() ? list.get(position - 1) : null;
+    }
+    return retval;
+  }
+
+  @NonNull
+  private static ISequence<? extends IItem> filter(@NonNull List<? extends IItem> items,
+      @NonNull IItemFilter filter) {
+    List<IItem> matches = new ArrayList<>(items.size()); // NOPMD - intentional
+    for (IItem item : items) {
+      assert item != null;
+      if (filter.test(item)) {
+        matches.add(item);
+      }
+    }
+
+    return matches.isEmpty() ? ISequence.empty() : new ListSequenceImpl<>(matches, false);
+  }
+
   @Override
   public <RESULT, CONTEXT> RESULT accept(@NonNull IExpressionVisitor<RESULT, CONTEXT> visitor, CONTEXT context) {
     return visitor.visitPredicate(this, context);
   }
 
+
+  /**
+   * A filter applied to each item selected by a predicate.
+   */
+  @FunctionalInterface
+  interface IItemFilter {
+    /**
+     * Determine if the provided {@code item} matches the filter.
+     *
+     * @param item
+     *          the item to test
+     * @return {@code true} if the item matches, or {@code false} otherwise
+     */
+    boolean test(@NonNull IItem item);
+  }
+
+  /**
+   * The predicates split into a constant position and the remaining boolean filters.
+   */
+  private static final class Selection {
+    private final int position;
+    @NonNull
+    private final List<IExpression> filters;
+
+    private Selection(@NonNull List<IExpression> predicates) {
+      int selectedPosition = ANY_POSITION;
+      List<IExpression> filterPredicates = new ArrayList<>();
+      for (IExpression predicate : ObjectUtils.notNull(predicates.stream().collect(Collectors.toList()))) {
+        if (predicate instanceof IntegerLiteral) {
+          BigInteger value = ((IntegerLiteral) predicate).getValue();
+          int literalPosition = value.signum() > 0 && value.bitLength() < Integer.SIZE
+              ? value.intValue()
+              : NO_POSITION;
+          // every positional predicate must select the same position
+          selectedPosition = selectedPosition == ANY_POSITION || selectedPosition == literalPosition
+              ? literalPosition
+              : NO_POSITION;
+        } else {
+          filterPredicates.add(predicate);
+        }
+      }
+      this.position = selectedPosition;
+      this.filters = CollectionUtil.unmodifiableList(filterPredicates);
+    }
+
+    public int getPosition() {
+      return position;
+    }
+
+    @NonNull
+    public List<IExpression> getFilters() {
+      return filters;
+    }
+  }
 }
@@ -128,7 +128,12 @@ class Step implements IExpression { // NOPMD - intentional
       items = context.getNodeItem().ancestorOrSelf();
       break;
     case CHILDREN:
-      items = context.getNodeItem().modelItems();
+      if (getStep() instanceof Name) {
+        // only children with a matching name can pass the name test
+        items = context.getNodeItem().getModelItemsByName(((Name) getStep()).getValue()).stream();
+      } else {
+        items = context.getNodeItem().modelItems();
+      }
       break;
     case DESCENDANT:
       items = context.getNodeItem().descendant();
@@ -315,24 +315,16 @@ public class DefaultFunction
     try {
       List<ISequence<?>> convertedArguments = convertArguments(this, arguments);
 
-      CallingContext callingContext = null;
-      ISequence<?> result = null;
+      ISequence<?> result;
       if (isDeterministic()) {
-        // check cache
-        callingContext = newCallingContext(arguments, focus);
-        // attempt to get the result from the cache
-        result = dynamicContext.getCachedResult(callingContext);
-      }
-
-      if (result == null) {
+        // get the result from the cache, computing it once if needed
+        CallingContext callingContext = newCallingContext(arguments, focus);
+        result = dynamicContext.computeResultIfAbsent(callingContext,
+            context -> handler.execute(this, convertedArguments, dynamicContext, focus.getNodeItem()));
+      } else {
         // logger.info(String.format("Executing function '%s' with arguments '%s'.", toSignature(),
         // convertedArguments.toString()));
         result = handler.execute(this, convertedArguments, dynamicContext, focus.getNodeItem());
-
-        if (callingContext != null) {
-          // add result to cache
-          dynamicContext.cacheResult(callingContext, result);
-        }
       }
 
       // logger.info(String.format("Executed function '%s' with arguments '%s' producing result '%s'",
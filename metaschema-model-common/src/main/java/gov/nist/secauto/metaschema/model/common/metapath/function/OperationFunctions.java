@@ -543,10 +543,11 @@ public final class OperationFunctions { // NOPMD - intentional
     IBooleanItem retval;
     if (arg1 == null || arg2 == null) {
       retval = IBooleanItem.FALSE;
-    } else if (arg1 instanceof IDecimalItem || arg2 instanceof IDecimalItem) {
-      retval = IBooleanItem.valueOf(arg1.asDecimal().equals(arg2.asDecimal()));
-    } else {
+    } else if (arg1 instanceof IIntegerItem && arg2 instanceof IIntegerItem) {
+      // integers are compared exactly, since their decimal form is rounded
       retval = IBooleanItem.valueOf(arg1.asInteger().equals(arg2.asInteger()));
+    } else {
+      retval = IBooleanItem.valueOf(arg1.asDecimal().equals(arg2.asDecimal()));
     }
     return retval;
   }
@@ -556,11 +557,11 @@ public final class OperationFunctions { // NOPMD - intentional
     IBooleanItem retval;
     if (arg1 == null || arg2 == null) {
       retval = IBooleanItem.FALSE;
-    } else if (arg1 instanceof IDecimalItem || arg2 instanceof IDecimalItem) {
-      int result = arg1.asDecimal().compareTo(arg2.asDecimal());
+    } else if (arg1 instanceof IIntegerItem && arg2 instanceof IIntegerItem) {
+      int result = arg1.asInteger().compareTo(arg2.asInteger());
       retval = IBooleanItem.valueOf(result > 0);
     } else {
-      int result = arg1.asInteger().compareTo(arg2.asInteger());
+      int result = arg1.asDecimal().compareTo(arg2.asDecimal());
       retval = IBooleanItem.valueOf(result > 0);
     }
     return retval;
@@ -571,11 +572,11 @@ public final class OperationFunctions { // NOPMD - intentional
     IBooleanItem retval;
     if (arg1 == null || arg2 == null) {
       retval = IBooleanItem.FALSE;
-    } else if (arg1 instanceof IDecimalItem || arg2 instanceof IDecimalItem) {
-      int result = arg1.asDecimal().compareTo(arg2.asDecimal());
+    } else if (arg1 instanceof IIntegerItem && arg2 instanceof IIntegerItem) {
+      int result = arg1.asInteger().compareTo(arg2.asInteger());
       retval = IBooleanItem.valueOf(result < 0);
     } else {
-      int result = arg1.asInteger().compareTo(arg2.asInteger());
+      int result = arg1.asDecimal().compareTo(arg2.asDecimal());
       retval = IBooleanItem.valueOf(result < 0);
     }
     return retval;
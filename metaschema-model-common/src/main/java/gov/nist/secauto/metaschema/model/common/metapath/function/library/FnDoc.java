@@ -67,6 +67,19 @@ public final class FnDoc {
     // disable construction
   }
 
+  /**
+   * Determine if the provided function is the built-in
+   * <a href="https://www.w3.org/TR/xpath-functions-31/#func-doc">fn:doc</a> function, instead of
+   * another function that happens to have the same name.
+   *
+   * @param function
+   *          the function to check
+   * @return {@code true} if the function is the built-in {@code fn:doc}, or {@code false} otherwise
+   */
+  public static boolean isFnDoc(@NonNull IFunction function) {
+    return SIGNATURE.equals(function);
+  }
+
   @SuppressWarnings("unused")
   @NonNull
   private static ISequence<IDocumentNodeItem> execute(@NonNull IFunction function,
@@ -157,7 +157,8 @@ public interface INodeItemFactory {
     for (IFlagInstance instance : parent.getDefinition().getFlagInstances()) {
       assert instance != null;
       IFlagNodeItem item = newFlagNodeItem(instance, parent);
-      retval.put(instance.getEffectiveName(), item);
+      // keyed by the interned name, so that lookups using interned Metapath names match by identity
+      retval.put(instance.getInternedEffectiveName(), item);
     }
     return retval.isEmpty() ? CollectionUtil.emptyMap() : CollectionUtil.unmodifiableMap(retval);
   }
@@ -172,7 +173,7 @@ public interface INodeItemFactory {
       Object instanceValue = instance.getValue(parentValue);
       if (instanceValue != null) {
         IRequiredValueFlagNodeItem item = newFlagNodeItem(instance, parent, instanceValue);
-        retval.put(instance.getEffectiveName(), item);
+        retval.put(instance.getInternedEffectiveName(), item);
       }
     }
     return retval.isEmpty() ? CollectionUtil.emptyMap() : CollectionUtil.unmodifiableMap(retval);
@@ -191,7 +192,7 @@ public interface INodeItemFactory {
       } else {
         throw new UnsupportedOperationException("unsupported instance type: " + instance.getClass().getName());
       }
-      retval.put(instance.getEffectiveName(), Collections.singletonList(item));
+      retval.put(instance.getInternedEffectiveName(), Collections.singletonList(item));
     }
     return retval.isEmpty() ? CollectionUtil.emptyMap() : CollectionUtil.unmodifiableMap(retval);
   }
@@ -241,7 +242,7 @@ public interface INodeItemFactory {
         }
         return item;
       }).collect(Collectors.toUnmodifiableList());
-      retval.put(instance.getEffectiveName(), items);
+      retval.put(instance.getInternedEffectiveName(), items);
     }
     return retval.isEmpty() ? CollectionUtil.emptyMap() : CollectionUtil.unmodifiableMap(retval);
   }
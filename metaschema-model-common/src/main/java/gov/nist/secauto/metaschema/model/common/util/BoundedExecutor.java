@@ -0,0 +1,139 @@
+/*
+ * Portions of this software was developed by employees of the National Institute
+ * of Standards and Technology (NIST), an agency of the Federal Government and is
+ * being made available as a public service. Pursuant to title 17 United States
+ * Code Section 105, works of NIST employees are not subject to copyright
+ * protection in the United States. This software may be subject to foreign
+ * copyright. Permission in the United States and in foreign countries, to the
+ * extent that NIST may hold copyright, to use, copy, modify, create derivative
+ * works, and distribute this software and its documentation without fee is hereby
+ * granted on a non-exclusive basis, provided that this notice and disclaimer
+ * of warranty appears in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED 'AS IS' WITHOUT ANY WARRANTY OF ANY KIND, EITHER
+ * EXPRESSED, IMPLIED, OR STATUTORY, INCLUDING, BUT NOT LIMITED TO, ANY WARRANTY
+ * THAT THE SOFTWARE WILL CONFORM TO SPECIFICATIONS, ANY IMPLIED WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE, AND FREEDOM FROM
+ * INFRINGEMENT, AND ANY WARRANTY THAT THE DOCUMENTATION WILL CONFORM TO THE
+ * SOFTWARE, OR ANY WARRANTY THAT THE SOFTWARE WILL BE ERROR FREE.  IN NO EVENT
+ * SHALL NIST BE LIABLE FOR ANY DAMAGES, INCLUDING, BUT NOT LIMITED TO, DIRECT,
+ * INDIRECT, SPECIAL OR CONSEQUENTIAL DAMAGES, ARISING OUT OF, RESULTING FROM,
+ * OR IN ANY WAY CONNECTED WITH THIS SOFTWARE, WHETHER OR NOT BASED UPON WARRANTY,
+ * CONTRACT, TORT, OR OTHERWISE, WHETHER OR NOT INJURY WAS SUSTAINED BY PERSONS OR
+ * PROPERTY OR OTHERWISE, AND WHETHER OR NOT LOSS WAS SUSTAINED FROM, OR AROSE OUT
+ * OF THE RESULTS OF, OR USE OF, THE SOFTWARE OR SERVICES PROVIDED HEREUNDER.
+ */
+
+package gov.nist.secauto.metaschema.model.common.util;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+
+/**
+ * An {@link Executor} that limits the number of tasks that are pending or running on a delegate
+ * executor.
+ * <p>
+ * When the limit is reached, {@link #execute(Runnable)} blocks the submitting thread until a
+ * previously submitted task completes. This provides backpressure when a large number of tasks are
+ * submitted, without requiring the delegate executor to have a bounded queue.
+ */
+public class BoundedExecutor implements Executor {
+  @NonNull
+  private final Executor delegate;
+  @NonNull
+  private final Semaphore permits;
+
+  /**
+   * Construct a new bounded executor.
+   *
+   * @param delegate
+   *          the executor to run the tasks with
+   * @param maxPendingTasks
+   *          the maximum number of tasks that can be pending or running at a time
+   * @throws IllegalArgumentException
+   *           if the maximum number of pending tasks is not positive
+   */
+  public BoundedExecutor(@NonNull Executor delegate, int maxPendingTasks) {
+    if (maxPendingTasks < 1) {
+      throw new IllegalArgumentException(
+          String.format("The maximum number of pending tasks '%d' must be positive.", maxPendingTasks));
+    }
+    this.delegate = delegate;
+    this.permits = new Semaphore(maxPendingTasks);
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * This method blocks until the task can be submitted without exceeding the maximum number of
+   * pending tasks.
+   *
+   * @throws RejectedExecutionException
+   *           if the delegate executor rejects the task, or if the thread is interrupted while
+   *           waiting to submit the task
+   */
+  @Override
+  public void execute(Runnable command) {
+    try {
+      permits.acquire();
+    } catch (InterruptedException ex) {
+      Thread.currentThread().interrupt();
+      throw new RejectedExecutionException("Interrupted while waiting to submit the task.", ex);
+    }
+
+    try {
+      delegate.execute(() -> {
+        try {
+          command.run();
+        } finally {
+          permits.release();
+        }
+      });
+    } catch (RejectedExecutionException ex) {
+      permits.release();
+      throw ex;
+    }
+  }
+
+  /**
+   * Submit each of the provided tasks to this executor.
+   * <p>
+   * This method blocks while the maximum number of tasks are pending or running, so that a large
+   * batch of tasks does not flood the delegate executor's queue.
+   *
+   * @param <T>
+   *          the type of the tasks' results
+   * @param tasks
+   *          the tasks to run
+   * @return a future for each task's result in the order the tasks were provided, which will
+   *         complete exceptionally if the task threw an exception or could not be submitted
+   */
+  @NonNull
+  public <T> List<CompletableFuture<T>> submitAll(@NonNull Collection<? extends Callable<? extends T>> tasks) {
+    List<CompletableFuture<T>> retval = new ArrayList<>(tasks.size());
+    for (Callable<? extends T> task : tasks) {
+      CompletableFuture<T> future = new CompletableFuture<>();
+      retval.add(future);
+      try {
+        execute(() -> {
+          try {
+            future.complete(task.call());
+          } catch (Exception ex) { // NOPMD - the task's failure is reported by the future
+            future.completeExceptionally(ex);
+          }
+        });
+      } catch (RejectedExecutionException ex) {
+        future.completeExceptionally(ex);
+      }
+    }
+    return retval;
+  }
+}
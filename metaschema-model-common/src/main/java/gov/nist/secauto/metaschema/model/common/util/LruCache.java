@@ -0,0 +1,304 @@
+/*
+ * Portions of this software was developed by employees of the National Institute
+ * of Standards and Technology (NIST), an agency of the Federal Government and is
+ * being made available as a public service. Pursuant to title 17 United States
+ * Code Section 105, works of NIST employees are not subject to copyright
+ * protection in the United States. This software may be subject to foreign
+ * copyright. Permission in the United States and in foreign countries, to the
+ * extent that NIST may hold copyright, to use, copy, modify, create derivative
+ * works, and distribute this software and its documentation without fee is hereby
+ * granted on a non-exclusive basis, provided that this notice and disclaimer
+ * of warranty appears in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED 'AS IS' WITHOUT ANY WARRANTY OF ANY KIND, EITHER
+ * EXPRESSED, IMPLIED, OR STATUTORY, INCLUDING, BUT NOT LIMITED TO, ANY WARRANTY
+ * THAT THE SOFTWARE WILL CONFORM TO SPECIFICATIONS, ANY IMPLIED WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE, AND FREEDOM FROM
+ * INFRINGEMENT, AND ANY WARRANTY THAT THE DOCUMENTATION WILL CONFORM TO THE
+ * SOFTWARE, OR ANY WARRANTY THAT THE SOFTWARE WILL BE ERROR FREE.  IN NO EVENT
+ * SHALL NIST BE LIABLE FOR ANY DAMAGES, INCLUDING, BUT NOT LIMITED TO, DIRECT,
+ * INDIRECT, SPECIAL OR CONSEQUENTIAL DAMAGES, ARISING OUT OF, RESULTING FROM,
+ * OR IN ANY WAY CONNECTED WITH THIS SOFTWARE, WHETHER OR NOT BASED UPON WARRANTY,
+ * CONTRACT, TORT, OR OTHERWISE, WHETHER OR NOT INJURY WAS SUSTAINED BY PERSONS OR
+ * PROPERTY OR OTHERWISE, AND WHETHER OR NOT LOSS WAS SUSTAINED FROM, OR AROSE OUT
+ * OF THE RESULTS OF, OR USE OF, THE SOFTWARE OR SERVICES PROVIDED HEREUNDER.
+ */
+
+package gov.nist.secauto.metaschema.model.common.util;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
+
+/**
+ * A thread-safe cache that holds at most a fixed number of entries, evicting the least recently
+ * used entry when this size is exceeded.
+ * <p>
+ * Values are computed using {@link #computeIfAbsent(Object, Function)}. Concurrent requests for the
+ * same key share a single computation, which is performed outside of the cache's lock. If the
+ * computation fails, the exception is thrown to all waiting callers and the key is removed, allowing
+ * a later request to try again.
+ *
+ * @param <K>
+ *          the type of the cache keys
+ * @param <V>
+ *          the type of the cached values
+ */
+public class LruCache<K, V> {
+  @NonNull
+  private final Map<K, CompletableFuture<V>> entries;
+  private int maxSize;
+  private long hitCount;
+  private long missCount;
+
+  /**
+   * Construct a new cache.
+   *
+   * @param maxSize
+   *          the maximum number of entries to hold
+   * @throws IllegalArgumentException
+   *           if the maximum size is not positive
+   */
+  public LruCache(int maxSize) {
+    this.maxSize = checkSize(maxSize);
+    this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+      private static final long serialVersionUID = 1L;
+
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<K, CompletableFuture<V>> eldest) {
+        return size() > LruCache.this.maxSize;
+      }
+    };
+  }
+
+  private static int checkSize(int maxSize) {
+    if (maxSize < 1) {
+      throw new IllegalArgumentException(String.format("The maximum size '%d' must be positive.", maxSize));
+    }
+    return maxSize;
+  }
+
+  /**
+   * Get the maximum number of entries held by this cache.
+   *
+   * @return the maximum size
+   */
+  public int getMaxSize() {
+    synchronized (entries) {
+      return maxSize;
+    }
+  }
+
+  /**
+   * Change the maximum number of entries held by this cache, evicting the least recently used entries
+   * if the cache currently exceeds the new size.
+   *
+   * @param maxSize
+   *          the new maximum size
+   * @throws IllegalArgumentException
+   *           if the maximum size is not positive
+   */
+  public void setMaxSize(int maxSize) {
+    synchronized (entries) {
+      this.maxSize = checkSize(maxSize);
+      Iterator<?> iter = entries.values().iterator();
+      for (int excess = entries.size() - maxSize; excess > 0; excess--) {
+        iter.next();
+        iter.remove();
+      }
+    }
+  }
+
+  /**
+   * Get the number of lookups that found an existing entry, including an entry whose value was still
+   * being computed.
+   *
+   * @return the hit count
+   */
+  public long getHitCount() {
+    synchronized (entries) {
+      return hitCount;
+    }
+  }
+
+  /**
+   * Get the number of lookups that did not find an existing entry.
+   *
+   * @return the miss count
+   */
+  public long getMissCount() {
+    synchronized (entries) {
+      return missCount;
+    }
+  }
+
+  /**
+   * Get the number of entries in this cache, including those whose value is still being computed.
+   *
+   * @return the number of entries
+   */
+  public int size() {
+    synchronized (entries) {
+      return entries.size();
+    }
+  }
+
+  /**
+   * Determine if the cache contains an entry for the provided key, including an entry whose value is
+   * still being computed.
+   *
+   * @param key
+   *          the key to lookup
+   * @return {@code true} if an entry exists, or {@code false} otherwise
+   */
+  public boolean containsKey(@NonNull K key) {
+    synchronized (entries) {
+      return entries.containsKey(key);
+    }
+  }
+
+  /**
+   * Get the cached value for the provided key, waiting for the value if it is currently being
+   * computed.
+   *
+   * @param key
+   *          the key to lookup
+   * @return the cached value, or {@code null} if no value is cached for the key
+   */
+  @Nullable
+  public V get(@NonNull K key) {
+    CompletableFuture<V> future;
+    synchronized (entries) {
+      future = entries.get(key);
+      recordLookup(future != null);
+    }
+    V retval = null;
+    if (future != null) {
+      try {
+        retval = join(future);
+      } catch (RuntimeException ex) { // NOPMD - intentional
+        // the failure is reported to the caller that computed the value
+      }
+    }
+    return retval;
+  }
+
+  /**
+   * Get the cached value for the provided key, computing and caching it if it is not present.
+   *
+   * @param key
+   *          the key to lookup
+   * @param mappingFunction
+   *          the function used to compute the value if it is not cached
+   * @return the cached or computed value
+   */
+  @NonNull
+  public V computeIfAbsent(@NonNull K key, @NonNull Function<? super K, ? extends V> mappingFunction) {
+    CompletableFuture<V> future;
+    boolean owner = false;
+    synchronized (entries) {
+      future = entries.get(key);
+      recordLookup(future != null);
+      if (future == null) {
+        future = new CompletableFuture<>();
+        entries.put(key, future);
+        owner = true;
+      }
+    }
+
+    V retval;
+    if (owner) {
+      try {
+        retval = ObjectUtils.requireNonNull(mappingFunction.apply(key));
+      } catch (RuntimeException | Error ex) { // NOPMD - intentional
+        remove(key, future);
+        future.completeExceptionally(ex);
+        throw ex;
+      }
+      future.complete(retval);
+    } else {
+      retval = join(future);
+    }
+    return retval;
+  }
+
+  /**
+   * Add the provided value to the cache, replacing any existing value.
+   *
+   * @param key
+   *          the key to cache the value for
+   * @param value
+   *          the value to cache
+   */
+  public void put(@NonNull K key, @NonNull V value) {
+    synchronized (entries) {
+      entries.put(key, CompletableFuture.completedFuture(value));
+    }
+  }
+
+  /**
+   * Get a snapshot of the values that have been computed successfully.
+   *
+   * @return a new map containing the cached values
+   */
+  @NonNull
+  public Map<K, V> toMap() {
+    Map<K, V> retval = new LinkedHashMap<>(); // NOPMD - intentional
+    synchronized (entries) {
+      for (Map.Entry<K, CompletableFuture<V>> entry : entries.entrySet()) {
+        CompletableFuture<V> future = entry.getValue();
+        if (future.isDone() && !future.isCompletedExceptionally()) {
+          retval.put(entry.getKey(), future.getNow(null));
+        }
+      }
+    }
+    return retval;
+  }
+
+  /**
+   * Remove all entries from this cache and reset the hit and miss counts.
+   */
+  public void clear() {
+    synchronized (entries) {
+      entries.clear();
+      hitCount = 0;
+      missCount = 0;
+    }
+  }
+
+  private void recordLookup(boolean hit) {
+    // must be called while holding the lock
+    if (hit) {
+      hitCount++;
+    } else {
+      missCount++;
+    }
+  }
+
+  private void remove(@NonNull K key, @NonNull CompletableFuture<V> future) {
+    synchronized (entries) {
+      entries.remove(key, future);
+    }
+  }
+
+  @NonNull
+  private static <V> V join(@NonNull CompletableFuture<V> future) {
+    try {
+      return ObjectUtils.notNull(future.join());
+    } catch (CompletionException ex) {
+      Throwable cause = ex.getCause();
+      if (cause instanceof RuntimeException) {
+        throw (RuntimeException) cause;
+      } else if (cause instanceof Error) {
+        throw (Error) cause;
+      }
+      throw ex;
+    }
+  }
+}
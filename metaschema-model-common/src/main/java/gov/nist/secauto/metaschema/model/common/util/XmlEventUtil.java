@@ -37,8 +37,10 @@ import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
+import javax.xml.XMLConstants;
 import javax.xml.namespace.QName;
 import javax.xml.stream.Location;
+import javax.xml.stream.XMLInputFactory;
 import javax.xml.stream.XMLStreamConstants;
 import javax.xml.stream.XMLStreamException;
 import javax.xml.stream.events.Characters;
@@ -162,13 +164,13 @@ public final class XmlEventUtil { // NOPMD this is a set of utility methods
    * @return the generated string
    */
   @NonNull
-  public static CharSequence toString(@NonNull XMLStreamReader2 reader) { // NO_UCD (unused code)
+  public static CharSequence toString(@NonNull XMLStreamReader2 reader) {
     int type = reader.getEventType();
 
     @SuppressWarnings("null")
     @NonNull StringBuilder builder = new StringBuilder().append(toEventName(type));
-    QName name = reader.getName();
-    if (name != null) {
+    if (reader.hasName()) {
+      QName name = reader.getName();
       builder.append(": ").append(name.toString());
     }
     if (XMLStreamConstants.CHARACTERS == type) {
@@ -500,6 +502,169 @@ public final class XmlEventUtil { // NOPMD this is a set of utility methods
             presumedName);
   }
 
+  /**
+   * Skip over any whitespace at the current position of the stream reader.
+   * <p>
+   * Unlike the {@link XMLEventReader2} based methods in this class, which operate on the next event
+   * returned by {@link XMLEventReader2#peek()}, the {@link XMLStreamReader2} based methods operate on
+   * the reader's current event. This current event is treated as the next event that has not yet
+   * been consumed.
+   *
+   * @param reader
+   *          the stream reader to advance
+   * @return the type of the reader's current event after skipping, as defined by
+   *         {@link XMLStreamConstants}
+   * @throws XMLStreamException
+   *           if an error occurred while advancing the stream
+   */
+  public static int skipWhitespace(@NonNull XMLStreamReader2 reader) throws XMLStreamException {
+    int eventType = reader.getEventType();
+    while ((eventType == XMLStreamConstants.CHARACTERS || eventType == XMLStreamConstants.SPACE)
+        && reader.isWhiteSpace()) {
+      eventType = reader.next();
+    }
+    return eventType;
+  }
+
+  /**
+   * Skips events specified by {@code events}, starting with the stream reader's current event.
+   *
+   * @param reader
+   *          the stream reader
+   * @param events
+   *          the events to skip
+   * @return the type of the reader's current event after skipping, as defined by
+   *         {@link XMLStreamConstants}
+   * @throws XMLStreamException
+   *           if an error occurred while reading
+   */
+  public static int skipEvents(@NonNull XMLStreamReader2 reader, int... events) throws XMLStreamException {
+    int eventType = reader.getEventType();
+    while (reader.hasNext() && contains(events, eventType)) {
+      eventType = reader.next();
+    }
+    return eventType;
+  }
+
+  private static boolean contains(@NonNull int[] events, int eventType) {
+    boolean retval = false;
+    for (int event : events) {
+      if (event == eventType) {
+        retval = true;
+        break;
+      }
+    }
+    return retval;
+  }
+
+  /**
+   * Determine if the current event of the stream reader is a start element whose name matches the
+   * provided {@code name}.
+   *
+   * @param reader
+   *          the stream reader
+   * @param name
+   *          the expected element name
+   * @return {@code true} if the current event is a start element that matches the {@code name}
+   */
+  public static boolean isEventStartElement(@NonNull XMLStreamReader2 reader, @NonNull QName name) {
+    return reader.getEventType() == XMLStreamConstants.START_ELEMENT && isName(reader, name);
+  }
+
+  /**
+   * Determine if the current event of the stream reader is an end element whose name matches the
+   * provided {@code name}.
+   *
+   * @param reader
+   *          the stream reader
+   * @param name
+   *          the expected element name
+   * @return {@code true} if the current event is an end element that matches the {@code name}
+   */
+  public static boolean isEventEndElement(@NonNull XMLStreamReader2 reader, @NonNull QName name) {
+    return reader.getEventType() == XMLStreamConstants.END_ELEMENT && isName(reader, name);
+  }
+
+  /**
+   * Determine if the name of the stream reader's current element matches the provided {@code name}.
+   * <p>
+   * The names are compared without allocating a {@link QName} for the current element.
+   *
+   * @param reader
+   *          the stream reader, which must be positioned on a start or end element
+   * @param name
+   *          the expected element name
+   * @return {@code true} if the name matches, or {@code false} otherwise
+   */
+  private static boolean isName(@NonNull XMLStreamReader2 reader, @NonNull QName name) {
+    String namespace = reader.getNamespaceURI();
+    return name.getLocalPart().equals(reader.getLocalName())
+        && name.getNamespaceURI().equals(namespace == null ? XMLConstants.NULL_NS_URI : namespace);
+  }
+
+  /**
+   * Assert that the current event of the stream reader is of the type identified by
+   * {@code presumedEventType} and, if provided, has the name identified by {@code presumedName}. The
+   * current event is then consumed.
+   *
+   * @param reader
+   *          the stream reader
+   * @param presumedEventType
+   *          the expected event type as defined by {@link XMLStreamConstants}
+   * @param presumedName
+   *          the expected name of the node associated with the event, or {@code null} if the name is
+   *          not to be checked
+   * @return the type of the reader's event following the consumed event, as defined by
+   *         {@link XMLStreamConstants}
+   * @throws XMLStreamException
+   *           if an error occurred while advancing the stream
+   */
+  public static int consumeAndAssert(@NonNull XMLStreamReader2 reader, int presumedEventType,
+      @Nullable QName presumedName) throws XMLStreamException {
+    assertEvent(reader, presumedEventType, presumedName);
+    return reader.next();
+  }
+
+  /**
+   * Assert that the current event of the stream reader is of the type identified by
+   * {@code presumedEventType} and, if provided, has the name identified by {@code presumedName}.
+   *
+   * @param reader
+   *          the stream reader
+   * @param presumedEventType
+   *          the expected event type as defined by {@link XMLStreamConstants}
+   * @param presumedName
+   *          the expected name of the node associated with the event, or {@code null} if the name is
+   *          not to be checked
+   */
+  public static void assertEvent(@NonNull XMLStreamReader2 reader, int presumedEventType,
+      @Nullable QName presumedName) {
+    int eventType = reader.getEventType();
+    assert eventType == presumedEventType
+        && (presumedName == null || isName(reader, presumedName)) : generateAssertMessage(
+            reader,
+            presumedEventType,
+            presumedName);
+  }
+
+  private static CharSequence generateAssertMessage(
+      @NonNull XMLStreamReader2 reader,
+      int presumedEventType,
+      @Nullable QName presumedName) {
+    StringBuilder builder = new StringBuilder(64);
+    builder
+        .append("Expected XML ")
+        .append(toEventName(presumedEventType));
+
+    if (presumedName != null) {
+      builder.append(" for QName '")
+          .append(presumedName.toString());
+    }
+    builder.append("', instead found ")
+        .append(toString(reader));
+    return builder;
+  }
+
   private static CharSequence generateAssertMessage(
       @NonNull XMLEvent event,
       int presumedEventType,
@@ -548,4 +713,28 @@ public final class XmlEventUtil { // NOPMD this is a set of utility methods
     }
     return nextEvent;
   }
+
+  /**
+   * Get an event reader that reads the events of the provided stream reader, starting with the
+   * stream reader's current event.
+   * <p>
+   * The stream reader is advanced as events are read or peeked using the event reader. Once the last
+   * event handled by the caller has been read, calling {@link XMLEventReader2#peek()} leaves the
+   * stream reader's current event on the next event that has not been consumed.
+   *
+   * @param reader
+   *          the stream reader to read events from
+   * @return the event reader
+   * @throws XMLStreamException
+   *           if an error occurred while creating the event reader
+   */
+  @NonNull
+  public static XMLEventReader2 toEventReader(@NonNull XMLStreamReader2 reader) throws XMLStreamException {
+    return ObjectUtils.notNull((XMLEventReader2) EventReaderFactoryHolder.FACTORY.createXMLEventReader(reader));
+  }
+
+  private static final class EventReaderFactoryHolder {
+    @NonNull
+    private static final XMLInputFactory FACTORY = ObjectUtils.notNull(XMLInputFactory.newInstance());
+  }
 }
@@ -55,9 +55,20 @@ import edu.umd.cs.findbugs.annotations.NonNull;
 public class XmlSchemaContentValidator implements IContentValidator {
   private final Schema schema;
 
+  /**
+   * Compile the provided XML schema sources into a schema.
+   * <p>
+   * The resulting schema is thread-safe, so it can be used to create validators for many documents.
+   *
+   * @param schemaSources
+   *          the XML schema sources to compile
+   * @return the compiled schema
+   * @throws SAXException
+   *           if an error occurred while parsing the schema sources
+   */
   @SuppressWarnings("null")
   @NonNull
-  private static Schema toSchema(@NonNull List<? extends Source> schemaSources) throws SAXException {
+  public static Schema toSchema(@NonNull List<? extends Source> schemaSources) throws SAXException {
     SchemaFactory schemafactory = SchemaFactory.newInstance(XMLConstants.W3C_XML_SCHEMA_NS_URI);
     // schemafactory.setResourceResolver(new ClasspathResourceResolver());
     Schema retval;
@@ -75,7 +86,7 @@ public class XmlSchemaContentValidator implements IContentValidator {
     this(toSchema(ObjectUtils.requireNonNull(schemaSources, "schemaSources")));
   }
 
-  protected XmlSchemaContentValidator(@NonNull Schema schema) {
+  public XmlSchemaContentValidator(@NonNull Schema schema) {
     this.schema = ObjectUtils.requireNonNull(schema, "schema");
   }
 
@@ -163,7 +174,13 @@ public class XmlSchemaContentValidator implements IContentValidator {
     }
   }
 
-  private static class XmlValidationErrorHandler implements ErrorHandler, IValidationResult {
+  /**
+   * Collects the findings reported by a schema validator as a validation result.
+   * <p>
+   * This can be used with a {@link javax.xml.validation.ValidatorHandler} created from
+   * {@link #getSchema()} to validate content as it is streamed from another parser.
+   */
+  public static class XmlValidationErrorHandler implements ErrorHandler, IValidationResult {
     @NonNull
     private final URI documentUri;
     @NonNull
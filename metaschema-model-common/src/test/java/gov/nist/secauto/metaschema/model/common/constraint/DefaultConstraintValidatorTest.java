@@ -27,21 +27,30 @@
 package gov.nist.secauto.metaschema.model.common.constraint;
 
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.allOf;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.hasItem;
 import static org.hamcrest.Matchers.hasProperty;
 import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.hasToString;
 import static org.hamcrest.Matchers.is;
 import static org.junit.jupiter.api.Assertions.assertAll;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import gov.nist.secauto.metaschema.model.common.IAssemblyDefinition;
 import gov.nist.secauto.metaschema.model.common.IFlagDefinition;
 import gov.nist.secauto.metaschema.model.common.constraint.IConstraint.InternalModelSource;
 import gov.nist.secauto.metaschema.model.common.datatype.markup.MarkupLine;
 import gov.nist.secauto.metaschema.model.common.metapath.DynamicContext;
+import gov.nist.secauto.metaschema.model.common.metapath.MetapathExpression;
 import gov.nist.secauto.metaschema.model.common.metapath.StaticContext;
 import gov.nist.secauto.metaschema.model.common.metapath.format.IPathFormatter;
+import gov.nist.secauto.metaschema.model.common.metapath.item.IAssemblyNodeItem;
 import gov.nist.secauto.metaschema.model.common.metapath.item.IFlagNodeItem;
+import gov.nist.secauto.metaschema.model.common.metapath.item.IModelNodeItem;
 import gov.nist.secauto.metaschema.model.common.metapath.item.IStringItem;
 import gov.nist.secauto.metaschema.model.common.metapath.item.MockItemFactory;
 import gov.nist.secauto.metaschema.model.common.util.CollectionUtil;
@@ -49,12 +58,19 @@ import gov.nist.secauto.metaschema.model.common.util.CollectionUtil;
 import org.jmock.Expectations;
 import org.jmock.Mockery;
 import org.jmock.api.Invocation;
+import org.jmock.api.InvocationDispatcher;
+import org.jmock.api.Invokable;
+import org.jmock.api.ThreadingPolicy;
 import org.jmock.junit5.JUnit5Mockery;
 import org.jmock.lib.action.CustomAction;
+import org.jmock.lib.concurrent.Synchroniser;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.RegisterExtension;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
 
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
 
 @SuppressWarnings("PMD.TooManyStaticImports")
 class DefaultConstraintValidatorTest {
@@ -107,6 +123,55 @@ class DefaultConstraintValidatorTest {
     assertTrue(handler.isPassing(), "doesn't pass");
   }
 
+  @SuppressWarnings("null")
+  @Test
+  void testAllowedValuesDisallowOther() {
+    MockItemFactory itemFactory = new MockItemFactory(context);
+
+    IFlagNodeItem flag = itemFactory.flag("value", IStringItem.valueOf("value"));
+
+    IFlagDefinition flagDefinition = context.mock(IFlagDefinition.class);
+
+    DefaultAllowedValuesConstraint allowedValues = DefaultAllowedValuesConstraint.builder()
+        .source(InternalModelSource.instance())
+        .allowedValue(new DefaultAllowedValue(
+            "other",
+            MarkupLine.fromMarkdown("some documentation")))
+        .allowedOther(false)
+        .build();
+
+    context.checking(new Expectations() {
+      { // NOPMD - intentional
+        allowing(flag).getDefinition();
+        will(returnValue(flagDefinition));
+        allowing(flag).accept(with(any(DefaultConstraintValidator.Visitor.class)), with(aNull(Void.class)));
+        will(new FlagVisitorAction());
+        allowing(flag).toPath(with(any(IPathFormatter.class)));
+        will(returnValue("flag/path"));
+
+        allowing(flagDefinition).getAllowedValuesConstraints();
+        will(returnValue(CollectionUtil.singletonList(allowedValues)));
+        allowing(flagDefinition).getExpectConstraints();
+        will(returnValue(CollectionUtil.emptyList()));
+        allowing(flagDefinition).getMatchesConstraints();
+        will(returnValue(CollectionUtil.emptyList()));
+        allowing(flagDefinition).getIndexHasKeyConstraints();
+        will(returnValue(CollectionUtil.emptyList()));
+      }
+    });
+
+    DynamicContext dynamicContext = new StaticContext().newDynamicContext();
+    FindingCollectingConstraintValidationHandler handler = new FindingCollectingConstraintValidationHandler();
+    DefaultConstraintValidator validator = new DefaultConstraintValidator(dynamicContext, handler);
+    validator.validate(flag);
+    validator.finalizeValidation();
+
+    assertAll(
+        () -> assertFalse(handler.isPassing(), "must not pass"),
+        () -> assertThat("only 1 finding", handler.getFindings(), hasSize(1)),
+        () -> assertThat("finding is for a flag node", handler.getFindings(), hasItem(hasProperty("node", is(flag)))));
+  }
+
   @SuppressWarnings("null")
   @Test
   void testAllowedValuesMultipleAllowOther() {
@@ -164,8 +229,13 @@ class DefaultConstraintValidatorTest {
   }
 
   @SuppressWarnings("null")
-  @Test
-  void testMultipleAllowedValuesConflictingAllowOther() {
+  @ParameterizedTest
+  @ValueSource(booleans = { false, true })
+  void testMultipleAllowedValuesConflictingAllowOther(boolean parallel) {
+    if (parallel) {
+      // the flags are visited on the pool's threads
+      context.setThreadingPolicy(new Synchroniser());
+    }
     MockItemFactory itemFactory = new MockItemFactory(context);
 
     IFlagNodeItem flag1 = itemFactory.flag("value", IStringItem.valueOf("value"));
@@ -221,6 +291,9 @@ class DefaultConstraintValidatorTest {
     DynamicContext dynamicContext = new StaticContext().newDynamicContext();
     FindingCollectingConstraintValidationHandler handler = new FindingCollectingConstraintValidationHandler();
     DefaultConstraintValidator validator = new DefaultConstraintValidator(dynamicContext, handler);
+    if (parallel) {
+      validator.setForkJoinPool(ForkJoinPool.commonPool());
+    }
     validator.validate(flag1);
     validator.validate(flag2);
     validator.finalizeValidation();
@@ -230,6 +303,239 @@ class DefaultConstraintValidatorTest {
         () -> assertThat("finding is for a flag node", handler.getFindings(), hasItem(hasProperty("node", is(flag1)))));
   }
 
+  @SuppressWarnings("null")
+  @ParameterizedTest
+  @ValueSource(booleans = { false, true })
+  void testFindingsAcrossSubtreesInDocumentOrder(boolean parallel) {
+    // the subtrees are visited on the pool's threads
+    context.setThreadingPolicy(new VisitingSynchroniser());
+    MockItemFactory itemFactory = new MockItemFactory(context);
+
+    IFlagNodeItem id1 = itemFactory.flag("id", IStringItem.valueOf("bad1"));
+    IFlagNodeItem id2 = itemFactory.flag("id", IStringItem.valueOf("ok"));
+    IFlagNodeItem id3 = itemFactory.flag("id", IStringItem.valueOf("bad3"));
+    IAssemblyNodeItem part1 = itemFactory.assembly("part", List.of(id1), CollectionUtil.emptyList());
+    IAssemblyNodeItem part2 = itemFactory.assembly("part", List.of(id2), CollectionUtil.emptyList());
+    IAssemblyNodeItem part3 = itemFactory.assembly("part", List.of(id3), CollectionUtil.emptyList());
+    IAssemblyNodeItem root = itemFactory.assembly(
+        "root",
+        CollectionUtil.emptyList(),
+        List.<IModelNodeItem>of(part1, part2, part3));
+
+    IFlagDefinition flagDefinition = context.mock(IFlagDefinition.class);
+    IAssemblyDefinition partDefinition = context.mock(IAssemblyDefinition.class, "partDefinition");
+    IAssemblyDefinition rootDefinition = context.mock(IAssemblyDefinition.class, "rootDefinition");
+
+    DefaultAllowedValuesConstraint allowedValues = DefaultAllowedValuesConstraint.builder()
+        .source(InternalModelSource.instance())
+        .allowedValue(new DefaultAllowedValue(
+            "ok",
+            MarkupLine.fromMarkdown("some documentation")))
+        .allowedOther(false)
+        .build();
+    // each part defines the same index, so only the first part's index is used
+    DefaultIndexConstraint index = DefaultIndexConstraint.builder()
+        .name("part-index")
+        .source(InternalModelSource.instance())
+        .keyField(new DefaultKeyField(MetapathExpression.compile("@id"), null, null))
+        .build();
+    DefaultIndexHasKeyConstraint indexHasKey = DefaultIndexHasKeyConstraint.builder()
+        .name("part-index")
+        .source(InternalModelSource.instance())
+        .target(MetapathExpression.compile("part"))
+        .keyField(new DefaultKeyField(MetapathExpression.compile("@id"), null, null))
+        .build();
+
+    context.checking(new Expectations() {
+      { // NOPMD - intentional
+        int position = 1;
+        for (IFlagNodeItem flag : List.of(id1, id2, id3)) {
+          allowing(flag).getDefinition();
+          will(returnValue(flagDefinition));
+          allowing(flag).toPath(with(any(IPathFormatter.class)));
+          will(returnValue("/root/part[" + position + "]/@id"));
+          position++;
+        }
+        position = 1;
+        for (IAssemblyNodeItem part : List.of(part1, part2, part3)) {
+          allowing(part).getDefinition();
+          will(returnValue(partDefinition));
+          allowing(part).getMetapath();
+          will(returnValue("/root/part[" + position + "]"));
+          position++;
+        }
+        allowing(root).getDefinition();
+        will(returnValue(rootDefinition));
+        allowing(root).getMetapath();
+        will(returnValue("/root"));
+
+        allowing(flagDefinition).getAllowedValuesConstraints();
+        will(returnValue(CollectionUtil.singletonList(allowedValues)));
+        allowing(flagDefinition).getExpectConstraints();
+        will(returnValue(CollectionUtil.emptyList()));
+        allowing(flagDefinition).getMatchesConstraints();
+        will(returnValue(CollectionUtil.emptyList()));
+        allowing(flagDefinition).getIndexHasKeyConstraints();
+        will(returnValue(CollectionUtil.emptyList()));
+
+        allowing(partDefinition).getIndexConstraints();
+        will(returnValue(CollectionUtil.singletonList(index)));
+        allowing(partDefinition).getIndexHasKeyConstraints();
+        will(returnValue(CollectionUtil.emptyList()));
+
+        allowing(rootDefinition).getIndexHasKeyConstraints();
+        will(returnValue(CollectionUtil.singletonList(indexHasKey)));
+        allowing(rootDefinition).getIndexConstraints();
+        will(returnValue(CollectionUtil.emptyList()));
+
+        for (IAssemblyDefinition definition : List.of(partDefinition, rootDefinition)) {
+          allowing(definition).getAllowedValuesConstraints();
+          will(returnValue(CollectionUtil.emptyList()));
+          allowing(definition).getExpectConstraints();
+          will(returnValue(CollectionUtil.emptyList()));
+          allowing(definition).getMatchesConstraints();
+          will(returnValue(CollectionUtil.emptyList()));
+          allowing(definition).getHasCardinalityConstraints();
+          will(returnValue(CollectionUtil.emptyList()));
+          allowing(definition).getUniqueConstraints();
+          will(returnValue(CollectionUtil.emptyList()));
+        }
+      }
+    });
+
+    DynamicContext dynamicContext = new StaticContext().newDynamicContext();
+    FindingCollectingConstraintValidationHandler handler = new FindingCollectingConstraintValidationHandler();
+    DefaultConstraintValidator validator = new DefaultConstraintValidator(dynamicContext, handler);
+    if (parallel) {
+      validator.setForkJoinPool(ForkJoinPool.commonPool());
+      // validate each part as a separate task
+      validator.setForkThreshold(1);
+    }
+    validator.validate(root);
+    validator.finalizeValidation();
+
+    assertThat("findings are in document order", handler.getFindings(), contains(
+        hasProperty("node", is(id1)),
+        hasProperty("node", is(part2)),
+        hasProperty("node", is(part3)),
+        hasProperty("node", is(id3)),
+        allOf(
+            hasProperty("node", is(root)),
+            hasProperty("message", hasToString(containsString("/root/part[2]")))),
+        allOf(
+            hasProperty("node", is(root)),
+            hasProperty("message", hasToString(containsString("/root/part[3]"))))));
+  }
+
+  @SuppressWarnings("null")
+  @ParameterizedTest
+  @ValueSource(booleans = { false, true })
+  void testAllowedValuesTargetingSiblingSubtree(boolean parallel) {
+    // the subtrees are visited on the pool's threads
+    context.setThreadingPolicy(new VisitingSynchroniser());
+    MockItemFactory itemFactory = new MockItemFactory(context);
+
+    IFlagNodeItem id1 = itemFactory.flag("id", IStringItem.valueOf("ok"));
+    IFlagNodeItem id2 = itemFactory.flag("id", IStringItem.valueOf("bad"));
+    IAssemblyNodeItem part1 = itemFactory.assembly("part", List.of(id1), CollectionUtil.emptyList());
+    IAssemblyNodeItem part2 = itemFactory.assembly("part", List.of(id2), CollectionUtil.emptyList());
+    IAssemblyNodeItem root = itemFactory.assembly(
+        "root",
+        CollectionUtil.emptyList(),
+        List.<IModelNodeItem>of(part1, part2));
+
+    IFlagDefinition flagDefinition = context.mock(IFlagDefinition.class);
+    IAssemblyDefinition firstPartDefinition = context.mock(IAssemblyDefinition.class, "firstPartDefinition");
+    IAssemblyDefinition partDefinition = context.mock(IAssemblyDefinition.class, "partDefinition");
+    IAssemblyDefinition rootDefinition = context.mock(IAssemblyDefinition.class, "rootDefinition");
+
+    // the first part constrains the ids of all parts, including the part validated by another task
+    DefaultAllowedValuesConstraint allowedValues = DefaultAllowedValuesConstraint.builder()
+        .source(InternalModelSource.instance())
+        .target(MetapathExpression.compile("../part/@id"))
+        .allowedValue(new DefaultAllowedValue(
+            "ok",
+            MarkupLine.fromMarkdown("some documentation")))
+        .allowedOther(false)
+        .build();
+
+    context.checking(new Expectations() {
+      { // NOPMD - intentional
+        int position = 1;
+        for (IFlagNodeItem flag : List.of(id1, id2)) {
+          allowing(flag).getDefinition();
+          will(returnValue(flagDefinition));
+          allowing(flag).toPath(with(any(IPathFormatter.class)));
+          will(returnValue("/root/part[" + position + "]/@id"));
+          position++;
+        }
+        allowing(part1).getDefinition();
+        will(returnValue(firstPartDefinition));
+        allowing(part2).getDefinition();
+        will(returnValue(partDefinition));
+        allowing(root).getDefinition();
+        will(returnValue(rootDefinition));
+        allowing(root).getParentNodeItem();
+        will(returnValue(null));
+
+        allowing(flagDefinition).getAllowedValuesConstraints();
+        will(returnValue(CollectionUtil.emptyList()));
+        allowing(flagDefinition).getExpectConstraints();
+        will(returnValue(CollectionUtil.emptyList()));
+        allowing(flagDefinition).getMatchesConstraints();
+        will(returnValue(CollectionUtil.emptyList()));
+        allowing(flagDefinition).getIndexHasKeyConstraints();
+        will(returnValue(CollectionUtil.emptyList()));
+
+        allowing(firstPartDefinition).getAllowedValuesConstraints();
+        will(returnValue(CollectionUtil.singletonList(allowedValues)));
+        for (IAssemblyDefinition definition : List.of(partDefinition, rootDefinition)) {
+          allowing(definition).getAllowedValuesConstraints();
+          will(returnValue(CollectionUtil.emptyList()));
+        }
+
+        for (IAssemblyDefinition definition : List.of(firstPartDefinition, partDefinition, rootDefinition)) {
+          allowing(definition).getExpectConstraints();
+          will(returnValue(CollectionUtil.emptyList()));
+          allowing(definition).getMatchesConstraints();
+          will(returnValue(CollectionUtil.emptyList()));
+          allowing(definition).getIndexHasKeyConstraints();
+          will(returnValue(CollectionUtil.emptyList()));
+          allowing(definition).getHasCardinalityConstraints();
+          will(returnValue(CollectionUtil.emptyList()));
+          allowing(definition).getIndexConstraints();
+          will(returnValue(CollectionUtil.emptyList()));
+          allowing(definition).getUniqueConstraints();
+          will(returnValue(CollectionUtil.emptyList()));
+        }
+      }
+    });
+
+    DynamicContext dynamicContext = new StaticContext().newDynamicContext();
+    FindingCollectingConstraintValidationHandler handler = new FindingCollectingConstraintValidationHandler();
+    DefaultConstraintValidator validator = new DefaultConstraintValidator(dynamicContext, handler);
+    if (parallel) {
+      validator.setForkJoinPool(ForkJoinPool.commonPool());
+      // validate each part as a separate task
+      validator.setForkThreshold(1);
+    }
+    validator.validate(root);
+    validator.finalizeValidation();
+
+    assertThat("only the sibling's id is reported", handler.getFindings(), contains(
+        allOf(
+            hasProperty("node", is(id2)),
+            hasProperty("message", hasToString(containsString("bad"))))));
+  }
+
+  @Test
+  void testForkThresholdMustBePositive() {
+    DefaultConstraintValidator validator = new DefaultConstraintValidator(
+        new StaticContext().newDynamicContext(),
+        new FindingCollectingConstraintValidationHandler());
+    assertThrows(IllegalArgumentException.class, () -> validator.setForkThreshold(0));
+  }
+
   private static class FlagVisitorAction
       extends CustomAction {
 
@@ -245,4 +551,38 @@ class DefaultConstraintValidatorTest {
       return visitor.visitFlag(thisFlag, null);
     }
   }
+
+  /**
+   * Visits the node items outside of the mockery's lock, since visiting a node waits for the subtrees
+   * visited on other threads, which need the lock to call their mocks.
+   */
+  private static class VisitingSynchroniser implements ThreadingPolicy {
+    private final Synchroniser synchroniser = new Synchroniser();
+
+    @Override
+    public Invokable synchroniseAccessTo(Invokable mockObject) {
+      Invokable synchronised = synchroniser.synchroniseAccessTo(mockObject);
+      return invocation -> {
+        Object retval;
+        if ("accept".equals(invocation.getInvokedMethod().getName())
+            && invocation.getParameter(0) instanceof DefaultConstraintValidator.Visitor) {
+          DefaultConstraintValidator.Visitor visitor = (DefaultConstraintValidator.Visitor) invocation.getParameter(0);
+          Object item = invocation.getInvokedObject();
+          if (item instanceof IFlagNodeItem) {
+            retval = visitor.visitFlag((IFlagNodeItem) item, null);
+          } else {
+            retval = visitor.visitAssembly((IAssemblyNodeItem) item, null);
+          }
+        } else {
+          retval = synchronised.invoke(invocation);
+        }
+        return retval;
+      };
+    }
+
+    @Override
+    public InvocationDispatcher dispatcher() {
+      return synchroniser.dispatcher();
+    }
+  }
 }
@@ -0,0 +1,99 @@
+/*
+ * Portions of this software was developed by employees of the National Institute
+ * of Standards and Technology (NIST), an agency of the Federal Government and is
+ * being made available as a public service. Pursuant to title 17 United States
+ * Code Section 105, works of NIST employees are not subject to copyright
+ * protection in the United States. This software may be subject to foreign
+ * copyright. Permission in the United States and in foreign countries, to the
+ * extent that NIST may hold copyright, to use, copy, modify, create derivative
+ * works, and distribute this software and its documentation without fee is hereby
+ * granted on a non-exclusive basis, provided that this notice and disclaimer
+ * of warranty appears in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED 'AS IS' WITHOUT ANY WARRANTY OF ANY KIND, EITHER
+ * EXPRESSED, IMPLIED, OR STATUTORY, INCLUDING, BUT NOT LIMITED TO, ANY WARRANTY
+ * THAT THE SOFTWARE WILL CONFORM TO SPECIFICATIONS, ANY IMPLIED WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE, AND FREEDOM FROM
+ * INFRINGEMENT, AND ANY WARRANTY THAT THE DOCUMENTATION WILL CONFORM TO THE
+ * SOFTWARE, OR ANY WARRANTY THAT THE SOFTWARE WILL BE ERROR FREE.  IN NO EVENT
+ * SHALL NIST BE LIABLE FOR ANY DAMAGES, INCLUDING, BUT NOT LIMITED TO, DIRECT,
+ * INDIRECT, SPECIAL OR CONSEQUENTIAL DAMAGES, ARISING OUT OF, RESULTING FROM,
+ * OR IN ANY WAY CONNECTED WITH THIS SOFTWARE, WHETHER OR NOT BASED UPON WARRANTY,
+ * CONTRACT, TORT, OR OTHERWISE, WHETHER OR NOT INJURY WAS SUSTAINED BY PERSONS OR
+ * PROPERTY OR OTHERWISE, AND WHETHER OR NOT LOSS WAS SUSTAINED FROM, OR AROSE OUT
+ * OF THE RESULTS OF, OR USE OF, THE SOFTWARE OR SERVICES PROVIDED HEREUNDER.
+ */
+
+package gov.nist.secauto.metaschema.model.common.constraint;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import gov.nist.secauto.metaschema.model.common.IFieldDefinition;
+import gov.nist.secauto.metaschema.model.common.metapath.DynamicContext;
+import gov.nist.secauto.metaschema.model.common.metapath.ISequence;
+import gov.nist.secauto.metaschema.model.common.metapath.MetapathExpression;
+import gov.nist.secauto.metaschema.model.common.metapath.StaticContext;
+import gov.nist.secauto.metaschema.model.common.metapath.item.IDefinitionNodeItem;
+import gov.nist.secauto.metaschema.model.common.util.CollectionUtil;
+
+import org.jmock.Expectations;
+import org.jmock.Mockery;
+import org.jmock.junit5.JUnit5Mockery;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import java.util.List;
+
+class ValidationPlanTest {
+  @RegisterExtension
+  Mockery context = new JUnit5Mockery();
+
+  @SuppressWarnings("null")
+  @Test
+  void testTargets() {
+    IFieldDefinition definition = context.mock(IFieldDefinition.class);
+    IDefinitionNodeItem item = context.mock(IDefinitionNodeItem.class);
+    IExpectConstraint expect = context.mock(IExpectConstraint.class);
+    IMatchesConstraint matches = context.mock(IMatchesConstraint.class);
+    IAllowedValuesConstraint allowedValues = context.mock(IAllowedValuesConstraint.class);
+    MetapathExpression target = MetapathExpression.compile("part/@id");
+    DynamicContext dynamicContext = new StaticContext().newDynamicContext();
+    ISequence<IDefinitionNodeItem> targets = ISequence.of(item);
+
+    context.checking(new Expectations() {
+      { // NOPMD - intentional
+        allowing(definition).getExpectConstraints();
+        will(returnValue(List.of(expect)));
+        allowing(definition).getMatchesConstraints();
+        will(returnValue(List.of(matches)));
+        allowing(definition).getAllowedValuesConstraints();
+        will(returnValue(List.of(allowedValues)));
+        allowing(definition).getIndexHasKeyConstraints();
+        will(returnValue(CollectionUtil.emptyList()));
+
+        allowing(expect).getTarget();
+        will(returnValue(target));
+        allowing(matches).getTarget();
+        will(returnValue(target));
+        allowing(allowedValues).getTarget();
+        will(returnValue(MetapathExpression.CONTEXT_NODE));
+
+        // the shared target is evaluated once
+        oneOf(expect).matchTargets(item, dynamicContext);
+        will(returnValue(targets));
+      }
+    });
+
+    ValidationPlan plan = ValidationPlan.forDefinition(definition);
+    ValidationPlan.TargetResolver resolver = plan.newResolver(item, dynamicContext);
+
+    assertAll(
+        () -> assertFalse(plan.isEmpty(), "plan must have constraints"),
+        () -> assertSame(targets, resolver.match(expect), "unexpected targets for the first constraint"),
+        () -> assertSame(targets, resolver.match(matches), "unexpected targets for the second constraint"),
+        () -> assertEquals(List.of(item), resolver.match(allowedValues).asList(), "the focus must be the target"));
+  }
+}
@@ -0,0 +1,99 @@
+/*
+ * Portions of this software was developed by employees of the National Institute
+ * of Standards and Technology (NIST), an agency of the Federal Government and is
+ * being made available as a public service. Pursuant to title 17 United States
+ * Code Section 105, works of NIST employees are not subject to copyright
+ * protection in the United States. This software may be subject to foreign
+ * copyright. Permission in the United States and in foreign countries, to the
+ * extent that NIST may hold copyright, to use, copy, modify, create derivative
+ * works, and distribute this software and its documentation without fee is hereby
+ * granted on a non-exclusive basis, provided that this notice and disclaimer
+ * of warranty appears in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED 'AS IS' WITHOUT ANY WARRANTY OF ANY KIND, EITHER
+ * EXPRESSED, IMPLIED, OR STATUTORY, INCLUDING, BUT NOT LIMITED TO, ANY WARRANTY
+ * THAT THE SOFTWARE WILL CONFORM TO SPECIFICATIONS, ANY IMPLIED WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE, AND FREEDOM FROM
+ * INFRINGEMENT, AND ANY WARRANTY THAT THE DOCUMENTATION WILL CONFORM TO THE
+ * SOFTWARE, OR ANY WARRANTY THAT THE SOFTWARE WILL BE ERROR FREE.  IN NO EVENT
+ * SHALL NIST BE LIABLE FOR ANY DAMAGES, INCLUDING, BUT NOT LIMITED TO, DIRECT,
+ * INDIRECT, SPECIAL OR CONSEQUENTIAL DAMAGES, ARISING OUT OF, RESULTING FROM,
+ * OR IN ANY WAY CONNECTED WITH THIS SOFTWARE, WHETHER OR NOT BASED UPON WARRANTY,
+ * CONTRACT, TORT, OR OTHERWISE, WHETHER OR NOT INJURY WAS SUSTAINED BY PERSONS OR
+ * PROPERTY OR OTHERWISE, AND WHETHER OR NOT LOSS WAS SUSTAINED FROM, OR AROSE OUT
+ * OF THE RESULTS OF, OR USE OF, THE SOFTWARE OR SERVICES PROVIDED HEREUNDER.
+ */
+
+package gov.nist.secauto.metaschema.model.common.datatype;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import gov.nist.secauto.metaschema.model.common.datatype.adapter.MetaschemaDataTypeProvider;
+
+import org.codehaus.stax2.XMLStreamReader2;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Proxy;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+
+class IDataTypeAdapterTest {
+
+  @Test
+  void testStreamParseFallsBackToEventParse() throws IOException, XMLStreamException {
+    IDataTypeAdapter<String> adapter = newEventOnlyAdapter(MetaschemaDataTypeProvider.STRING);
+
+    String xml = "<a><b> value </b><c/></a>";
+    XMLStreamReader2 reader
+        = (XMLStreamReader2) XMLInputFactory.newInstance().createXMLStreamReader(new StringReader(xml));
+
+    assertEquals(XMLStreamConstants.START_ELEMENT, reader.nextTag());
+    assertEquals(XMLStreamConstants.START_ELEMENT, reader.nextTag());
+    // move into the content of the "b" element
+    reader.next();
+
+    assertEquals("value", adapter.parse(reader));
+
+    // the reader is left on the first event not parsed by the adapter
+    assertEquals(XMLStreamConstants.END_ELEMENT, reader.getEventType());
+    assertEquals("b", reader.getLocalName());
+    assertEquals(XMLStreamConstants.START_ELEMENT, reader.next());
+    assertEquals("c", reader.getLocalName());
+  }
+
+  /**
+   * Create an adapter that uses the default implementation of each default method, delegating all
+   * other methods to the provided adapter. This simulates an adapter that only implements the
+   * event-based XML parsing.
+   *
+   * @param delegate
+   *          the adapter to delegate to
+   * @return the new adapter
+   */
+  @SuppressWarnings("unchecked")
+  @NonNull
+  private static IDataTypeAdapter<String> newEventOnlyAdapter(@NonNull IDataTypeAdapter<String> delegate) {
+    return (IDataTypeAdapter<String>) Proxy.newProxyInstance(
+        IDataTypeAdapter.class.getClassLoader(),
+        new Class<?>[] { IDataTypeAdapter.class },
+        (proxy, method, args) -> {
+          Object retval;
+          if (method.isDefault()) {
+            retval = MethodHandles.privateLookupIn(IDataTypeAdapter.class, MethodHandles.lookup())
+                .unreflectSpecial(method, IDataTypeAdapter.class)
+                .bindTo(proxy)
+                .invokeWithArguments(args);
+          } else {
+            retval = method.invoke(delegate, args);
+          }
+          return retval;
+        });
+  }
+}
@@ -0,0 +1,192 @@
+/*
+ * Portions of this software was developed by employees of the National Institute
+ * of Standards and Technology (NIST), an agency of the Federal Government and is
+ * being made available as a public service. Pursuant to title 17 United States
+ * Code Section 105, works of NIST employees are not subject to copyright
+ * protection in the United States. This software may be subject to foreign
+ * copyright. Permission in the United States and in foreign countries, to the
+ * extent that NIST may hold copyright, to use, copy, modify, create derivative
+ * works, and distribute this software and its documentation without fee is hereby
+ * granted on a non-exclusive basis, provided that this notice and disclaimer
+ * of warranty appears in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED 'AS IS' WITHOUT ANY WARRANTY OF ANY KIND, EITHER
+ * EXPRESSED, IMPLIED, OR STATUTORY, INCLUDING, BUT NOT LIMITED TO, ANY WARRANTY
+ * THAT THE SOFTWARE WILL CONFORM TO SPECIFICATIONS, ANY IMPLIED WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE, AND FREEDOM FROM
+ * INFRINGEMENT, AND ANY WARRANTY THAT THE DOCUMENTATION WILL CONFORM TO THE
+ * SOFTWARE, OR ANY WARRANTY THAT THE SOFTWARE WILL BE ERROR FREE.  IN NO EVENT
+ * SHALL NIST BE LIABLE FOR ANY DAMAGES, INCLUDING, BUT NOT LIMITED TO, DIRECT,
+ * INDIRECT, SPECIAL OR CONSEQUENTIAL DAMAGES, ARISING OUT OF, RESULTING FROM,
+ * OR IN ANY WAY CONNECTED WITH THIS SOFTWARE, WHETHER OR NOT BASED UPON WARRANTY,
+ * CONTRACT, TORT, OR OTHERWISE, WHETHER OR NOT INJURY WAS SUSTAINED BY PERSONS OR
+ * PROPERTY OR OTHERWISE, AND WHETHER OR NOT LOSS WAS SUSTAINED FROM, OR AROSE OUT
+ * OF THE RESULTS OF, OR USE OF, THE SOFTWARE OR SERVICES PROVIDED HEREUNDER.
+ */
+
+package gov.nist.secauto.metaschema.model.common.metapath;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import gov.nist.secauto.metaschema.model.common.metapath.function.DocumentFunctionException;
+import gov.nist.secauto.metaschema.model.common.metapath.function.library.FnDoc;
+import gov.nist.secauto.metaschema.model.common.metapath.item.IDocumentNodeItem;
+import gov.nist.secauto.metaschema.model.common.metapath.item.IStringItem;
+
+import org.jmock.Mockery;
+import org.jmock.junit5.JUnit5Mockery;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.xml.sax.EntityResolver;
+import org.xml.sax.InputSource;
+
+import java.io.IOException;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+
+class DynamicContextTest {
+  private static final URI BASE_URI = URI.create("file:/base/");
+
+  @RegisterExtension
+  Mockery context = new JUnit5Mockery();
+
+  @NonNull
+  private static DynamicContext newDynamicContext() {
+    StaticContext staticContext = new StaticContext();
+    staticContext.setBaseUri(BASE_URI);
+    return staticContext.newDynamicContext();
+  }
+
+  @Test
+  void testPrefetchDocuments() {
+    IDocumentNodeItem document = context.mock(IDocumentNodeItem.class);
+    CountingLoader loader = new CountingLoader(document);
+    List<Runnable> tasks = new ArrayList<>();
+
+    DynamicContext dynamicContext = newDynamicContext();
+    dynamicContext.setDocumentLoader(loader);
+    dynamicContext.setDocumentPrefetchExecutor(tasks::add);
+
+    dynamicContext.prefetchDocuments(MetapathExpression.compile("doc('a.xml')/root | doc('b.xml')/root"));
+    assertEquals(2, tasks.size(), "a load must be started for each document");
+
+    tasks.forEach(Runnable::run);
+    assertAll(
+        () -> assertEquals(List.of(BASE_URI.resolve("a.xml"), BASE_URI.resolve("b.xml")), loader.getLoaded()),
+        () -> assertSame(document, FnDoc.fnDoc(IStringItem.valueOf("a.xml"), dynamicContext)),
+        () -> assertEquals(2, loader.getLoaded().size(), "a prefetched document must not be loaded again"));
+  }
+
+  @Test
+  void testJoinPendingPrefetch() throws InterruptedException {
+    IDocumentNodeItem document = context.mock(IDocumentNodeItem.class);
+    CountDownLatch started = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    CountingLoader loader = new CountingLoader(document) {
+      @Override
+      public IDocumentNodeItem loadAsNodeItem(InputSource source) throws IOException {
+        started.countDown();
+        try {
+          release.await();
+        } catch (InterruptedException ex) {
+          Thread.currentThread().interrupt();
+        }
+        return super.loadAsNodeItem(source);
+      }
+    };
+
+    ExecutorService executor = Executors.newSingleThreadExecutor();
+    try {
+      DynamicContext dynamicContext = newDynamicContext();
+      dynamicContext.setDocumentLoader(loader);
+      dynamicContext.setDocumentPrefetchExecutor(executor);
+
+      dynamicContext.prefetchDocument(URI.create("a.xml"));
+      assertTrue(started.await(10, TimeUnit.SECONDS), "the prefetch must have started");
+
+      // release the pending load shortly after fn:doc starts waiting on it
+      Thread releaser = new Thread(() -> {
+        try {
+          Thread.sleep(100);
+        } catch (InterruptedException ex) {
+          Thread.currentThread().interrupt();
+        }
+        release.countDown();
+      });
+      releaser.start();
+
+      assertSame(document, FnDoc.fnDoc(IStringItem.valueOf("a.xml"), dynamicContext));
+      assertEquals(1, loader.getLoaded().size(), "fn:doc must join the pending load");
+      releaser.join();
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  @Test
+  void testPrefetchLoadFailure() {
+    IDocumentNodeItem document = context.mock(IDocumentNodeItem.class);
+    CountingLoader loader = new CountingLoader(document) {
+      @Override
+      public IDocumentNodeItem loadAsNodeItem(InputSource source) throws IOException {
+        super.loadAsNodeItem(source);
+        throw new IOException("unable to load " + source.getSystemId());
+      }
+    };
+
+    DynamicContext dynamicContext = newDynamicContext();
+    dynamicContext.setDocumentLoader(loader);
+    dynamicContext.setDocumentPrefetchExecutor(Runnable::run);
+
+    // the failure is not reported by the prefetch
+    dynamicContext.prefetchDocuments(MetapathExpression.compile("doc('missing.xml')"));
+    assertEquals(1, loader.getLoaded().size());
+
+    // but is reported when the document is requested
+    DocumentFunctionException ex = assertThrows(DocumentFunctionException.class,
+        () -> FnDoc.fnDoc(IStringItem.valueOf("missing.xml"), dynamicContext));
+    assertTrue(ex.getCause() instanceof IOException);
+  }
+
+  private static class CountingLoader implements IDocumentLoader {
+    @NonNull
+    private final IDocumentNodeItem document;
+    @NonNull
+    private final List<URI> loaded = new ArrayList<>();
+
+    public CountingLoader(@NonNull IDocumentNodeItem document) {
+      this.document = document;
+    }
+
+    @NonNull
+    public List<URI> getLoaded() {
+      synchronized (loaded) {
+        return new ArrayList<>(loaded);
+      }
+    }
+
+    @Override
+    public void setEntityResolver(EntityResolver resolver) {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public IDocumentNodeItem loadAsNodeItem(InputSource source) throws IOException {
+      synchronized (loaded) {
+        loaded.add(URI.create(source.getSystemId()));
+      }
+      return document;
+    }
+  }
+}
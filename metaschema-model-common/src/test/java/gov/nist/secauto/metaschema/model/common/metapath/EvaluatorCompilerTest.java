@@ -0,0 +1,137 @@
+/*
+ * Portions of this software was developed by employees of the National Institute
+ * of Standards and Technology (NIST), an agency of the Federal Government and is
+ * being made available as a public service. Pursuant to title 17 United States
+ * Code Section 105, works of NIST employees are not subject to copyright
+ * protection in the United States. This software may be subject to foreign
+ * copyright. Permission in the United States and in foreign countries, to the
+ * extent that NIST may hold copyright, to use, copy, modify, create derivative
+ * works, and distribute this software and its documentation without fee is hereby
+ * granted on a non-exclusive basis, provided that this notice and disclaimer
+ * of warranty appears in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED 'AS IS' WITHOUT ANY WARRANTY OF ANY KIND, EITHER
+ * EXPRESSED, IMPLIED, OR STATUTORY, INCLUDING, BUT NOT LIMITED TO, ANY WARRANTY
+ * THAT THE SOFTWARE WILL CONFORM TO SPECIFICATIONS, ANY IMPLIED WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE, AND FREEDOM FROM
+ * INFRINGEMENT, AND ANY WARRANTY THAT THE DOCUMENTATION WILL CONFORM TO THE
+ * SOFTWARE, OR ANY WARRANTY THAT THE SOFTWARE WILL BE ERROR FREE.  IN NO EVENT
+ * SHALL NIST BE LIABLE FOR ANY DAMAGES, INCLUDING, BUT NOT LIMITED TO, DIRECT,
+ * INDIRECT, SPECIAL OR CONSEQUENTIAL DAMAGES, ARISING OUT OF, RESULTING FROM,
+ * OR IN ANY WAY CONNECTED WITH THIS SOFTWARE, WHETHER OR NOT BASED UPON WARRANTY,
+ * CONTRACT, TORT, OR OTHERWISE, WHETHER OR NOT INJURY WAS SUSTAINED BY PERSONS OR
+ * PROPERTY OR OTHERWISE, AND WHETHER OR NOT LOSS WAS SUSTAINED FROM, OR AROSE OUT
+ * OF THE RESULTS OF, OR USE OF, THE SOFTWARE OR SERVICES PROVIDED HEREUNDER.
+ */
+
+package gov.nist.secauto.metaschema.model.common.metapath;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import gov.nist.secauto.metaschema.model.common.metapath.IComparison.Operator;
+import gov.nist.secauto.metaschema.model.common.metapath.item.IBooleanItem;
+import gov.nist.secauto.metaschema.model.common.metapath.item.IRequiredValueFlagNodeItem;
+import gov.nist.secauto.metaschema.model.common.metapath.item.IRequiredValueModelNodeItem;
+
+import org.jmock.Expectations;
+import org.jmock.Mockery;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+
+class EvaluatorCompilerTest
+    extends ExpressionTestBase {
+  @Test
+  void testFlagWithName() {
+    DynamicContext dynamicContext = newDynamicContext();
+    Mockery context = getContext();
+
+    @SuppressWarnings("null")
+    @NonNull IRequiredValueModelNodeItem nodeContext = context.mock(IRequiredValueModelNodeItem.class);
+    IRequiredValueFlagNodeItem flagNode = context.mock(IRequiredValueFlagNodeItem.class);
+
+    context.checking(new Expectations() {
+      { // NOPMD - intentional
+        allowing(nodeContext).getFlagByName("test");
+        will(returnValue(flagNode));
+      }
+    });
+
+    IEvaluator evaluator = EvaluatorCompiler.compile(new Flag(new Name("test")));
+
+    ISequence<?> result = evaluator.evaluate(dynamicContext, nodeContext);
+    assertEquals(ISequence.of(flagNode), result, "Sequence does not match");
+  }
+
+  @Test
+  void testRelativePath() {
+    DynamicContext dynamicContext = newDynamicContext();
+    Mockery context = getContext();
+
+    @SuppressWarnings("null")
+    @NonNull IRequiredValueModelNodeItem nodeContext = context.mock(IRequiredValueModelNodeItem.class, "parent");
+    IRequiredValueModelNodeItem child1 = context.mock(IRequiredValueModelNodeItem.class, "child1");
+    IRequiredValueModelNodeItem child2 = context.mock(IRequiredValueModelNodeItem.class, "child2");
+    IRequiredValueFlagNodeItem flag1 = context.mock(IRequiredValueFlagNodeItem.class, "flag1");
+    IRequiredValueFlagNodeItem flag2 = context.mock(IRequiredValueFlagNodeItem.class, "flag2");
+
+    context.checking(new Expectations() {
+      { // NOPMD - intentional
+        oneOf(nodeContext).getModelItemsByName("child");
+        will(returnValue(List.of(child1, child2)));
+        oneOf(child1).getFlagByName("id");
+        will(returnValue(flag1));
+        oneOf(child2).getFlagByName("id");
+        will(returnValue(flag2));
+      }
+    });
+
+    IEvaluator evaluator = EvaluatorCompiler.compile(
+        new RelativeSlashPath(new ModelInstance(new Name("child")), new Flag(new Name("id"))));
+
+    ISequence<?> result = evaluator.evaluate(dynamicContext, nodeContext);
+    assertEquals(ISequence.of(List.of(flag1, flag2)), result, "Sequence does not match");
+  }
+
+  @Test
+  void testChildStepWithName() {
+    DynamicContext dynamicContext = newDynamicContext();
+    Mockery context = getContext();
+
+    @SuppressWarnings("null")
+    @NonNull IRequiredValueModelNodeItem nodeContext = context.mock(IRequiredValueModelNodeItem.class, "parent");
+    IRequiredValueModelNodeItem child = context.mock(IRequiredValueModelNodeItem.class, "child");
+
+    context.checking(new Expectations() {
+      { // NOPMD - intentional
+        allowing(nodeContext).getNodeItem();
+        will(returnValue(nodeContext));
+        oneOf(nodeContext).getModelItemsByName("child");
+        will(returnValue(List.of(child)));
+        never(nodeContext).getModelItems();
+      }
+    });
+
+    IEvaluator evaluator = EvaluatorCompiler.compile(new Step(Step.Axis.CHILDREN, new Name("child")));
+
+    ISequence<?> result = evaluator.evaluate(dynamicContext, nodeContext);
+    assertEquals(ISequence.of(child), result, "Sequence does not match");
+  }
+
+  @Test
+  void testLiteralComparison() {
+    DynamicContext dynamicContext = newDynamicContext();
+    Mockery context = getContext();
+
+    @SuppressWarnings("null")
+    @NonNull IRequiredValueModelNodeItem nodeContext = context.mock(IRequiredValueModelNodeItem.class);
+
+    IEvaluator evaluator = EvaluatorCompiler.compile(
+        new GeneralComparison(new StringLiteral("'a'"), Operator.EQ, new StringLiteral("'a'")));
+
+    ISequence<?> result = evaluator.evaluate(dynamicContext, nodeContext);
+    assertEquals(ISequence.of(IBooleanItem.TRUE), result, "Sequence does not match");
+  }
+}
@@ -0,0 +1,116 @@
+/*
+ * Portions of this software was developed by employees of the National Institute
+ * of Standards and Technology (NIST), an agency of the Federal Government and is
+ * being made available as a public service. Pursuant to title 17 United States
+ * Code Section 105, works of NIST employees are not subject to copyright
+ * protection in the United States. This software may be subject to foreign
+ * copyright. Permission in the United States and in foreign countries, to the
+ * extent that NIST may hold copyright, to use, copy, modify, create derivative
+ * works, and distribute this software and its documentation without fee is hereby
+ * granted on a non-exclusive basis, provided that this notice and disclaimer
+ * of warranty appears in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED 'AS IS' WITHOUT ANY WARRANTY OF ANY KIND, EITHER
+ * EXPRESSED, IMPLIED, OR STATUTORY, INCLUDING, BUT NOT LIMITED TO, ANY WARRANTY
+ * THAT THE SOFTWARE WILL CONFORM TO SPECIFICATIONS, ANY IMPLIED WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE, AND FREEDOM FROM
+ * INFRINGEMENT, AND ANY WARRANTY THAT THE DOCUMENTATION WILL CONFORM TO THE
+ * SOFTWARE, OR ANY WARRANTY THAT THE SOFTWARE WILL BE ERROR FREE.  IN NO EVENT
+ * SHALL NIST BE LIABLE FOR ANY DAMAGES, INCLUDING, BUT NOT LIMITED TO, DIRECT,
+ * INDIRECT, SPECIAL OR CONSEQUENTIAL DAMAGES, ARISING OUT OF, RESULTING FROM,
+ * OR IN ANY WAY CONNECTED WITH THIS SOFTWARE, WHETHER OR NOT BASED UPON WARRANTY,
+ * CONTRACT, TORT, OR OTHERWISE, WHETHER OR NOT INJURY WAS SUSTAINED BY PERSONS OR
+ * PROPERTY OR OTHERWISE, AND WHETHER OR NOT LOSS WAS SUSTAINED FROM, OR AROSE OUT
+ * OF THE RESULTS OF, OR USE OF, THE SOFTWARE OR SERVICES PROVIDED HEREUNDER.
+ */
+
+package gov.nist.secauto.metaschema.model.common.metapath;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import gov.nist.secauto.metaschema.model.common.metapath.IComparison.Operator;
+import gov.nist.secauto.metaschema.model.common.metapath.item.IAnyAtomicItem;
+import gov.nist.secauto.metaschema.model.common.metapath.item.IBooleanItem;
+import gov.nist.secauto.metaschema.model.common.metapath.item.IDecimalItem;
+import gov.nist.secauto.metaschema.model.common.metapath.item.IIntegerItem;
+import gov.nist.secauto.metaschema.model.common.metapath.item.IStringItem;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.IntFunction;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+
+class GeneralComparisonTest {
+  private static final int SIZE = GeneralComparison.HASH_COMPARISON_THRESHOLD + 1;
+
+  @NonNull
+  private static ISequence<IAnyAtomicItem> sequence(int start, @NonNull IntFunction<IAnyAtomicItem> factory) {
+    List<IAnyAtomicItem> items = new ArrayList<>(SIZE);
+    for (int i = start; i < start + SIZE; i++) {
+      items.add(factory.apply(i));
+    }
+    return ISequence.of(items);
+  }
+
+  private static void assertComparison(
+      @NonNull ISequence<IAnyAtomicItem> left,
+      @NonNull Operator operator,
+      @NonNull ISequence<IAnyAtomicItem> right,
+      @NonNull IBooleanItem expected) {
+    GeneralComparison comparison = new GeneralComparison(ContextItem.instance(), operator, ContextItem.instance());
+    // the hash-based result must match the result of comparing each pair
+    assertEquals(expected, comparison.pairwiseCompare(left, operator, right));
+    assertEquals(expected, comparison.valueCompairison(left, operator, right));
+  }
+
+  @Test
+  void testStringEquality() {
+    ISequence<IAnyAtomicItem> left = sequence(0, i -> IStringItem.valueOf("value-" + i));
+    ISequence<IAnyAtomicItem> overlapping = sequence(SIZE - 1, i -> IStringItem.valueOf("value-" + i));
+    ISequence<IAnyAtomicItem> disjoint = sequence(SIZE, i -> IStringItem.valueOf("value-" + i));
+
+    assertComparison(left, Operator.EQ, overlapping, IBooleanItem.TRUE);
+    assertComparison(left, Operator.EQ, disjoint, IBooleanItem.FALSE);
+    assertComparison(left, Operator.NE, disjoint, IBooleanItem.TRUE);
+  }
+
+  @Test
+  void testSingleValueInequality() {
+    ISequence<IAnyAtomicItem> left = sequence(0, i -> IStringItem.valueOf("same"));
+    ISequence<IAnyAtomicItem> right = sequence(0, i -> IStringItem.valueOf("same"));
+
+    assertComparison(left, Operator.NE, right, IBooleanItem.FALSE);
+    assertComparison(left, Operator.EQ, right, IBooleanItem.TRUE);
+  }
+
+  @Test
+  void testNumericEquality() {
+    ISequence<IAnyAtomicItem> integers = sequence(0, IIntegerItem::valueOf);
+    ISequence<IAnyAtomicItem> decimals = sequence(SIZE - 1, i -> IDecimalItem.valueOf(BigDecimal.valueOf(i)));
+    ISequence<IAnyAtomicItem> scaledDecimals
+        = sequence(0, i -> IDecimalItem.valueOf(BigDecimal.valueOf(i).setScale(1)));
+
+    assertComparison(integers, Operator.EQ, decimals, IBooleanItem.TRUE);
+    assertComparison(integers, Operator.EQ, scaledDecimals, IBooleanItem.FALSE);
+  }
+
+  @Test
+  void testLargeIntegerEquality() {
+    // these integers have more than 16 digits, so their decimal forms are rounded to the same value
+    BigInteger base = new BigInteger("12345678901234567000");
+    ISequence<IAnyAtomicItem> left = sequence(0, i -> IIntegerItem.valueOf(base.add(BigInteger.valueOf(i))));
+    ISequence<IAnyAtomicItem> disjoint
+        = sequence(SIZE, i -> IIntegerItem.valueOf(base.add(BigInteger.valueOf(i))));
+    ISequence<IAnyAtomicItem> overlapping
+        = sequence(SIZE - 1, i -> IIntegerItem.valueOf(base.add(BigInteger.valueOf(i))));
+
+    assertComparison(left, Operator.EQ, disjoint, IBooleanItem.FALSE);
+    assertComparison(left, Operator.NE, disjoint, IBooleanItem.TRUE);
+    assertComparison(left, Operator.EQ, overlapping, IBooleanItem.TRUE);
+  }
+}
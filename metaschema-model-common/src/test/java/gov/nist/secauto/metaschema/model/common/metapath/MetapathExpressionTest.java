@@ -26,7 +26,12 @@
 
 package gov.nist.secauto.metaschema.model.common.metapath;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import com.adelean.inject.resources.junit.jupiter.GivenTextResource;
 import com.adelean.inject.resources.junit.jupiter.TestWithResources;
@@ -34,6 +39,8 @@ import com.adelean.inject.resources.junit.jupiter.TestWithResources;
 import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.Test;
 
+import java.util.List;
+
 @TestWithResources
 class MetapathExpressionTest {
 
@@ -77,4 +84,35 @@ class MetapathExpressionTest {
       MetapathExpression.compile("**");
     });
   }
+
+  @Test
+  void testDocumentReferences() {
+    MetapathExpression expr = MetapathExpression.compile(
+        "doc('a.xml')/root | doc('b.xml')/root | doc('a.xml')//child | exists(doc('c.json'))");
+    assertEquals(List.of("a.xml", "b.xml", "c.json"), expr.getDocumentReferences());
+    assertEquals(List.of(), MetapathExpression.compile("/root/child").getDocumentReferences());
+  }
+
+  @Test
+  void testTargetShapes() {
+    assertTrue(MetapathExpression.compile(".").isContextItem());
+    assertEquals("id", MetapathExpression.compile("@id").getFlagStepName());
+    assertEquals("title", MetapathExpression.compile("title").getModelStepName());
+
+    MetapathExpression path = MetapathExpression.compile("part/@id");
+    assertFalse(path.isContextItem());
+    assertNull(path.getFlagStepName());
+    assertNull(path.getModelStepName());
+    assertNull(MetapathExpression.compile("title[1]").getModelStepName());
+  }
+
+  @Test
+  void testCompileCache() {
+    String path = "/root/child[@id='compile-cache-test']";
+    MetapathExpression first = MetapathExpression.compile(path);
+    long hits = MetapathExpression.getCompileCacheHitCount();
+
+    assertSame(first, MetapathExpression.compile(path));
+    assertTrue(MetapathExpression.getCompileCacheHitCount() > hits);
+  }
 }
@@ -36,6 +36,7 @@ import org.jmock.Expectations;
 import org.jmock.Mockery;
 import org.junit.jupiter.api.Test;
 
+import java.math.BigInteger;
 import java.util.List;
 import java.util.stream.Stream;
 
@@ -125,4 +126,37 @@ class PredicateTest
     ISequence<?> result = expr.accept(dynamicContext, item);
     assertEquals(ISequence.of(item), result, "Sequence does not match");
   }
+
+  @Test
+  void testPredicateWithPosition() {
+    DynamicContext dynamicContext = newDynamicContext();
+    Mockery context = getContext();
+
+    @SuppressWarnings("null")
+    @NonNull IExpression stepExpr = context.mock(IExpression.class);
+    @SuppressWarnings("null")
+    @NonNull IRequiredValueAssemblyNodeItem item = context.mock(IRequiredValueAssemblyNodeItem.class, "item");
+    IRequiredValueAssemblyNodeItem first = context.mock(IRequiredValueAssemblyNodeItem.class, "first");
+    IRequiredValueAssemblyNodeItem second = context.mock(IRequiredValueAssemblyNodeItem.class, "second");
+    IRequiredValueAssemblyNodeItem third = context.mock(IRequiredValueAssemblyNodeItem.class, "third");
+
+    context.checking(new Expectations() {
+      { // NOPMD - intentional
+        allowing(stepExpr).accept(dynamicContext, item);
+        will(returnValue(ISequence.of(List.of(first, second, third))));
+      }
+    });
+
+    Predicate expr = new Predicate(stepExpr, List.of(new IntegerLiteral(BigInteger.TWO)));
+    assertEquals(2, expr.getPosition());
+    assertEquals(ISequence.of(second), expr.accept(dynamicContext, item), "Sequence does not match");
+
+    // positions that can never match select nothing
+    expr = new Predicate(stepExpr, List.of(new IntegerLiteral(BigInteger.TEN)));
+    assertEquals(ISequence.empty(), expr.accept(dynamicContext, item), "Sequence does not match");
+
+    expr = new Predicate(stepExpr, List.of(new IntegerLiteral(BigInteger.ONE), new IntegerLiteral(BigInteger.TWO)));
+    assertEquals(Predicate.NO_POSITION, expr.getPosition());
+    assertEquals(ISequence.empty(), expr.accept(dynamicContext, item), "Sequence does not match");
+  }
 }